@@ -0,0 +1,71 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.executor.pagination;
+
+import static org.opensearch.sql.data.type.ExprCoreType.DOUBLE;
+import static org.opensearch.sql.data.type.ExprCoreType.INTEGER;
+import static org.opensearch.sql.data.type.ExprCoreType.STRING;
+import static org.opensearch.sql.data.type.ExprCoreType.TIMESTAMP;
+import static org.opensearch.sql.expression.DSL.named;
+import static org.opensearch.sql.expression.DSL.ref;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.opensearch.sql.planner.physical.BenchmarkScan;
+import org.opensearch.sql.planner.physical.PhysicalPlan;
+import org.opensearch.sql.planner.physical.PhysicalPlanDSL;
+
+/**
+ * Cost of converting a paginated plan to a cursor and back, which is paid on every page.
+ */
+@Warmup(iterations = 1)
+@Measurement(iterations = 3)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Thread)
+@Fork(value = 1)
+public class PlanSerializerBenchmark {
+
+  private final PlanSerializer planSerializer = new PlanSerializer(null);
+
+  private PhysicalPlan plan;
+
+  private String cursor;
+
+  /**
+   * Build the plan and its cursor once.
+   */
+  @Setup
+  public void setUp() {
+    plan = PhysicalPlanDSL.project(new BenchmarkScan(List.of()),
+        named("id", ref("id", INTEGER)),
+        named("name", ref("name", STRING)),
+        named("category", ref("category", STRING)),
+        named("amount", ref("amount", DOUBLE)),
+        named("ts", ref("ts", TIMESTAMP)));
+    cursor = planSerializer.convertToCursor(plan).toString();
+  }
+
+  @Benchmark
+  public Cursor testConvertToCursor() {
+    return planSerializer.convertToCursor(plan);
+  }
+
+  @Benchmark
+  public PhysicalPlan testConvertToPlan() {
+    return planSerializer.convertToPlan(cursor);
+  }
+}
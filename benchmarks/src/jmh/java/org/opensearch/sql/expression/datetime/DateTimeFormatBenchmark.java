@@ -0,0 +1,76 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.expression.datetime;
+
+import static org.opensearch.sql.expression.DSL.literal;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.opensearch.sql.data.model.ExprTimestampValue;
+import org.opensearch.sql.data.model.ExprValue;
+import org.opensearch.sql.expression.DSL;
+import org.opensearch.sql.expression.FunctionExpression;
+import org.opensearch.sql.expression.function.FunctionProperties;
+
+/**
+ * Cost of the datetime formatting and parsing functions for a few common format strings.
+ */
+@Warmup(iterations = 1)
+@Measurement(iterations = 3)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Thread)
+@Fork(value = 1)
+public class DateTimeFormatBenchmark {
+
+  @Param(value = { "date", "datetime", "verbose" })
+  private String format;
+
+  private final Map<String, String> formats = Map.of(
+      "date", "%Y-%m-%d",
+      "datetime", "%Y-%m-%d %H:%i:%s",
+      "verbose", "%W %D %M %Y %r");
+
+  private final FunctionProperties functionProperties = new FunctionProperties();
+
+  private final ExprValue timestamp = new ExprTimestampValue("2023-07-14 13:45:21");
+
+  private FunctionExpression dateFormat;
+
+  private FunctionExpression strToDate;
+
+  /**
+   * Build the expressions once, so only the evaluation is measured.
+   */
+  @Setup
+  public void setUp() {
+    String pattern = formats.get(format);
+    dateFormat = DSL.date_format(functionProperties, literal(timestamp), literal(pattern));
+    strToDate = DSL.str_to_date(functionProperties,
+        literal(dateFormat.valueOf().stringValue()), literal(pattern));
+  }
+
+  @Benchmark
+  public ExprValue testDateFormat() {
+    return dateFormat.valueOf();
+  }
+
+  @Benchmark
+  public ExprValue testStrToDate() {
+    return strToDate.valueOf();
+  }
+}
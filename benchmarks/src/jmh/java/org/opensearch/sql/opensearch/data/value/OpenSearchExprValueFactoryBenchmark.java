@@ -0,0 +1,106 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.opensearch.data.value;
+
+import static org.opensearch.sql.data.type.ExprCoreType.ARRAY;
+import static org.opensearch.sql.data.type.ExprCoreType.BOOLEAN;
+import static org.opensearch.sql.data.type.ExprCoreType.DOUBLE;
+import static org.opensearch.sql.data.type.ExprCoreType.INTEGER;
+import static org.opensearch.sql.data.type.ExprCoreType.LONG;
+import static org.opensearch.sql.data.type.ExprCoreType.STRING;
+import static org.opensearch.sql.data.type.ExprCoreType.STRUCT;
+
+import com.google.common.collect.ImmutableMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.opensearch.core.common.bytes.BytesArray;
+import org.opensearch.sql.data.model.ExprValue;
+import org.opensearch.sql.opensearch.data.type.OpenSearchDataType;
+import org.opensearch.sql.opensearch.data.type.OpenSearchDateType;
+
+/**
+ * Cost of converting a search hit source into an expression value for a few
+ * representative documents.
+ */
+@Warmup(iterations = 1)
+@Measurement(iterations = 3)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Thread)
+@Fork(value = 1)
+public class OpenSearchExprValueFactoryBenchmark {
+
+  private static final Map<String, OpenSearchDataType> MAPPING =
+      new ImmutableMap.Builder<String, OpenSearchDataType>()
+          .put("id", OpenSearchDataType.of(LONG))
+          .put("message", OpenSearchDataType.of(STRING))
+          .put("status", OpenSearchDataType.of(INTEGER))
+          .put("latency", OpenSearchDataType.of(DOUBLE))
+          .put("success", OpenSearchDataType.of(BOOLEAN))
+          .put("timestamp", OpenSearchDateType.of("strict_date_optional_time||epoch_millis"))
+          .put("client", OpenSearchDataType.of(STRUCT))
+          .put("client.ip", OpenSearchDataType.of(STRING))
+          .put("client.geo", OpenSearchDataType.of(STRUCT))
+          .put("client.geo.country", OpenSearchDataType.of(STRING))
+          .put("client.geo.city", OpenSearchDataType.of(STRING))
+          .put("tags", OpenSearchDataType.of(ARRAY))
+          .build();
+
+  private static final Map<String, String> DOCUMENTS = Map.of(
+      "flat",
+      "{\"id\": 1234567, \"message\": \"GET /index.html HTTP/1.1\", \"status\": 200,"
+          + " \"latency\": 12.5, \"success\": true, \"timestamp\": \"2023-07-14T13:45:21Z\"}",
+      "nested",
+      "{\"id\": 1234567, \"message\": \"GET /index.html HTTP/1.1\", \"status\": 200,"
+          + " \"latency\": 12.5, \"success\": true, \"timestamp\": \"2023-07-14T13:45:21Z\","
+          + " \"client\": {\"ip\": \"10.0.0.1\","
+          + " \"geo\": {\"country\": \"US\", \"city\": \"Seattle\"}}}",
+      "array",
+      "{\"id\": 1234567, \"message\": \"GET /index.html HTTP/1.1\", \"status\": 200,"
+          + " \"tags\": [\"web\", \"prod\", \"us-west-2\", \"canary\", \"v2\"]}");
+
+  @Param(value = { "flat", "nested", "array" })
+  private String document;
+
+  private final OpenSearchExprValueFactory factory = new OpenSearchExprValueFactory(MAPPING);
+
+  private String source;
+
+  private BytesArray sourceBytes;
+
+  @Setup
+  public void setUp() {
+    source = DOCUMENTS.get(document);
+    sourceBytes = new BytesArray(source);
+  }
+
+  @Benchmark
+  public ExprValue testConstruct() {
+    return factory.construct(source, false);
+  }
+
+  @Benchmark
+  public Map<String, ExprValue> testConstructSource() {
+    return factory.constructSource(sourceBytes, Set.of(), false);
+  }
+
+  @Benchmark
+  public Map<String, ExprValue> testConstructSourceWithIncludes() {
+    return factory.constructSource(sourceBytes, Set.of("id", "status"), false);
+  }
+}
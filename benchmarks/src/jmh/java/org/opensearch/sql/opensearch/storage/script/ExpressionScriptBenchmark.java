@@ -0,0 +1,111 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.opensearch.storage.script;
+
+import static org.opensearch.sql.data.type.ExprCoreType.DOUBLE;
+import static org.opensearch.sql.data.type.ExprCoreType.INTEGER;
+import static org.opensearch.sql.data.type.ExprCoreType.STRING;
+import static org.opensearch.sql.expression.DSL.literal;
+import static org.opensearch.sql.expression.DSL.ref;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.opensearch.index.fielddata.ScriptDocValues;
+import org.opensearch.script.FilterScript;
+import org.opensearch.sql.data.model.ExprValue;
+import org.opensearch.sql.expression.DSL;
+import org.opensearch.sql.expression.Expression;
+import org.opensearch.sql.opensearch.storage.script.core.ExpressionScript;
+import org.opensearch.sql.opensearch.storage.serialization.DefaultExpressionSerializer;
+
+/**
+ * Cost of compiling an expression script and of executing it on a single document,
+ * which is what a script filter pays per matching document.
+ */
+@Warmup(iterations = 1)
+@Measurement(iterations = 3)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Thread)
+@Fork(value = 1)
+public class ExpressionScriptBenchmark {
+
+  private final Expression expression = DSL.and(
+      DSL.and(
+          DSL.gte(ref("status", INTEGER), literal(200)),
+          DSL.less(ref("latency", DOUBLE), literal(100.0))),
+      DSL.like(ref("message", STRING), literal("%index%")));
+
+  private final Map<String, ScriptDocValues<?>> docValues = Map.of(
+      "status", new FixedScriptDocValues<>(200L),
+      "latency", new FixedScriptDocValues<>(12.5),
+      "message", new FixedScriptDocValues<>("GET /index.html HTTP/1.1"));
+
+  private final DefaultExpressionSerializer serializer = new DefaultExpressionSerializer();
+
+  private final ExpressionScriptEngine scriptEngine = new ExpressionScriptEngine(serializer);
+
+  private ExpressionScript expressionScript;
+
+  private String scriptCode;
+
+  @Setup
+  public void setUp() {
+    expressionScript = new ExpressionScript(expression);
+    scriptCode = serializer.serialize(expression);
+  }
+
+  @Benchmark
+  public ExprValue testExecute() {
+    return expressionScript.execute(() -> docValues, Expression::valueOf);
+  }
+
+  @Benchmark
+  public FilterScript.Factory testCompile() {
+    return scriptEngine.compile("benchmark", scriptCode, FilterScript.CONTEXT, Map.of());
+  }
+
+  @Benchmark
+  public ExpressionScript testCompileWithoutCache() {
+    return new ExpressionScript(serializer.deserialize(scriptCode));
+  }
+
+  /**
+   * Doc values of a single document with a single value.
+   */
+  private static class FixedScriptDocValues<T> extends ScriptDocValues<T> {
+    private final T value;
+
+    FixedScriptDocValues(T value) {
+      this.value = value;
+    }
+
+    @Override
+    public void setNextDocId(int docId) {
+      throw new UnsupportedOperationException("Fixed script doc values only has one document");
+    }
+
+    @Override
+    public T get(int index) {
+      return value;
+    }
+
+    @Override
+    public int size() {
+      return 1;
+    }
+  }
+}
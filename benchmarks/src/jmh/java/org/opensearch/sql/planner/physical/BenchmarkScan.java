@@ -0,0 +1,104 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.planner.physical;
+
+import static org.opensearch.sql.data.model.ExprValueUtils.doubleValue;
+import static org.opensearch.sql.data.model.ExprValueUtils.integerValue;
+import static org.opensearch.sql.data.model.ExprValueUtils.stringValue;
+
+import java.io.IOException;
+import java.io.ObjectInput;
+import java.io.ObjectOutput;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import org.opensearch.sql.data.model.ExprTimestampValue;
+import org.opensearch.sql.data.model.ExprTupleValue;
+import org.opensearch.sql.data.model.ExprValue;
+import org.opensearch.sql.planner.SerializablePlan;
+
+/**
+ * In-memory scan over generated rows shared by the physical plan benchmarks. Each row has
+ * the fields id (integer), name (string), category (string with 10 distinct values),
+ * amount (double) and ts (timestamp). Rows are generated with a fixed seed, so all the
+ * benchmarks work on the same data.
+ */
+public class BenchmarkScan extends PhysicalPlan implements SerializablePlan {
+
+  private static final int CATEGORY_COUNT = 10;
+
+  private List<ExprValue> rows;
+
+  private Iterator<ExprValue> iterator;
+
+  /** Don't use, it is for deserialization needs only. */
+  public BenchmarkScan() {
+    this(List.of());
+  }
+
+  public BenchmarkScan(List<ExprValue> rows) {
+    this.rows = rows;
+    this.iterator = rows.iterator();
+  }
+
+  /**
+   * Generate rows in random order.
+   *
+   * @param rowCount number of rows
+   * @return rows
+   */
+  public static List<ExprValue> generateRows(int rowCount) {
+    Random random = new Random(42);
+    List<ExprValue> rows = new ArrayList<>(rowCount);
+    for (int i = 0; i < rowCount; i++) {
+      Map<String, ExprValue> row = new LinkedHashMap<>();
+      row.put("id", integerValue(i));
+      row.put("name", stringValue("name-" + random.nextInt(rowCount)));
+      row.put("category", stringValue("category-" + random.nextInt(CATEGORY_COUNT)));
+      row.put("amount", doubleValue(random.nextDouble() * 1000));
+      row.put("ts", new ExprTimestampValue(
+          String.format("2023-%02d-%02d 10:00:00", random.nextInt(12) + 1,
+              random.nextInt(28) + 1)));
+      rows.add(ExprTupleValue.fromExprValueMap(row));
+    }
+    return Collections.unmodifiableList(rows);
+  }
+
+  @Override
+  public <R, C> R accept(PhysicalPlanNodeVisitor<R, C> visitor, C context) {
+    throw new UnsupportedOperationException("Benchmark scan doesn't support visitor");
+  }
+
+  @Override
+  public List<PhysicalPlan> getChild() {
+    return List.of();
+  }
+
+  @Override
+  public boolean hasNext() {
+    return iterator.hasNext();
+  }
+
+  @Override
+  public ExprValue next() {
+    return iterator.next();
+  }
+
+  @Override
+  public void readExternal(ObjectInput in) throws IOException {
+    rows = generateRows(in.readInt());
+    iterator = rows.iterator();
+  }
+
+  @Override
+  public void writeExternal(ObjectOutput out) throws IOException {
+    out.writeInt(rows.size());
+  }
+}
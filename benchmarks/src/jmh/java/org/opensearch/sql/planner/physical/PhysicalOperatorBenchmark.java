@@ -0,0 +1,114 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.planner.physical;
+
+import static org.opensearch.sql.data.type.ExprCoreType.DOUBLE;
+import static org.opensearch.sql.data.type.ExprCoreType.STRING;
+import static org.opensearch.sql.expression.DSL.named;
+import static org.opensearch.sql.expression.DSL.ref;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.apache.commons.lang3.tuple.Pair;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.opensearch.sql.ast.tree.Sort.SortOption;
+import org.opensearch.sql.data.model.ExprValue;
+import org.opensearch.sql.expression.DSL;
+import org.opensearch.sql.expression.ReferenceExpression;
+import org.opensearch.sql.expression.window.WindowDefinition;
+
+/**
+ * Throughput of the blocking physical operators over in-memory rows.
+ */
+@Warmup(iterations = 1)
+@Measurement(iterations = 3)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Thread)
+@Fork(value = 1)
+public class PhysicalOperatorBenchmark {
+
+  private static final ReferenceExpression CATEGORY = ref("category", STRING);
+
+  private static final ReferenceExpression NAME = ref("name", STRING);
+
+  private static final ReferenceExpression AMOUNT = ref("amount", DOUBLE);
+
+  @Param(value = { "10000", "100000" })
+  private int rowCount;
+
+  private List<ExprValue> rows;
+
+  /** Rows sorted by category and amount as window operator expects. */
+  private List<ExprValue> sortedRows;
+
+  @Setup
+  public void setUp() {
+    rows = BenchmarkScan.generateRows(rowCount);
+    sortedRows = new ArrayList<>(rows);
+    sortedRows.sort(Comparator
+        .comparing((ExprValue row) -> row.tupleValue().get("category").stringValue())
+        .thenComparingDouble(row -> row.tupleValue().get("amount").doubleValue()));
+  }
+
+  @Benchmark
+  public void testSortOperator(Blackhole blackhole) {
+    run(PhysicalPlanDSL.sort(scan(),
+        Pair.of(SortOption.DEFAULT_ASC, CATEGORY),
+        Pair.of(SortOption.DEFAULT_DESC, AMOUNT)), blackhole);
+  }
+
+  @Benchmark
+  public void testSortOperatorWithTopN(Blackhole blackhole) {
+    run(PhysicalPlanDSL.sort(scan(), 100,
+        Pair.of(SortOption.DEFAULT_DESC, AMOUNT)), blackhole);
+  }
+
+  @Benchmark
+  public void testAggregationOperator(Blackhole blackhole) {
+    run(PhysicalPlanDSL.agg(scan(),
+        List.of(named("sum", DSL.sum(AMOUNT)), named("count", DSL.count(AMOUNT))),
+        List.of(named("category", CATEGORY))), blackhole);
+  }
+
+  @Benchmark
+  public void testWindowOperator(Blackhole blackhole) {
+    run(new WindowOperator(new BenchmarkScan(sortedRows),
+        named("row_number", DSL.rowNumber()),
+        new WindowDefinition(List.of(CATEGORY), List.of(Pair.of(SortOption.DEFAULT_ASC, AMOUNT)))),
+        blackhole);
+  }
+
+  @Benchmark
+  public void testDedupeOperator(Blackhole blackhole) {
+    run(PhysicalPlanDSL.dedupe(scan(), NAME), blackhole);
+  }
+
+  private PhysicalPlan scan() {
+    return new BenchmarkScan(rows);
+  }
+
+  private void run(PhysicalPlan plan, Blackhole blackhole) {
+    plan.open();
+    while (plan.hasNext()) {
+      blackhole.consume(plan.next());
+    }
+    plan.close();
+  }
+}
@@ -0,0 +1,77 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.protocol.response.format;
+
+import static org.opensearch.sql.data.type.ExprCoreType.DOUBLE;
+import static org.opensearch.sql.data.type.ExprCoreType.INTEGER;
+import static org.opensearch.sql.data.type.ExprCoreType.STRING;
+import static org.opensearch.sql.data.type.ExprCoreType.TIMESTAMP;
+import static org.opensearch.sql.protocol.response.format.JsonResponseFormatter.Style.COMPACT;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.opensearch.sql.executor.ExecutionEngine.Schema;
+import org.opensearch.sql.executor.ExecutionEngine.Schema.Column;
+import org.opensearch.sql.planner.physical.BenchmarkScan;
+import org.opensearch.sql.protocol.response.QueryResult;
+
+/**
+ * Cost of formatting a query result in each of the response formats.
+ */
+@Warmup(iterations = 1)
+@Measurement(iterations = 3)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Thread)
+@Fork(value = 1)
+public class ResponseFormatterBenchmark {
+
+  private static final Schema SCHEMA = new Schema(List.of(
+      new Column("id", null, INTEGER),
+      new Column("name", null, STRING),
+      new Column("category", null, STRING),
+      new Column("amount", null, DOUBLE),
+      new Column("ts", null, TIMESTAMP)));
+
+  @Param(value = { "jdbc", "json", "csv", "raw" })
+  private String format;
+
+  @Param(value = { "200", "10000" })
+  private int rowCount;
+
+  private final Map<String, ResponseFormatter<QueryResult>> formatters = Map.of(
+      "jdbc", new JdbcResponseFormatter(COMPACT),
+      "json", new SimpleJsonResponseFormatter(COMPACT),
+      "csv", new CsvResponseFormatter(),
+      "raw", new RawResponseFormatter());
+
+  private ResponseFormatter<QueryResult> formatter;
+
+  private QueryResult result;
+
+  @Setup
+  public void setUp() {
+    formatter = formatters.get(format);
+    result = new QueryResult(SCHEMA, BenchmarkScan.generateRows(rowCount));
+  }
+
+  @Benchmark
+  public String testFormat() {
+    return formatter.format(result);
+  }
+}
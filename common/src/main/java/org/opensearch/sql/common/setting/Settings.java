@@ -38,7 +38,14 @@ public abstract class Settings {
      * Common Settings for SQL and PPL.
      */
     QUERY_MEMORY_LIMIT("plugins.query.memory_limit"),
+    PER_QUERY_MEMORY_LIMIT("plugins.query.per_query_memory_limit"),
     QUERY_SIZE_LIMIT("plugins.query.size_limit"),
+    QUERY_SCAN_SLICES("plugins.query.scan.slices"),
+    QUERY_SCAN_PREFETCH("plugins.query.scan.prefetch"),
+    QUERY_DEDUP_PUSHDOWN("plugins.query.dedup.pushdown"),
+    QUERY_RESULT_CACHE_ENABLED("plugins.query.result_cache.enabled"),
+    QUERY_RESULT_CACHE_TTL("plugins.query.result_cache.ttl"),
+    QUERY_RESULT_CACHE_MAX_ROWS("plugins.query.result_cache.max_rows"),
     ENCYRPTION_MASTER_KEY("plugins.query.datasources.encryption.masterkey"),
     DATASOURCES_URI_ALLOWHOSTS("plugins.query.datasources.uri.allowhosts"),
 
@@ -23,6 +23,7 @@ import com.google.common.collect.ImmutableList.Builder;
 import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.ImmutableSet;
 import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
@@ -34,6 +35,7 @@ import org.opensearch.sql.DataSourceSchemaName;
 import org.opensearch.sql.analysis.symbol.Namespace;
 import org.opensearch.sql.analysis.symbol.Symbol;
 import org.opensearch.sql.ast.AbstractNodeVisitor;
+import org.opensearch.sql.ast.expression.Alias;
 import org.opensearch.sql.ast.expression.Argument;
 import org.opensearch.sql.ast.expression.Field;
 import org.opensearch.sql.ast.expression.Let;
@@ -42,6 +44,7 @@ import org.opensearch.sql.ast.expression.Map;
 import org.opensearch.sql.ast.expression.ParseMethod;
 import org.opensearch.sql.ast.expression.QualifiedName;
 import org.opensearch.sql.ast.expression.UnresolvedExpression;
+import org.opensearch.sql.ast.expression.WindowFunction;
 import org.opensearch.sql.ast.tree.AD;
 import org.opensearch.sql.ast.tree.Aggregation;
 import org.opensearch.sql.ast.tree.CloseCursor;
@@ -384,8 +387,9 @@ public class Analyzer extends AbstractNodeVisitor<LogicalPlan, AnalysisContext>
     }
 
     // For each unresolved window function, analyze it by "insert" a window and sort operator
-    // between project and its child.
-    for (UnresolvedExpression expr : node.getProjectList()) {
+    // between project and its child. Window functions with same window definition are analyzed
+    // one after another so that they share the same sort operator.
+    for (UnresolvedExpression expr : groupWindowFunctions(node.getProjectList())) {
       WindowExpressionAnalyzer windowAnalyzer =
           new WindowExpressionAnalyzer(expressionAnalyzer, child);
       child = windowAnalyzer.analyze(expr, context);
@@ -590,6 +594,29 @@ public class Analyzer extends AbstractNodeVisitor<LogicalPlan, AnalysisContext>
     return new LogicalCloseCursor(closeCursor.getChild().get(0).accept(this, context));
   }
 
+  /**
+   * Find window functions in project list and order them by their partition by and sort list,
+   * which are in the order of their first appearance.
+   */
+  private List<UnresolvedExpression> groupWindowFunctions(List<UnresolvedExpression> projectList) {
+    List<UnresolvedExpression> windowFunctions = projectList.stream()
+        .filter(expr -> expr instanceof Alias
+            && ((Alias) expr).getDelegated() instanceof WindowFunction)
+        .collect(Collectors.toList());
+    List<Pair<?, ?>> definitions = windowFunctions.stream()
+        .map(this::windowDefinitionOf)
+        .distinct()
+        .collect(Collectors.toList());
+    windowFunctions.sort(
+        Comparator.comparingInt(expr -> definitions.indexOf(windowDefinitionOf(expr))));
+    return windowFunctions;
+  }
+
+  private Pair<?, ?> windowDefinitionOf(UnresolvedExpression expr) {
+    WindowFunction windowFunction = (WindowFunction) ((Alias) expr).getDelegated();
+    return Pair.of(windowFunction.getPartitionByList(), windowFunction.getSortList());
+  }
+
   /**
    * The first argument is always "asc", others are optional.
    * Given nullFirst argument, use its value. Otherwise just use DEFAULT_ASC/DESC.
@@ -11,6 +11,7 @@ import static org.opensearch.sql.ast.tree.Sort.SortOption.DEFAULT_DESC;
 import static org.opensearch.sql.ast.tree.Sort.SortOrder.ASC;
 import static org.opensearch.sql.ast.tree.Sort.SortOrder.DESC;
 
+import java.util.Collections;
 import java.util.List;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
@@ -19,8 +20,13 @@ import org.apache.commons.lang3.tuple.Pair;
 import org.opensearch.sql.ast.AbstractNodeVisitor;
 import org.opensearch.sql.ast.expression.Alias;
 import org.opensearch.sql.ast.expression.UnresolvedExpression;
+import org.opensearch.sql.ast.expression.WindowFrameSpec;
+import org.opensearch.sql.ast.expression.WindowFrameSpec.BoundType;
+import org.opensearch.sql.ast.expression.WindowFrameSpec.FrameUnit;
 import org.opensearch.sql.ast.expression.WindowFunction;
 import org.opensearch.sql.ast.tree.Sort.SortOption;
+import org.opensearch.sql.data.type.ExprCoreType;
+import org.opensearch.sql.exception.SemanticCheckException;
 import org.opensearch.sql.expression.Expression;
 import org.opensearch.sql.expression.NamedExpression;
 import org.opensearch.sql.expression.window.WindowDefinition;
@@ -68,7 +74,12 @@ public class WindowExpressionAnalyzer extends AbstractNodeVisitor<LogicalPlan, A
     List<Expression> partitionByList = analyzePartitionList(unresolved, context);
     List<Pair<SortOption, Expression>> sortList = analyzeSortList(unresolved, context);
 
-    WindowDefinition windowDefinition = new WindowDefinition(partitionByList, sortList);
+    WindowFrameSpec frame = unresolved.getFrame();
+    if (frame != null) {
+      validateFrame(frame, sortList);
+    }
+
+    WindowDefinition windowDefinition = new WindowDefinition(partitionByList, sortList, frame);
     NamedExpression namedWindowFunction =
         new NamedExpression(node.getName(), windowFunction, node.getAlias());
     List<Pair<SortOption, Expression>> allSortItems = windowDefinition.getAllSortItems();
@@ -77,11 +88,46 @@ public class WindowExpressionAnalyzer extends AbstractNodeVisitor<LogicalPlan, A
       return new LogicalWindow(child, namedWindowFunction, windowDefinition);
     }
     return new LogicalWindow(
-        new LogicalSort(child, allSortItems),
+        sortChild(allSortItems),
         namedWindowFunction,
         windowDefinition);
   }
 
+  /**
+   * Sort the child by the sort items of the window definition. Window operator preserves the
+   * order of its input, so if the child is a chain of window operators on top of a sort, the
+   * windows share that sort: it is reused if the sort items are its prefix, or replaced by a sort
+   * on the sort items if its own sort items are their prefix. Otherwise, a new sort is added on
+   * top of the child.
+   */
+  private LogicalPlan sortChild(List<Pair<SortOption, Expression>> sortItems) {
+    LogicalPlan window = null;
+    LogicalPlan plan = child;
+    while (plan instanceof LogicalWindow) {
+      window = plan;
+      plan = plan.getChild().get(0);
+    }
+
+    if (window != null && plan instanceof LogicalSort) {
+      List<Pair<SortOption, Expression>> sortList = ((LogicalSort) plan).getSortList();
+      if (isPrefix(sortItems, sortList)) {
+        return child;
+      }
+      if (isPrefix(sortList, sortItems)) {
+        window.replaceChildPlans(
+            Collections.singletonList(new LogicalSort(plan.getChild().get(0), sortItems)));
+        return child;
+      }
+    }
+    return new LogicalSort(child, sortItems);
+  }
+
+  private boolean isPrefix(List<Pair<SortOption, Expression>> prefix,
+                           List<Pair<SortOption, Expression>> sortList) {
+    return prefix.size() <= sortList.size()
+        && prefix.equals(sortList.subList(0, prefix.size()));
+  }
+
   private List<Expression> analyzePartitionList(WindowFunction node, AnalysisContext context) {
     return node.getPartitionByList()
                .stream()
@@ -99,6 +145,28 @@ public class WindowExpressionAnalyzer extends AbstractNodeVisitor<LogicalPlan, A
                .collect(Collectors.toList());
   }
 
+  /**
+   * Check that the frame doesn't start after it ends, and that RANGE frame with offsets has one
+   * sort key which the offsets can be added to.
+   */
+  private void validateFrame(WindowFrameSpec frame, List<Pair<SortOption, Expression>> sortList) {
+    BoundType start = frame.getStart().getType();
+    BoundType end = frame.getEnd().getType();
+    if (start == BoundType.UNBOUNDED_FOLLOWING
+        || end == BoundType.UNBOUNDED_PRECEDING
+        || start.compareTo(end) > 0) {
+      throw new SemanticCheckException(String.format("Invalid window frame: %s", frame));
+    }
+
+    if (frame.getUnit() == FrameUnit.RANGE
+        && (frame.getStart().hasOffset() || frame.getEnd().hasOffset())
+        && (sortList.size() != 1
+            || !ExprCoreType.numberTypes().contains(sortList.get(0).getRight().type()))) {
+      throw new SemanticCheckException(String.format(
+          "Window frame %s requires exactly one sort key of numeric type", frame));
+    }
+  }
+
   /**
    * Frontend creates sort option from query directly which means sort or null order may be null.
    * The final and default value for each is determined here during expression analysis.
@@ -42,6 +42,7 @@ import org.opensearch.sql.ast.expression.UnresolvedArgument;
 import org.opensearch.sql.ast.expression.UnresolvedAttribute;
 import org.opensearch.sql.ast.expression.UnresolvedExpression;
 import org.opensearch.sql.ast.expression.When;
+import org.opensearch.sql.ast.expression.WindowFrameSpec;
 import org.opensearch.sql.ast.expression.WindowFunction;
 import org.opensearch.sql.ast.expression.Xor;
 import org.opensearch.sql.ast.tree.Aggregation;
@@ -297,6 +298,13 @@ public class AstDSL {
     return new WindowFunction(function, partitionByList, sortList);
   }
 
+  public UnresolvedExpression window(UnresolvedExpression function,
+                                     List<UnresolvedExpression> partitionByList,
+                                     List<Pair<SortOption, UnresolvedExpression>> sortList,
+                                     WindowFrameSpec frame) {
+    return new WindowFunction(function, partitionByList, sortList, frame);
+  }
+
   public static UnresolvedExpression not(UnresolvedExpression expression) {
     return new Not(expression);
   }
@@ -0,0 +1,83 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+
+package org.opensearch.sql.ast.expression;
+
+import lombok.Data;
+
+/**
+ * Frame clause of a window function, which defines the rows of the partition that an aggregate
+ * window function is calculated on for the current row, for example
+ * {@code ROWS BETWEEN 2 PRECEDING AND CURRENT ROW}.
+ */
+@Data
+public class WindowFrameSpec {
+
+  private final FrameUnit unit;
+  private final FrameBound start;
+  private final FrameBound end;
+
+  @Override
+  public String toString() {
+    return String.format("%s BETWEEN %s AND %s", unit, start, end);
+  }
+
+  public enum FrameUnit {
+    /** Offsets of the bounds are numbers of rows before or after the current row. */
+    ROWS,
+    /** Offsets of the bounds are differences with the sort key of the current row. */
+    RANGE
+  }
+
+  /**
+   * Bound types in the order of the rows they refer to.
+   */
+  public enum BoundType {
+    UNBOUNDED_PRECEDING,
+    PRECEDING,
+    CURRENT_ROW,
+    FOLLOWING,
+    UNBOUNDED_FOLLOWING
+  }
+
+  /**
+   * Bound of a frame. The offset only applies to PRECEDING and FOLLOWING bounds.
+   */
+  @Data
+  public static class FrameBound {
+    public static final FrameBound UNBOUNDED_PRECEDING =
+        new FrameBound(BoundType.UNBOUNDED_PRECEDING, 0);
+    public static final FrameBound CURRENT_ROW = new FrameBound(BoundType.CURRENT_ROW, 0);
+    public static final FrameBound UNBOUNDED_FOLLOWING =
+        new FrameBound(BoundType.UNBOUNDED_FOLLOWING, 0);
+
+    private final BoundType type;
+    private final long offset;
+
+    public static FrameBound preceding(long offset) {
+      return new FrameBound(BoundType.PRECEDING, offset);
+    }
+
+    public static FrameBound following(long offset) {
+      return new FrameBound(BoundType.FOLLOWING, offset);
+    }
+
+    /**
+     * Check if the bound is an offset from the current row.
+     *
+     * @return true if PRECEDING or FOLLOWING
+     */
+    public boolean hasOffset() {
+      return type == BoundType.PRECEDING || type == BoundType.FOLLOWING;
+    }
+
+    @Override
+    public String toString() {
+      String name = type.name().replace('_', ' ');
+      return hasOffset() ? offset + " " + name : name;
+    }
+  }
+}
@@ -29,6 +29,20 @@ public class WindowFunction extends UnresolvedExpression {
   private List<UnresolvedExpression> partitionByList;
   private List<Pair<SortOption, UnresolvedExpression>> sortList;
 
+  /**
+   * Frame clause, or null if absent.
+   */
+  private WindowFrameSpec frame;
+
+  /**
+   * Constructor of WindowFunction without frame clause.
+   */
+  public WindowFunction(UnresolvedExpression function,
+                        List<UnresolvedExpression> partitionByList,
+                        List<Pair<SortOption, UnresolvedExpression>> sortList) {
+    this(function, partitionByList, sortList, null);
+  }
+
   @Override
   public List<? extends Node> getChild() {
     ImmutableList.Builder<UnresolvedExpression> children = ImmutableList.builder();
@@ -8,19 +8,28 @@
 
 package org.opensearch.sql.ast.statement;
 
+import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.EqualsAndHashCode;
 import org.opensearch.sql.ast.AbstractNodeVisitor;
 
 /**
- * Explain Statement.
+ * Explain Statement. Explain analyze runs the statement and explains it with the runtime
+ * statistics of each operator.
  */
+@AllArgsConstructor
 @Data
 @EqualsAndHashCode(callSuper = false)
 public class Explain extends Statement {
 
   private final Statement statement;
 
+  private final boolean analyze;
+
+  public Explain(Statement statement) {
+    this(statement, false);
+  }
+
   @Override
   public <R, C> R accept(AbstractNodeVisitor<R, C> visitor, C context) {
     return visitor.visitExplain(this, context);
@@ -6,31 +6,143 @@
 
 package org.opensearch.sql.data.model;
 
+import java.io.Serializable;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.NoSuchElementException;
 import java.util.Objects;
+import java.util.Set;
+import java.util.function.BiConsumer;
 import java.util.stream.Collectors;
-import lombok.RequiredArgsConstructor;
 import org.opensearch.sql.data.type.ExprCoreType;
 import org.opensearch.sql.data.type.ExprType;
 import org.opensearch.sql.storage.bindingtuple.BindingTuple;
 import org.opensearch.sql.storage.bindingtuple.LazyBindingTuple;
 
 /**
- * Expression Tuple Value.
+ * Expression Tuple Value. A tuple is either backed by a map, or it is a compact row backed by an
+ * array of values and a {@link TupleSchema} shared with the other rows produced by the same
+ * operator. The map of a compact row is a read-only view over the array.
  */
-@RequiredArgsConstructor
 public class ExprTupleValue extends AbstractExprValue {
 
-  private final LinkedHashMap<String, ExprValue> valueMap;
+  private final Map<String, ExprValue> valueMap;
+
+  /**
+   * Schema of a compact row, null if the tuple is backed by a map.
+   */
+  private final TupleSchema schema;
+
+  /**
+   * Values of a compact row in the order of the schema, null if the tuple is backed by a map.
+   */
+  private final ExprValue[] values;
+
+  public ExprTupleValue(LinkedHashMap<String, ExprValue> valueMap) {
+    this.valueMap = valueMap;
+    this.schema = null;
+    this.values = null;
+  }
+
+  private ExprTupleValue(TupleSchema schema, ExprValue[] values) {
+    this.valueMap = new RowMap(schema, values);
+    this.schema = schema;
+    this.values = values;
+  }
 
   public static ExprTupleValue fromExprValueMap(Map<String, ExprValue> map) {
     LinkedHashMap<String, ExprValue> linkedHashMap = new LinkedHashMap<>(map);
     return new ExprTupleValue(linkedHashMap);
   }
 
+  /**
+   * Create a compact row. The array is owned by the row from now on and must not be modified.
+   *
+   * @param schema schema of the row
+   * @param values values in the order of the schema
+   * @return compact row
+   */
+  public static ExprTupleValue fromRow(TupleSchema schema, ExprValue[] values) {
+    if (schema.size() != values.length) {
+      throw new IllegalArgumentException(String.format(
+          "Row has %d values but schema has %d fields", values.length, schema.size()));
+    }
+    return new ExprTupleValue(schema, values);
+  }
+
+  /**
+   * Get the schema of a compact row.
+   *
+   * @return schema, or null if the tuple is backed by a map
+   */
+  public TupleSchema getSchema() {
+    return schema;
+  }
+
+  /**
+   * Get the schema of the tuple, reusing the given schema if it has the same field names. This
+   * lets an operator cache whatever it derives from the schema of its input across rows, even if
+   * the input tuples are backed by maps.
+   *
+   * @param candidate schema of the previous tuple, or null
+   * @return schema of the tuple
+   */
+  public TupleSchema schemaLike(TupleSchema candidate) {
+    if (schema != null) {
+      return schema;
+    }
+    if (candidate != null && candidate.hasNames(valueMap.keySet())) {
+      return candidate;
+    }
+    return new TupleSchema(new ArrayList<>(valueMap.keySet()));
+  }
+
+  /**
+   * Get a value of a compact row by ordinal.
+   *
+   * @param ordinal ordinal in the schema of the row
+   * @return value
+   */
+  public ExprValue valueAt(int ordinal) {
+    return values[ordinal];
+  }
+
+  /**
+   * Copy the values of the tuple in order.
+   *
+   * @param dest   destination array
+   * @param offset position of the first value in the destination array
+   */
+  public void copyValuesTo(ExprValue[] dest, int offset) {
+    if (values != null) {
+      System.arraycopy(values, 0, dest, offset, values.length);
+    } else {
+      for (ExprValue value : valueMap.values()) {
+        dest[offset++] = value;
+      }
+    }
+  }
+
+  /**
+   * Create a compact row with the values of this tuple under other field names.
+   *
+   * @param newSchema schema with as many fields as this tuple
+   * @return compact row
+   */
+  public ExprTupleValue withSchema(TupleSchema newSchema) {
+    if (values != null) {
+      return fromRow(newSchema, values);
+    }
+    ExprValue[] copy = new ExprValue[valueMap.size()];
+    copyValuesTo(copy, 0);
+    return fromRow(newSchema, copy);
+  }
+
   @Override
   public Object value() {
     LinkedHashMap<String, Object> resultMap = new LinkedHashMap<>();
@@ -65,6 +177,10 @@ public class ExprTupleValue extends AbstractExprValue {
 
   @Override
   public ExprValue keyValue(String key) {
+    if (schema != null) {
+      int ordinal = schema.ordinalOf(key);
+      return (ordinal < 0) ? ExprMissingValue.of() : values[ordinal];
+    }
     return valueMap.getOrDefault(key, ExprMissingValue.of());
   }
 
@@ -103,4 +219,71 @@ public class ExprTupleValue extends AbstractExprValue {
   public int hashCode() {
     return Objects.hashCode(valueMap);
   }
+
+  /**
+   * Read-only map view of a compact row.
+   */
+  private static class RowMap extends AbstractMap<String, ExprValue> implements Serializable {
+    private final TupleSchema schema;
+    private final ExprValue[] values;
+
+    private RowMap(TupleSchema schema, ExprValue[] values) {
+      this.schema = schema;
+      this.values = values;
+    }
+
+    @Override
+    public int size() {
+      return values.length;
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+      return (key instanceof String) && schema.ordinalOf((String) key) >= 0;
+    }
+
+    @Override
+    public ExprValue get(Object key) {
+      int ordinal = (key instanceof String) ? schema.ordinalOf((String) key) : -1;
+      return (ordinal < 0) ? null : values[ordinal];
+    }
+
+    @Override
+    public void forEach(BiConsumer<? super String, ? super ExprValue> action) {
+      for (int i = 0; i < values.length; i++) {
+        action.accept(schema.nameAt(i), values[i]);
+      }
+    }
+
+    @Override
+    public Set<Entry<String, ExprValue>> entrySet() {
+      return new AbstractSet<>() {
+        @Override
+        public int size() {
+          return values.length;
+        }
+
+        @Override
+        public Iterator<Entry<String, ExprValue>> iterator() {
+          return new Iterator<>() {
+            private int next = 0;
+
+            @Override
+            public boolean hasNext() {
+              return next < values.length;
+            }
+
+            @Override
+            public Entry<String, ExprValue> next() {
+              if (next >= values.length) {
+                throw new NoSuchElementException();
+              }
+              int ordinal = next++;
+              return new SimpleImmutableEntry<>(schema.nameAt(ordinal), values[ordinal]);
+            }
+          };
+        }
+      };
+    }
+  }
 }
@@ -0,0 +1,86 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+
+package org.opensearch.sql.data.model;
+
+import java.io.Serializable;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * Ordered field names of compact tuples, see {@link ExprTupleValue#fromRow}. A schema is created
+ * once by the operator producing the tuples and shared by all of them, so the ordinal of a field
+ * can be resolved once and then used to access the field in every tuple.
+ */
+@EqualsAndHashCode(of = "names")
+@ToString(of = "names")
+public class TupleSchema implements Serializable {
+
+  @Getter
+  private final List<String> names;
+
+  private final Map<String, Integer> ordinals;
+
+  /**
+   * Constructor of TupleSchema.
+   *
+   * @param names field names in order
+   * @throws IllegalArgumentException if a field name is duplicated
+   */
+  public TupleSchema(List<String> names) {
+    this.names = List.copyOf(names);
+    this.ordinals = new HashMap<>();
+    for (int i = 0; i < names.size(); i++) {
+      if (ordinals.put(names.get(i), i) != null) {
+        throw new IllegalArgumentException(
+            String.format("Multiple entries with same key: %s", names.get(i)));
+      }
+    }
+  }
+
+  public int size() {
+    return names.size();
+  }
+
+  public String nameAt(int ordinal) {
+    return names.get(ordinal);
+  }
+
+  /**
+   * Get the ordinal of a field.
+   *
+   * @param name field name
+   * @return ordinal, or -1 if the field doesn't exist
+   */
+  public int ordinalOf(String name) {
+    return ordinals.getOrDefault(name, -1);
+  }
+
+  /**
+   * Check if the schema has exactly these field names in the same order.
+   *
+   * @param fieldNames field names
+   * @return true if they are the names of this schema
+   */
+  public boolean hasNames(Collection<String> fieldNames) {
+    if (fieldNames.size() != names.size()) {
+      return false;
+    }
+    Iterator<String> iterator = fieldNames.iterator();
+    for (String name : names) {
+      if (!name.equals(iterator.next())) {
+        return false;
+      }
+    }
+    return true;
+  }
+}
@@ -8,12 +8,12 @@ package org.opensearch.sql.executor;
 
 import java.util.List;
 import java.util.Map;
-import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.RequiredArgsConstructor;
 import org.opensearch.sql.common.response.ResponseListener;
 import org.opensearch.sql.data.model.ExprValue;
 import org.opensearch.sql.data.type.ExprType;
+import org.opensearch.sql.exception.SemanticCheckException;
 import org.opensearch.sql.executor.pagination.Cursor;
 import org.opensearch.sql.planner.physical.PhysicalPlan;
 
@@ -47,6 +47,20 @@ public interface ExecutionEngine {
    */
   void explain(PhysicalPlan plan, ResponseListener<ExplainResponse> listener);
 
+  /**
+   * Execute physical plan and call back response listener with the explanation of the plan,
+   * which includes the runtime statistics of each operator. The query result is discarded.
+   * Engines which can't collect the statistics report a SemanticCheckException, which is returned
+   * to the user as a bad request.
+   *
+   * @param plan     physical plan to execute and explain
+   * @param listener response listener
+   */
+  default void explainAnalyze(PhysicalPlan plan, ResponseListener<ExplainResponse> listener) {
+    listener.onFailure(new SemanticCheckException(
+        "EXPLAIN ANALYZE is not supported by this execution engine, use EXPLAIN instead"));
+  }
+
   /**
    * Data class that encapsulates ExprValue.
    */
@@ -78,13 +92,27 @@ public interface ExecutionEngine {
     private final ExplainResponseNode root;
   }
 
-  @AllArgsConstructor
   @Data
   @RequiredArgsConstructor
   class ExplainResponseNode {
     private final String name;
     private Map<String, Object> description;
     private List<ExplainResponseNode> children;
+
+    /**
+     * Runtime statistics of the operator, only present in explain analyze response.
+     */
+    private Map<String, Object> statistics;
+
+    /**
+     * Constructor of ExplainResponseNode without runtime statistics.
+     */
+    public ExplainResponseNode(String name, Map<String, Object> description,
+                               List<ExplainResponseNode> children) {
+      this.name = name;
+      this.description = description;
+      this.children = children;
+    }
   }
 
 }
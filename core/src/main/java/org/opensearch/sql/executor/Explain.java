@@ -8,6 +8,7 @@ package org.opensearch.sql.executor;
 
 import com.google.common.collect.ImmutableMap;
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.function.Consumer;
@@ -18,6 +19,7 @@ import org.opensearch.sql.ast.tree.Sort;
 import org.opensearch.sql.executor.ExecutionEngine.ExplainResponse;
 import org.opensearch.sql.executor.ExecutionEngine.ExplainResponseNode;
 import org.opensearch.sql.expression.Expression;
+import org.opensearch.sql.expression.window.WindowDefinition;
 import org.opensearch.sql.planner.physical.AggregationOperator;
 import org.opensearch.sql.planner.physical.DedupeOperator;
 import org.opensearch.sql.planner.physical.EvalOperator;
@@ -26,6 +28,7 @@ import org.opensearch.sql.planner.physical.LimitOperator;
 import org.opensearch.sql.planner.physical.NestedOperator;
 import org.opensearch.sql.planner.physical.PhysicalPlan;
 import org.opensearch.sql.planner.physical.PhysicalPlanNodeVisitor;
+import org.opensearch.sql.planner.physical.ProfilePlan;
 import org.opensearch.sql.planner.physical.ProjectOperator;
 import org.opensearch.sql.planner.physical.RareTopNOperator;
 import org.opensearch.sql.planner.physical.RemoveOperator;
@@ -79,11 +82,17 @@ public class Explain extends PhysicalPlanNodeVisitor<ExplainResponseNode, Object
 
   @Override
   public ExplainResponseNode visitWindow(WindowOperator node, Object context) {
+    WindowDefinition windowDefinition = node.getWindowDefinition();
+    Map<String, Object> definition = new LinkedHashMap<>();
+    definition.put("partitionBy", windowDefinition.getPartitionByList().toString());
+    definition.put("sortList", describeSortList(windowDefinition.getSortList()));
+    if (windowDefinition.getFrame() != null) {
+      definition.put("frame", windowDefinition.getFrame().toString());
+    }
+
     return explain(node, context, explainNode -> explainNode.setDescription(ImmutableMap.of(
         "function", node.getWindowFunction().toString(),
-        "definition", ImmutableMap.of(
-            "partitionBy", node.getWindowDefinition().getPartitionByList().toString(),
-            "sortList", describeSortList(node.getWindowDefinition().getSortList())))));
+        "definition", definition)));
   }
 
   @Override
@@ -149,6 +158,41 @@ public class Explain extends PhysicalPlanNodeVisitor<ExplainResponseNode, Object
         "nested", node.getFields())));
   }
 
+  /**
+   * Explain the operator profiled by explain analyze with its runtime statistics. The time is
+   * reported both including and excluding the time of the children.
+   */
+  @Override
+  public ExplainResponseNode visitProfile(ProfilePlan node, Object context) {
+    ExplainResponseNode explainNode = node.getDelegate().accept(this, context);
+
+    long inputRows = 0;
+    long childrenNanos = 0;
+    for (PhysicalPlan child : node.getChild()) {
+      if (child instanceof ProfilePlan) {
+        inputRows += ((ProfilePlan) child).getRows();
+        childrenNanos += ((ProfilePlan) child).getTotalNanos();
+      }
+    }
+
+    Map<String, Object> statistics = new LinkedHashMap<>();
+    statistics.put("inputRows", inputRows);
+    statistics.put("outputRows", node.getRows());
+    statistics.put("openTimeMillis", toMillis(node.getOpenNanos()));
+    statistics.put("nextTimeMillis", toMillis(node.getNextNanos()));
+    statistics.put("selfTimeMillis", toMillis(node.getTotalNanos() - childrenNanos));
+    statistics.put("peakMemoryBytes", node.getPeakReservedBytes());
+    if (explainNode.getStatistics() != null) {
+      statistics.putAll(explainNode.getStatistics());
+    }
+    explainNode.setStatistics(statistics);
+    return explainNode;
+  }
+
+  protected static double toMillis(long nanos) {
+    return nanos / 1_000_000.0;
+  }
+
   protected ExplainResponseNode explain(PhysicalPlan node, Object context,
                                         Consumer<ExplainResponseNode> doExplain) {
     ExplainResponseNode explainNode = new ExplainResponseNode(getOperatorName(node));
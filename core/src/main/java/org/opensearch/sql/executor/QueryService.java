@@ -86,6 +86,22 @@ public class QueryService {
     }
   }
 
+  /**
+   * Execute the query in {@link UnresolvedPlan} and explain it with the runtime statistics of
+   * each operator, using {@link ResponseListener} to get and format explain response.
+   *
+   * @param plan {@link UnresolvedPlan}
+   * @param listener {@link ResponseListener} for explain response
+   */
+  public void explainAnalyze(UnresolvedPlan plan,
+                             ResponseListener<ExecutionEngine.ExplainResponse> listener) {
+    try {
+      executionEngine.explainAnalyze(plan(analyze(plan)), listener);
+    } catch (Exception e) {
+      listener.onFailure(e);
+    }
+  }
+
   /**
    * Analyze {@link UnresolvedPlan}.
    */
@@ -0,0 +1,98 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.executor;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheStats;
+import java.util.function.Supplier;
+import lombok.EqualsAndHashCode;
+import lombok.RequiredArgsConstructor;
+import org.opensearch.sql.ast.statement.Statement;
+
+/**
+ * Bounded cache of the statements built from query text. Dashboards send the same query text
+ * over and over again, and the cache saves the parsing and AST building of repeated queries.
+ * A statement is not bound to any index or mapping, so it stays valid when mappings change.
+ */
+public class StatementCache {
+
+  /**
+   * Default maximum number of statements kept in cache.
+   */
+  public static final int DEFAULT_CACHE_SIZE = 1000;
+
+  private final Cache<Key, Statement> cache;
+
+  public StatementCache() {
+    this(DEFAULT_CACHE_SIZE);
+  }
+
+  /**
+   * Constructor of StatementCache.
+   *
+   * @param cacheSize maximum number of statements to cache
+   */
+  public StatementCache(int cacheSize) {
+    this.cache = CacheBuilder.newBuilder()
+        .maximumSize(cacheSize)
+        .recordStats()
+        .build();
+  }
+
+  /**
+   * Get the statement of the query, or build and cache it if absent. Statement building failures
+   * are not cached.
+   *
+   * @param query     query text
+   * @param isExplain whether it is an explain request
+   * @param fetchSize fetch size of the request
+   * @param builder   builds the statement from query text
+   * @return statement
+   */
+  public Statement get(String query, boolean isExplain, int fetchSize,
+                       Supplier<Statement> builder) {
+    return get(query, isExplain, false, fetchSize, builder);
+  }
+
+  /**
+   * Get the statement of the query, or build and cache it if absent. Statement building failures
+   * are not cached.
+   *
+   * @param query     query text
+   * @param isExplain whether it is an explain request
+   * @param isAnalyze whether it is an explain analyze request
+   * @param fetchSize fetch size of the request
+   * @param builder   builds the statement from query text
+   * @return statement
+   */
+  public Statement get(String query, boolean isExplain, boolean isAnalyze, int fetchSize,
+                       Supplier<Statement> builder) {
+    Key key = new Key(query, isExplain, isAnalyze, fetchSize);
+    Statement statement = cache.getIfPresent(key);
+    if (statement == null) {
+      statement = builder.get();
+      cache.put(key, statement);
+    }
+    return statement;
+  }
+
+  public CacheStats stats() {
+    return cache.stats();
+  }
+
+  /**
+   * Everything in a request that the statement built depends on.
+   */
+  @EqualsAndHashCode
+  @RequiredArgsConstructor
+  private static class Key {
+    private final String query;
+    private final boolean isExplain;
+    private final boolean isAnalyze;
+    private final int fetchSize;
+  }
+}
@@ -38,4 +38,14 @@ public abstract class AbstractPlan {
    * @param listener query explain response listener.
    */
   public abstract void explain(ResponseListener<ExecutionEngine.ExplainResponse> listener);
+
+  /**
+   * Execute the query and explain it with the runtime statistics of each operator.
+   *
+   * @param listener query explain response listener.
+   */
+  public void explainAnalyze(ResponseListener<ExecutionEngine.ExplainResponse> listener) {
+    throw new UnsupportedOperationException(
+        getClass().getSimpleName() + " does not support explain analyze");
+  }
 }
@@ -19,6 +19,11 @@ public class ExplainPlan extends AbstractPlan {
 
   private final AbstractPlan plan;
 
+  /**
+   * Whether to execute the plan and explain it with runtime statistics.
+   */
+  private final boolean analyze;
+
   private final ResponseListener<ExecutionEngine.ExplainResponse> explainListener;
 
   /**
@@ -27,14 +32,29 @@ public class ExplainPlan extends AbstractPlan {
   public ExplainPlan(QueryId queryId,
                      AbstractPlan plan,
                      ResponseListener<ExecutionEngine.ExplainResponse> explainListener) {
+    this(queryId, plan, false, explainListener);
+  }
+
+  /**
+   * Constructor of explain or explain analyze plan.
+   */
+  public ExplainPlan(QueryId queryId,
+                     AbstractPlan plan,
+                     boolean analyze,
+                     ResponseListener<ExecutionEngine.ExplainResponse> explainListener) {
     super(queryId);
     this.plan = plan;
+    this.analyze = analyze;
     this.explainListener = explainListener;
   }
 
   @Override
   public void execute() {
-    plan.explain(explainListener);
+    if (analyze) {
+      plan.explainAnalyze(explainListener);
+    } else {
+      plan.explain(explainListener);
+    }
   }
 
   @Override
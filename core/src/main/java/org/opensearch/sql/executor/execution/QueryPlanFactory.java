@@ -135,6 +135,7 @@ public class QueryPlanFactory
         QueryId.queryId(),
         create(node.getStatement(),
             Optional.of(NO_CONSUMER_RESPONSE_LISTENER), Optional.empty()),
+        node.isAnalyze(),
         context.getRight().get());
   }
 }
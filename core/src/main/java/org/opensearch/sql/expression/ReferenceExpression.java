@@ -13,8 +13,10 @@ import java.util.List;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
+import org.opensearch.sql.data.model.ExprMissingValue;
 import org.opensearch.sql.data.model.ExprTupleValue;
 import org.opensearch.sql.data.model.ExprValue;
+import org.opensearch.sql.data.model.TupleSchema;
 import org.opensearch.sql.data.type.ExprCoreType;
 import org.opensearch.sql.data.type.ExprType;
 import org.opensearch.sql.expression.env.Environment;
@@ -30,6 +32,13 @@ public class ReferenceExpression implements Expression {
 
   private final ExprType type;
 
+  /**
+   * Ordinal of the reference in the schema of the last compact row resolved. Rows produced by an
+   * operator share the same schema, so the field is looked up by name only once per schema.
+   */
+  @EqualsAndHashCode.Exclude
+  private transient ResolvedOrdinal resolvedOrdinal;
+
   /**
    * Constructor of ReferenceExpression.
    * @param ref the field name. e.g. addr.state/addr.
@@ -97,9 +106,26 @@ public class ReferenceExpression implements Expression {
    * @return {@link ExprTupleValue}.
    */
   public ExprValue resolve(ExprTupleValue value) {
+    TupleSchema schema = value.getSchema();
+    if (schema != null) {
+      int ordinal = ordinalIn(schema);
+      ExprValue wholePathValue = (ordinal < 0) ? ExprMissingValue.of() : value.valueAt(ordinal);
+      if (!wholePathValue.isMissing() || paths.size() == 1) {
+        return wholePathValue;
+      }
+    }
     return resolve(value, paths);
   }
 
+  private int ordinalIn(TupleSchema schema) {
+    ResolvedOrdinal resolved = resolvedOrdinal;
+    if (resolved == null || resolved.schema != schema) {
+      resolved = new ResolvedOrdinal(schema, schema.ordinalOf(String.join(PATH_SEP, paths)));
+      resolvedOrdinal = resolved;
+    }
+    return resolved.ordinal;
+  }
+
   private ExprValue resolve(ExprValue value, List<String> paths) {
     ExprValue wholePathValue = value.keyValue(String.join(PATH_SEP, paths));
     // For array types only first index currently supported.
@@ -113,4 +139,10 @@ public class ReferenceExpression implements Expression {
       return resolve(value.keyValue(paths.get(0)), paths.subList(1, paths.size()));
     }
   }
+
+  @RequiredArgsConstructor
+  private static class ResolvedOrdinal {
+    private final TupleSchema schema;
+    private final int ordinal;
+  }
 }
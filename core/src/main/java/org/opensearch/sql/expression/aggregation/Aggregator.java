@@ -79,6 +79,44 @@ public abstract class Aggregator<S extends AggregationState>
     return iterate(value, state);
   }
 
+  /**
+   * Check if values can be removed from the states of this aggregator by
+   * {@link #remove(BindingTuple, AggregationState)}, which lets aggregate window functions
+   * slide their frame without aggregating all the rows of the frame again.
+   *
+   * @return true if values can be removed
+   */
+  public boolean isRemovable() {
+    return false;
+  }
+
+  /**
+   * Remove {@link ExprValue} previously iterated on from the state.
+   * @param value {@link ExprValue}
+   * @param state {@link AggregationState}
+   * @return {@link AggregationState}
+   */
+  protected S remove(ExprValue value, S state) {
+    throw new UnsupportedOperationException(
+        String.format("can't remove value from aggregator: %s", functionName));
+  }
+
+  /**
+   * Let the aggregator remove the value of a {@link BindingTuple} previously iterated on, skipping
+   * the values that {@link #iterate(BindingTuple, AggregationState)} skips.
+   *
+   * @param tuple {@link BindingTuple}
+   * @param state {@link AggregationState}
+   * @return {@link AggregationState}
+   */
+  public S remove(BindingTuple tuple, S state) {
+    ExprValue value = getArguments().get(0).valueOf(tuple);
+    if (value.isNull() || value.isMissing() || !conditionValue(tuple)) {
+      return state;
+    }
+    return remove(value, state);
+  }
+
   @Override
   public ExprValue valueOf(Environment<Expression, ExprValue> valueEnv) {
     throw new ExpressionEvaluationException(
@@ -67,6 +67,19 @@ public class AvgAggregator extends Aggregator<AvgAggregator.AvgState> {
     return state.iterate(value);
   }
 
+  /**
+   * Only the average of doubles can remove values, the other states sum epoch milliseconds.
+   */
+  @Override
+  public boolean isRemovable() {
+    return dataType == ExprCoreType.DOUBLE;
+  }
+
+  @Override
+  protected AvgState remove(ExprValue value, AvgState state) {
+    return state.remove(value);
+  }
+
   @Override
   public String toString() {
     return String.format(Locale.ROOT, "avg(%s)", format(getArguments()));
@@ -91,6 +104,11 @@ public class AvgAggregator extends Aggregator<AvgAggregator.AvgState> {
       count = DSL.add(DSL.literal(count), DSL.literal(1)).valueOf();
       return this;
     }
+
+    protected AvgState remove(ExprValue value) {
+      count = DSL.subtract(DSL.literal(count), DSL.literal(1)).valueOf();
+      return this;
+    }
   }
 
   protected static class DoubleAvgState extends AvgState {
@@ -107,6 +125,12 @@ public class AvgAggregator extends Aggregator<AvgAggregator.AvgState> {
       total = DSL.add(DSL.literal(total), DSL.literal(value)).valueOf();
       return super.iterate(value);
     }
+
+    @Override
+    protected AvgState remove(ExprValue value) {
+      total = DSL.subtract(DSL.literal(total), DSL.literal(value)).valueOf();
+      return super.remove(value);
+    }
   }
 
   protected static class DateAvgState extends AvgState {
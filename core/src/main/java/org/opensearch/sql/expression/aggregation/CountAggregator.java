@@ -36,6 +36,17 @@ public class CountAggregator extends Aggregator<CountState> {
     return state;
   }
 
+  @Override
+  public boolean isRemovable() {
+    return !distinct;
+  }
+
+  @Override
+  protected CountState remove(ExprValue value, CountState state) {
+    state.count--;
+    return state;
+  }
+
   @Override
   public String toString() {
     return distinct
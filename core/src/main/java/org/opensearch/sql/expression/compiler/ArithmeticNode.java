@@ -0,0 +1,213 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+
+package org.opensearch.sql.expression.compiler;
+
+import static org.opensearch.sql.data.type.ExprCoreType.FLOAT;
+import static org.opensearch.sql.data.type.ExprCoreType.INTEGER;
+import static org.opensearch.sql.data.type.ExprCoreType.LONG;
+
+import lombok.RequiredArgsConstructor;
+import org.opensearch.sql.data.model.ExprDoubleValue;
+import org.opensearch.sql.data.model.ExprFloatValue;
+import org.opensearch.sql.data.model.ExprIntegerValue;
+import org.opensearch.sql.data.model.ExprLongValue;
+import org.opensearch.sql.data.model.ExprValue;
+import org.opensearch.sql.data.type.ExprType;
+
+/**
+ * Arithmetic function on INTEGER, LONG, FLOAT or DOUBLE arguments of the same type as the result.
+ * The semantics are the same as the ones defined in ArithmeticFunction: the integer operations
+ * fail on overflow except division, and division by zero returns NULL.
+ */
+final class ArithmeticNode extends CompiledNode {
+
+  private final Operator operator;
+
+  private final CompiledNode left;
+
+  private final CompiledNode right;
+
+  ArithmeticNode(ExprType type, Operator operator, CompiledNode left, CompiledNode right) {
+    super(type);
+    this.operator = operator;
+    this.left = left;
+    this.right = right;
+  }
+
+  @Override
+  long evalLong(Frame frame) {
+    long leftValue = left.evalLong(frame);
+    int leftState = frame.state;
+    long rightValue = right.evalLong(frame);
+    if (!mergeState(leftState, frame) || isDivisionByZero(rightValue, frame)) {
+      return 0L;
+    }
+    if (getType() == INTEGER) {
+      return operator.applyInt((int) leftValue, (int) rightValue);
+    }
+    return operator.applyLong(leftValue, rightValue);
+  }
+
+  @Override
+  double evalDouble(Frame frame) {
+    double leftValue = left.evalDouble(frame);
+    int leftState = frame.state;
+    double rightValue = right.evalDouble(frame);
+    if (!mergeState(leftState, frame) || isDivisionByZero(rightValue, frame)) {
+      return 0D;
+    }
+    if (getType() == FLOAT) {
+      return operator.applyFloat((float) leftValue, (float) rightValue);
+    }
+    return operator.applyDouble(leftValue, rightValue);
+  }
+
+  @Override
+  ExprValue evalValue(Frame frame) {
+    if (getType() == INTEGER) {
+      long value = evalLong(frame);
+      return frame.state == VALUE ? new ExprIntegerValue((int) value) : nullOrMissing(frame);
+    } else if (getType() == LONG) {
+      long value = evalLong(frame);
+      return frame.state == VALUE ? new ExprLongValue(value) : nullOrMissing(frame);
+    } else if (getType() == FLOAT) {
+      double value = evalDouble(frame);
+      return frame.state == VALUE ? new ExprFloatValue((float) value) : nullOrMissing(frame);
+    } else {
+      double value = evalDouble(frame);
+      return frame.state == VALUE ? new ExprDoubleValue(value) : nullOrMissing(frame);
+    }
+  }
+
+  private boolean isDivisionByZero(double divisor, Frame frame) {
+    if (operator.division && divisor == 0) {
+      frame.state = NULL;
+      return true;
+    }
+    return false;
+  }
+
+  @RequiredArgsConstructor
+  enum Operator {
+    ADD(false) {
+      @Override
+      int applyInt(int left, int right) {
+        return Math.addExact(left, right);
+      }
+
+      @Override
+      long applyLong(long left, long right) {
+        return Math.addExact(left, right);
+      }
+
+      @Override
+      float applyFloat(float left, float right) {
+        return left + right;
+      }
+
+      @Override
+      double applyDouble(double left, double right) {
+        return left + right;
+      }
+    },
+    SUBTRACT(false) {
+      @Override
+      int applyInt(int left, int right) {
+        return Math.subtractExact(left, right);
+      }
+
+      @Override
+      long applyLong(long left, long right) {
+        return Math.subtractExact(left, right);
+      }
+
+      @Override
+      float applyFloat(float left, float right) {
+        return left - right;
+      }
+
+      @Override
+      double applyDouble(double left, double right) {
+        return left - right;
+      }
+    },
+    MULTIPLY(false) {
+      @Override
+      int applyInt(int left, int right) {
+        return Math.multiplyExact(left, right);
+      }
+
+      @Override
+      long applyLong(long left, long right) {
+        return Math.multiplyExact(left, right);
+      }
+
+      @Override
+      float applyFloat(float left, float right) {
+        return left * right;
+      }
+
+      @Override
+      double applyDouble(double left, double right) {
+        return left * right;
+      }
+    },
+    DIVIDE(true) {
+      @Override
+      int applyInt(int left, int right) {
+        return left / right;
+      }
+
+      @Override
+      long applyLong(long left, long right) {
+        return left / right;
+      }
+
+      @Override
+      float applyFloat(float left, float right) {
+        return left / right;
+      }
+
+      @Override
+      double applyDouble(double left, double right) {
+        return left / right;
+      }
+    },
+    MODULUS(true) {
+      @Override
+      int applyInt(int left, int right) {
+        return left % right;
+      }
+
+      @Override
+      long applyLong(long left, long right) {
+        return left % right;
+      }
+
+      @Override
+      float applyFloat(float left, float right) {
+        return left % right;
+      }
+
+      @Override
+      double applyDouble(double left, double right) {
+        return left % right;
+      }
+    };
+
+    /** Division by zero returns NULL. */
+    private final boolean division;
+
+    abstract int applyInt(int left, int right);
+
+    abstract long applyLong(long left, long right);
+
+    abstract float applyFloat(float left, float right);
+
+    abstract double applyDouble(double left, double right);
+  }
+}
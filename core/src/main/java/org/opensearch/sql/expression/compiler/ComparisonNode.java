@@ -0,0 +1,97 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+
+package org.opensearch.sql.expression.compiler;
+
+import static org.opensearch.sql.data.type.ExprCoreType.FLOAT;
+import static org.opensearch.sql.data.type.ExprCoreType.INTEGER;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Comparison of two INTEGER, LONG, FLOAT or DOUBLE arguments of the same type. The arguments are
+ * compared as {@link org.opensearch.sql.data.model.ExprValue#compareTo} does for the type.
+ */
+@RequiredArgsConstructor
+final class ComparisonNode extends PredicateNode {
+
+  private final Operator operator;
+
+  private final CompiledNode left;
+
+  private final CompiledNode right;
+
+  @Override
+  boolean evalBoolean(Frame frame) {
+    int result;
+    if (left.isIntegral()) {
+      long leftValue = left.evalLong(frame);
+      int leftState = frame.state;
+      long rightValue = right.evalLong(frame);
+      if (!mergeState(leftState, frame)) {
+        return false;
+      }
+      result = (left.getType() == INTEGER)
+          ? Integer.compare((int) leftValue, (int) rightValue)
+          : Long.compare(leftValue, rightValue);
+    } else {
+      double leftValue = left.evalDouble(frame);
+      int leftState = frame.state;
+      double rightValue = right.evalDouble(frame);
+      if (!mergeState(leftState, frame)) {
+        return false;
+      }
+      result = (left.getType() == FLOAT)
+          ? Float.compare((float) leftValue, (float) rightValue)
+          : Double.compare(leftValue, rightValue);
+    }
+    return operator.test(result);
+  }
+
+  enum Operator {
+    EQUAL {
+      @Override
+      boolean test(int result) {
+        return result == 0;
+      }
+    },
+    NOT_EQUAL {
+      @Override
+      boolean test(int result) {
+        return result != 0;
+      }
+    },
+    LESS {
+      @Override
+      boolean test(int result) {
+        return result < 0;
+      }
+    },
+    LESS_OR_EQUAL {
+      @Override
+      boolean test(int result) {
+        return result <= 0;
+      }
+    },
+    GREATER {
+      @Override
+      boolean test(int result) {
+        return result > 0;
+      }
+    },
+    GREATER_OR_EQUAL {
+      @Override
+      boolean test(int result) {
+        return result >= 0;
+      }
+    };
+
+    /**
+     * Test the result of comparing the left argument to the right one.
+     */
+    abstract boolean test(int result);
+  }
+}
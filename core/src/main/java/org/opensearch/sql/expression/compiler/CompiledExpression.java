@@ -0,0 +1,60 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+
+package org.opensearch.sql.expression.compiler;
+
+import lombok.AccessLevel;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.opensearch.sql.data.model.ExprValue;
+import org.opensearch.sql.data.type.ExprType;
+import org.opensearch.sql.expression.Expression;
+import org.opensearch.sql.expression.ExpressionNodeVisitor;
+import org.opensearch.sql.expression.env.Environment;
+
+/**
+ * Expression compiled by {@link ExpressionCompiler}. It evaluates the compiled tree and behaves
+ * as the original expression otherwise. It is serialized as the original expression, which is
+ * compiled again where it is deserialized.
+ */
+@EqualsAndHashCode
+@RequiredArgsConstructor(access = AccessLevel.PACKAGE)
+public class CompiledExpression implements Expression {
+
+  /**
+   * Original expression.
+   */
+  @Getter
+  private final Expression expression;
+
+  @EqualsAndHashCode.Exclude
+  private final CompiledNode root;
+
+  @Override
+  public ExprValue valueOf(Environment<Expression, ExprValue> valueEnv) {
+    return root.evalValue(new CompiledNode.Frame(valueEnv));
+  }
+
+  @Override
+  public ExprType type() {
+    return expression.type();
+  }
+
+  @Override
+  public <T, C> T accept(ExpressionNodeVisitor<T, C> visitor, C context) {
+    return expression.accept(visitor, context);
+  }
+
+  @Override
+  public String toString() {
+    return expression.toString();
+  }
+
+  private Object writeReplace() {
+    return expression;
+  }
+}
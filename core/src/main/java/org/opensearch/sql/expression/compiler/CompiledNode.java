@@ -0,0 +1,93 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+
+package org.opensearch.sql.expression.compiler;
+
+import static org.opensearch.sql.data.model.ExprValueUtils.LITERAL_MISSING;
+import static org.opensearch.sql.data.model.ExprValueUtils.LITERAL_NULL;
+import static org.opensearch.sql.data.type.ExprCoreType.BYTE;
+import static org.opensearch.sql.data.type.ExprCoreType.INTEGER;
+import static org.opensearch.sql.data.type.ExprCoreType.LONG;
+import static org.opensearch.sql.data.type.ExprCoreType.SHORT;
+
+import java.io.Serializable;
+import java.util.Set;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.opensearch.sql.data.model.ExprValue;
+import org.opensearch.sql.data.type.ExprType;
+import org.opensearch.sql.expression.Expression;
+import org.opensearch.sql.expression.env.Environment;
+
+/**
+ * Node of a compiled expression tree. A node evaluates to a primitive of its type: a long for the
+ * integral types, a double for the floating point types and a boolean for the boolean type. NULL
+ * and MISSING are reported in the {@link Frame} instead of an {@link ExprValue}, so the
+ * intermediate results of a compiled expression are never boxed. Only the root of the tree
+ * allocates an {@link ExprValue} by {@link #evalValue(Frame)}.
+ */
+@RequiredArgsConstructor
+abstract class CompiledNode implements Serializable {
+
+  /** The node evaluated to a value. */
+  static final int VALUE = 0;
+
+  /** The node evaluated to NULL. */
+  static final int NULL = 1;
+
+  /** The node evaluated to MISSING. */
+  static final int MISSING = 2;
+
+  private static final Set<ExprType> INTEGRAL_TYPES = Set.of(BYTE, SHORT, INTEGER, LONG);
+
+  @Getter
+  private final ExprType type;
+
+  long evalLong(Frame frame) {
+    throw new IllegalStateException(String.format("[BUG] %s node is not integral", type));
+  }
+
+  double evalDouble(Frame frame) {
+    throw new IllegalStateException(String.format("[BUG] %s node is not floating point", type));
+  }
+
+  boolean evalBoolean(Frame frame) {
+    throw new IllegalStateException(String.format("[BUG] %s node is not boolean", type));
+  }
+
+  abstract ExprValue evalValue(Frame frame);
+
+  boolean isIntegral() {
+    return INTEGRAL_TYPES.contains(type);
+  }
+
+  /**
+   * Merge the state of the left argument into the state of the right argument in the frame by
+   * the NULL and MISSING handling of functions: MISSING if any argument is MISSING, otherwise NULL
+   * if any argument is NULL. The states are ordered so that the merge is the maximum.
+   *
+   * @return true if both arguments evaluated to a value
+   */
+  static boolean mergeState(int leftState, Frame frame) {
+    frame.state = Math.max(leftState, frame.state);
+    return frame.state == VALUE;
+  }
+
+  static ExprValue nullOrMissing(Frame frame) {
+    return frame.state == MISSING ? LITERAL_MISSING : LITERAL_NULL;
+  }
+
+  /**
+   * Evaluation state of a compiled expression on one environment.
+   */
+  @RequiredArgsConstructor
+  static final class Frame {
+    final Environment<Expression, ExprValue> env;
+
+    /** State of the node evaluated last. */
+    int state;
+  }
+}
@@ -0,0 +1,120 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+
+package org.opensearch.sql.expression.compiler;
+
+import static org.opensearch.sql.data.type.ExprCoreType.BOOLEAN;
+import static org.opensearch.sql.data.type.ExprCoreType.DOUBLE;
+import static org.opensearch.sql.data.type.ExprCoreType.FLOAT;
+import static org.opensearch.sql.data.type.ExprCoreType.INTEGER;
+import static org.opensearch.sql.data.type.ExprCoreType.LONG;
+
+import com.google.common.collect.ImmutableMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import lombok.experimental.UtilityClass;
+import org.opensearch.sql.data.type.ExprType;
+import org.opensearch.sql.expression.Expression;
+import org.opensearch.sql.expression.FunctionExpression;
+import org.opensearch.sql.expression.function.BuiltinFunctionName;
+import org.opensearch.sql.expression.function.FunctionName;
+
+/**
+ * Compiler of resolved expressions. The interpreter evaluates every function of an expression
+ * tree by the nested lambdas of FunctionDSL and boxes the result of every function into an
+ * {@link org.opensearch.sql.data.model.ExprValue}. The compiler translates the arithmetic,
+ * comparison and logical functions on the primitive types into nodes which pass primitives
+ * between each other, with the NULL and MISSING handling inlined. Any other expression in the
+ * tree is evaluated by the interpreter, so the compiled expression returns exactly the same
+ * result as the original one.
+ */
+@UtilityClass
+public class ExpressionCompiler {
+
+  private static final Set<ExprType> NUMBER_TYPES = Set.of(INTEGER, LONG, FLOAT, DOUBLE);
+
+  private static final Map<FunctionName, ArithmeticNode.Operator> ARITHMETIC_OPERATORS =
+      new ImmutableMap.Builder<FunctionName, ArithmeticNode.Operator>()
+          .put(BuiltinFunctionName.ADD.getName(), ArithmeticNode.Operator.ADD)
+          .put(BuiltinFunctionName.ADDFUNCTION.getName(), ArithmeticNode.Operator.ADD)
+          .put(BuiltinFunctionName.SUBTRACT.getName(), ArithmeticNode.Operator.SUBTRACT)
+          .put(BuiltinFunctionName.SUBTRACTFUNCTION.getName(), ArithmeticNode.Operator.SUBTRACT)
+          .put(BuiltinFunctionName.MULTIPLY.getName(), ArithmeticNode.Operator.MULTIPLY)
+          .put(BuiltinFunctionName.MULTIPLYFUNCTION.getName(), ArithmeticNode.Operator.MULTIPLY)
+          .put(BuiltinFunctionName.DIVIDE.getName(), ArithmeticNode.Operator.DIVIDE)
+          .put(BuiltinFunctionName.DIVIDEFUNCTION.getName(), ArithmeticNode.Operator.DIVIDE)
+          .put(BuiltinFunctionName.MOD.getName(), ArithmeticNode.Operator.MODULUS)
+          .put(BuiltinFunctionName.MODULUS.getName(), ArithmeticNode.Operator.MODULUS)
+          .put(BuiltinFunctionName.MODULUSFUNCTION.getName(), ArithmeticNode.Operator.MODULUS)
+          .build();
+
+  private static final Map<FunctionName, ComparisonNode.Operator> COMPARISON_OPERATORS =
+      new ImmutableMap.Builder<FunctionName, ComparisonNode.Operator>()
+          .put(BuiltinFunctionName.EQUAL.getName(), ComparisonNode.Operator.EQUAL)
+          .put(BuiltinFunctionName.NOTEQUAL.getName(), ComparisonNode.Operator.NOT_EQUAL)
+          .put(BuiltinFunctionName.LESS.getName(), ComparisonNode.Operator.LESS)
+          .put(BuiltinFunctionName.LTE.getName(), ComparisonNode.Operator.LESS_OR_EQUAL)
+          .put(BuiltinFunctionName.GREATER.getName(), ComparisonNode.Operator.GREATER)
+          .put(BuiltinFunctionName.GTE.getName(), ComparisonNode.Operator.GREATER_OR_EQUAL)
+          .build();
+
+  private static final Map<FunctionName, LogicalNode.Operator> LOGICAL_OPERATORS =
+      new ImmutableMap.Builder<FunctionName, LogicalNode.Operator>()
+          .put(BuiltinFunctionName.AND.getName(), LogicalNode.Operator.AND)
+          .put(BuiltinFunctionName.OR.getName(), LogicalNode.Operator.OR)
+          .build();
+
+  /**
+   * Compile an expression.
+   *
+   * @param expression resolved expression
+   * @return compiled expression, or the expression itself if no function in it is compiled
+   */
+  public static Expression compile(Expression expression) {
+    CompiledNode root = compileNode(expression);
+    if (root instanceof InterpretedNode) {
+      return expression;
+    }
+    return new CompiledExpression(expression, root);
+  }
+
+  private static CompiledNode compileNode(Expression expression) {
+    if (!(expression instanceof FunctionExpression)) {
+      return new InterpretedNode(expression);
+    }
+    FunctionName name = ((FunctionExpression) expression).getFunctionName();
+    List<Expression> args = ((FunctionExpression) expression).getArguments();
+    ExprType type = expression.type();
+
+    if (args.size() == 1) {
+      if (name.equals(BuiltinFunctionName.NOT.getName()) && isOfType(BOOLEAN, args)) {
+        return new NotNode(compileNode(args.get(0)));
+      }
+    } else if (args.size() == 2) {
+      if (ARITHMETIC_OPERATORS.containsKey(name) && NUMBER_TYPES.contains(type)
+          && isOfType(type, args)) {
+        return new ArithmeticNode(type, ARITHMETIC_OPERATORS.get(name),
+            compileNode(args.get(0)), compileNode(args.get(1)));
+      }
+      ExprType argType = args.get(0).type();
+      if (COMPARISON_OPERATORS.containsKey(name) && NUMBER_TYPES.contains(argType)
+          && isOfType(argType, args)) {
+        return new ComparisonNode(COMPARISON_OPERATORS.get(name),
+            compileNode(args.get(0)), compileNode(args.get(1)));
+      }
+      if (LOGICAL_OPERATORS.containsKey(name) && isOfType(BOOLEAN, args)) {
+        return new LogicalNode(LOGICAL_OPERATORS.get(name),
+            compileNode(args.get(0)), compileNode(args.get(1)));
+      }
+    }
+    return new InterpretedNode(expression);
+  }
+
+  private static boolean isOfType(ExprType type, List<Expression> args) {
+    return args.stream().allMatch(arg -> arg.type().equals(type));
+  }
+}
@@ -0,0 +1,55 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+
+package org.opensearch.sql.expression.compiler;
+
+import org.opensearch.sql.data.model.ExprValue;
+import org.opensearch.sql.expression.Expression;
+
+/**
+ * Node which evaluates an expression by the interpreter, which is used for the references,
+ * literals and the functions not supported by the compiler.
+ */
+final class InterpretedNode extends CompiledNode {
+
+  private final Expression expression;
+
+  InterpretedNode(Expression expression) {
+    super(expression.type());
+    this.expression = expression;
+  }
+
+  @Override
+  long evalLong(Frame frame) {
+    ExprValue value = evalValue(frame);
+    return frame.state == VALUE ? value.longValue() : 0L;
+  }
+
+  @Override
+  double evalDouble(Frame frame) {
+    ExprValue value = evalValue(frame);
+    return frame.state == VALUE ? value.doubleValue() : 0D;
+  }
+
+  @Override
+  boolean evalBoolean(Frame frame) {
+    ExprValue value = evalValue(frame);
+    return frame.state == VALUE && value.booleanValue();
+  }
+
+  @Override
+  ExprValue evalValue(Frame frame) {
+    ExprValue value = expression.valueOf(frame.env);
+    if (value.isMissing()) {
+      frame.state = MISSING;
+    } else if (value.isNull()) {
+      frame.state = NULL;
+    } else {
+      frame.state = VALUE;
+    }
+    return value;
+  }
+}
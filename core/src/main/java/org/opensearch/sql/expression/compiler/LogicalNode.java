@@ -0,0 +1,66 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+
+package org.opensearch.sql.expression.compiler;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * AND or OR of two BOOLEAN arguments with the NULL and MISSING handling defined in
+ * BinaryPredicateOperator. The right argument is not evaluated if the left one decides the
+ * result, i.e. FALSE for AND and TRUE for OR, because the result doesn't depend on it.
+ */
+@RequiredArgsConstructor
+final class LogicalNode extends PredicateNode {
+
+  private final Operator operator;
+
+  private final CompiledNode left;
+
+  private final CompiledNode right;
+
+  @Override
+  boolean evalBoolean(Frame frame) {
+    boolean decidingValue = operator.decidingValue;
+    boolean leftValue = left.evalBoolean(frame);
+    int leftState = frame.state;
+    if (leftState == VALUE && leftValue == decidingValue) {
+      return decidingValue;
+    }
+    boolean rightValue = right.evalBoolean(frame);
+    int rightState = frame.state;
+    if (rightState == VALUE && rightValue == decidingValue) {
+      return decidingValue;
+    }
+    frame.state = operator.mergeState(leftState, rightState);
+    return !decidingValue;
+  }
+
+  @RequiredArgsConstructor
+  enum Operator {
+    AND(false) {
+      @Override
+      int mergeState(int leftState, int rightState) {
+        return Math.max(leftState, rightState);
+      }
+    },
+    OR(true) {
+      @Override
+      int mergeState(int leftState, int rightState) {
+        return (leftState == NULL || rightState == NULL) ? NULL : Math.max(leftState, rightState);
+      }
+    };
+
+    /** Argument value which decides the result regardless of the other argument. */
+    private final boolean decidingValue;
+
+    /**
+     * State of the result if none of the arguments decides it: MISSING takes precedence over NULL
+     * for AND, and NULL takes precedence over MISSING for OR.
+     */
+    abstract int mergeState(int leftState, int rightState);
+  }
+}
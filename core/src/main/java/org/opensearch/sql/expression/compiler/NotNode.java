@@ -0,0 +1,23 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+
+package org.opensearch.sql.expression.compiler;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * NOT of a BOOLEAN argument, which returns NULL or MISSING if the argument is.
+ */
+@RequiredArgsConstructor
+final class NotNode extends PredicateNode {
+
+  private final CompiledNode child;
+
+  @Override
+  boolean evalBoolean(Frame frame) {
+    return !child.evalBoolean(frame);
+  }
+}
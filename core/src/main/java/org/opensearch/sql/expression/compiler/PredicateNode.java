@@ -0,0 +1,31 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+
+package org.opensearch.sql.expression.compiler;
+
+import static org.opensearch.sql.data.type.ExprCoreType.BOOLEAN;
+
+import org.opensearch.sql.data.model.ExprBooleanValue;
+import org.opensearch.sql.data.model.ExprValue;
+
+/**
+ * Node of a function which returns BOOLEAN.
+ */
+abstract class PredicateNode extends CompiledNode {
+
+  PredicateNode() {
+    super(BOOLEAN);
+  }
+
+  @Override
+  abstract boolean evalBoolean(Frame frame);
+
+  @Override
+  ExprValue evalValue(Frame frame) {
+    boolean value = evalBoolean(frame);
+    return frame.state == VALUE ? ExprBooleanValue.of(value) : nullOrMissing(frame);
+  }
+}
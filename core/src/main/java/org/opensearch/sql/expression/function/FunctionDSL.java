@@ -18,6 +18,7 @@ import org.opensearch.sql.data.model.ExprValueUtils;
 import org.opensearch.sql.data.type.ExprType;
 import org.opensearch.sql.expression.Expression;
 import org.opensearch.sql.expression.FunctionExpression;
+import org.opensearch.sql.expression.LiteralExpression;
 import org.opensearch.sql.expression.env.Environment;
 import org.opensearch.sql.expression.function.DefaultFunctionResolver.DefaultFunctionResolverBuilder;
 
@@ -382,6 +383,78 @@ public class FunctionDSL {
     };
   }
 
+  /**
+   * Binary Function Implementation specialized on the value of the second argument, e.g. a pattern
+   * compiled into a matcher. If the second argument is a literal, the function is specialized
+   * once on its first evaluation, otherwise it is specialized on every evaluation.
+   *
+   * @param specialization function of the first argument specialized on the second argument.
+   * @param returnType     return type.
+   * @param args1Type      argument type.
+   * @param args2Type      argument type.
+   * @return Binary Function Implementation.
+   */
+  public static SerializableFunction<FunctionName, Pair<FunctionSignature, FunctionBuilder>>
+      implSpecialized(
+      SerializableFunction<ExprValue, SerializableFunction<ExprValue, ExprValue>> specialization,
+      ExprType returnType,
+      ExprType args1Type,
+      ExprType args2Type) {
+
+    return functionName -> {
+      FunctionSignature functionSignature =
+          new FunctionSignature(functionName, Arrays.asList(args1Type, args2Type));
+      FunctionBuilder functionBuilder = (functionProperties, arguments) -> {
+        SerializableBiFunction<ExprValue, ExprValue, ExprValue> function =
+            nullMissingHandling(specialize(specialization, arguments.get(1)));
+        return new FunctionExpression(functionName, arguments) {
+          @Override
+          public ExprValue valueOf(Environment<Expression, ExprValue> valueEnv) {
+            ExprValue arg1 = arguments.get(0).valueOf(valueEnv);
+            ExprValue arg2 = arguments.get(1).valueOf(valueEnv);
+            return function.apply(arg1, arg2);
+          }
+
+          @Override
+          public ExprType type() {
+            return returnType;
+          }
+
+          @Override
+          public String toString() {
+            return String.format("%s(%s, %s)", functionName, arguments.get(0).toString(),
+                arguments.get(1).toString());
+          }
+        };
+      };
+      return Pair.of(functionSignature, functionBuilder);
+    };
+  }
+
+  private static SerializableBiFunction<ExprValue, ExprValue, ExprValue> specialize(
+      SerializableFunction<ExprValue, SerializableFunction<ExprValue, ExprValue>> specialization,
+      Expression arg2) {
+    if (arg2 instanceof LiteralExpression) {
+      ExprValue value = arg2.valueOf();
+      if (!value.isNull() && !value.isMissing()) {
+        // specialized on first evaluation rather than when built, so that an invalid literal,
+        // e.g. a malformed regular expression, fails when the query runs as it did before
+        return new SerializableBiFunction<>() {
+          private transient SerializableFunction<ExprValue, ExprValue> specialized;
+
+          @Override
+          public ExprValue apply(ExprValue v1, ExprValue v2) {
+            if (specialized == null) {
+              specialized = specialization.apply(value);
+            }
+            return specialized.apply(v1);
+          }
+        };
+      }
+    }
+    return (v1, v2) -> specialization.apply(v2).apply(v1);
+  }
+
   /**
    * Wrapper the unary ExprValue function with default NULL and MISSING handling.
    */
@@ -15,10 +15,12 @@ import static org.opensearch.sql.data.type.ExprCoreType.INTEGER;
 import static org.opensearch.sql.data.type.ExprCoreType.STRING;
 import static org.opensearch.sql.expression.function.FunctionDSL.define;
 import static org.opensearch.sql.expression.function.FunctionDSL.impl;
+import static org.opensearch.sql.expression.function.FunctionDSL.implSpecialized;
 import static org.opensearch.sql.expression.function.FunctionDSL.nullMissingHandling;
 
 import com.google.common.collect.ImmutableTable;
 import com.google.common.collect.Table;
+import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 import lombok.experimental.UtilityClass;
 import org.opensearch.sql.data.model.ExprBooleanValue;
@@ -27,6 +29,7 @@ import org.opensearch.sql.data.type.ExprCoreType;
 import org.opensearch.sql.expression.function.BuiltinFunctionName;
 import org.opensearch.sql.expression.function.BuiltinFunctionRepository;
 import org.opensearch.sql.expression.function.DefaultFunctionResolver;
+import org.opensearch.sql.utils.LikeMatcher;
 import org.opensearch.sql.utils.OperatorUtils;
 
 /**
@@ -207,19 +210,26 @@ public class BinaryPredicateOperator {
 
   private static DefaultFunctionResolver like() {
     return define(BuiltinFunctionName.LIKE.getName(),
-        impl(nullMissingHandling(OperatorUtils::matches), BOOLEAN, STRING, STRING));
+        implSpecialized(pattern -> {
+          LikeMatcher matcher = OperatorUtils.likeMatcher(pattern.stringValue());
+          return text -> ExprBooleanValue.of(matcher.matches(text.stringValue()));
+        }, BOOLEAN, STRING, STRING));
   }
 
   private static DefaultFunctionResolver regexp() {
     return define(BuiltinFunctionName.REGEXP.getName(),
-        impl(nullMissingHandling(OperatorUtils::matchesRegexp), INTEGER, STRING, STRING));
+        implSpecialized(pattern -> {
+          Pattern compiled = OperatorUtils.regexpPattern(pattern.stringValue());
+          return text -> OperatorUtils.matchesRegexp(text, compiled);
+        }, INTEGER, STRING, STRING));
   }
 
   private static DefaultFunctionResolver notLike() {
     return define(BuiltinFunctionName.NOT_LIKE.getName(),
-        impl(nullMissingHandling(
-            (v1, v2) -> UnaryPredicateOperator.not(OperatorUtils.matches(v1, v2))),
-            BOOLEAN, STRING, STRING));
+        implSpecialized(pattern -> {
+          LikeMatcher matcher = OperatorUtils.likeMatcher(pattern.stringValue());
+          return text -> ExprBooleanValue.of(!matcher.matches(text.stringValue()));
+        }, BOOLEAN, STRING, STRING));
   }
 
   private static ExprValue lookupTableFunction(ExprValue arg1, ExprValue arg2,
@@ -11,20 +11,35 @@ import static org.opensearch.sql.ast.tree.Sort.SortOption.DEFAULT_ASC;
 
 import java.util.ArrayList;
 import java.util.List;
+import lombok.AllArgsConstructor;
 import lombok.Data;
 import org.apache.commons.lang3.tuple.ImmutablePair;
 import org.apache.commons.lang3.tuple.Pair;
+import org.opensearch.sql.ast.expression.WindowFrameSpec;
 import org.opensearch.sql.expression.Expression;
 
 /**
- * Window definition that consists of partition and sort by information for a window.
+ * Window definition that consists of partition and sort by information for a window,
+ * and optionally of the frame of rows that aggregate window functions are calculated on.
  */
 @Data
+@AllArgsConstructor
 public class WindowDefinition {
 
   private final List<Expression> partitionByList;
   private final List<Pair<SortOption, Expression>> sortList;
 
+  /**
+   * Frame clause, or null for the default frame which is all the rows of the partition up to
+   * the last peer of the current row.
+   */
+  private final WindowFrameSpec frame;
+
+  public WindowDefinition(List<Expression> partitionByList,
+                          List<Pair<SortOption, Expression>> sortList) {
+    this(partitionByList, sortList, null);
+  }
+
   /**
    * Return all items in partition by and sort list.
    * @return  all sort items
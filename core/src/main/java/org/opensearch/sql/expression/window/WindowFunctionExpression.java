@@ -19,7 +19,8 @@ public interface WindowFunctionExpression extends Expression {
    * For now two types of cumulative window frame is returned:
    *  1. Ranking window functions: ignore frame definition and always operates on
    *      previous and current row.
-   *  2. Aggregate window functions: frame partition into peers and sliding window is not supported.
+   *  2. Aggregate window functions: frame partition into peers by default, or slide the frame
+   *      defined by the frame clause.
    *
    * @param definition window definition
    * @return           window frame
@@ -19,6 +19,7 @@ import org.opensearch.sql.expression.env.Environment;
 import org.opensearch.sql.expression.window.WindowDefinition;
 import org.opensearch.sql.expression.window.WindowFunctionExpression;
 import org.opensearch.sql.expression.window.frame.PeerRowsWindowFrame;
+import org.opensearch.sql.expression.window.frame.SlidingWindowFrame;
 import org.opensearch.sql.expression.window.frame.WindowFrame;
 
 /**
@@ -33,11 +34,18 @@ public class AggregateWindowFunction implements WindowFunctionExpression {
 
   @Override
   public WindowFrame createWindowFrame(WindowDefinition definition) {
+    if (definition.getFrame() != null) {
+      return new SlidingWindowFrame(definition);
+    }
     return new PeerRowsWindowFrame(definition);
   }
 
   @Override
   public ExprValue valueOf(Environment<Expression, ExprValue> valueEnv) {
+    if (valueEnv instanceof SlidingWindowFrame) {
+      return slide((SlidingWindowFrame) valueEnv);
+    }
+
     PeerRowsWindowFrame frame = (PeerRowsWindowFrame) valueEnv;
     if (frame.isNewPartition()) {
       state = aggregator.create();
@@ -50,6 +58,32 @@ public class AggregateWindowFunction implements WindowFunctionExpression {
     return state.result();
   }
 
+  /**
+   * Update the state with the rows that left and entered the frame if the aggregator can remove
+   * values or no row left, otherwise aggregate all the rows of the frame again.
+   */
+  private ExprValue slide(SlidingWindowFrame frame) {
+    if (frame.isNewPartition()) {
+      state = aggregator.create();
+    }
+
+    List<ExprValue> removed = frame.removed();
+    if (removed.isEmpty() || aggregator.isRemovable()) {
+      for (ExprValue row : removed) {
+        state = aggregator.remove(row.bindingTuples(), state);
+      }
+      for (ExprValue row : frame.added()) {
+        state = aggregator.iterate(row.bindingTuples(), state);
+      }
+    } else {
+      state = aggregator.create();
+      for (ExprValue row : frame.next()) {
+        state = aggregator.iterate(row.bindingTuples(), state);
+      }
+    }
+    return state.result();
+  }
+
   @Override
   public ExprType type() {
     return aggregator.type();
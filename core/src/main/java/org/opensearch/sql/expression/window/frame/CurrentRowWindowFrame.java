@@ -37,6 +37,19 @@ public class CurrentRowWindowFrame implements WindowFrame {
   private ExprValue previous;
   private ExprValue current;
 
+  /**
+   * Row before previous row, which is dropped when current row is loaded.
+   */
+  @EqualsAndHashCode.Exclude
+  @ToString.Exclude
+  private List<ExprValue> dropped = Collections.emptyList();
+
+  /**
+   * Partition keys of previous and current row, resolved once when the row is loaded.
+   */
+  private List<ExprValue> previousPartitionKey;
+  private List<ExprValue> currentPartitionKey;
+
   @Override
   public boolean isNewPartition() {
     Objects.requireNonNull(current);
@@ -44,16 +57,16 @@ public class CurrentRowWindowFrame implements WindowFrame {
     if (previous == null) {
       return true;
     }
-
-    List<ExprValue> preValues = resolve(windowDefinition.getPartitionByList(), previous);
-    List<ExprValue> curValues = resolve(windowDefinition.getPartitionByList(), current);
-    return !preValues.equals(curValues);
+    return !previousPartitionKey.equals(currentPartitionKey);
   }
 
   @Override
   public void load(PeekingIterator<ExprValue> it) {
+    dropped = (previous == null) ? Collections.emptyList() : Collections.singletonList(previous);
     previous = current;
     current = it.next();
+    previousPartitionKey = currentPartitionKey;
+    currentPartitionKey = resolve(windowDefinition.getPartitionByList(), current);
   }
 
   @Override
@@ -65,6 +78,11 @@ public class CurrentRowWindowFrame implements WindowFrame {
     return previous;
   }
 
+  @Override
+  public List<ExprValue> dropped() {
+    return dropped;
+  }
+
   private List<ExprValue> resolve(List<Expression> expressions, ExprValue row) {
     Environment<Expression, ExprValue> valueEnv = row.bindingTuples();
     return expressions.stream()
@@ -11,7 +11,6 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.stream.Collectors;
-import lombok.RequiredArgsConstructor;
 import org.apache.commons.lang3.tuple.Pair;
 import org.opensearch.sql.data.model.ExprValue;
 import org.opensearch.sql.expression.Expression;
@@ -23,16 +22,25 @@ import org.opensearch.sql.expression.window.WindowDefinition;
  * in window definition). See PeerWindowFrameTest for details about how this window frame
  * interacts with window operator and window function.
  */
-@RequiredArgsConstructor
 public class PeerRowsWindowFrame implements WindowFrame {
 
   private final WindowDefinition windowDefinition;
 
+  /**
+   * Expressions of the sort list in window definition.
+   */
+  private final List<Expression> sortFields;
+
   /**
    * All peer rows (peer means rows in a partition that share same sort key
    * based on sort list in window definition.
    */
-  private final List<ExprValue> peers = new ArrayList<>();
+  private List<ExprValue> peers = new ArrayList<>();
+
+  /**
+   * Peer rows before current peers, which are dropped when current peers are loaded.
+   */
+  private List<ExprValue> dropped = Collections.emptyList();
 
   /**
    * Which row in the peer is currently being enriched by window function.
@@ -44,6 +52,25 @@ public class PeerRowsWindowFrame implements WindowFrame {
    */
   private boolean isNewPartition = true;
 
+  /**
+   * Partition and sort keys of the peer rows, resolved once for all the peers and compared with
+   * the keys of the next rows.
+   */
+  private List<ExprValue> partitionKey;
+  private List<ExprValue> sortKey;
+
+  /**
+   * Initialize peer rows window frame.
+   * @param windowDefinition  window definition
+   */
+  public PeerRowsWindowFrame(WindowDefinition windowDefinition) {
+    this.windowDefinition = windowDefinition;
+    this.sortFields = windowDefinition.getSortList()
+                                      .stream()
+                                      .map(Pair::getRight)
+                                      .collect(Collectors.toList());
+  }
+
   /**
    * If any more pre-fetched rows not returned to window operator yet.
    */
@@ -91,23 +118,23 @@ public class PeerRowsWindowFrame implements WindowFrame {
   @Override
   public void load(PeekingIterator<ExprValue> it) {
     if (hasNext()) {
+      dropped = Collections.emptyList();
       return;
     }
 
-    // Reset state: reset new partition before clearing peers
-    isNewPartition = !isSamePartition(it.peek());
     position = 0;
-    peers.clear();
-
-    while (it.hasNext()) {
-      ExprValue next = it.peek();
-      if (peers.isEmpty()) {
-        peers.add(it.next());
-      } else if (isSamePartition(next) && isPeer(next)) {
-        peers.add(it.next());
-      } else {
-        break;
-      }
+    dropped = peers;
+    peers = new ArrayList<>();
+
+    ExprValue first = it.next();
+    List<ExprValue> firstPartitionKey = resolve(windowDefinition.getPartitionByList(), first);
+    isNewPartition = !firstPartitionKey.equals(partitionKey);
+    partitionKey = firstPartitionKey;
+    sortKey = resolve(sortFields, first);
+    peers.add(first);
+
+    while (it.hasNext() && isSamePartitionAndPeer(it.peek())) {
+      peers.add(it.next());
     }
   }
 
@@ -116,25 +143,14 @@ public class PeerRowsWindowFrame implements WindowFrame {
     return isNewPartition;
   }
 
-  private boolean isPeer(ExprValue next) {
-    List<Expression> sortFields =
-        windowDefinition.getSortList()
-                        .stream()
-                        .map(Pair::getRight)
-                        .collect(Collectors.toList());
-
-    ExprValue last = peers.get(peers.size() - 1);
-    return resolve(sortFields, last).equals(resolve(sortFields, next));
+  @Override
+  public List<ExprValue> dropped() {
+    return dropped;
   }
 
-  private boolean isSamePartition(ExprValue next) {
-    if (peers.isEmpty()) {
-      return false;
-    }
-
-    List<Expression> partitionByList = windowDefinition.getPartitionByList();
-    ExprValue last = peers.get(peers.size() - 1);
-    return resolve(partitionByList, last).equals(resolve(partitionByList, next));
+  private boolean isSamePartitionAndPeer(ExprValue next) {
+    return resolve(windowDefinition.getPartitionByList(), next).equals(partitionKey)
+        && resolve(sortFields, next).equals(sortKey);
   }
 
   private List<ExprValue> resolve(List<Expression> expressions, ExprValue row) {
@@ -0,0 +1,431 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+
+package org.opensearch.sql.expression.window.frame;
+
+import static org.opensearch.sql.ast.tree.Sort.NullOrder.NULL_FIRST;
+import static org.opensearch.sql.ast.tree.Sort.SortOption.DEFAULT_ASC;
+import static org.opensearch.sql.ast.tree.Sort.SortOrder.DESC;
+
+import com.google.common.collect.PeekingIterator;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import org.apache.commons.lang3.tuple.Pair;
+import org.opensearch.sql.ast.expression.WindowFrameSpec;
+import org.opensearch.sql.ast.expression.WindowFrameSpec.BoundType;
+import org.opensearch.sql.ast.expression.WindowFrameSpec.FrameBound;
+import org.opensearch.sql.ast.expression.WindowFrameSpec.FrameUnit;
+import org.opensearch.sql.ast.tree.Sort.SortOption;
+import org.opensearch.sql.data.model.ExprValue;
+import org.opensearch.sql.expression.Expression;
+import org.opensearch.sql.expression.env.Environment;
+import org.opensearch.sql.expression.window.WindowDefinition;
+
+/**
+ * Window frame of the rows between the start and end bound of the frame clause in window
+ * definition, relative to the current row. Rows are read ahead only up to the end of the frame
+ * of the current row, and dropped once they are behind both the frame and the current row, so
+ * the rows held are bounded by the frame rather than the partition unless the frame is unbounded
+ * following. Because both bounds only move forward from one row to the next, the frame also
+ * tells which rows left and entered it, which lets aggregate window functions update their state
+ * instead of aggregating the whole frame again.
+ * Partition and sort keys of each row are resolved once when the row is read.
+ */
+public class SlidingWindowFrame implements WindowFrame {
+
+  private final WindowDefinition windowDefinition;
+
+  private final FrameUnit unit;
+  private final FrameBound start;
+  private final FrameBound end;
+
+  /**
+   * Expressions of the sort list in window definition.
+   */
+  private final List<Expression> sortFields;
+
+  /**
+   * Sort direction and null order of the first sort item, which RANGE frame offsets apply to.
+   */
+  private final int direction;
+  private final boolean nullsFirst;
+
+  /**
+   * Rows of current partition from the first row still needed by the frame.
+   */
+  private final RowBuffer buffer = new RowBuffer();
+
+  /**
+   * Index of the first row in buffer among the rows of current partition.
+   */
+  private long bufferStart;
+
+  /**
+   * Partition key of current partition, and whether all its rows have been read.
+   */
+  private List<ExprValue> partitionKey;
+  private boolean partitionEnded = true;
+
+  /**
+   * Index of current row in current partition.
+   */
+  private long current = -1;
+
+  /**
+   * Index of the first peer of current row and sort key of the peers, for RANGE frame only.
+   */
+  private long peerStart;
+  private List<ExprValue> peerKey;
+
+  /**
+   * Frame of current row from start index inclusive to end index exclusive.
+   */
+  private long frameStart;
+  private long frameEnd;
+
+  /**
+   * Rows that left and entered the frame when moving to current row.
+   */
+  private List<ExprValue> removed = Collections.emptyList();
+  private List<ExprValue> added = Collections.emptyList();
+
+  /**
+   * Rows dropped from the buffer when moving to current row.
+   */
+  private List<ExprValue> dropped = Collections.emptyList();
+
+  /**
+   * Initialize sliding window frame.
+   * @param windowDefinition  window definition with frame clause
+   */
+  public SlidingWindowFrame(WindowDefinition windowDefinition) {
+    WindowFrameSpec frame = windowDefinition.getFrame();
+    this.windowDefinition = windowDefinition;
+    this.unit = frame.getUnit();
+    this.start = frame.getStart();
+    this.end = frame.getEnd();
+    this.sortFields = windowDefinition.getSortList()
+                                      .stream()
+                                      .map(Pair::getRight)
+                                      .collect(Collectors.toList());
+
+    List<Pair<SortOption, Expression>> sortList = windowDefinition.getSortList();
+    SortOption sortOption = sortList.isEmpty() ? DEFAULT_ASC : sortList.get(0).getLeft();
+    this.direction = (sortOption.getSortOrder() == DESC) ? -1 : 1;
+    this.nullsFirst = (sortOption.getNullOrder() == NULL_FIRST);
+  }
+
+  /**
+   * If any rows read ahead have not been returned to window operator yet.
+   */
+  @Override
+  public boolean hasNext() {
+    return current + 1 < loadedEnd();
+  }
+
+  /**
+   * All the rows in the frame of current row.
+   * @return rows in the frame
+   */
+  @Override
+  public List<ExprValue> next() {
+    return rows(frameStart, frameEnd);
+  }
+
+  /**
+   * Rows that were in the frame of previous row but not in the frame of current row.
+   * @return rows removed from the frame
+   */
+  public List<ExprValue> removed() {
+    return removed;
+  }
+
+  /**
+   * Rows that are in the frame of current row but were not in the frame of previous row.
+   * At the beginning of a partition, these are all the rows in the frame.
+   * @return rows added to the frame
+   */
+  public List<ExprValue> added() {
+    return added;
+  }
+
+  @Override
+  public ExprValue current() {
+    return row(current).value;
+  }
+
+  /**
+   * Rows that are behind both the frame and current row, or left in the buffer by previous
+   * partition, which the frame doesn't hold any longer.
+   * @return rows dropped from the buffer
+   */
+  @Override
+  public List<ExprValue> dropped() {
+    return dropped;
+  }
+
+  @Override
+  public boolean isNewPartition() {
+    return current == 0;
+  }
+
+  /**
+   * Move to next row and slide the frame, reading ahead the rows up to the end of the frame.
+   * @param it  rows iterator
+   */
+  @Override
+  public void load(PeekingIterator<ExprValue> it) {
+    List<ExprValue> droppedRows = Collections.emptyList();
+    if (!hasNext() && !readRow(it)) {
+      droppedRows = rows(bufferStart, loadedEnd());
+      startPartition();
+      readRow(it);
+    }
+    current++;
+    if (unit == FrameUnit.RANGE && !row(current).sortKey.equals(peerKey)) {
+      peerStart = current;
+      peerKey = row(current).sortKey;
+    }
+
+    long newEnd = endOf(it);
+    long newStart = Math.min(startOf(it), newEnd);
+    removed = rows(frameStart, Math.min(frameEnd, newStart));
+    added = rows(Math.max(frameEnd, newStart), newEnd);
+    frameStart = newStart;
+    frameEnd = newEnd;
+
+    long keepFrom = Math.min(frameStart, current);
+    if (keepFrom > bufferStart) {
+      droppedRows = rows(bufferStart, keepFrom);
+      buffer.removeFirst((int) (keepFrom - bufferStart));
+      bufferStart = keepFrom;
+    }
+    dropped = droppedRows;
+  }
+
+  private void startPartition() {
+    buffer.clear();
+    bufferStart = 0;
+    partitionKey = null;
+    partitionEnded = false;
+    current = -1;
+    peerKey = null;
+    frameStart = 0;
+    frameEnd = 0;
+  }
+
+  /**
+   * Read next row if it belongs to current partition.
+   * @return true if a row was read
+   */
+  private boolean readRow(PeekingIterator<ExprValue> it) {
+    if (partitionEnded) {
+      return false;
+    }
+    if (!it.hasNext()) {
+      partitionEnded = true;
+      return false;
+    }
+
+    ExprValue next = it.peek();
+    List<ExprValue> key = resolve(windowDefinition.getPartitionByList(), next);
+    if (partitionKey != null && !key.equals(partitionKey)) {
+      partitionEnded = true;
+      return false;
+    }
+    partitionKey = key;
+    buffer.add(new Row(it.next(), (unit == FrameUnit.RANGE) ? resolve(sortFields, next) : null));
+    return true;
+  }
+
+  private long startOf(PeekingIterator<ExprValue> it) {
+    switch (start.getType()) {
+      case UNBOUNDED_PRECEDING:
+        return 0;
+      case CURRENT_ROW:
+        return (unit == FrameUnit.ROWS) ? current : peerStart;
+      default:
+        return (unit == FrameUnit.ROWS)
+            ? Math.max(0, rowOffset(current, start)) : rangeStart(it);
+    }
+  }
+
+  private long endOf(PeekingIterator<ExprValue> it) {
+    switch (end.getType()) {
+      case UNBOUNDED_FOLLOWING:
+        return loadUntil(Long.MAX_VALUE, it);
+      case CURRENT_ROW:
+        return (unit == FrameUnit.ROWS) ? loadUntil(current, it) : peersEnd(it);
+      default:
+        return (unit == FrameUnit.ROWS) ? loadUntil(rowOffset(current, end), it) : rangeEnd(it);
+    }
+  }
+
+  /**
+   * Read rows up to the given row if it is in current partition.
+   * @return index after the given row or after the last row of the partition
+   */
+  private long loadUntil(long last, PeekingIterator<ExprValue> it) {
+    while (loadedEnd() <= last && readRow(it)) {
+      // read the rows up to the last one
+    }
+    return (last < 0) ? 0 : Math.min(last, loadedEnd() - 1) + 1;
+  }
+
+  /**
+   * Find the first row after the peers of current row.
+   */
+  private long peersEnd(PeekingIterator<ExprValue> it) {
+    long index = Math.max(frameEnd, current + 1);
+    while ((index < loadedEnd() || readRow(it)) && row(index).sortKey.equals(peerKey)) {
+      index++;
+    }
+    return index;
+  }
+
+  /**
+   * Find the first row whose sort key is not before the start bound. A row with null sort key
+   * has no offset from other rows, so its frame is its peers.
+   */
+  private long rangeStart(PeekingIterator<ExprValue> it) {
+    if (isNull(peerKey.get(0))) {
+      return peerStart;
+    }
+    double bound = boundValue(start);
+    long index = frameStart;
+    while ((index < loadedEnd() || readRow(it)) && compareToBound(row(index), bound) < 0) {
+      index++;
+    }
+    return index;
+  }
+
+  /**
+   * Find the first row whose sort key is after the end bound.
+   */
+  private long rangeEnd(PeekingIterator<ExprValue> it) {
+    if (isNull(peerKey.get(0))) {
+      return peersEnd(it);
+    }
+    double bound = boundValue(end);
+    long index = frameEnd;
+    while ((index < loadedEnd() || readRow(it)) && compareToBound(row(index), bound) <= 0) {
+      index++;
+    }
+    return index;
+  }
+
+  /**
+   * Sort key value at the offset of the bound from current row.
+   */
+  private double boundValue(FrameBound bound) {
+    long offset = (bound.getType() == BoundType.PRECEDING) ? -bound.getOffset() : bound.getOffset();
+    return peerKey.get(0).doubleValue() + direction * offset;
+  }
+
+  /**
+   * Compare the position of a row in sort order with a sort key value. Null sort keys are before
+   * or after all the values.
+   */
+  private int compareToBound(Row row, double bound) {
+    ExprValue key = row.sortKey.get(0);
+    if (isNull(key)) {
+      return nullsFirst ? -1 : 1;
+    }
+    return direction * Double.compare(key.doubleValue(), bound);
+  }
+
+  private boolean isNull(ExprValue value) {
+    return value.isNull() || value.isMissing();
+  }
+
+  /**
+   * Index of the row at the offset of the bound from the given row, saturated on overflow.
+   */
+  private static long rowOffset(long index, FrameBound bound) {
+    if (bound.getType() == BoundType.PRECEDING) {
+      return index - bound.getOffset();
+    }
+    long result = index + bound.getOffset();
+    return (result < index) ? Long.MAX_VALUE : result;
+  }
+
+  private long loadedEnd() {
+    return bufferStart + buffer.size();
+  }
+
+  private Row row(long index) {
+    return buffer.get((int) (index - bufferStart));
+  }
+
+  private List<ExprValue> rows(long from, long to) {
+    List<ExprValue> result = new ArrayList<>();
+    for (long index = from; index < to; index++) {
+      result.add(row(index).value);
+    }
+    return result;
+  }
+
+  private List<ExprValue> resolve(List<Expression> expressions, ExprValue row) {
+    Environment<Expression, ExprValue> valueEnv = row.bindingTuples();
+    return expressions.stream()
+                      .map(expr -> expr.valueOf(valueEnv))
+                      .collect(Collectors.toList());
+  }
+
+  /**
+   * Row read with its sort key, which is only resolved for RANGE frame.
+   */
+  @RequiredArgsConstructor
+  private static class Row {
+    private final ExprValue value;
+    private final List<ExprValue> sortKey;
+  }
+
+  /**
+   * Ring buffer of rows, which only grows when the frame needs more rows than it can hold.
+   */
+  private static class RowBuffer {
+    private Row[] rows = new Row[16];
+    private int head;
+    private int size;
+
+    int size() {
+      return size;
+    }
+
+    Row get(int index) {
+      return rows[(head + index) % rows.length];
+    }
+
+    void add(Row row) {
+      if (size == rows.length) {
+        Row[] grown = new Row[rows.length * 2];
+        for (int i = 0; i < size; i++) {
+          grown[i] = get(i);
+        }
+        rows = grown;
+        head = 0;
+      }
+      rows[(head + size) % rows.length] = row;
+      size++;
+    }
+
+    void removeFirst(int count) {
+      for (int i = 0; i < count; i++) {
+        rows[head] = null;
+        head = (head + 1) % rows.length;
+      }
+      size -= count;
+    }
+
+    void clear() {
+      removeFirst(size);
+    }
+  }
+}
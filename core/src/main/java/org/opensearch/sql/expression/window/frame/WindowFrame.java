@@ -47,4 +47,11 @@ public interface WindowFrame extends Environment<Expression, ExprValue>, Iterato
    */
   ExprValue current();
 
+  /**
+   * Get the rows that the last load dropped from the frame, for giving window operator chance to
+   * release the memory retained by them.
+   * @return rows dropped from the frame
+   */
+  List<ExprValue> dropped();
+
 }
@@ -0,0 +1,67 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+
+package org.opensearch.sql.monitor;
+
+import org.opensearch.sql.data.model.ExprCollectionValue;
+import org.opensearch.sql.data.model.ExprStringValue;
+import org.opensearch.sql.data.model.ExprTupleValue;
+import org.opensearch.sql.data.model.ExprValue;
+
+/**
+ * Memory account of one query. Blocking operators, which retain rows or groups until their input
+ * is exhausted, reserve the estimated size of what they retain and release it when done. So a
+ * query exceeding its memory budget fails alone instead of failing every query running on the
+ * node.
+ */
+public abstract class MemoryTracker {
+
+  /**
+   * Reserve memory for the query.
+   *
+   * @param bytes estimated bytes retained
+   * @throws RuntimeException if the memory is not available to the query
+   */
+  public abstract void reserve(long bytes);
+
+  /**
+   * Release memory previously reserved by {@link #reserve(long)}.
+   *
+   * @param bytes bytes no longer retained
+   */
+  public abstract void release(long bytes);
+
+  /**
+   * Estimate the heap size of the value. Null and missing values are shared instances, and the
+   * field names of a tuple are shared by all the rows, so they are not counted.
+   *
+   * @param value value
+   * @return estimated bytes
+   */
+  public static long estimateSize(ExprValue value) {
+    if (value.isNull() || value.isMissing()) {
+      return 0L;
+    }
+    if (value instanceof ExprTupleValue) {
+      long size = 64L;
+      for (ExprValue field : value.tupleValue().values()) {
+        size += 40L + estimateSize(field);
+      }
+      return size;
+    }
+    if (value instanceof ExprCollectionValue) {
+      long size = 48L;
+      for (ExprValue element : value.collectionValue()) {
+        size += 8L + estimateSize(element);
+      }
+      return size;
+    }
+    if (value instanceof ExprStringValue) {
+      return 56L + 2L * value.stringValue().length();
+    }
+    return 32L;
+  }
+}
@@ -0,0 +1,23 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+
+package org.opensearch.sql.monitor;
+
+/**
+ * Memory tracker which never limits the memory of the query.
+ */
+public class UnlimitedMemoryTracker extends MemoryTracker {
+  public static final MemoryTracker UNLIMITED_MEMORY_TRACKER =
+      new UnlimitedMemoryTracker();
+
+  @Override
+  public void reserve(long bytes) {
+  }
+
+  @Override
+  public void release(long bytes) {
+  }
+}
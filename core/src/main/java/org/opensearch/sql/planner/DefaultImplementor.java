@@ -133,6 +133,15 @@ public class DefaultImplementor<C> extends LogicalPlanNodeVisitor<PhysicalPlan,
 
   @Override
   public PhysicalPlan visitLimit(LogicalLimit node, C context) {
+    LogicalPlan child = node.getChild().get(0);
+    if (child instanceof LogicalSort) {
+      // Only the first limit + offset sorted rows can be returned, so sort keeps just those
+      LogicalSort sort = (LogicalSort) child;
+      int topN = (int) Math.min((long) node.getLimit() + node.getOffset(), Integer.MAX_VALUE);
+      return new LimitOperator(
+          new SortOperator(visitChild(sort, context), sort.getSortList(), topN),
+          node.getLimit(), node.getOffset());
+    }
     return new LimitOperator(visitChild(node, context), node.getLimit(), node.getOffset());
   }
 
@@ -0,0 +1,195 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+
+package org.opensearch.sql.planner.optimizer;
+
+import static org.opensearch.sql.data.model.ExprValueUtils.LITERAL_FALSE;
+import static org.opensearch.sql.data.model.ExprValueUtils.LITERAL_TRUE;
+import static org.opensearch.sql.utils.ExpressionUtils.NON_DETERMINISTIC_FUNCTIONS;
+
+import com.google.common.collect.ImmutableMap;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import org.opensearch.sql.data.model.ExprValue;
+import org.opensearch.sql.expression.DSL;
+import org.opensearch.sql.expression.Expression;
+import org.opensearch.sql.expression.ExpressionNodeVisitor;
+import org.opensearch.sql.expression.FunctionExpression;
+import org.opensearch.sql.expression.LiteralExpression;
+import org.opensearch.sql.expression.function.BuiltinFunctionName;
+import org.opensearch.sql.expression.function.BuiltinFunctionRepository;
+import org.opensearch.sql.expression.function.FunctionName;
+import org.opensearch.sql.expression.function.FunctionProperties;
+
+/**
+ * Simplifier of resolved expressions.
+ * 1> Fold the deterministic subtrees which don't reference any field into a literal, by
+ * evaluating the whole subtree, e.g. date_sub(now(), interval 1 day). The functions of current
+ * time are folded too, because they return the query start time from {@link FunctionProperties}
+ * on every evaluation.
+ * 2> Simplify AND, OR and NOT with a literal operand.
+ * 3> Move the literal operand of a comparison to the right, e.g. 10 &lt; a to a &gt; 10.
+ * So that more conditions are in the form of "field op literal", which can be pushed down into
+ * data source, and the constant parts are not evaluated on every row.
+ * The arguments are simplified only for the operators which don't depend on
+ * {@link FunctionProperties}, because the other functions can't be rebuilt with new arguments.
+ * The expression is returned as is if it is not simplified.
+ */
+public class ExpressionSimplifier extends ExpressionNodeVisitor<Expression, Object> {
+
+  private static final Map<FunctionName, FunctionName> FLIPPED_COMPARISONS =
+      new ImmutableMap.Builder<FunctionName, FunctionName>()
+          .put(BuiltinFunctionName.EQUAL.getName(), BuiltinFunctionName.EQUAL.getName())
+          .put(BuiltinFunctionName.NOTEQUAL.getName(), BuiltinFunctionName.NOTEQUAL.getName())
+          .put(BuiltinFunctionName.LESS.getName(), BuiltinFunctionName.GREATER.getName())
+          .put(BuiltinFunctionName.LTE.getName(), BuiltinFunctionName.GTE.getName())
+          .put(BuiltinFunctionName.GREATER.getName(), BuiltinFunctionName.LESS.getName())
+          .put(BuiltinFunctionName.GTE.getName(), BuiltinFunctionName.LTE.getName())
+          .build();
+
+  /**
+   * Operators rebuilt with simplified arguments.
+   */
+  private static final Set<FunctionName> REBUILT_FUNCTIONS = Stream.concat(
+      FLIPPED_COMPARISONS.keySet().stream(),
+      Stream.of(
+          BuiltinFunctionName.AND, BuiltinFunctionName.OR, BuiltinFunctionName.NOT,
+          BuiltinFunctionName.XOR,
+          BuiltinFunctionName.ADD, BuiltinFunctionName.ADDFUNCTION,
+          BuiltinFunctionName.SUBTRACT, BuiltinFunctionName.SUBTRACTFUNCTION,
+          BuiltinFunctionName.MULTIPLY, BuiltinFunctionName.MULTIPLYFUNCTION,
+          BuiltinFunctionName.DIVIDE, BuiltinFunctionName.DIVIDEFUNCTION,
+          BuiltinFunctionName.MOD, BuiltinFunctionName.MODULUS,
+          BuiltinFunctionName.MODULUSFUNCTION)
+          .map(BuiltinFunctionName::getName))
+      .collect(Collectors.toUnmodifiableSet());
+
+  /**
+   * Simplify expression.
+   *
+   * @param expression resolved expression
+   * @return simplified expression, or the same instance if it is not simplified
+   */
+  public Expression simplify(Expression expression) {
+    return expression.accept(this, null);
+  }
+
+  @Override
+  public Expression visitNode(Expression node, Object context) {
+    return node;
+  }
+
+  @Override
+  public Expression visitFunction(FunctionExpression node, Object context) {
+    if (isConstant(node)) {
+      Expression folded = fold(node);
+      if (folded != node) {
+        return folded;
+      }
+    }
+
+    FunctionName name = node.getFunctionName();
+    FunctionExpression function = node;
+    if (REBUILT_FUNCTIONS.contains(name)) {
+      List<Expression> args = new ArrayList<>();
+      boolean simplified = false;
+      for (Expression arg : node.getArguments()) {
+        Expression simplifiedArg = simplify(arg);
+        simplified |= (simplifiedArg != arg);
+        args.add(simplifiedArg);
+      }
+      if (simplified) {
+        function = rebuild(name, args);
+      }
+    }
+
+    if (function.getArguments().stream().allMatch(arg -> arg instanceof LiteralExpression)) {
+      return fold(function);
+    }
+    List<Expression> args = function.getArguments();
+    if (name.equals(BuiltinFunctionName.AND.getName())) {
+      return simplifyLogical(function, LITERAL_TRUE, LITERAL_FALSE);
+    } else if (name.equals(BuiltinFunctionName.OR.getName())) {
+      return simplifyLogical(function, LITERAL_FALSE, LITERAL_TRUE);
+    } else if (name.equals(BuiltinFunctionName.NOT.getName())
+        && args.get(0) instanceof FunctionExpression
+        && ((FunctionExpression) args.get(0)).getFunctionName().equals(name)) {
+      return ((FunctionExpression) args.get(0)).getArguments().get(0);
+    } else if (FLIPPED_COMPARISONS.containsKey(name)
+        && args.get(0) instanceof LiteralExpression) {
+      return rebuild(FLIPPED_COMPARISONS.get(name), List.of(args.get(1), args.get(0)));
+    }
+    return function;
+  }
+
+  /**
+   * Fold function into literal. The function is kept if it is not deterministic, if it returns
+   * NULL or MISSING which has no type, or if it fails, in which case it fails on evaluation as
+   * before.
+   */
+  private Expression fold(FunctionExpression function) {
+    if (NON_DETERMINISTIC_FUNCTIONS.contains(function.getFunctionName())) {
+      return function;
+    }
+    try {
+      ExprValue value = function.valueOf();
+      if (!value.isNull() && !value.isMissing() && value.type().equals(function.type())) {
+        return DSL.literal(value);
+      }
+    } catch (RuntimeException e) {
+      // Keep the function as is
+    }
+    return function;
+  }
+
+  /**
+   * Whether the expression is made of literals and deterministic functions only, so that it has
+   * the same value on every evaluation.
+   */
+  private boolean isConstant(Expression expression) {
+    if (expression instanceof LiteralExpression) {
+      return true;
+    } else if (expression instanceof FunctionExpression) {
+      FunctionExpression function = (FunctionExpression) expression;
+      return !NON_DETERMINISTIC_FUNCTIONS.contains(function.getFunctionName())
+          && function.getArguments().stream().allMatch(this::isConstant);
+    }
+    return false;
+  }
+
+  /**
+   * Simplify AND or OR with a literal operand.
+   *
+   * @param identity value which returns the other operand, i.e. TRUE for AND and FALSE for OR
+   * @param dominant value which decides the result, i.e. FALSE for AND and TRUE for OR
+   */
+  private Expression simplifyLogical(FunctionExpression function, ExprValue identity,
+                                     ExprValue dominant) {
+    Expression left = function.getArguments().get(0);
+    Expression right = function.getArguments().get(1);
+    if (isLiteral(left, dominant) || isLiteral(right, dominant)) {
+      return DSL.literal(dominant);
+    } else if (isLiteral(left, identity)) {
+      return right;
+    } else if (isLiteral(right, identity)) {
+      return left;
+    }
+    return function;
+  }
+
+  private boolean isLiteral(Expression expression, ExprValue value) {
+    return expression instanceof LiteralExpression && value.equals(expression.valueOf());
+  }
+
+  private FunctionExpression rebuild(FunctionName name, List<Expression> args) {
+    return (FunctionExpression) BuiltinFunctionRepository.getInstance()
+        .compile(FunctionProperties.None, name, args);
+  }
+}
@@ -15,7 +15,9 @@ import java.util.stream.Collectors;
 import org.opensearch.sql.planner.logical.LogicalPlan;
 import org.opensearch.sql.planner.optimizer.rule.MergeFilterAndFilter;
 import org.opensearch.sql.planner.optimizer.rule.PushFilterUnderSort;
+import org.opensearch.sql.planner.optimizer.rule.SimplifyFilterCondition;
 import org.opensearch.sql.planner.optimizer.rule.read.CreateTableScanBuilder;
+import org.opensearch.sql.planner.optimizer.rule.read.PushDownRequiredColumns;
 import org.opensearch.sql.planner.optimizer.rule.read.TableScanPushDown;
 import org.opensearch.sql.planner.optimizer.rule.write.CreateTableWriteBuilder;
 
@@ -46,6 +48,7 @@ public class LogicalPlanOptimizer {
          * Phase 1: Transformations that rely on relational algebra equivalence
          */
         new MergeFilterAndFilter(),
+        new SimplifyFilterCondition(),
         new PushFilterUnderSort(),
         /*
          * Phase 2: Transformations that rely on data source push down capability
@@ -54,11 +57,13 @@ public class LogicalPlanOptimizer {
         TableScanPushDown.PUSH_DOWN_FILTER,
         TableScanPushDown.PUSH_DOWN_AGGREGATION,
         TableScanPushDown.PUSH_DOWN_SORT,
+        TableScanPushDown.PUSH_DOWN_DEDUPE,
         TableScanPushDown.PUSH_DOWN_LIMIT,
         new PushDownPageSize(),
         TableScanPushDown.PUSH_DOWN_HIGHLIGHT,
         TableScanPushDown.PUSH_DOWN_NESTED,
         TableScanPushDown.PUSH_DOWN_PROJECT,
+        new PushDownRequiredColumns(),
         new CreateTableWriteBuilder()));
   }
 
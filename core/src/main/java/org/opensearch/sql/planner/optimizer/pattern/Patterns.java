@@ -13,6 +13,7 @@ import com.facebook.presto.matching.PropertyPattern;
 import java.util.Optional;
 import lombok.experimental.UtilityClass;
 import org.opensearch.sql.planner.logical.LogicalAggregation;
+import org.opensearch.sql.planner.logical.LogicalDedupe;
 import org.opensearch.sql.planner.logical.LogicalFilter;
 import org.opensearch.sql.planner.logical.LogicalHighlight;
 import org.opensearch.sql.planner.logical.LogicalLimit;
@@ -59,6 +60,13 @@ public class Patterns {
     return Pattern.typeOf(LogicalLimit.class).with(source(pattern));
   }
 
+  /**
+   * Logical dedupe operator with a given pattern on inner field.
+   */
+  public static <T extends LogicalPlan> Pattern<LogicalDedupe> dedupe(Pattern<T> pattern) {
+    return Pattern.typeOf(LogicalDedupe.class).with(source(pattern));
+  }
+
   /**
    * Logical highlight operator with a given pattern on inner field.
    */
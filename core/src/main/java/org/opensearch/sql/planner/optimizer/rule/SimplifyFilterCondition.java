@@ -0,0 +1,46 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+
+package org.opensearch.sql.planner.optimizer.rule;
+
+import static com.facebook.presto.matching.Pattern.typeOf;
+import static org.opensearch.sql.data.model.ExprValueUtils.LITERAL_TRUE;
+
+import com.facebook.presto.matching.Captures;
+import com.facebook.presto.matching.Pattern;
+import lombok.Getter;
+import lombok.experimental.Accessors;
+import org.opensearch.sql.expression.Expression;
+import org.opensearch.sql.expression.LiteralExpression;
+import org.opensearch.sql.planner.logical.LogicalFilter;
+import org.opensearch.sql.planner.logical.LogicalPlan;
+import org.opensearch.sql.planner.optimizer.ExpressionSimplifier;
+import org.opensearch.sql.planner.optimizer.Rule;
+
+/**
+ * Simplify the condition of Filter by {@link ExpressionSimplifier}. The Filter is removed if the
+ * condition is always true. If the condition is always false or NULL, the Filter is kept as is.
+ */
+public class SimplifyFilterCondition implements Rule<LogicalFilter> {
+
+  private final ExpressionSimplifier simplifier = new ExpressionSimplifier();
+
+  @Accessors(fluent = true)
+  @Getter
+  private final Pattern<LogicalFilter> pattern = typeOf(LogicalFilter.class);
+
+  @Override
+  public LogicalPlan apply(LogicalFilter filter, Captures captures) {
+    Expression condition = simplifier.simplify(filter.getCondition());
+    if (condition == filter.getCondition()) {
+      return filter;
+    }
+    if (condition instanceof LiteralExpression) {
+      return LITERAL_TRUE.equals(condition.valueOf()) ? filter.getChild().get(0) : filter;
+    }
+    return new LogicalFilter(filter.getChild().get(0), condition);
+  }
+}
@@ -0,0 +1,163 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.planner.optimizer.rule.read;
+
+import static com.facebook.presto.matching.Pattern.typeOf;
+
+import com.facebook.presto.matching.Captures;
+import com.facebook.presto.matching.Pattern;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import lombok.Getter;
+import lombok.experimental.Accessors;
+import org.apache.commons.lang3.tuple.Pair;
+import org.opensearch.sql.expression.DSL;
+import org.opensearch.sql.expression.Expression;
+import org.opensearch.sql.expression.ExpressionNodeVisitor;
+import org.opensearch.sql.expression.ReferenceExpression;
+import org.opensearch.sql.expression.parse.ParseExpression;
+import org.opensearch.sql.planner.logical.LogicalDedupe;
+import org.opensearch.sql.planner.logical.LogicalEval;
+import org.opensearch.sql.planner.logical.LogicalFilter;
+import org.opensearch.sql.planner.logical.LogicalLimit;
+import org.opensearch.sql.planner.logical.LogicalPlan;
+import org.opensearch.sql.planner.logical.LogicalPlanNodeVisitor;
+import org.opensearch.sql.planner.logical.LogicalProject;
+import org.opensearch.sql.planner.logical.LogicalSort;
+import org.opensearch.sql.planner.logical.LogicalWindow;
+import org.opensearch.sql.planner.optimizer.Rule;
+import org.opensearch.sql.storage.read.TableScanBuilder;
+
+/**
+ * Push the columns required by a project down to the table scan builder through the operators in
+ * between. {@link TableScanPushDown#PUSH_DOWN_PROJECT} only applies if the project is right on top
+ * of the table scan builder. This rule covers the case where eval, sort, window, dedupe, filter or
+ * limit operators sit in between: the required columns are the columns referenced by the project
+ * and by these operators, minus the columns they derive themselves. If any other operator is in
+ * between, nothing is pushed down.
+ * The project pushed down is only a description of the required columns for the table scan
+ * builder and not part of the plan, so the original plan is returned unchanged.
+ */
+public class PushDownRequiredColumns implements Rule<LogicalProject> {
+
+  @Accessors(fluent = true)
+  @Getter
+  private final Pattern<LogicalProject> pattern = typeOf(LogicalProject.class)
+      .matching(project -> !(project.getChild().get(0) instanceof TableScanBuilder));
+
+  @Override
+  public LogicalPlan apply(LogicalProject project, Captures captures) {
+    Set<ReferenceExpression> columns = new HashSet<>();
+    collectReferences(project.getProjectList(), columns);
+    project.getNamedParseExpressions()
+        .forEach(expr -> removeColumn(expr.getNameOrAlias(), columns));
+    collectReferences(project.getNamedParseExpressions(), columns);
+    project.getChild().get(0).accept(new RequiredColumnsVisitor(), columns);
+    return project;
+  }
+
+  /**
+   * Visitor that updates the required columns while walking down the operators and pushes them
+   * down once it reaches the table scan builder. It stops at any other operator.
+   */
+  private static class RequiredColumnsVisitor
+      extends LogicalPlanNodeVisitor<Void, Set<ReferenceExpression>> {
+
+    @Override
+    public Void visitTableScanBuilder(TableScanBuilder plan, Set<ReferenceExpression> columns) {
+      List<ReferenceExpression> sortedColumns = new ArrayList<>(columns);
+      sortedColumns.sort((left, right) -> left.getAttr().compareTo(right.getAttr()));
+      plan.pushDownProject(new LogicalProject(
+          plan,
+          sortedColumns.stream()
+              .map(ref -> DSL.named(ref.getAttr(), ref))
+              .collect(Collectors.toList()),
+          Collections.emptyList()));
+      return null;
+    }
+
+    /**
+     * Eval expressions are evaluated in order and may reference the columns derived by earlier
+     * ones, so they are processed in reverse order. All the expressions are evaluated even if
+     * their output is not required.
+     */
+    @Override
+    public Void visitEval(LogicalEval plan, Set<ReferenceExpression> columns) {
+      List<Pair<ReferenceExpression, Expression>> expressions = plan.getExpressions();
+      for (int i = expressions.size() - 1; i >= 0; i--) {
+        removeColumn(expressions.get(i).getLeft().getAttr(), columns);
+        collectReferences(expressions.get(i).getRight(), columns);
+      }
+      return visitChild(plan, columns);
+    }
+
+    @Override
+    public Void visitWindow(LogicalWindow plan, Set<ReferenceExpression> columns) {
+      removeColumn(plan.getWindowFunction().getNameOrAlias(), columns);
+      collectReferences(plan.getWindowFunction(), columns);
+      collectReferences(plan.getWindowDefinition().getPartitionByList(), columns);
+      plan.getWindowDefinition().getSortList()
+          .forEach(sort -> collectReferences(sort.getRight(), columns));
+      return visitChild(plan, columns);
+    }
+
+    @Override
+    public Void visitSort(LogicalSort plan, Set<ReferenceExpression> columns) {
+      plan.getSortList().forEach(sort -> collectReferences(sort.getRight(), columns));
+      return visitChild(plan, columns);
+    }
+
+    @Override
+    public Void visitDedupe(LogicalDedupe plan, Set<ReferenceExpression> columns) {
+      collectReferences(plan.getDedupeList(), columns);
+      return visitChild(plan, columns);
+    }
+
+    @Override
+    public Void visitFilter(LogicalFilter plan, Set<ReferenceExpression> columns) {
+      collectReferences(plan.getCondition(), columns);
+      return visitChild(plan, columns);
+    }
+
+    @Override
+    public Void visitLimit(LogicalLimit plan, Set<ReferenceExpression> columns) {
+      return visitChild(plan, columns);
+    }
+
+    private Void visitChild(LogicalPlan plan, Set<ReferenceExpression> columns) {
+      return plan.getChild().get(0).accept(this, columns);
+    }
+  }
+
+  private static void removeColumn(String name, Set<ReferenceExpression> columns) {
+    columns.removeIf(ref -> ref.getAttr().equals(name));
+  }
+
+  private static void collectReferences(Collection<? extends Expression> expressions,
+                                        Set<ReferenceExpression> columns) {
+    expressions.forEach(expr -> collectReferences(expr, columns));
+  }
+
+  private static void collectReferences(Expression expression, Set<ReferenceExpression> columns) {
+    expression.accept(new ExpressionNodeVisitor<Void, Set<ReferenceExpression>>() {
+      @Override
+      public Void visitReference(ReferenceExpression node, Set<ReferenceExpression> context) {
+        context.add(node);
+        return null;
+      }
+
+      @Override
+      public Void visitParse(ParseExpression node, Set<ReferenceExpression> context) {
+        return node.getSourceField().accept(this, context);
+      }
+    }, columns);
+  }
+}
@@ -6,6 +6,7 @@
 package org.opensearch.sql.planner.optimizer.rule.read;
 
 import static org.opensearch.sql.planner.optimizer.pattern.Patterns.aggregate;
+import static org.opensearch.sql.planner.optimizer.pattern.Patterns.dedupe;
 import static org.opensearch.sql.planner.optimizer.pattern.Patterns.filter;
 import static org.opensearch.sql.planner.optimizer.pattern.Patterns.highlight;
 import static org.opensearch.sql.planner.optimizer.pattern.Patterns.limit;
@@ -63,6 +64,13 @@ public class TableScanPushDown<T extends LogicalPlan> implements Rule<T> {
               scanBuilder()))
       .apply((limit, scanBuilder) -> scanBuilder.pushDownLimit(limit));
 
+  /** Push down optimize rule for dedupe operator. */
+  public static final Rule<?> PUSH_DOWN_DEDUPE =
+      match(
+          dedupe(
+              scanBuilder()))
+      .apply((dedupe, scanBuilder) -> scanBuilder.pushDownDedupe(dedupe));
+
   public static final Rule<?> PUSH_DOWN_PROJECT =
       match(
           project(
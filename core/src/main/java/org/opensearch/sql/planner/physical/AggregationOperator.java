@@ -18,6 +18,7 @@ import org.opensearch.sql.expression.NamedExpression;
 import org.opensearch.sql.expression.aggregation.Aggregator;
 import org.opensearch.sql.expression.aggregation.NamedAggregator;
 import org.opensearch.sql.expression.span.SpanExpression;
+import org.opensearch.sql.monitor.MemoryTracker;
 import org.opensearch.sql.planner.physical.collector.Collector;
 import org.opensearch.sql.storage.bindingtuple.BindingTuple;
 
@@ -28,6 +29,14 @@ import org.opensearch.sql.storage.bindingtuple.BindingTuple;
 @EqualsAndHashCode(callSuper = false)
 @ToString
 public class AggregationOperator extends PhysicalPlan {
+  /**
+   * Estimated heap size of a bucket, i.e. its map entry and collector, and of each aggregation
+   * state in it. Each new bucket reserves these plus the estimated size of its key from the
+   * memory account of the query, which fails the query once its limit is exceeded.
+   */
+  private static final long BUCKET_SIZE = 128L;
+  private static final long AGGREGATION_STATE_SIZE = 48L;
+
   @Getter
   private final PhysicalPlan input;
   @Getter
@@ -55,7 +64,9 @@ public class AggregationOperator extends PhysicalPlan {
     this.input = input;
     this.aggregatorList = aggregatorList;
     this.groupByExprList = groupByExprList;
-    this.collector = Collector.Builder.build(groupByExprList, this.aggregatorList);
+    this.collector = Collector.Builder.build(groupByExprList, this.aggregatorList,
+        key -> reserveMemory(BUCKET_SIZE + MemoryTracker.estimateSize(key)
+            + AGGREGATION_STATE_SIZE * aggregatorList.size()));
   }
 
   @Override
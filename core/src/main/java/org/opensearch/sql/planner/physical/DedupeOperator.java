@@ -7,6 +7,11 @@
 package org.opensearch.sql.planner.physical;
 
 import com.google.common.collect.ImmutableList;
+import com.google.common.hash.HashCode;
+import com.google.common.hash.Hasher;
+import com.google.common.hash.Hashing;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
@@ -18,12 +23,18 @@ import lombok.Getter;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
 import org.opensearch.sql.data.model.ExprValue;
+import org.opensearch.sql.data.type.ExprCoreType;
 import org.opensearch.sql.expression.Expression;
 import org.opensearch.sql.storage.bindingtuple.BindingTuple;
 
 /**
  * Dedupe operator. Dedupe the input {@link ExprValue} by using the {@link
  * DedupeOperator#dedupeList} The result order follow the input order.
+ *
+ * <p>In consecutive mode, only the last key is retained. Otherwise, every distinct key seen has
+ * to be retained for the lifetime of the query, so only a 128-bit fingerprint of the key is
+ * counted instead of the key values. Two distinct keys with the same fingerprint would be taken
+ * as duplicates, which is negligible for any realistic number of keys.
  */
 @Getter
 @EqualsAndHashCode(callSuper = false)
@@ -40,7 +51,9 @@ public class DedupeOperator extends PhysicalPlan {
   private final Boolean consecutive;
 
   @EqualsAndHashCode.Exclude
-  private final Deduper<List<ExprValue>> deduper;
+  private final Deduper<List<ExprValue>> deduper = Deduper.consecutiveDeduper();
+  @EqualsAndHashCode.Exclude
+  private final FingerprintCounter fingerprints = new FingerprintCounter();
   @EqualsAndHashCode.Exclude
   private ExprValue next;
 
@@ -75,7 +88,6 @@ public class DedupeOperator extends PhysicalPlan {
     this.allowedDuplication = allowedDuplication;
     this.keepEmpty = keepEmpty;
     this.consecutive = consecutive;
-    this.deduper = this.consecutive ? Deduper.consecutiveDeduper() : Deduper.historicalDeduper();
   }
 
   @Override
@@ -125,8 +137,56 @@ public class DedupeOperator extends PhysicalPlan {
       dedupeKeyBuilder.add(exprValue);
     }
     List<ExprValue> dedupeKey = dedupeKeyBuilder.build();
-    int seenTimes = deduper.seenTimes(dedupeKey);
-    return seenTimes <= allowedDuplication;
+    if (consecutive) {
+      return deduper.seenTimes(dedupeKey) <= allowedDuplication;
+    }
+
+    ByteBuffer fingerprint =
+        ByteBuffer.wrap(fingerprint(dedupeKey).asBytes()).order(ByteOrder.LITTLE_ENDIAN);
+    long reservedBytes = fingerprints.sizeInBytes();
+    boolean keep = fingerprints.incrementUpTo(
+        fingerprint.getLong(0), fingerprint.getLong(8), allowedDuplication);
+    if (fingerprints.sizeInBytes() > reservedBytes) {
+      reserveMemory(fingerprints.sizeInBytes() - reservedBytes);
+    }
+    return keep;
+  }
+
+  /**
+   * Fingerprint of the dedupe key. The values are hashed with their types and with the lengths
+   * of strings and collections, so distinct keys are not hashed from the same bytes.
+   */
+  private static HashCode fingerprint(List<ExprValue> dedupeKey) {
+    Hasher hasher = Hashing.murmur3_128().newHasher();
+    dedupeKey.forEach(value -> putValue(hasher, value));
+    return hasher.hash();
+  }
+
+  private static void putValue(Hasher hasher, ExprValue value) {
+    if (value.isNull() || value.isMissing()) {
+      // NULL and MISSING nested in struct or array
+      putString(hasher, value.isNull() ? "NULL" : "MISSING");
+    } else if (value.type() == ExprCoreType.STRUCT) {
+      putString(hasher, "STRUCT");
+      Map<String, ExprValue> tuple = value.tupleValue();
+      hasher.putInt(tuple.size());
+      tuple.forEach((name, fieldValue) -> {
+        putString(hasher, name);
+        putValue(hasher, fieldValue);
+      });
+    } else if (value.type() == ExprCoreType.ARRAY) {
+      putString(hasher, "ARRAY");
+      List<ExprValue> collection = value.collectionValue();
+      hasher.putInt(collection.size());
+      collection.forEach(element -> putValue(hasher, element));
+    } else {
+      putString(hasher, value.type().typeName());
+      putString(hasher, value.value().toString());
+    }
+  }
+
+  private static void putString(Hasher hasher, String string) {
+    hasher.putInt(string.length()).putUnencodedChars(string);
   }
 
   /**
@@ -140,17 +200,6 @@ public class DedupeOperator extends PhysicalPlan {
     private final BiFunction<Map<K, Integer>, K, Integer> seenFirstTime;
     private final Map<K, Integer> seenMap = new ConcurrentHashMap<>();
 
-    /**
-     * The Historical Deduper monitor the duplicated element with all the seen value.
-     */
-    public static <K> Deduper<K> historicalDeduper() {
-      return new Deduper<>(
-          (map, key) -> {
-            map.put(key, SEEN_FIRST_TIME);
-            return SEEN_FIRST_TIME;
-          });
-    }
-
     /**
      * The Consecutive Deduper monitor the duplicated element with consecutive seen value. It means
      * only the consecutive duplicated value will be counted.
@@ -9,13 +9,9 @@ package org.opensearch.sql.planner.physical;
 import static org.opensearch.sql.data.type.ExprCoreType.STRUCT;
 import static org.opensearch.sql.expression.env.Environment.extendEnv;
 
-import com.google.common.collect.ImmutableMap;
-import com.google.common.collect.ImmutableMap.Builder;
+import java.util.ArrayList;
 import java.util.Collections;
-import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.Map;
-import java.util.Map.Entry;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
@@ -23,7 +19,7 @@ import lombok.ToString;
 import org.apache.commons.lang3.tuple.Pair;
 import org.opensearch.sql.data.model.ExprTupleValue;
 import org.opensearch.sql.data.model.ExprValue;
-import org.opensearch.sql.data.model.ExprValueUtils;
+import org.opensearch.sql.data.model.TupleSchema;
 import org.opensearch.sql.expression.Expression;
 import org.opensearch.sql.expression.ReferenceExpression;
 import org.opensearch.sql.expression.env.Environment;
@@ -46,6 +42,24 @@ public class EvalOperator extends PhysicalPlan {
   @Getter
   private final List<Pair<ReferenceExpression, Expression>> expressionList;
 
+  /**
+   * Schema of the last input row, for which the output schema below was resolved.
+   */
+  @ToString.Exclude
+  @EqualsAndHashCode.Exclude
+  private TupleSchema inputSchema;
+
+  @ToString.Exclude
+  @EqualsAndHashCode.Exclude
+  private TupleSchema outputSchema;
+
+  /**
+   * Ordinal in the output schema of the field of each expression.
+   */
+  @ToString.Exclude
+  @EqualsAndHashCode.Exclude
+  private int[] outputOrdinals;
+
   @Override
   public <R, C> R accept(PhysicalPlanNodeVisitor<R, C> visitor, C context) {
     return visitor.visitEval(this, context);
@@ -63,40 +77,53 @@ public class EvalOperator extends PhysicalPlan {
 
   @Override
   public ExprValue next() {
-    ExprValue inputValue = input.next();
-    Map<String, ExprValue> evalMap = eval(inputValue.bindingTuples());
-
-    if (STRUCT == inputValue.type()) {
-      ImmutableMap.Builder<String, ExprValue> resultBuilder = new Builder<>();
-      Map<String, ExprValue> tupleValue = ExprValueUtils.getTupleValue(inputValue);
-      for (Entry<String, ExprValue> valueEntry : tupleValue.entrySet()) {
-        if (evalMap.containsKey(valueEntry.getKey())) {
-          resultBuilder.put(valueEntry.getKey(), evalMap.get(valueEntry.getKey()));
-          evalMap.remove(valueEntry.getKey());
-        } else {
-          resultBuilder.put(valueEntry);
-        }
-      }
-      resultBuilder.putAll(evalMap);
-      return ExprTupleValue.fromExprValueMap(resultBuilder.build());
-    } else {
+    return evalRow(input.next());
+  }
+
+  @Override
+  public ExprValueBatch nextBatch(int maxBatchSize) {
+    return input.nextBatch(maxBatchSize).map(this::evalRow);
+  }
+
+  private ExprValue evalRow(ExprValue inputValue) {
+    if (STRUCT != inputValue.type()) {
       return inputValue;
     }
+    ExprTupleValue inputTuple = (ExprTupleValue) inputValue;
+    TupleSchema schema = inputTuple.schemaLike(inputSchema);
+    if (schema != inputSchema) {
+      resolveOutputSchema(schema);
+    }
+
+    ExprValue[] values = new ExprValue[outputSchema.size()];
+    inputTuple.copyValuesTo(values, 0);
+    Environment<Expression, ExprValue> env = inputTuple.bindingTuples();
+    for (int i = 0; i < expressionList.size(); i++) {
+      Pair<ReferenceExpression, Expression> pair = expressionList.get(i);
+      ExprValue value = pair.getValue().valueOf(env);
+      env = extendEnv(env, pair.getKey(), value);
+      values[outputOrdinals[i]] = value;
+    }
+    return ExprTupleValue.fromRow(outputSchema, values);
   }
 
   /**
-   * Evaluate the expression in the {@link EvalOperator#expressionList} with {@link Environment}.
-   * @param env {@link Environment}
-   * @return The mapping of reference and {@link ExprValue} for each expression.
+   * Resolve the schema of the output rows for a schema of the input rows. An evaluated field
+   * replaces the input field of the same name, otherwise it is appended.
    */
-  private Map<String, ExprValue> eval(Environment<Expression, ExprValue> env) {
-    Map<String, ExprValue> evalResultMap = new LinkedHashMap<>();
-    for (Pair<ReferenceExpression, Expression> pair : expressionList) {
-      ReferenceExpression var = pair.getKey();
-      ExprValue value = pair.getValue().valueOf(env);
-      env = extendEnv(env, var, value);
-      evalResultMap.put(var.toString(), value);
+  private void resolveOutputSchema(TupleSchema schema) {
+    List<String> names = new ArrayList<>(schema.getNames());
+    outputOrdinals = new int[expressionList.size()];
+    for (int i = 0; i < expressionList.size(); i++) {
+      String name = expressionList.get(i).getKey().toString();
+      int ordinal = names.indexOf(name);
+      if (ordinal < 0) {
+        ordinal = names.size();
+        names.add(name);
+      }
+      outputOrdinals[i] = ordinal;
     }
-    return evalResultMap;
+    inputSchema = schema;
+    outputSchema = new TupleSchema(names);
   }
 }
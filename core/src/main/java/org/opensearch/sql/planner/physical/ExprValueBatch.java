@@ -0,0 +1,128 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+
+package org.opensearch.sql.planner.physical;
+
+import java.util.Arrays;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+import java.util.function.UnaryOperator;
+import lombok.ToString;
+import org.opensearch.sql.data.model.ExprValue;
+
+/**
+ * A batch of rows exchanged between {@link PhysicalPlan} operators by
+ * {@link PhysicalPlan#nextBatch(int)}. Rows are kept in a flat array and an optional selection
+ * vector records the positions still alive after filtering, so a filter never copies the rows
+ * it keeps. An empty batch means the input is exhausted.
+ */
+@ToString
+public class ExprValueBatch {
+
+  /** Row storage. Only the first {@link #rowCount} slots are valid. */
+  private ExprValue[] rows;
+
+  /** Number of valid rows in {@link #rows}. */
+  private int rowCount;
+
+  /** Positions of the selected rows, or null if every row is selected. */
+  private int[] selection;
+
+  /** Number of valid positions in {@link #selection}. */
+  private int selectedCount;
+
+  /**
+   * Create an empty batch with the given capacity.
+   *
+   * @param capacity initial capacity
+   */
+  public ExprValueBatch(int capacity) {
+    this.rows = new ExprValue[Math.max(capacity, 1)];
+  }
+
+  /**
+   * Batch which marks the end of input.
+   */
+  public static ExprValueBatch empty() {
+    return new ExprValueBatch(1);
+  }
+
+  /**
+   * Append a row to the batch. Only valid before a selection is applied.
+   */
+  public void add(ExprValue value) {
+    if (selection != null) {
+      throw new IllegalStateException("[BUG] can't add rows to a batch with a selection vector");
+    }
+    if (rowCount == rows.length) {
+      rows = Arrays.copyOf(rows, rows.length * 2);
+    }
+    rows[rowCount++] = value;
+  }
+
+  /**
+   * Number of selected rows.
+   */
+  public int size() {
+    return selection == null ? rowCount : selectedCount;
+  }
+
+  public boolean isEmpty() {
+    return size() == 0;
+  }
+
+  /**
+   * Get the i-th selected row.
+   */
+  public ExprValue get(int index) {
+    return rows[selection == null ? index : selection[index]];
+  }
+
+  /**
+   * Narrow the selection vector to the rows matching the predicate. Row storage is untouched.
+   */
+  public ExprValueBatch filter(Predicate<ExprValue> predicate) {
+    int size = size();
+    int[] newSelection = (selection == null) ? new int[size] : selection;
+    int count = 0;
+    for (int i = 0; i < size; i++) {
+      int position = (selection == null) ? i : selection[i];
+      if (predicate.test(rows[position])) {
+        newSelection[count++] = position;
+      }
+    }
+    selection = newSelection;
+    selectedCount = count;
+    return this;
+  }
+
+  /**
+   * Replace every selected row with the result of the function. The batch is compacted, i.e. the
+   * selection vector is dropped afterwards.
+   */
+  public ExprValueBatch map(UnaryOperator<ExprValue> function) {
+    int size = size();
+    ExprValue[] result = (selection == null) ? rows : new ExprValue[Math.max(size, 1)];
+    for (int i = 0; i < size; i++) {
+      result[i] = function.apply(get(i));
+    }
+    rows = result;
+    rowCount = size;
+    selection = null;
+    selectedCount = 0;
+    return this;
+  }
+
+  /**
+   * Apply the action to every selected row in order.
+   */
+  public void forEach(Consumer<ExprValue> action) {
+    int size = size();
+    for (int i = 0; i < size; i++) {
+      action.accept(get(i));
+    }
+  }
+}
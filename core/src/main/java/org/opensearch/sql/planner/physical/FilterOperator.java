@@ -9,10 +9,10 @@ import java.util.Collections;
 import java.util.List;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
-import lombok.RequiredArgsConstructor;
 import lombok.ToString;
 import org.opensearch.sql.data.model.ExprValue;
 import org.opensearch.sql.expression.Expression;
+import org.opensearch.sql.expression.compiler.ExpressionCompiler;
 import org.opensearch.sql.expression.operator.predicate.BinaryPredicateOperator;
 import org.opensearch.sql.storage.bindingtuple.BindingTuple;
 
@@ -24,15 +24,26 @@ import org.opensearch.sql.storage.bindingtuple.BindingTuple;
  */
 @EqualsAndHashCode(callSuper = false)
 @ToString
-@RequiredArgsConstructor
 public class FilterOperator extends PhysicalPlan {
   @Getter
   private final PhysicalPlan input;
   @Getter
   private final Expression conditions;
+  @EqualsAndHashCode.Exclude
+  @ToString.Exclude
+  private final Expression compiledConditions;
   @ToString.Exclude
   private ExprValue next = null;
 
+  /**
+   * Filter operator constructor.
+   */
+  public FilterOperator(PhysicalPlan input, Expression conditions) {
+    this.input = input;
+    this.conditions = conditions;
+    this.compiledConditions = ExpressionCompiler.compile(conditions);
+  }
+
   @Override
   public <R, C> R accept(PhysicalPlanNodeVisitor<R, C> visitor, C context) {
     return visitor.visitFilter(this, context);
@@ -47,8 +58,7 @@ public class FilterOperator extends PhysicalPlan {
   public boolean hasNext() {
     while (input.hasNext()) {
       ExprValue inputValue = input.next();
-      ExprValue exprValue = conditions.valueOf(inputValue.bindingTuples());
-      if (!(exprValue.isNull() || exprValue.isMissing()) && (exprValue.booleanValue())) {
+      if (isSelected(inputValue)) {
         next = inputValue;
         return true;
       }
@@ -56,6 +66,24 @@ public class FilterOperator extends PhysicalPlan {
     return false;
   }
 
+  @Override
+  public ExprValueBatch nextBatch(int maxBatchSize) {
+    ExprValueBatch batch = input.nextBatch(maxBatchSize);
+    while (!batch.isEmpty()) {
+      batch.filter(this::isSelected);
+      if (!batch.isEmpty()) {
+        return batch;
+      }
+      batch = input.nextBatch(maxBatchSize);
+    }
+    return batch;
+  }
+
+  private boolean isSelected(ExprValue inputValue) {
+    ExprValue exprValue = compiledConditions.valueOf(inputValue.bindingTuples());
+    return !(exprValue.isNull() || exprValue.isMissing()) && (exprValue.booleanValue());
+  }
+
   @Override
   public ExprValue next() {
     return next;
@@ -0,0 +1,107 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+
+package org.opensearch.sql.planner.physical;
+
+/**
+ * Counter of how many times each 128-bit fingerprint has been seen. The fingerprints and counts
+ * are kept in an open addressing hash table of primitive arrays, which takes a fixed
+ * {@link #SLOT_BYTES} per slot instead of retaining the keys fingerprinted and their boxing.
+ * Fingerprints are expected to be uniformly distributed, so the low bits of the high half are
+ * used as hash code directly.
+ */
+class FingerprintCounter {
+
+  /** Bytes of each slot, i.e. two longs of fingerprint and an int of count. */
+  static final int SLOT_BYTES = 8 + 8 + 4;
+
+  private static final int INITIAL_CAPACITY = 16;
+
+  private long[] highs;
+  private long[] lows;
+
+  /** Count of the fingerprint in each slot, 0 if the slot is empty. */
+  private int[] counts;
+
+  private int size;
+
+  /**
+   * Count the fingerprint once more unless it has already been counted up to the limit.
+   *
+   * @param high  high 64 bits of the fingerprint
+   * @param low   low 64 bits of the fingerprint
+   * @param limit maximum count of a fingerprint
+   * @return true if counted, false if the fingerprint has been counted limit times before
+   */
+  boolean incrementUpTo(long high, long low, int limit) {
+    if (counts == null) {
+      allocate(INITIAL_CAPACITY);
+    }
+
+    int slot = slotOf(high, low);
+    if (counts[slot] >= limit) {
+      return false;
+    }
+    if (counts[slot] == 0) {
+      if ((size + 1) * 4L > counts.length * 3L) {
+        grow();
+        slot = slotOf(high, low);
+      }
+      highs[slot] = high;
+      lows[slot] = low;
+      size++;
+    }
+    counts[slot]++;
+    return true;
+  }
+
+  /**
+   * Number of distinct fingerprints counted.
+   */
+  int size() {
+    return size;
+  }
+
+  /**
+   * Bytes allocated by the hash table, which only grows.
+   */
+  long sizeInBytes() {
+    return (counts == null) ? 0 : (long) counts.length * SLOT_BYTES;
+  }
+
+  /**
+   * Find the slot of the fingerprint, or the empty slot where it would be put if absent.
+   */
+  private int slotOf(long high, long low) {
+    int mask = counts.length - 1;
+    int slot = (int) high & mask;
+    while (counts[slot] != 0 && (highs[slot] != high || lows[slot] != low)) {
+      slot = (slot + 1) & mask;
+    }
+    return slot;
+  }
+
+  private void allocate(int capacity) {
+    highs = new long[capacity];
+    lows = new long[capacity];
+    counts = new int[capacity];
+  }
+
+  private void grow() {
+    long[] oldHighs = highs;
+    long[] oldLows = lows;
+    int[] oldCounts = counts;
+    allocate(oldCounts.length * 2);
+    for (int i = 0; i < oldCounts.length; i++) {
+      if (oldCounts[i] != 0) {
+        int slot = slotOf(oldHighs[i], oldLows[i]);
+        highs[slot] = oldHighs[i];
+        lows[slot] = oldLows[i];
+        counts[slot] = oldCounts[i];
+      }
+    }
+  }
+}
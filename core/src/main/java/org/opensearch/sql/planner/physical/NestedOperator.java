@@ -25,6 +25,7 @@ import org.opensearch.sql.data.model.ExprNullValue;
 import org.opensearch.sql.data.model.ExprTupleValue;
 import org.opensearch.sql.data.model.ExprValue;
 import org.opensearch.sql.expression.ReferenceExpression;
+import org.opensearch.sql.monitor.MemoryTracker;
 
 /**
  * The NestedOperator evaluates the {@link NestedOperator#fields} and
@@ -47,6 +48,12 @@ public class NestedOperator extends PhysicalPlan {
   @EqualsAndHashCode.Exclude
   private ListIterator<Map<String, ExprValue>> flattenedResult = result.listIterator();
 
+  /**
+   * Bytes reserved for the flattened rows of the current input row.
+   */
+  @EqualsAndHashCode.Exclude
+  private long resultBytes;
+
   /**
    * Constructor for NestedOperator with list of map as arg.
    * @param input : PhysicalPlan input.
@@ -116,6 +123,7 @@ public class NestedOperator extends PhysicalPlan {
       for (String nonNestedField : nonNestedFields) {
         result = flatten(nonNestedField, inputValue, result);
       }
+      retainResult();
 
       if (result.isEmpty()) {
         flattenedResult = result.listIterator();
@@ -127,6 +135,23 @@ public class NestedOperator extends PhysicalPlan {
     return new ExprTupleValue(new LinkedHashMap<>(flattenedResult.next()));
   }
 
+  /**
+   * Reserve memory for the flattened rows of the current input row, which replace the rows of
+   * the previous one. The cartesian product of nested fields can be much larger than the row.
+   */
+  private void retainResult() {
+    long newResultBytes = 0;
+    for (Map<String, ExprValue> row : result) {
+      newResultBytes += 64L;
+      for (ExprValue value : row.values()) {
+        newResultBytes += 40L + MemoryTracker.estimateSize(value);
+      }
+    }
+    reserveMemory(newResultBytes);
+    releaseMemory(resultBytes);
+    resultBytes = newResultBytes;
+  }
+
   /**
    * Generate list of non-nested fields that are in inputMap, but not in the member variable
    * fields list.
@@ -6,9 +6,12 @@
 
 package org.opensearch.sql.planner.physical;
 
+import static org.opensearch.sql.monitor.UnlimitedMemoryTracker.UNLIMITED_MEMORY_TRACKER;
+
 import java.util.Iterator;
 import org.opensearch.sql.data.model.ExprValue;
 import org.opensearch.sql.executor.ExecutionEngine;
+import org.opensearch.sql.monitor.MemoryTracker;
 import org.opensearch.sql.planner.PlanNode;
 import org.opensearch.sql.storage.split.Split;
 
@@ -17,6 +20,22 @@ import org.opensearch.sql.storage.split.Split;
  */
 public abstract class PhysicalPlan
     implements PlanNode<PhysicalPlan>, Iterator<ExprValue>, AutoCloseable {
+
+  /**
+   * Memory account of the query, which blocking operators reserve the rows they retain from.
+   */
+  private MemoryTracker memoryTracker = UNLIMITED_MEMORY_TRACKER;
+
+  /**
+   * Bytes reserved by this operator and not released yet.
+   */
+  private long reservedBytes;
+
+  /**
+   * Maximum bytes reserved by this operator at a time.
+   */
+  private long peakReservedBytes;
+
   /**
    * Accept the {@link PhysicalPlanNodeVisitor}.
    *
@@ -32,7 +51,13 @@ public abstract class PhysicalPlan
     getChild().forEach(PhysicalPlan::open);
   }
 
+  /**
+   * Close the plan, which releases all the memory reserved by this operator.
+   */
   public void close() {
+    if (reservedBytes > 0) {
+      releaseMemory(reservedBytes);
+    }
     getChild().forEach(PhysicalPlan::close);
   }
 
@@ -40,6 +65,51 @@ public abstract class PhysicalPlan
     getChild().forEach(child -> child.add(split));
   }
 
+  /**
+   * Pull up to maxBatchSize rows at once. The default implementation adapts the row-at-a-time
+   * {@link #hasNext()}/{@link #next()} API, operators which can process a whole batch natively
+   * override it. Callers should stick to either the row or the batch API for one execution.
+   *
+   * @param maxBatchSize maximum number of rows in the returned batch
+   * @return next batch of rows, an empty batch if there is no more input
+   */
+  public ExprValueBatch nextBatch(int maxBatchSize) {
+    ExprValueBatch batch = new ExprValueBatch(maxBatchSize);
+    while (batch.size() < maxBatchSize && hasNext()) {
+      batch.add(next());
+    }
+    return batch;
+  }
+
+  public void setMemoryTracker(MemoryTracker memoryTracker) {
+    this.memoryTracker = memoryTracker;
+  }
+
+  public long getPeakReservedBytes() {
+    return peakReservedBytes;
+  }
+
+  /**
+   * Reserve memory retained by this operator from the memory account of the query.
+   *
+   * @param bytes estimated bytes retained
+   */
+  protected void reserveMemory(long bytes) {
+    memoryTracker.reserve(bytes);
+    reservedBytes += bytes;
+    peakReservedBytes = Math.max(peakReservedBytes, reservedBytes);
+  }
+
+  /**
+   * Release memory previously reserved by {@link #reserveMemory(long)}.
+   *
+   * @param bytes bytes no longer retained
+   */
+  protected void releaseMemory(long bytes) {
+    memoryTracker.release(bytes);
+    reservedBytes -= bytes;
+  }
+
   public ExecutionEngine.Schema schema() {
     throw new IllegalStateException(String.format("[BUG] schema can been only applied to "
         + "ProjectOperator, instead of %s", this.getClass().getSimpleName()));
@@ -66,6 +66,11 @@ public class PhysicalPlanDSL {
     return new SortOperator(input, Arrays.asList(sorts));
   }
 
+  public static SortOperator sort(PhysicalPlan input, Integer topN, Pair<SortOption,
+      Expression>... sorts) {
+    return new SortOperator(input, Arrays.asList(sorts), topN);
+  }
+
   public static DedupeOperator dedupe(PhysicalPlan input, Expression... expressions) {
     return new DedupeOperator(input, Arrays.asList(expressions));
   }
@@ -96,4 +96,8 @@ public abstract class PhysicalPlanNodeVisitor<R, C> {
   public R visitCursorClose(CursorCloseOperator node, C context) {
     return visitNode(node, context);
   }
+
+  public R visitProfile(ProfilePlan node, C context) {
+    return visitNode(node, context);
+  }
 }
@@ -0,0 +1,122 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+
+package org.opensearch.sql.planner.physical;
+
+import java.util.List;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+import org.opensearch.sql.data.model.ExprValue;
+
+/**
+ * A PhysicalPlan which counts the rows returned by the delegate plan and measures the time spent
+ * in it, for explain analyze. The time of a plan includes the time of its children.
+ */
+@ToString
+@RequiredArgsConstructor
+@EqualsAndHashCode(callSuper = false)
+public class ProfilePlan extends PhysicalPlan {
+
+  /**
+   * Delegated PhysicalPlan.
+   */
+  @Getter
+  private final PhysicalPlan delegate;
+
+  /**
+   * Number of rows returned.
+   */
+  @Getter
+  @EqualsAndHashCode.Exclude
+  private long rows;
+
+  /**
+   * Nanoseconds spent in {@link #open()}.
+   */
+  @Getter
+  @EqualsAndHashCode.Exclude
+  private long openNanos;
+
+  /**
+   * Nanoseconds spent in fetching rows.
+   */
+  @Getter
+  @EqualsAndHashCode.Exclude
+  private long nextNanos;
+
+  @Override
+  public <R, C> R accept(PhysicalPlanNodeVisitor<R, C> visitor, C context) {
+    return visitor.visitProfile(this, context);
+  }
+
+  @Override
+  public void open() {
+    long start = System.nanoTime();
+    try {
+      delegate.open();
+    } finally {
+      openNanos += System.nanoTime() - start;
+    }
+  }
+
+  @Override
+  public void close() {
+    delegate.close();
+  }
+
+  @Override
+  public List<PhysicalPlan> getChild() {
+    return delegate.getChild();
+  }
+
+  @Override
+  public boolean hasNext() {
+    long start = System.nanoTime();
+    try {
+      return delegate.hasNext();
+    } finally {
+      nextNanos += System.nanoTime() - start;
+    }
+  }
+
+  @Override
+  public ExprValue next() {
+    long start = System.nanoTime();
+    try {
+      ExprValue row = delegate.next();
+      rows++;
+      return row;
+    } finally {
+      nextNanos += System.nanoTime() - start;
+    }
+  }
+
+  @Override
+  public ExprValueBatch nextBatch(int maxBatchSize) {
+    long start = System.nanoTime();
+    try {
+      ExprValueBatch batch = delegate.nextBatch(maxBatchSize);
+      rows += batch.size();
+      return batch;
+    } finally {
+      nextNanos += System.nanoTime() - start;
+    }
+  }
+
+  @Override
+  public long getPeakReservedBytes() {
+    return delegate.getPeakReservedBytes();
+  }
+
+  /**
+   * Nanoseconds spent in this plan and its children.
+   */
+  public long getTotalNanos() {
+    return openNanos + nextNanos;
+  }
+}
@@ -15,24 +15,24 @@ import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
 import java.util.stream.Collectors;
-import lombok.AllArgsConstructor;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.ToString;
 import org.opensearch.sql.data.model.ExprTupleValue;
 import org.opensearch.sql.data.model.ExprValue;
 import org.opensearch.sql.data.model.ExprValueUtils;
+import org.opensearch.sql.data.model.TupleSchema;
 import org.opensearch.sql.executor.ExecutionEngine;
 import org.opensearch.sql.expression.NamedExpression;
 import org.opensearch.sql.expression.parse.ParseExpression;
 import org.opensearch.sql.planner.SerializablePlan;
+import org.opensearch.sql.storage.bindingtuple.BindingTuple;
 
 /**
  * Project the fields specified in {@link ProjectOperator#projectList} from input.
  */
 @ToString
 @EqualsAndHashCode(callSuper = false)
-@AllArgsConstructor
 public class ProjectOperator extends PhysicalPlan implements SerializablePlan {
   @Getter
   private PhysicalPlan input;
@@ -41,6 +41,25 @@ public class ProjectOperator extends PhysicalPlan implements SerializablePlan {
   @Getter
   private List<NamedExpression> namedParseExpressions;
 
+  /**
+   * Schema of the output rows, created by the first row if there is no parse expression. With
+   * parse expressions, the fields of the output depend on the input row.
+   */
+  @ToString.Exclude
+  @EqualsAndHashCode.Exclude
+  private TupleSchema outputSchema;
+
+  /**
+   * Constructor of ProjectOperator.
+   */
+  public ProjectOperator(PhysicalPlan input,
+                         List<NamedExpression> projectList,
+                         List<NamedExpression> namedParseExpressions) {
+    this.input = input;
+    this.projectList = projectList;
+    this.namedParseExpressions = namedParseExpressions;
+  }
+
   @Override
   public <R, C> R accept(PhysicalPlanNodeVisitor<R, C> visitor, C context) {
     return visitor.visitProject(this, context);
@@ -58,7 +77,18 @@ public class ProjectOperator extends PhysicalPlan implements SerializablePlan {
 
   @Override
   public ExprValue next() {
-    ExprValue inputValue = input.next();
+    return project(input.next());
+  }
+
+  @Override
+  public ExprValueBatch nextBatch(int maxBatchSize) {
+    return input.nextBatch(maxBatchSize).map(this::project);
+  }
+
+  private ExprValue project(ExprValue inputValue) {
+    if (namedParseExpressions.isEmpty()) {
+      return projectRow(inputValue);
+    }
     ImmutableMap.Builder<String, ExprValue> mapBuilder = new Builder<>();
 
     // ParseExpression will always override NamedExpression when identifier conflicts
@@ -92,6 +122,20 @@ public class ProjectOperator extends PhysicalPlan implements SerializablePlan {
     return ExprTupleValue.fromExprValueMap(mapBuilder.build());
   }
 
+  private ExprValue projectRow(ExprValue inputValue) {
+    if (outputSchema == null) {
+      outputSchema = new TupleSchema(projectList.stream()
+          .map(NamedExpression::getNameOrAlias)
+          .collect(Collectors.toList()));
+    }
+    BindingTuple bindingTuple = inputValue.bindingTuples();
+    ExprValue[] values = new ExprValue[projectList.size()];
+    for (int i = 0; i < values.length; i++) {
+      values[i] = projectList.get(i).valueOf(bindingTuple);
+    }
+    return ExprTupleValue.fromRow(outputSchema, values);
+  }
+
   @Override
   public ExecutionEngine.Schema schema() {
     return new ExecutionEngine.Schema(getProjectList().stream()
@@ -26,6 +26,7 @@ import org.opensearch.sql.ast.tree.RareTopN.CommandType;
 import org.opensearch.sql.data.model.ExprTupleValue;
 import org.opensearch.sql.data.model.ExprValue;
 import org.opensearch.sql.expression.Expression;
+import org.opensearch.sql.monitor.MemoryTracker;
 import org.opensearch.sql.storage.bindingtuple.BindingTuple;
 
 /**
@@ -122,12 +123,16 @@ public class RareTopNOperator extends PhysicalPlan {
       Key groupKey = new Key(inputValue, groupByExprList);
       Key fieldKey = new Key(inputValue, fieldExprList);
       groupListMap.computeIfAbsent(groupKey, k -> {
+        reserveMemory(groupKey.estimateSize() + fieldKey.estimateSize());
         Map<Key, Integer> map = new HashMap<>();
         map.put(fieldKey, 1);
         return map;
       });
       groupListMap.computeIfPresent(groupKey, (key, map) -> {
-        map.computeIfAbsent(fieldKey, f -> 1);
+        map.computeIfAbsent(fieldKey, f -> {
+          reserveMemory(fieldKey.estimateSize());
+          return 1;
+        });
         map.computeIfPresent(fieldKey, (field, count) -> {
           return count + 1;
         });
@@ -199,6 +204,17 @@ public class RareTopNOperator extends PhysicalPlan {
           AbstractMap.SimpleEntry::new
       ).collect(Collectors.toMap(key -> key.getKey(), key -> key.getValue()));
     }
+
+    /**
+     * Estimate the heap size of the key and its entry in the map.
+     */
+    public long estimateSize() {
+      long size = 96L;
+      for (ExprValue value : valueList) {
+        size += 8L + MemoryTracker.estimateSize(value);
+      }
+      return size;
+    }
   }
 
 }
@@ -8,12 +8,9 @@ package org.opensearch.sql.planner.physical;
 
 import static org.opensearch.sql.data.type.ExprCoreType.STRUCT;
 
-import com.google.common.collect.ImmutableMap;
-import com.google.common.collect.ImmutableMap.Builder;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
-import java.util.Map;
-import java.util.Map.Entry;
 import java.util.Set;
 import java.util.stream.Collectors;
 import lombok.EqualsAndHashCode;
@@ -21,7 +18,7 @@ import lombok.Getter;
 import lombok.ToString;
 import org.opensearch.sql.data.model.ExprTupleValue;
 import org.opensearch.sql.data.model.ExprValue;
-import org.opensearch.sql.data.model.ExprValueUtils;
+import org.opensearch.sql.data.model.TupleSchema;
 import org.opensearch.sql.expression.ReferenceExpression;
 
 /**
@@ -38,6 +35,24 @@ public class RemoveOperator extends PhysicalPlan {
   @EqualsAndHashCode.Exclude
   private final Set<String> nameRemoveList;
 
+  /**
+   * Schema of the last input row, for which the output schema below was resolved.
+   */
+  @ToString.Exclude
+  @EqualsAndHashCode.Exclude
+  private TupleSchema inputSchema;
+
+  @ToString.Exclude
+  @EqualsAndHashCode.Exclude
+  private TupleSchema outputSchema;
+
+  /**
+   * Ordinal in the input schema of each field of the output schema.
+   */
+  @ToString.Exclude
+  @EqualsAndHashCode.Exclude
+  private int[] inputOrdinals;
+
   /**
    * Todo. This is the temporary solution that add the mapping between string and ref. because when
    * rename the field from input, there we can only get the string field.
@@ -69,16 +84,33 @@ public class RemoveOperator extends PhysicalPlan {
   public ExprValue next() {
     ExprValue inputValue = input.next();
     if (STRUCT == inputValue.type()) {
-      ImmutableMap.Builder<String, ExprValue> mapBuilder = new Builder<>();
-      Map<String, ExprValue> tupleValue = ExprValueUtils.getTupleValue(inputValue);
-      for (Entry<String, ExprValue> valueEntry : tupleValue.entrySet()) {
-        if (!nameRemoveList.contains(valueEntry.getKey())) {
-          mapBuilder.put(valueEntry);
-        }
+      ExprTupleValue inputTuple = (ExprTupleValue) inputValue;
+      TupleSchema schema = inputTuple.schemaLike(inputSchema);
+      if (schema != inputSchema) {
+        resolveOutputSchema(schema);
+      }
+      ExprTupleValue inputRow = inputTuple.withSchema(schema);
+      ExprValue[] values = new ExprValue[inputOrdinals.length];
+      for (int i = 0; i < values.length; i++) {
+        values[i] = inputRow.valueAt(inputOrdinals[i]);
       }
-      return ExprTupleValue.fromExprValueMap(mapBuilder.build());
+      return ExprTupleValue.fromRow(outputSchema, values);
     } else {
       return inputValue;
     }
   }
+
+  private void resolveOutputSchema(TupleSchema schema) {
+    List<String> names = new ArrayList<>();
+    List<Integer> ordinals = new ArrayList<>();
+    for (int i = 0; i < schema.size(); i++) {
+      if (!nameRemoveList.contains(schema.nameAt(i))) {
+        names.add(schema.nameAt(i));
+        ordinals.add(i);
+      }
+    }
+    inputSchema = schema;
+    outputSchema = new TupleSchema(names);
+    inputOrdinals = ordinals.stream().mapToInt(Integer::intValue).toArray();
+  }
 }
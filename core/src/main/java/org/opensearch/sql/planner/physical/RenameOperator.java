@@ -8,8 +8,6 @@ package org.opensearch.sql.planner.physical;
 
 import static org.opensearch.sql.data.type.ExprCoreType.STRUCT;
 
-import com.google.common.collect.ImmutableMap;
-import com.google.common.collect.ImmutableMap.Builder;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
@@ -19,7 +17,7 @@ import lombok.Getter;
 import lombok.ToString;
 import org.opensearch.sql.data.model.ExprTupleValue;
 import org.opensearch.sql.data.model.ExprValue;
-import org.opensearch.sql.data.model.ExprValueUtils;
+import org.opensearch.sql.data.model.TupleSchema;
 import org.opensearch.sql.expression.ReferenceExpression;
 import org.opensearch.sql.storage.bindingtuple.BindingTuple;
 
@@ -43,6 +41,17 @@ public class RenameOperator extends PhysicalPlan {
   @EqualsAndHashCode.Exclude
   private final Map<String, ReferenceExpression> nameMapping;
 
+  /**
+   * Schema of the last input row, for which the output schema below was resolved.
+   */
+  @ToString.Exclude
+  @EqualsAndHashCode.Exclude
+  private TupleSchema inputSchema;
+
+  @ToString.Exclude
+  @EqualsAndHashCode.Exclude
+  private TupleSchema outputSchema;
+
   /**
    * Constructor of RenameOperator.
    */
@@ -74,16 +83,16 @@ public class RenameOperator extends PhysicalPlan {
   public ExprValue next() {
     ExprValue inputValue = input.next();
     if (STRUCT == inputValue.type()) {
-      Map<String, ExprValue> tupleValue = ExprValueUtils.getTupleValue(inputValue);
-      ImmutableMap.Builder<String, ExprValue> mapBuilder = new Builder<>();
-      for (String bindName : tupleValue.keySet()) {
-        if (nameMapping.containsKey(bindName)) {
-          mapBuilder.put(nameMapping.get(bindName).getAttr(), tupleValue.get(bindName));
-        } else {
-          mapBuilder.put(bindName, tupleValue.get(bindName));
-        }
+      ExprTupleValue inputTuple = (ExprTupleValue) inputValue;
+      TupleSchema schema = inputTuple.schemaLike(inputSchema);
+      if (schema != inputSchema) {
+        outputSchema = new TupleSchema(schema.getNames().stream()
+            .map(name -> nameMapping.containsKey(name) ? nameMapping.get(name).getAttr() : name)
+            .collect(Collectors.toList()));
+        inputSchema = schema;
       }
-      return ExprTupleValue.fromExprValueMap(mapBuilder.build());
+      // the values are shared with the input row, only the field names change
+      return inputTuple.withSchema(outputSchema);
     } else {
       return inputValue;
     }
@@ -9,6 +9,8 @@ package org.opensearch.sql.planner.physical;
 import static org.opensearch.sql.ast.tree.Sort.NullOrder.NULL_FIRST;
 import static org.opensearch.sql.ast.tree.Sort.SortOrder.ASC;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.Iterator;
@@ -17,6 +19,7 @@ import java.util.PriorityQueue;
 import lombok.Builder;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
+import lombok.RequiredArgsConstructor;
 import lombok.Singular;
 import lombok.ToString;
 import org.apache.commons.lang3.tuple.Pair;
@@ -24,12 +27,17 @@ import org.opensearch.sql.ast.tree.Sort.SortOption;
 import org.opensearch.sql.data.model.ExprValue;
 import org.opensearch.sql.data.utils.ExprValueOrdering;
 import org.opensearch.sql.expression.Expression;
+import org.opensearch.sql.monitor.MemoryTracker;
 import org.opensearch.sql.planner.physical.SortOperator.Sorter.SorterBuilder;
+import org.opensearch.sql.storage.bindingtuple.BindingTuple;
 
 /**
  * Sort Operator.The input data is sorted by the sort fields in the {@link SortOperator#sortList}.
  * The sort field is specified by the {@link Expression} with {@link SortOption}.
  * The count indicate how many sorted result should been return.
+ * The sort fields are evaluated once per row and kept as {@link SortKey}. If
+ * {@link SortOperator#topN} is set, only the first N rows are kept in a bounded heap. The rows
+ * kept are reserved from the memory account of the query.
  */
 @ToString
 @EqualsAndHashCode(callSuper = false)
@@ -39,6 +47,12 @@ public class SortOperator extends PhysicalPlan {
 
   @Getter
   private final List<Pair<SortOption, Expression>> sortList;
+
+  /**
+   * Number of leading sorted rows required by the parent, null if all rows are required.
+   */
+  @Getter
+  private final Integer topN;
   @EqualsAndHashCode.Exclude
   private final Sorter sorter;
   @EqualsAndHashCode.Exclude
@@ -52,8 +66,21 @@ public class SortOperator extends PhysicalPlan {
    */
   public SortOperator(
       PhysicalPlan input, List<Pair<SortOption, Expression>> sortList) {
+    this(input, sortList, null);
+  }
+
+  /**
+   * Sort Operator Constructor.
+   * @param input input {@link PhysicalPlan}
+   * @param sortList list of sort sort field.
+   *                 The sort field is specified by the {@link Expression} with {@link SortOption}
+   * @param topN number of leading sorted rows to return, null to return all rows
+   */
+  public SortOperator(
+      PhysicalPlan input, List<Pair<SortOption, Expression>> sortList, Integer topN) {
     this.input = input;
     this.sortList = sortList;
+    this.topN = topN;
     SorterBuilder sorterBuilder = Sorter.builder();
     for (Pair<SortOption, Expression> pair : sortList) {
       SortOption option = pair.getLeft();
@@ -76,12 +103,7 @@ public class SortOperator extends PhysicalPlan {
   @Override
   public void open() {
     super.open();
-    PriorityQueue<ExprValue> sorted = new PriorityQueue<>(1, sorter::compare);
-    while (input.hasNext()) {
-      sorted.add(input.next());
-    }
-
-    iterator = iterator(sorted);
+    iterator = (topN == null) ? sortAll() : sortTopN(topN);
   }
 
   @Override
@@ -99,20 +121,56 @@ public class SortOperator extends PhysicalPlan {
     return iterator.next();
   }
 
+  private Iterator<ExprValue> sortAll() {
+    List<SortKey> sorted = new ArrayList<>();
+    while (input.hasNext()) {
+      SortKey key = sorter.key(input.next());
+      reserveMemory(key.estimateSize());
+      sorted.add(key);
+    }
+    sorted.sort(sorter);
+    return sorted.stream().map(SortKey::getRow).iterator();
+  }
+
+  private Iterator<ExprValue> sortTopN(int size) {
+    // the head of the reversed heap is the largest row kept so far, i.e. the next one to evict
+    PriorityQueue<SortKey> heap = new PriorityQueue<>(sorter.reversed());
+    while (input.hasNext()) {
+      SortKey key = sorter.key(input.next());
+      reserveMemory(key.estimateSize());
+      heap.add(key);
+      if (heap.size() > size) {
+        releaseMemory(heap.poll().estimateSize());
+      }
+    }
+    SortKey[] sorted = new SortKey[heap.size()];
+    for (int i = sorted.length - 1; i >= 0; i--) {
+      sorted[i] = heap.poll();
+    }
+    return Arrays.stream(sorted).map(SortKey::getRow).iterator();
+  }
+
   @Builder
-  public static class Sorter implements Comparator<ExprValue> {
+  public static class Sorter implements Comparator<SortKey> {
     @Singular
     private final List<Pair<Expression, Comparator<ExprValue>>> comparators;
 
+    /**
+     * Evaluate the sort fields of the row once, so they are not evaluated again per comparison.
+     */
+    public SortKey key(ExprValue row) {
+      BindingTuple tuple = row.bindingTuples();
+      ExprValue[] values = new ExprValue[comparators.size()];
+      for (int i = 0; i < values.length; i++) {
+        values[i] = comparators.get(i).getKey().valueOf(tuple);
+      }
+      return new SortKey(values, row);
+    }
+
     @Override
-    public int compare(ExprValue o1, ExprValue o2) {
-      for (Pair<Expression, Comparator<ExprValue>> comparator : comparators) {
-        Expression expression = comparator.getKey();
-        int result =
-            comparator
-                .getValue()
-                .compare(
-                    expression.valueOf(o1.bindingTuples()), expression.valueOf(o2.bindingTuples()));
+    public int compare(SortKey k1, SortKey k2) {
+      for (int i = 0; i < comparators.size(); i++) {
+        int result = comparators.get(i).getValue().compare(k1.values[i], k2.values[i]);
         if (result != 0) {
           return result;
         }
@@ -121,17 +179,24 @@ public class SortOperator extends PhysicalPlan {
     }
   }
 
-  private Iterator<ExprValue> iterator(PriorityQueue<ExprValue> result) {
-    return new Iterator<ExprValue>() {
-      @Override
-      public boolean hasNext() {
-        return !result.isEmpty();
-      }
-
-      @Override
-      public ExprValue next() {
-        return result.poll();
+  /**
+   * Row with its evaluated sort field values.
+   */
+  @RequiredArgsConstructor
+  public static class SortKey {
+    private final ExprValue[] values;
+    @Getter
+    private final ExprValue row;
+
+    /**
+     * Estimate the heap size of the row and its sort field values.
+     */
+    public long estimateSize() {
+      long size = 32L + MemoryTracker.estimateSize(row);
+      for (ExprValue value : values) {
+        size += 8L + MemoryTracker.estimateSize(value);
       }
-    };
+      return size;
+    }
   }
 }
@@ -6,9 +6,9 @@
 
 package org.opensearch.sql.planner.physical;
 
-import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.Iterators;
 import com.google.common.collect.PeekingIterator;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import lombok.EqualsAndHashCode;
@@ -16,10 +16,12 @@ import lombok.Getter;
 import lombok.ToString;
 import org.opensearch.sql.data.model.ExprTupleValue;
 import org.opensearch.sql.data.model.ExprValue;
+import org.opensearch.sql.data.model.TupleSchema;
 import org.opensearch.sql.expression.NamedExpression;
 import org.opensearch.sql.expression.window.WindowDefinition;
 import org.opensearch.sql.expression.window.WindowFunctionExpression;
 import org.opensearch.sql.expression.window.frame.WindowFrame;
+import org.opensearch.sql.monitor.MemoryTracker;
 
 /**
  * Physical operator for window function computation.
@@ -49,6 +51,17 @@ public class WindowOperator extends PhysicalPlan {
   @ToString.Exclude
   private final PeekingIterator<ExprValue> peekingIterator;
 
+  /**
+   * Schema of the last input row, for which the output schema below was resolved.
+   */
+  @EqualsAndHashCode.Exclude
+  @ToString.Exclude
+  private TupleSchema inputSchema;
+
+  @EqualsAndHashCode.Exclude
+  @ToString.Exclude
+  private TupleSchema outputSchema;
+
   /**
    * Initialize window operator.
    * @param input             child operator
@@ -62,7 +75,7 @@ public class WindowOperator extends PhysicalPlan {
     this.windowFunction = windowFunction;
     this.windowDefinition = windowDefinition;
     this.windowFrame = createWindowFrame();
-    this.peekingIterator = Iterators.peekingIterator(input);
+    this.peekingIterator = Iterators.peekingIterator(Iterators.transform(input, this::retain));
   }
 
   @Override
@@ -83,29 +96,42 @@ public class WindowOperator extends PhysicalPlan {
   @Override
   public ExprValue next() {
     windowFrame.load(peekingIterator);
+    // rows are reserved when pulled from input and released once the frame drops them
+    long droppedBytes = 0;
+    for (ExprValue row : windowFrame.dropped()) {
+      droppedBytes += MemoryTracker.estimateSize(row);
+    }
+    if (droppedBytes > 0) {
+      releaseMemory(droppedBytes);
+    }
     return enrichCurrentRowByWindowFunctionResult();
   }
 
+  private ExprValue retain(ExprValue row) {
+    reserveMemory(MemoryTracker.estimateSize(row));
+    return row;
+  }
+
   private WindowFrame createWindowFrame() {
     return ((WindowFunctionExpression) windowFunction.getDelegated())
         .createWindowFrame(windowDefinition);
   }
 
   private ExprValue enrichCurrentRowByWindowFunctionResult() {
-    ImmutableMap.Builder<String, ExprValue> mapBuilder = new ImmutableMap.Builder<>();
-    preserveAllOriginalColumns(mapBuilder);
-    addWindowFunctionResultColumn(mapBuilder);
-    return ExprTupleValue.fromExprValueMap(mapBuilder.build());
-  }
-
-  private void preserveAllOriginalColumns(ImmutableMap.Builder<String, ExprValue> mapBuilder) {
-    ExprValue inputValue = windowFrame.current();
-    inputValue.tupleValue().forEach(mapBuilder::put);
-  }
-
-  private void addWindowFunctionResultColumn(ImmutableMap.Builder<String, ExprValue> mapBuilder) {
-    ExprValue exprValue = windowFunction.valueOf(windowFrame);
-    mapBuilder.put(windowFunction.getName(), exprValue);
+    ExprTupleValue currentRow = (ExprTupleValue) windowFrame.current();
+    TupleSchema schema = currentRow.schemaLike(inputSchema);
+    if (schema != inputSchema) {
+      List<String> names = new ArrayList<>(schema.getNames());
+      names.add(windowFunction.getName());
+      outputSchema = new TupleSchema(names);
+      inputSchema = schema;
+    }
+
+    // preserve all original columns and add window function result column at the end
+    ExprValue[] values = new ExprValue[outputSchema.size()];
+    currentRow.copyValuesTo(values, 0);
+    values[values.length - 1] = windowFunction.valueOf(windowFrame);
+    return ExprTupleValue.fromRow(outputSchema, values);
   }
 
 }
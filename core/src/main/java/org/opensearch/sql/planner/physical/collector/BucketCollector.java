@@ -6,18 +6,20 @@
 package org.opensearch.sql.planner.physical.collector;
 
 import com.google.common.collect.ImmutableList;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
-import java.util.TreeMap;
-import java.util.function.Supplier;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import org.opensearch.sql.data.model.ExprCollectionValue;
 import org.opensearch.sql.data.model.ExprTupleValue;
 import org.opensearch.sql.data.model.ExprValue;
+import org.opensearch.sql.data.model.TupleSchema;
 import org.opensearch.sql.expression.NamedExpression;
 import org.opensearch.sql.storage.bindingtuple.BindingTuple;
 
@@ -33,21 +35,29 @@ public class BucketCollector implements Collector {
   private final NamedExpression bucketExpr;
 
   /**
-   * Collector Constructor.
+   * Collector Constructor, which is given the key of the new bucket.
    */
-  private final Supplier<Collector> supplier;
+  private final Function<ExprValue, Collector> supplier;
 
   /**
-   * Map from bucketKey to nested collector sorted by key to make sure
-   * final result is in order after traversal.
+   * Map from bucketKey to nested collector. Keys are hashed while collecting and sorted only once
+   * in {@link #results()} to make sure final result is in order after traversal.
    */
-  private final Map<ExprValue, Collector> collectorMap = new TreeMap<>();
+  private final Map<ExprValue, Collector> collectorMap = new HashMap<>();
 
   /**
    * Bucket Index.
    */
   private int bucketIndex = 0;
 
+  /**
+   * Schema of the last result of the nested collectors, for which the bucket schema below was
+   * resolved. All the results of the nested collectors have the same fields.
+   */
+  private TupleSchema resultSchema;
+
+  private TupleSchema bucketSchema;
+
   /**
    * Collect Bucket from {@link BindingTuple}.
    * If bucket not exist, create new bucket and {@link Collector}.
@@ -57,9 +67,7 @@ public class BucketCollector implements Collector {
    */
   @Override
   public void collect(BindingTuple input) {
-    ExprValue bucketKey = bucketKey(input);
-    collectorMap.putIfAbsent(bucketKey, supplier.get());
-    collectorMap.get(bucketKey).collect(input);
+    collectorMap.computeIfAbsent(bucketKey(input), supplier).collect(input);
   }
 
   /**
@@ -79,13 +87,12 @@ public class BucketCollector implements Collector {
   @Override
   public List<ExprValue> results() {
     ExprValue[] buckets = allocateBuckets();
-    for (Map.Entry<ExprValue, Collector> entry : collectorMap.entrySet()) {
+    List<Map.Entry<ExprValue, Collector>> sortedEntries = new ArrayList<>(collectorMap.entrySet());
+    sortedEntries.sort(Map.Entry.comparingByKey());
+    for (Map.Entry<ExprValue, Collector> entry : sortedEntries) {
       ImmutableList.Builder<ExprValue> builder = new ImmutableList.Builder<>();
       for (ExprValue tuple : entry.getValue().results()) {
-        LinkedHashMap<String, ExprValue> tmp = new LinkedHashMap<>();
-        tmp.put(bucketExpr.getNameOrAlias(), entry.getKey());
-        tmp.putAll(tuple.tupleValue());
-        builder.add(ExprTupleValue.fromExprValueMap(tmp));
+        builder.add(bucketRow(entry.getKey(), (ExprTupleValue) tuple));
       }
       buckets[locateBucket(entry.getKey())] = new ExprCollectionValue(builder.build());
     }
@@ -95,6 +102,32 @@ public class BucketCollector implements Collector {
         .collect(Collectors.toList());
   }
 
+  /**
+   * Prepend the bucket key to a result of the nested collector.
+   */
+  private ExprTupleValue bucketRow(ExprValue bucketKey, ExprTupleValue tuple) {
+    String bucketName = bucketExpr.getNameOrAlias();
+    TupleSchema schema = tuple.schemaLike(resultSchema);
+    if (schema.ordinalOf(bucketName) >= 0) {
+      // the nested result overrides the bucket key
+      LinkedHashMap<String, ExprValue> tmp = new LinkedHashMap<>();
+      tmp.put(bucketName, bucketKey);
+      tmp.putAll(tuple.tupleValue());
+      return ExprTupleValue.fromExprValueMap(tmp);
+    }
+    if (schema != resultSchema) {
+      List<String> names = new ArrayList<>();
+      names.add(bucketName);
+      names.addAll(schema.getNames());
+      bucketSchema = new TupleSchema(names);
+      resultSchema = schema;
+    }
+    ExprValue[] values = new ExprValue[bucketSchema.size()];
+    values[0] = bucketKey;
+    tuple.copyValuesTo(values, 1);
+    return ExprTupleValue.fromRow(bucketSchema, values);
+  }
+
   /**
    * Allocates Buckets for building results.
    *
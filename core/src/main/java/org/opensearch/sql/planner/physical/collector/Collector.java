@@ -7,6 +7,7 @@ package org.opensearch.sql.planner.physical.collector;
 
 import com.google.common.collect.ImmutableList;
 import java.util.List;
+import java.util.function.Consumer;
 import lombok.experimental.UtilityClass;
 import org.opensearch.sql.data.model.ExprValue;
 import org.opensearch.sql.expression.NamedExpression;
@@ -38,16 +39,22 @@ public interface Collector {
   @UtilityClass
   class Builder {
     /**
-     * build {@link Collector}.
+     * build {@link Collector}, which notifies the listener with the key of every new bucket.
      */
     public static Collector build(List<NamedExpression> buckets,
-                                  List<NamedAggregator> aggregators) {
+                                  List<NamedAggregator> aggregators,
+                                  Consumer<ExprValue> newBucketListener) {
       if (buckets.isEmpty()) {
         return new MetricCollector(aggregators);
       } else {
+        List<NamedExpression> subBuckets =
+            ImmutableList.copyOf(buckets.subList(1, buckets.size()));
         return new BucketCollector(
             buckets.get(0),
-            () -> build(ImmutableList.copyOf(buckets.subList(1, buckets.size())), aggregators));
+            key -> {
+              newBucketListener.accept(key);
+              return build(subBuckets, aggregators, newBucketListener);
+            });
       }
     }
   }
@@ -7,9 +7,17 @@
 package org.opensearch.sql.utils;
 
 import java.util.List;
+import java.util.Set;
 import java.util.stream.Collectors;
 import lombok.experimental.UtilityClass;
 import org.opensearch.sql.expression.Expression;
+import org.opensearch.sql.expression.ExpressionNodeVisitor;
+import org.opensearch.sql.expression.FunctionExpression;
+import org.opensearch.sql.expression.NamedArgumentExpression;
+import org.opensearch.sql.expression.aggregation.Aggregator;
+import org.opensearch.sql.expression.aggregation.NamedAggregator;
+import org.opensearch.sql.expression.function.BuiltinFunctionName;
+import org.opensearch.sql.expression.function.FunctionName;
 
 /**
  * Utils for {@link Expression}.
@@ -19,10 +27,76 @@ public class ExpressionUtils {
 
   public static String PATH_SEP = ".";
 
+  /**
+   * Functions which return different values on every evaluation.
+   */
+  public static final Set<FunctionName> NON_DETERMINISTIC_FUNCTIONS = Set.of(
+      BuiltinFunctionName.RAND.getName(),
+      BuiltinFunctionName.SYSDATE.getName());
+
+  /**
+   * Functions which return the start time of the query, so the same value within a query only.
+   * UNIX_TIMESTAMP without argument returns the current time too.
+   */
+  public static final Set<FunctionName> CURRENT_TIME_FUNCTIONS = Set.of(
+      BuiltinFunctionName.NOW.getName(),
+      BuiltinFunctionName.CURDATE.getName(),
+      BuiltinFunctionName.CURRENT_DATE.getName(),
+      BuiltinFunctionName.CURTIME.getName(),
+      BuiltinFunctionName.CURRENT_TIME.getName(),
+      BuiltinFunctionName.LOCALTIME.getName(),
+      BuiltinFunctionName.CURRENT_TIMESTAMP.getName(),
+      BuiltinFunctionName.LOCALTIMESTAMP.getName(),
+      BuiltinFunctionName.UTC_DATE.getName(),
+      BuiltinFunctionName.UTC_TIME.getName(),
+      BuiltinFunctionName.UTC_TIMESTAMP.getName());
+
   /**
    * Format the list of {@link Expression}.
    */
   public static String format(List<Expression> expressionList) {
     return expressionList.stream().map(Expression::toString).collect(Collectors.joining(","));
   }
+
+  /**
+   * Whether the expression has the same value on the same input in every query, i.e. it calls
+   * neither a non-deterministic function nor a function of the current time.
+   */
+  public static boolean isRepeatable(Expression expression) {
+    return expression.accept(new ExpressionNodeVisitor<Boolean, Object>() {
+      @Override
+      public Boolean visitNode(Expression node, Object context) {
+        return true;
+      }
+
+      @Override
+      public Boolean visitFunction(FunctionExpression node, Object context) {
+        return isRepeatable(node.getFunctionName(), node.getArguments());
+      }
+
+      @Override
+      public Boolean visitAggregator(Aggregator<?> node, Object context) {
+        return isRepeatable(node.getFunctionName(), node.getArguments());
+      }
+
+      @Override
+      public Boolean visitNamedAggregator(NamedAggregator node, Object context) {
+        return isRepeatable(node.getFunctionName(), node.getArguments());
+      }
+
+      @Override
+      public Boolean visitNamedArgument(NamedArgumentExpression node, Object context) {
+        return isRepeatable(node.getValue());
+      }
+    }, null);
+  }
+
+  private static boolean isRepeatable(FunctionName name, List<Expression> arguments) {
+    if (NON_DETERMINISTIC_FUNCTIONS.contains(name)
+        || CURRENT_TIME_FUNCTIONS.contains(name)
+        || (name.equals(BuiltinFunctionName.UNIX_TIMESTAMP.getName()) && arguments.isEmpty())) {
+      return false;
+    }
+    return arguments.stream().allMatch(ExpressionUtils::isRepeatable);
+  }
 }
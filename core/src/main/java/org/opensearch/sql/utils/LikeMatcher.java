@@ -0,0 +1,218 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+
+package org.opensearch.sql.utils;
+
+import java.io.Serializable;
+import java.util.regex.Pattern;
+import lombok.EqualsAndHashCode;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+
+/**
+ * Matcher of a wildcard pattern of LIKE. Percent (%) character matches any characters and
+ * underscore (_) character matches a single character, case-insensitively for US-ASCII. The
+ * common pattern shapes, i.e. exact, prefix%, %suffix and %infix%, are matched without regex.
+ * Any other pattern is translated into a regex.
+ */
+public abstract class LikeMatcher implements Serializable {
+
+  private static final char DEFAULT_ESCAPE = '\\';
+
+  /**
+   * Match text against the pattern.
+   *
+   * @param text text to match
+   * @return true if the whole text matches the pattern
+   */
+  public abstract boolean matches(String text);
+
+  /**
+   * Compile a LIKE pattern into a matcher.
+   *
+   * @param pattern LIKE pattern
+   * @return matcher of the pattern
+   */
+  public static LikeMatcher compile(String pattern) {
+    int start = 0;
+    while (start < pattern.length() && pattern.charAt(start) == '%') {
+      start++;
+    }
+    int end = pattern.length();
+    while (end > start && pattern.charAt(end - 1) == '%') {
+      end--;
+    }
+    String literal = pattern.substring(start, end);
+    if (isPlainLiteral(literal)) {
+      return new LiteralMatcher(literal, start > 0, end < pattern.length());
+    }
+    return new RegexMatcher(
+        Pattern.compile(patternToRegex(pattern), Pattern.CASE_INSENSITIVE));
+  }
+
+  /**
+   * Whether the string matches only itself in the regex of {@link #patternToRegex(String)}, so
+   * it can be compared without regex. The wildcards in regex never match line terminators, which
+   * {@link LiteralMatcher} takes care of, and the surrogates are matched by code point in regex.
+   */
+  private static boolean isPlainLiteral(String literal) {
+    for (int i = 0; i < literal.length(); i++) {
+      char c = literal.charAt(i);
+      switch (c) {
+        case '%':
+        case '_':
+        case DEFAULT_ESCAPE:
+        case '?':
+        case '{':
+        case '}':
+          return false;
+        default:
+          if (isLineTerminator(c) || Character.isSurrogate(c)) {
+            return false;
+          }
+      }
+    }
+    return true;
+  }
+
+  private static boolean isLineTerminator(char c) {
+    // next line, line separator and paragraph separator
+    return c == '\n' || c == '\r' || c == '\u0085' || c == '\u2028' || c == '\u2029';
+  }
+
+  private static char toLowerAscii(char c) {
+    return (c >= 'A' && c <= 'Z') ? (char) (c + ('a' - 'A')) : c;
+  }
+
+  /**
+   * Matcher of a literal with optional wildcards before and after it.
+   */
+  @EqualsAndHashCode(callSuper = false)
+  @RequiredArgsConstructor
+  @ToString
+  static class LiteralMatcher extends LikeMatcher {
+
+    private final String literal;
+
+    /** Any characters are allowed before the literal. */
+    private final boolean anyPrefix;
+
+    /** Any characters are allowed after the literal. */
+    private final boolean anySuffix;
+
+    @Override
+    public boolean matches(String text) {
+      int length = text.length();
+      int literalLength = literal.length();
+      if (!anyPrefix && !anySuffix) {
+        return length == literalLength && regionMatches(text, 0);
+      }
+      if (length < literalLength || hasLineTerminator(text)) {
+        return false;
+      }
+      if (!anyPrefix) {
+        return regionMatches(text, 0);
+      }
+      if (!anySuffix) {
+        return regionMatches(text, length - literalLength);
+      }
+      for (int offset = 0; offset <= length - literalLength; offset++) {
+        if (regionMatches(text, offset)) {
+          return true;
+        }
+      }
+      return false;
+    }
+
+    private boolean regionMatches(String text, int offset) {
+      for (int i = 0; i < literal.length(); i++) {
+        if (toLowerAscii(text.charAt(offset + i)) != toLowerAscii(literal.charAt(i))) {
+          return false;
+        }
+      }
+      return true;
+    }
+
+    private static boolean hasLineTerminator(String text) {
+      for (int i = 0; i < text.length(); i++) {
+        if (isLineTerminator(text.charAt(i))) {
+          return true;
+        }
+      }
+      return false;
+    }
+  }
+
+  /**
+   * Matcher of a pattern translated into regex.
+   */
+  @RequiredArgsConstructor
+  @ToString
+  static class RegexMatcher extends LikeMatcher {
+
+    private final Pattern pattern;
+
+    @Override
+    public boolean matches(String text) {
+      return pattern.matcher(text).matches();
+    }
+  }
+
+  /**
+   * Translate a LIKE pattern into regex.
+   */
+  static String patternToRegex(String patternString) {
+    StringBuilder regex = new StringBuilder(patternString.length() * 2);
+    regex.append('^');
+    boolean escaped = false;
+    for (char currentChar : patternString.toCharArray()) {
+      if (!escaped && currentChar == DEFAULT_ESCAPE) {
+        escaped = true;
+      } else {
+        switch (currentChar) {
+          case '%':
+            if (escaped) {
+              regex.append("%");
+            } else {
+              regex.append(".*");
+            }
+            escaped = false;
+            break;
+          case '_':
+            if (escaped) {
+              regex.append("_");
+            } else {
+              regex.append('.');
+            }
+            escaped = false;
+            break;
+          default:
+            switch (currentChar) {
+              case '\\':
+              case '^':
+              case '$':
+              case '.':
+              case '*':
+              case '[':
+              case ']':
+              case '(':
+              case ')':
+              case '|':
+              case '+':
+                regex.append('\\');
+                break;
+              default:
+            }
+
+            regex.append(currentChar);
+            escaped = false;
+        }
+      }
+    }
+    regex.append('$');
+    return regex.toString();
+  }
+}
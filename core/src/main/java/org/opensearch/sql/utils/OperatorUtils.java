@@ -6,6 +6,11 @@
 
 package org.opensearch.sql.utils;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.util.concurrent.UncheckedExecutionException;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
 import java.util.regex.Pattern;
 import lombok.experimental.UtilityClass;
 import org.opensearch.sql.data.model.ExprBooleanValue;
@@ -14,6 +19,21 @@ import org.opensearch.sql.data.model.ExprValue;
 
 @UtilityClass
 public class OperatorUtils {
+
+  /**
+   * Maximum number of compiled patterns of each kind kept in cache.
+   */
+  private static final int PATTERN_CACHE_SIZE = 1000;
+
+  /**
+   * Compiled patterns shared by all queries, for the patterns which are not literals.
+   */
+  private static final Cache<String, LikeMatcher> LIKE_MATCHERS =
+      CacheBuilder.newBuilder().maximumSize(PATTERN_CACHE_SIZE).build();
+
+  private static final Cache<String, Pattern> REGEXP_PATTERNS =
+      CacheBuilder.newBuilder().maximumSize(PATTERN_CACHE_SIZE).build();
+
   /**
    * Wildcard pattern matcher util.
    * Percent (%) character for wildcard,
@@ -22,10 +42,7 @@ public class OperatorUtils {
    * @return if text matches pattern returns true; else return false.
    */
   public static ExprBooleanValue matches(ExprValue text, ExprValue pattern) {
-    return ExprBooleanValue.of(
-        Pattern.compile(patternToRegex(pattern.stringValue()), Pattern.CASE_INSENSITIVE)
-            .matcher(text.stringValue())
-            .matches());
+    return ExprBooleanValue.of(likeMatcher(pattern.stringValue()).matches(text.stringValue()));
   }
 
   /**
@@ -34,61 +51,43 @@ public class OperatorUtils {
    * @return if text matches pattern returns true; else return false.
    */
   public static ExprIntegerValue matchesRegexp(ExprValue text, ExprValue pattern) {
-    return new ExprIntegerValue(Pattern.compile(pattern.stringValue()).matcher(text.stringValue())
-                    .matches() ? 1 : 0);
+    return matchesRegexp(text, regexpPattern(pattern.stringValue()));
+  }
+
+  /**
+   * Checks if text matches compiled regular expression pattern.
+   * @param pattern compiled pattern to match.
+   * @return if text matches pattern returns 1; else return 0.
+   */
+  public static ExprIntegerValue matchesRegexp(ExprValue text, Pattern pattern) {
+    return new ExprIntegerValue(pattern.matcher(text.stringValue()).matches() ? 1 : 0);
   }
 
-  private static final char DEFAULT_ESCAPE = '\\';
+  /**
+   * Get the compiled matcher of a wildcard pattern from cache, or compile and cache it if absent.
+   * @param pattern wildcard pattern.
+   * @return compiled matcher.
+   */
+  public static LikeMatcher likeMatcher(String pattern) {
+    return get(LIKE_MATCHERS, pattern, () -> LikeMatcher.compile(pattern));
+  }
 
-  private static String patternToRegex(String patternString) {
-    StringBuilder regex = new StringBuilder(patternString.length() * 2);
-    regex.append('^');
-    boolean escaped = false;
-    for (char currentChar : patternString.toCharArray()) {
-      if (!escaped && currentChar == DEFAULT_ESCAPE) {
-        escaped = true;
-      } else {
-        switch (currentChar) {
-          case '%':
-            if (escaped) {
-              regex.append("%");
-            } else {
-              regex.append(".*");
-            }
-            escaped = false;
-            break;
-          case '_':
-            if (escaped) {
-              regex.append("_");
-            } else {
-              regex.append('.');
-            }
-            escaped = false;
-            break;
-          default:
-            switch (currentChar) {
-              case '\\':
-              case '^':
-              case '$':
-              case '.':
-              case '*':
-              case '[':
-              case ']':
-              case '(':
-              case ')':
-              case '|':
-              case '+':
-                regex.append('\\');
-                break;
-              default:
-            }
+  /**
+   * Get the compiled regular expression from cache, or compile and cache it if absent.
+   * An invalid pattern is not cached and its PatternSyntaxException is thrown.
+   * @param pattern regular expression.
+   * @return compiled pattern.
+   */
+  public static Pattern regexpPattern(String pattern) {
+    return get(REGEXP_PATTERNS, pattern, () -> Pattern.compile(pattern));
+  }
 
-            regex.append(currentChar);
-            escaped = false;
-        }
-      }
+  private static <V> V get(Cache<String, V> cache, String pattern, Callable<V> compiler) {
+    try {
+      return cache.get(pattern, compiler);
+    } catch (ExecutionException | UncheckedExecutionException e) {
+      // compiler only throws unchecked exceptions, which are rethrown as they are
+      throw (RuntimeException) e.getCause();
     }
-    regex.append('$');
-    return regex.toString();
   }
 }
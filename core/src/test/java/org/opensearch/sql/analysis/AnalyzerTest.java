@@ -1164,6 +1164,62 @@ class AnalyzerTest extends AnalyzerTestBase {
                         ImmutablePair.of(DEFAULT_ASC, AstDSL.qualifiedName("integer_value")))))));
   }
 
+  /**
+   * SELECT
+   *   ROW_NUMBER() OVER (PARTITION BY string_value ORDER BY integer_value),
+   *   RANK() OVER (PARTITION BY integer_value),
+   *   DENSE_RANK() OVER (PARTITION BY string_value ORDER BY integer_value)
+   * FROM test.
+   */
+  @SuppressWarnings("unchecked")
+  @Test
+  public void window_functions_with_same_window_definition_share_sort() {
+    WindowDefinition stringPartition = new WindowDefinition(
+        ImmutableList.of(DSL.ref("string_value", STRING)),
+        ImmutableList.of(ImmutablePair.of(DEFAULT_ASC, DSL.ref("integer_value", INTEGER))));
+    assertAnalyzeEqual(
+        LogicalPlanDSL.project(
+            LogicalPlanDSL.window(
+                LogicalPlanDSL.sort(
+                    LogicalPlanDSL.window(
+                        LogicalPlanDSL.window(
+                            LogicalPlanDSL.sort(
+                                LogicalPlanDSL.relation("test", table),
+                                ImmutablePair.of(DEFAULT_ASC, DSL.ref("string_value", STRING)),
+                                ImmutablePair.of(DEFAULT_ASC, DSL.ref("integer_value", INTEGER))),
+                            DSL.named("row_number", DSL.rowNumber()),
+                            stringPartition),
+                        DSL.named("dense_rank", DSL.denseRank()),
+                        stringPartition),
+                    ImmutablePair.of(DEFAULT_ASC, DSL.ref("integer_value", INTEGER))),
+                DSL.named("rank", DSL.rank()),
+                new WindowDefinition(
+                    ImmutableList.of(DSL.ref("integer_value", INTEGER)),
+                    ImmutableList.of())),
+            DSL.named("row_number", DSL.ref("row_number", INTEGER)),
+            DSL.named("rank", DSL.ref("rank", INTEGER)),
+            DSL.named("dense_rank", DSL.ref("dense_rank", INTEGER))),
+        AstDSL.project(
+            AstDSL.relation("test"),
+            AstDSL.alias("row_number",
+                AstDSL.window(
+                    AstDSL.function("row_number"),
+                    Collections.singletonList(AstDSL.qualifiedName("string_value")),
+                    Collections.singletonList(
+                        ImmutablePair.of(DEFAULT_ASC, AstDSL.qualifiedName("integer_value"))))),
+            AstDSL.alias("rank",
+                AstDSL.window(
+                    AstDSL.function("rank"),
+                    Collections.singletonList(AstDSL.qualifiedName("integer_value")),
+                    Collections.emptyList())),
+            AstDSL.alias("dense_rank",
+                AstDSL.window(
+                    AstDSL.function("dense_rank"),
+                    Collections.singletonList(AstDSL.qualifiedName("string_value")),
+                    Collections.singletonList(
+                        ImmutablePair.of(DEFAULT_ASC, AstDSL.qualifiedName("integer_value")))))));
+  }
+
   /**
    * SELECT name FROM (
    * SELECT name, age FROM test
@@ -7,6 +7,7 @@
 package org.opensearch.sql.analysis;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.opensearch.sql.ast.tree.Sort.NullOrder.NULL_FIRST;
 import static org.opensearch.sql.ast.tree.Sort.NullOrder.NULL_LAST;
 import static org.opensearch.sql.ast.tree.Sort.SortOption.DEFAULT_ASC;
@@ -24,9 +25,14 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.opensearch.sql.ast.dsl.AstDSL;
 import org.opensearch.sql.ast.expression.Alias;
+import org.opensearch.sql.ast.expression.WindowFrameSpec;
+import org.opensearch.sql.ast.expression.WindowFrameSpec.FrameBound;
+import org.opensearch.sql.ast.expression.WindowFrameSpec.FrameUnit;
 import org.opensearch.sql.ast.tree.Sort.SortOption;
+import org.opensearch.sql.exception.SemanticCheckException;
 import org.opensearch.sql.expression.DSL;
 import org.opensearch.sql.expression.window.WindowDefinition;
+import org.opensearch.sql.expression.window.aggregation.AggregateWindowFunction;
 import org.opensearch.sql.planner.logical.LogicalPlan;
 import org.opensearch.sql.planner.logical.LogicalPlanDSL;
 import org.opensearch.sql.planner.logical.LogicalRelation;
@@ -130,4 +136,208 @@ class WindowExpressionAnalyzerTest extends AnalyzerTestBase {
     });
   }
 
+  @SuppressWarnings("unchecked")
+  @Test
+  void should_share_sort_operator_of_windows_below_if_sort_items_are_its_prefix() {
+    LogicalPlan windowBelow =
+        LogicalPlanDSL.window(
+            LogicalPlanDSL.sort(
+                LogicalPlanDSL.relation("test", table),
+                ImmutablePair.of(DEFAULT_ASC, DSL.ref("string_value", STRING)),
+                ImmutablePair.of(DEFAULT_DESC, DSL.ref("integer_value", INTEGER))),
+            DSL.named("row_number", DSL.rowNumber()),
+            new WindowDefinition(
+                ImmutableList.of(DSL.ref("string_value", STRING)),
+                ImmutableList.of(
+                    ImmutablePair.of(DEFAULT_DESC, DSL.ref("integer_value", INTEGER)))));
+
+    assertEquals(
+        LogicalPlanDSL.window(
+            windowBelow,
+            DSL.named("rank", DSL.rank()),
+            new WindowDefinition(
+                ImmutableList.of(DSL.ref("string_value", STRING)),
+                ImmutableList.of())),
+        new WindowExpressionAnalyzer(expressionAnalyzer, windowBelow).analyze(
+            AstDSL.alias(
+                "rank",
+                AstDSL.window(
+                    AstDSL.function("rank"),
+                    ImmutableList.of(AstDSL.qualifiedName("string_value")),
+                    ImmutableList.of())),
+            analysisContext));
+  }
+
+  @SuppressWarnings("unchecked")
+  @Test
+  void should_replace_sort_operator_of_windows_below_if_its_sort_items_are_prefix() {
+    LogicalPlan windowBelow =
+        LogicalPlanDSL.window(
+            LogicalPlanDSL.sort(
+                LogicalPlanDSL.relation("test", table),
+                ImmutablePair.of(DEFAULT_ASC, DSL.ref("string_value", STRING))),
+            DSL.named("row_number", DSL.rowNumber()),
+            new WindowDefinition(
+                ImmutableList.of(DSL.ref("string_value", STRING)),
+                ImmutableList.of()));
+
+    assertEquals(
+        LogicalPlanDSL.window(
+            LogicalPlanDSL.window(
+                LogicalPlanDSL.sort(
+                    LogicalPlanDSL.relation("test", table),
+                    ImmutablePair.of(DEFAULT_ASC, DSL.ref("string_value", STRING)),
+                    ImmutablePair.of(DEFAULT_DESC, DSL.ref("integer_value", INTEGER))),
+                DSL.named("row_number", DSL.rowNumber()),
+                new WindowDefinition(
+                    ImmutableList.of(DSL.ref("string_value", STRING)),
+                    ImmutableList.of())),
+            DSL.named("rank", DSL.rank()),
+            new WindowDefinition(
+                ImmutableList.of(DSL.ref("string_value", STRING)),
+                ImmutableList.of(
+                    ImmutablePair.of(DEFAULT_DESC, DSL.ref("integer_value", INTEGER))))),
+        new WindowExpressionAnalyzer(expressionAnalyzer, windowBelow).analyze(
+            AstDSL.alias(
+                "rank",
+                AstDSL.window(
+                    AstDSL.function("rank"),
+                    ImmutableList.of(AstDSL.qualifiedName("string_value")),
+                    ImmutableList.of(
+                        ImmutablePair.of(DEFAULT_DESC, AstDSL.qualifiedName("integer_value"))))),
+            analysisContext));
+  }
+
+  @SuppressWarnings("unchecked")
+  @Test
+  void should_generate_sort_operator_if_windows_below_sorted_differently_or_not_sorted() {
+    LogicalPlan sortedWindow =
+        LogicalPlanDSL.window(
+            LogicalPlanDSL.sort(
+                LogicalPlanDSL.relation("test", table),
+                ImmutablePair.of(DEFAULT_ASC, DSL.ref("string_value", STRING))),
+            DSL.named("row_number", DSL.rowNumber()),
+            new WindowDefinition(
+                ImmutableList.of(DSL.ref("string_value", STRING)),
+                ImmutableList.of()));
+    LogicalPlan unsortedWindow =
+        LogicalPlanDSL.window(
+            LogicalPlanDSL.relation("test", table),
+            DSL.named("row_number", DSL.rowNumber()),
+            new WindowDefinition(ImmutableList.of(), ImmutableList.of()));
+
+    for (LogicalPlan windowBelow : ImmutableList.of(sortedWindow, unsortedWindow)) {
+      assertEquals(
+          LogicalPlanDSL.window(
+              LogicalPlanDSL.sort(
+                  windowBelow,
+                  ImmutablePair.of(DEFAULT_ASC, DSL.ref("integer_value", INTEGER))),
+              DSL.named("rank", DSL.rank()),
+              new WindowDefinition(
+                  ImmutableList.of(DSL.ref("integer_value", INTEGER)),
+                  ImmutableList.of())),
+          new WindowExpressionAnalyzer(expressionAnalyzer, windowBelow).analyze(
+              AstDSL.alias(
+                  "rank",
+                  AstDSL.window(
+                      AstDSL.function("rank"),
+                      ImmutableList.of(AstDSL.qualifiedName("integer_value")),
+                      ImmutableList.of())),
+              analysisContext));
+    }
+  }
+
+  @Test
+  void can_analyze_window_frame() {
+    WindowFrameSpec frame =
+        new WindowFrameSpec(FrameUnit.RANGE, FrameBound.preceding(10), FrameBound.CURRENT_ROW);
+    assertEquals(
+        LogicalPlanDSL.window(
+            LogicalPlanDSL.sort(
+                LogicalPlanDSL.relation("test", table),
+                ImmutablePair.of(DEFAULT_ASC, DSL.ref("integer_value", INTEGER))),
+            DSL.named("avg",
+                new AggregateWindowFunction(DSL.avg(DSL.ref("integer_value", INTEGER)))),
+            new WindowDefinition(
+                ImmutableList.of(),
+                ImmutableList.of(ImmutablePair.of(DEFAULT_ASC, DSL.ref("integer_value", INTEGER))),
+                frame)),
+        analyzer.analyze(
+            AstDSL.alias(
+                "avg",
+                AstDSL.window(
+                    AstDSL.aggregate("avg", AstDSL.qualifiedName("integer_value")),
+                    ImmutableList.of(),
+                    ImmutableList.of(
+                        ImmutablePair.of(DEFAULT_ASC, AstDSL.qualifiedName("integer_value"))),
+                    frame)),
+            analysisContext));
+  }
+
+  @Test
+  void can_analyze_window_frame_without_offset_or_in_rows() {
+    analyzeFrame(
+        new WindowFrameSpec(FrameUnit.RANGE, FrameBound.CURRENT_ROW, FrameBound.CURRENT_ROW),
+        "string_value");
+    analyzeFrame(
+        new WindowFrameSpec(FrameUnit.ROWS, FrameBound.preceding(1), FrameBound.following(1)),
+        "string_value");
+    analyzeFrame(
+        new WindowFrameSpec(
+            FrameUnit.RANGE, FrameBound.UNBOUNDED_PRECEDING, FrameBound.following(1)),
+        "integer_value");
+  }
+
+  @Test
+  void should_fail_if_window_frame_starts_after_it_ends() {
+    assertThrows(SemanticCheckException.class, () -> analyzeFrame(
+        new WindowFrameSpec(
+            FrameUnit.ROWS, FrameBound.UNBOUNDED_FOLLOWING, FrameBound.UNBOUNDED_FOLLOWING),
+        "integer_value"));
+    assertThrows(SemanticCheckException.class, () -> analyzeFrame(
+        new WindowFrameSpec(
+            FrameUnit.ROWS, FrameBound.UNBOUNDED_PRECEDING, FrameBound.UNBOUNDED_PRECEDING),
+        "integer_value"));
+
+    SemanticCheckException exception = assertThrows(SemanticCheckException.class,
+        () -> analyzeFrame(
+            new WindowFrameSpec(FrameUnit.ROWS, FrameBound.CURRENT_ROW, FrameBound.preceding(1)),
+            "integer_value"));
+    assertEquals("Invalid window frame: ROWS BETWEEN CURRENT ROW AND 1 PRECEDING",
+        exception.getMessage());
+  }
+
+  @Test
+  void should_fail_if_range_frame_with_offset_has_no_single_numeric_sort_key() {
+    SemanticCheckException exception = assertThrows(SemanticCheckException.class,
+        () -> analyzeFrame(
+            new WindowFrameSpec(FrameUnit.RANGE, FrameBound.preceding(1), FrameBound.CURRENT_ROW),
+            "string_value"));
+    assertEquals("Window frame RANGE BETWEEN 1 PRECEDING AND CURRENT ROW requires exactly one "
+        + "sort key of numeric type", exception.getMessage());
+
+    assertThrows(SemanticCheckException.class, () -> analyzer.analyze(
+        AstDSL.alias(
+            "avg",
+            AstDSL.window(
+                AstDSL.aggregate("avg", AstDSL.qualifiedName("integer_value")),
+                ImmutableList.of(),
+                ImmutableList.of(),
+                new WindowFrameSpec(
+                    FrameUnit.RANGE, FrameBound.CURRENT_ROW, FrameBound.following(1)))),
+        analysisContext));
+  }
+
+  private LogicalPlan analyzeFrame(WindowFrameSpec frame, String sortField) {
+    return analyzer.analyze(
+        AstDSL.alias(
+            "avg",
+            AstDSL.window(
+                AstDSL.aggregate("avg", AstDSL.qualifiedName("integer_value")),
+                ImmutableList.of(),
+                ImmutableList.of(ImmutablePair.of(DEFAULT_ASC, AstDSL.qualifiedName(sortField))),
+                frame)),
+        analysisContext);
+  }
+
 }
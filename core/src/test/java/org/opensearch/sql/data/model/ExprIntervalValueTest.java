@@ -30,6 +30,13 @@ public class ExprIntervalValueTest {
     assertTrue(v1.equals(v2));
   }
 
+  @Test
+  public void equal_values_have_same_hash_code() {
+    ExprValue v1 = new ExprIntervalValue(Duration.ofMinutes(1));
+    ExprValue v2 = ExprValueUtils.intervalValue(Duration.ofSeconds(60));
+    assertEquals(v1.hashCode(), v2.hashCode());
+  }
+
   @Test
   public void compare() {
     ExprIntervalValue v1 = new ExprIntervalValue(Period.ofDays(1));
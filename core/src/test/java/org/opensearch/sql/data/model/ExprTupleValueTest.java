@@ -9,11 +9,18 @@ package org.opensearch.sql.data.model;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.opensearch.sql.utils.ComparisonUtil.compare;
 
 import com.google.common.collect.ImmutableMap;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
 import org.junit.jupiter.api.Test;
 import org.opensearch.sql.exception.ExpressionEvaluationException;
 
@@ -56,4 +63,85 @@ class ExprTupleValueTest {
         () -> compare(tupleValue, tupleValue));
     assertEquals("ExprTupleValue instances are not comparable", exception.getMessage());
   }
+
+  @Test
+  public void compact_row_equal_to_map_backed_tuple() {
+    ExprValue tupleValue =
+        ExprValueUtils.tupleValue(ImmutableMap.of("integer_value", 2, "string_value", "a"));
+    ExprTupleValue row = ExprTupleValue.fromRow(
+        new TupleSchema(List.of("integer_value", "string_value")),
+        new ExprValue[] {ExprValueUtils.integerValue(2), ExprValueUtils.stringValue("a")});
+
+    assertEquals(tupleValue, row);
+    assertEquals(row, tupleValue);
+    assertEquals(tupleValue.hashCode(), row.hashCode());
+    assertEquals(tupleValue.toString(), row.toString());
+    assertEquals(tupleValue.value(), row.value());
+    assertEquals(tupleValue.tupleValue(), row.tupleValue());
+    assertEquals(ExprValueUtils.stringValue("a"), row.keyValue("string_value"));
+    assertTrue(row.keyValue("missing").isMissing());
+  }
+
+  @Test
+  public void compact_row_map_view() {
+    ExprTupleValue row = ExprTupleValue.fromRow(
+        new TupleSchema(List.of("integer_value")),
+        new ExprValue[] {ExprValueUtils.integerValue(2)});
+    Map<String, ExprValue> map = row.tupleValue();
+
+    assertTrue(map.containsKey("integer_value"));
+    assertFalse(map.containsKey("missing"));
+    assertFalse(map.containsKey(1));
+    assertEquals(ExprValueUtils.integerValue(2), map.get("integer_value"));
+    assertNull(map.get("missing"));
+    assertNull(map.get(1));
+    List<String> keys = new ArrayList<>();
+    map.forEach((key, value) -> keys.add(key));
+    assertEquals(List.of("integer_value"), keys);
+
+    Iterator<Map.Entry<String, ExprValue>> iterator = map.entrySet().iterator();
+    iterator.next();
+    assertThrows(NoSuchElementException.class, iterator::next);
+    assertThrows(UnsupportedOperationException.class,
+        () -> map.put("integer_value", ExprValueUtils.integerValue(3)));
+  }
+
+  @Test
+  public void compact_row_size_must_match_schema() {
+    TupleSchema schema = new TupleSchema(List.of("integer_value"));
+    IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+        () -> ExprTupleValue.fromRow(schema, new ExprValue[0]));
+    assertEquals("Row has 0 values but schema has 1 fields", exception.getMessage());
+  }
+
+  @Test
+  public void reuse_schema_with_same_names() {
+    ExprTupleValue tupleValue = (ExprTupleValue)
+        ExprValueUtils.tupleValue(ImmutableMap.of("integer_value", 2, "string_value", "a"));
+    TupleSchema schema = new TupleSchema(List.of("integer_value", "string_value"));
+    TupleSchema otherSchema = new TupleSchema(List.of("string_value", "integer_value"));
+
+    assertNull(tupleValue.getSchema());
+    assertSame(schema, tupleValue.schemaLike(schema));
+    assertEquals(schema, tupleValue.schemaLike(otherSchema));
+    assertEquals(schema, tupleValue.schemaLike(null));
+
+    ExprTupleValue row = tupleValue.withSchema(schema);
+    assertSame(schema, row.getSchema());
+    assertSame(schema, row.schemaLike(otherSchema));
+    assertEquals(ExprValueUtils.stringValue("a"), row.valueAt(1));
+  }
+
+  @Test
+  public void rename_compact_row() {
+    ExprTupleValue row = ExprTupleValue.fromRow(
+        new TupleSchema(List.of("integer_value")),
+        new ExprValue[] {ExprValueUtils.integerValue(2)});
+    ExprTupleValue renamed = row.withSchema(new TupleSchema(List.of("renamed")));
+
+    assertEquals(ExprValueUtils.tupleValue(ImmutableMap.of("renamed", 2)), renamed);
+    ExprValue[] values = new ExprValue[2];
+    renamed.copyValuesTo(values, 1);
+    assertEquals(ExprValueUtils.integerValue(2), values[1]);
+  }
 }
@@ -0,0 +1,48 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+
+package org.opensearch.sql.data.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+class TupleSchemaTest {
+
+  private final TupleSchema schema = new TupleSchema(List.of("name", "age"));
+
+  @Test
+  void resolve_ordinals() {
+    assertEquals(2, schema.size());
+    assertEquals(List.of("name", "age"), schema.getNames());
+    assertEquals(0, schema.ordinalOf("name"));
+    assertEquals(1, schema.ordinalOf("age"));
+    assertEquals(-1, schema.ordinalOf("city"));
+    assertEquals("age", schema.nameAt(1));
+  }
+
+  @Test
+  void compare_names() {
+    assertTrue(schema.hasNames(List.of("name", "age")));
+    assertFalse(schema.hasNames(List.of("age", "name")));
+    assertFalse(schema.hasNames(List.of("name")));
+    assertEquals(new TupleSchema(List.of("name", "age")), schema);
+  }
+
+  @Test
+  void reject_duplicate_names() {
+    IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+        () -> new TupleSchema(List.of("name", "age", "name")));
+    assertEquals("Multiple entries with same key: name", exception.getMessage());
+  }
+}
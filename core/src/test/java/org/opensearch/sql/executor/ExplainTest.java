@@ -31,6 +31,7 @@ import static org.opensearch.sql.planner.physical.PhysicalPlanDSL.sort;
 import static org.opensearch.sql.planner.physical.PhysicalPlanDSL.values;
 import static org.opensearch.sql.planner.physical.PhysicalPlanDSL.window;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -39,6 +40,9 @@ import org.apache.commons.lang3.tuple.Pair;
 import org.junit.jupiter.api.DisplayNameGeneration;
 import org.junit.jupiter.api.DisplayNameGenerator;
 import org.junit.jupiter.api.Test;
+import org.opensearch.sql.ast.expression.WindowFrameSpec;
+import org.opensearch.sql.ast.expression.WindowFrameSpec.FrameBound;
+import org.opensearch.sql.ast.expression.WindowFrameSpec.FrameUnit;
 import org.opensearch.sql.ast.tree.Sort;
 import org.opensearch.sql.data.model.ExprValue;
 import org.opensearch.sql.executor.ExecutionEngine.ExplainResponse;
@@ -51,7 +55,9 @@ import org.opensearch.sql.expression.NamedExpression;
 import org.opensearch.sql.expression.ReferenceExpression;
 import org.opensearch.sql.expression.aggregation.NamedAggregator;
 import org.opensearch.sql.expression.window.WindowDefinition;
+import org.opensearch.sql.expression.window.aggregation.AggregateWindowFunction;
 import org.opensearch.sql.planner.physical.PhysicalPlan;
+import org.opensearch.sql.planner.physical.ProfilePlan;
 import org.opensearch.sql.storage.TableScanOperator;
 
 @DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
@@ -154,6 +160,34 @@ class ExplainTest extends ExpressionTestBase {
         explain.apply(plan));
   }
 
+  @Test
+  void can_explain_window_with_frame() {
+    List<Pair<Sort.SortOption, Expression>> sortList = List.of(
+        ImmutablePair.of(DEFAULT_ASC, ref("age", INTEGER)));
+    WindowFrameSpec frame = new WindowFrameSpec(
+        FrameUnit.ROWS, FrameBound.preceding(2), FrameBound.CURRENT_ROW);
+
+    PhysicalPlan plan = window(tableScan,
+        named(new AggregateWindowFunction(DSL.avg(ref("balance", INTEGER)))),
+        new WindowDefinition(List.of(), sortList, frame));
+
+    assertEquals(
+        new ExplainResponse(
+            new ExplainResponseNode(
+                "WindowOperator",
+                Map.of(
+                    "function", "avg(balance)",
+                    "definition", Map.of(
+                        "partitionBy", "[]",
+                        "sortList", Map.of(
+                            "age", Map.of(
+                                "sortOrder", "ASC",
+                                "nullOrder", "NULL_FIRST")),
+                        "frame", "ROWS BETWEEN 2 PRECEDING AND CURRENT ROW")),
+                singletonList(tableScan.explainNode()))),
+        explain.apply(plan));
+  }
+
   @Test
   void can_explain_other_operators() {
     ReferenceExpression[] removeList = {ref("state", STRING)};
@@ -243,6 +277,60 @@ class ExplainTest extends ExpressionTestBase {
     );
   }
 
+  @Test
+  void can_explain_profiled_plan_with_statistics() {
+    ProfilePlan values = new ProfilePlan(
+        values(singletonList(literal(1)), singletonList(literal(2)), singletonList(literal(3))));
+    ProfilePlan plan = new ProfilePlan(limit(values, 1, 1));
+    plan.open();
+    while (plan.hasNext()) {
+      plan.next();
+    }
+    plan.close();
+
+    ExplainResponseNode root = explain.apply(plan).getRoot();
+    assertEquals("LimitOperator", root.getName());
+    assertEquals(
+        List.of("inputRows", "outputRows", "openTimeMillis", "nextTimeMillis", "selfTimeMillis",
+            "peakMemoryBytes"),
+        new ArrayList<>(root.getStatistics().keySet()));
+    assertEquals(2L, root.getStatistics().get("inputRows"));
+    assertEquals(1L, root.getStatistics().get("outputRows"));
+    assertEquals(0L, root.getStatistics().get("peakMemoryBytes"));
+
+    ExplainResponseNode child = root.getChildren().get(0);
+    assertEquals("ValuesOperator", child.getName());
+    assertEquals(0L, child.getStatistics().get("inputRows"));
+    assertEquals(2L, child.getStatistics().get("outputRows"));
+  }
+
+  @Test
+  void can_explain_profiled_plan_with_operator_specific_statistics() {
+    Explain explainWithStatistics = new Explain() {
+      @Override
+      public ExplainResponseNode visitTableScan(TableScanOperator node, Object context) {
+        return explain(node, context, explainNode ->
+            explainNode.setStatistics(Map.of("fetchedBatches", 1)));
+      }
+    };
+    PhysicalPlan plan = new ProfilePlan(limit(new ProfilePlan(tableScan), 10, 0));
+
+    ExplainResponseNode root = explainWithStatistics.apply(plan).getRoot();
+    assertEquals(0L, root.getStatistics().get("inputRows"));
+    ExplainResponseNode scan = root.getChildren().get(0);
+    assertEquals(1, scan.getStatistics().get("fetchedBatches"));
+    assertEquals(0L, scan.getStatistics().get("outputRows"));
+  }
+
+  @Test
+  void can_explain_profiled_plan_with_input_not_profiled() {
+    PhysicalPlan plan = new ProfilePlan(limit(tableScan, 10, 0));
+
+    ExplainResponseNode root = explain.apply(plan).getRoot();
+    assertEquals(0L, root.getStatistics().get("inputRows"));
+    assertEquals(singletonList(tableScan.explainNode()), root.getChildren());
+  }
+
   private static class FakeTableScan extends TableScanOperator {
     @Override
     public boolean hasNext() {
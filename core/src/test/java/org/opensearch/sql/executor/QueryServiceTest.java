@@ -25,6 +25,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.opensearch.sql.analysis.Analyzer;
 import org.opensearch.sql.ast.tree.UnresolvedPlan;
 import org.opensearch.sql.common.response.ResponseListener;
+import org.opensearch.sql.exception.SemanticCheckException;
 import org.opensearch.sql.executor.pagination.Cursor;
 import org.opensearch.sql.planner.PlanContext;
 import org.opensearch.sql.planner.Planner;
@@ -99,6 +100,27 @@ class QueryServiceTest {
         .handledByExplainOnFailure();
   }
 
+  @Test
+  public void testExplainAnalyzeShouldPass() {
+    queryService()
+        .explainAnalyzeSuccess()
+        .handledByExplainAnalyzeOnResponse();
+  }
+
+  @Test
+  public void explainAnalyzeWithIllegalQueryShouldBeCaughtByHandler() {
+    queryService()
+        .explainAnalyzeFail()
+        .handledByExplainAnalyzeOnFailure(IllegalStateException.class);
+  }
+
+  @Test
+  public void explainAnalyzeIsNotSupportedByDefault() {
+    queryService()
+        .withExecutionEngine(new DefaultExecutionEngine())
+        .handledByExplainAnalyzeOnFailure(SemanticCheckException.class);
+  }
+
   @Test
   public void analyzeExceptionShouldBeCached() {
     queryService()
@@ -184,6 +206,36 @@ class QueryServiceTest {
       return this;
     }
 
+    Helper explainAnalyzeSuccess() {
+      doAnswer(
+          invocation -> {
+            ResponseListener<ExecutionEngine.ExplainResponse> listener =
+                invocation.getArgument(1);
+            listener.onResponse(
+                new ExecutionEngine.ExplainResponse(
+                    new ExecutionEngine.ExplainResponseNode("test")));
+            return null;
+          })
+          .when(executionEngine)
+          .explainAnalyze(any(), any());
+
+      return this;
+    }
+
+    Helper explainAnalyzeFail() {
+      doThrow(new IllegalStateException("illegal state exception"))
+          .when(executionEngine)
+          .explainAnalyze(any(), any());
+
+      return this;
+    }
+
+    Helper withExecutionEngine(ExecutionEngine engine) {
+      queryService = new QueryService(analyzer, engine, planner);
+
+      return this;
+    }
+
 
     void handledByOnResponse() {
       ResponseListener<ExecutionEngine.QueryResponse> responseListener = new ResponseListener<>() {
@@ -251,5 +303,37 @@ class QueryServiceTest {
           });
     }
 
+    void handledByExplainAnalyzeOnResponse() {
+      queryService.explainAnalyze(
+          ast,
+          new ResponseListener<>() {
+            @Override
+            public void onResponse(ExecutionEngine.ExplainResponse pplQueryResponse) {
+              assertNotNull(pplQueryResponse);
+            }
+
+            @Override
+            public void onFailure(Exception e) {
+              fail();
+            }
+          });
+    }
+
+    void handledByExplainAnalyzeOnFailure(Class<? extends Exception> exceptionType) {
+      queryService.explainAnalyze(
+          ast,
+          new ResponseListener<>() {
+            @Override
+            public void onResponse(ExecutionEngine.ExplainResponse pplQueryResponse) {
+              fail();
+            }
+
+            @Override
+            public void onFailure(Exception e) {
+              assertTrue(exceptionType.isInstance(e));
+            }
+          });
+    }
+
   }
 }
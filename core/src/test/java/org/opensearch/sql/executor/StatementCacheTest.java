@@ -0,0 +1,80 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.executor;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+import org.opensearch.sql.ast.expression.QualifiedName;
+import org.opensearch.sql.ast.statement.Query;
+import org.opensearch.sql.ast.statement.Statement;
+import org.opensearch.sql.ast.tree.Relation;
+
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+class StatementCacheTest {
+
+  private final StatementCache statementCache = new StatementCache();
+
+  private final AtomicInteger buildCount = new AtomicInteger();
+
+  @Test
+  void build_statement_once_for_same_query() {
+    Statement first = statementCache.get("source=test", false, 0, this::build);
+    Statement second = statementCache.get("source=test", false, 0, this::build);
+
+    assertSame(first, second);
+    assertEquals(1, buildCount.get());
+    assertEquals(1, statementCache.stats().hitCount());
+    assertEquals(1, statementCache.stats().missCount());
+  }
+
+  @Test
+  void build_statement_for_each_distinct_request() {
+    Statement statement = statementCache.get("source=test", false, 0, this::build);
+
+    assertNotSame(statement, statementCache.get("source=other", false, 0, this::build));
+    Statement explain = statementCache.get("source=test", true, 0, this::build);
+    assertNotSame(statement, explain);
+    assertNotSame(explain, statementCache.get("source=test", true, true, 0, this::build));
+    assertNotSame(statement, statementCache.get("source=test", false, 10, this::build));
+    assertEquals(5, buildCount.get());
+  }
+
+  @Test
+  void evict_statement_beyond_cache_size() {
+    StatementCache smallCache = new StatementCache(1);
+    smallCache.get("source=test", false, 0, this::build);
+    smallCache.get("source=other", false, 0, this::build);
+    smallCache.get("source=test", false, 0, this::build);
+
+    assertEquals(3, buildCount.get());
+    assertEquals(2, smallCache.stats().evictionCount());
+  }
+
+  @Test
+  void do_not_cache_build_failure() {
+    Supplier<Statement> failure = () -> {
+      throw new IllegalArgumentException("syntax error");
+    };
+    assertThrows(IllegalArgumentException.class,
+        () -> statementCache.get("source=", false, 0, failure));
+
+    statementCache.get("source=", false, 0, this::build);
+    assertEquals(1, buildCount.get());
+  }
+
+  private Statement build() {
+    buildCount.incrementAndGet();
+    return new Query(new Relation(QualifiedName.of("test")), 0);
+  }
+}
@@ -44,6 +44,16 @@ public class ExplainPlanTest {
     verify(queryPlan, times(1)).explain(explainListener);
   }
 
+  @Test
+  public void executeAnalyze() {
+    doNothing().when(queryPlan).explainAnalyze(any());
+
+    ExplainPlan explainPlan = new ExplainPlan(queryId, queryPlan, true, explainListener);
+    explainPlan.execute();
+
+    verify(queryPlan, times(1)).explainAnalyze(explainListener);
+  }
+
   @Test
   public void explainThrowException() {
     ExplainPlan explainPlan = new ExplainPlan(queryId, queryPlan, explainListener);
@@ -56,4 +66,16 @@ public class ExplainPlanTest {
             });
     assertEquals("explain query can not been explained.", unsupportedExplainException.getMessage());
   }
+
+  @Test
+  public void explainAnalyzeThrowException() {
+    ExplainPlan explainPlan = new ExplainPlan(queryId, queryPlan, explainListener);
+
+    UnsupportedOperationException unsupportedExplainException =
+        assertThrows(
+            UnsupportedOperationException.class,
+            () -> explainPlan.explainAnalyze(explainListener));
+    assertEquals("ExplainPlan does not support explain analyze",
+        unsupportedExplainException.getMessage());
+  }
 }
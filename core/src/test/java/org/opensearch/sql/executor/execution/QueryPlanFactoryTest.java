@@ -79,6 +79,16 @@ class QueryPlanFactoryTest {
     assertTrue(queryExecution instanceof ExplainPlan);
   }
 
+  @Test
+  public void create_from_explain_analyze_should_success() {
+    Statement query = new Explain(new Query(plan, 0), true);
+    AbstractPlan queryExecution =
+        factory.create(query, Optional.empty(), Optional.of(explainListener));
+    queryExecution.execute();
+
+    verify(queryService).explainAnalyze(plan, explainListener);
+  }
+
   @Test
   public void create_from_cursor_should_success() {
     AbstractPlan queryExecution = factory.create("", false,
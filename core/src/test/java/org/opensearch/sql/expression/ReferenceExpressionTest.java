@@ -41,6 +41,7 @@ import org.opensearch.sql.data.model.ExprStringValue;
 import org.opensearch.sql.data.model.ExprTupleValue;
 import org.opensearch.sql.data.model.ExprValue;
 import org.opensearch.sql.data.model.ExprValueUtils;
+import org.opensearch.sql.data.model.TupleSchema;
 import org.opensearch.sql.data.type.ExprCoreType;
 
 @DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
@@ -137,6 +138,44 @@ class ReferenceExpressionTest extends ExpressionTestBase {
     assertEquals("First message in array", actualValue.stringValue());
   }
 
+  @Test
+  public void resolve_compact_row() {
+    ExprTupleValue tuple = tuple();
+    ExprTupleValue row = tuple.withSchema(tuple.schemaLike(null));
+
+    assertEquals("bob smith", ref("name", STRING).resolve(row).stringValue());
+    assertEquals(1990, new ReferenceExpression("project.year", INTEGER).resolve(row)
+        .integerValue());
+    assertEquals("WA", new ReferenceExpression("address.state", STRING).resolve(row)
+        .stringValue());
+    assertTrue(new ReferenceExpression("missing_field", STRING).resolve(row).isMissing());
+    assertTrue(new ReferenceExpression("address.local.state", STRING).resolve(row).isMissing());
+  }
+
+  @Test
+  public void resolve_compact_rows_of_different_schemas() {
+    ReferenceExpression expr = ref("name", STRING);
+    TupleSchema schema = new TupleSchema(ImmutableList.of("id", "name"));
+    TupleSchema otherSchema = new TupleSchema(ImmutableList.of("name"));
+
+    assertEquals(stringValue("a"), expr.resolve(
+        ExprTupleValue.fromRow(schema, new ExprValue[] {integerValue(1), stringValue("a")})));
+    assertEquals(stringValue("b"), expr.resolve(
+        ExprTupleValue.fromRow(schema, new ExprValue[] {integerValue(2), stringValue("b")})));
+    assertEquals(stringValue("c"), expr.resolve(
+        ExprTupleValue.fromRow(otherSchema, new ExprValue[] {stringValue("c")})));
+  }
+
+  @Test
+  public void resolve_path_in_compact_row_if_whole_path_value_is_missing() {
+    ReferenceExpression expr = new ReferenceExpression("project.year", INTEGER);
+    TupleSchema schema = new TupleSchema(ImmutableList.of("project.year", "project"));
+    ExprTupleValue row = ExprTupleValue.fromRow(schema, new ExprValue[] {
+        LITERAL_MISSING, ExprValueUtils.tupleValue(ImmutableMap.of("year", 2020))});
+
+    assertEquals(integerValue(2020), expr.resolve(row));
+  }
+
   /**
    * {
    *   "name": "bob smith"
@@ -140,4 +140,16 @@ public class AggregationTest extends ExpressionTestBase {
     }
     return state.result();
   }
+
+  protected ExprValue aggregationWithRemoval(Aggregator aggregator, List<ExprValue> tuples,
+                                             List<ExprValue> removedTuples) {
+    AggregationState state = aggregator.create();
+    for (ExprValue tuple : tuples) {
+      aggregator.iterate(tuple.bindingTuples(), state);
+    }
+    for (ExprValue tuple : removedTuples) {
+      aggregator.remove(tuple.bindingTuples(), state);
+    }
+    return state.result();
+  }
 }
@@ -7,6 +7,7 @@
 package org.opensearch.sql.expression.aggregation;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.opensearch.sql.data.type.ExprCoreType.DATE;
@@ -154,4 +155,13 @@ class AvgAggregatorTest extends AggregationTest {
     assertEquals(String.format("avg(*(%s, %d))", DSL.ref("integer_value", INTEGER), 10),
         avgAggregator.toString());
   }
+
+  @Test
+  public void remove_from_avg() {
+    assertTrue(DSL.avg(DSL.ref("integer_value", INTEGER)).isRemovable());
+    assertFalse(DSL.avg(DSL.ref("date_value", DATE)).isRemovable());
+    ExprValue result = aggregationWithRemoval(DSL.avg(DSL.ref("integer_value", INTEGER)),
+        tuples, tuples.subList(0, 2));
+    assertEquals(3.5, result.value());
+  }
 }
@@ -7,6 +7,7 @@
 package org.opensearch.sql.expression.aggregation;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.opensearch.sql.data.type.ExprCoreType.DATE;
@@ -137,4 +138,13 @@ public class MaxAggregatorTest extends AggregationTest {
     assertEquals(String.format("max(+(%s, %d))", DSL.ref("integer_value", INTEGER), 10),
         maxAggregator.toString());
   }
+
+  @Test
+  public void test_remove() {
+    Aggregator maxAggregator = DSL.max(DSL.ref("integer_value", INTEGER));
+    assertFalse(maxAggregator.isRemovable());
+    UnsupportedOperationException exception = assertThrows(UnsupportedOperationException.class,
+        () -> aggregationWithRemoval(maxAggregator, tuples, tuples.subList(0, 1)));
+    assertEquals("can't remove value from aggregator: max", exception.getMessage());
+  }
 }
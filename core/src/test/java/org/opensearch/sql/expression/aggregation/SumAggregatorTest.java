@@ -121,4 +121,29 @@ class SumAggregatorTest extends AggregationTest {
     assertEquals(String.format("sum(*(%s, %d))", DSL.ref("integer_value", INTEGER), 10),
         sumAggregator.toString());
   }
+
+  @Test
+  public void remove_from_sum() {
+    assertTrue(DSL.sum(DSL.ref("integer_value", INTEGER)).isRemovable());
+    assertEquals(7, aggregationWithRemoval(DSL.sum(DSL.ref("integer_value", INTEGER)),
+        tuples, tuples.subList(0, 2)).value());
+    assertEquals(7.0, aggregationWithRemoval(DSL.sum(DSL.ref("double_value", DOUBLE)),
+        tuples, tuples.subList(0, 2)).value());
+  }
+
+  @Test
+  public void remove_all_from_sum() {
+    assertTrue(aggregationWithRemoval(DSL.sum(DSL.ref("integer_value", INTEGER)),
+        tuples_with_null_and_missing, tuples_with_null_and_missing).isNull());
+    assertTrue(aggregationWithRemoval(DSL.sum(DSL.ref("double_value", DOUBLE)),
+        tuples_with_null_and_missing, tuples_with_null_and_missing).isNull());
+  }
+
+  @Test
+  public void remove_from_filtered_sum() {
+    ExprValue result = aggregationWithRemoval(DSL.sum(DSL.ref("integer_value", INTEGER))
+        .condition(DSL.greater(DSL.ref("integer_value", INTEGER), DSL.literal(1))),
+        tuples, tuples.subList(0, 2));
+    assertEquals(7, result.value());
+  }
 }
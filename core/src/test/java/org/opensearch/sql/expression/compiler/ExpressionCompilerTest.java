@@ -0,0 +1,270 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+
+package org.opensearch.sql.expression.compiler;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.opensearch.sql.data.model.ExprValueUtils.LITERAL_MISSING;
+import static org.opensearch.sql.data.model.ExprValueUtils.LITERAL_NULL;
+import static org.opensearch.sql.data.model.ExprValueUtils.booleanValue;
+import static org.opensearch.sql.data.model.ExprValueUtils.doubleValue;
+import static org.opensearch.sql.data.model.ExprValueUtils.floatValue;
+import static org.opensearch.sql.data.model.ExprValueUtils.integerValue;
+import static org.opensearch.sql.data.model.ExprValueUtils.longValue;
+import static org.opensearch.sql.data.type.ExprCoreType.BOOLEAN;
+import static org.opensearch.sql.data.type.ExprCoreType.DOUBLE;
+import static org.opensearch.sql.data.type.ExprCoreType.FLOAT;
+import static org.opensearch.sql.data.type.ExprCoreType.INTEGER;
+import static org.opensearch.sql.data.type.ExprCoreType.LONG;
+import static org.opensearch.sql.data.type.ExprCoreType.STRING;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BinaryOperator;
+import java.util.function.Function;
+import java.util.stream.Stream;
+import lombok.SneakyThrows;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.opensearch.sql.data.model.ExprValue;
+import org.opensearch.sql.data.type.ExprCoreType;
+import org.opensearch.sql.data.type.ExprType;
+import org.opensearch.sql.expression.DSL;
+import org.opensearch.sql.expression.Expression;
+import org.opensearch.sql.expression.ExpressionNodeVisitor;
+import org.opensearch.sql.expression.FunctionExpression;
+import org.opensearch.sql.expression.ReferenceExpression;
+import org.opensearch.sql.expression.env.Environment;
+import org.opensearch.sql.expression.function.FunctionName;
+
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+class ExpressionCompilerTest {
+
+  private static final Map<String, ExprValue> VALUES = new HashMap<>();
+
+  private static final Environment<Expression, ExprValue> VALUE_ENV =
+      expr -> VALUES.get(((ReferenceExpression) expr).getAttr());
+
+  static {
+    putValues(INTEGER, integerValue(7), integerValue(-3), integerValue(0),
+        integerValue(Integer.MAX_VALUE));
+    putValues(LONG, longValue(7L), longValue(-3L), longValue(0L), longValue(Long.MAX_VALUE));
+    putValues(FLOAT, floatValue(7.5F), floatValue(-3F), floatValue(0F), floatValue(Float.NaN));
+    putValues(DOUBLE, doubleValue(7.5D), doubleValue(-3D), doubleValue(0D),
+        doubleValue(Double.NaN));
+    VALUES.put("boolean_true", booleanValue(true));
+    VALUES.put("boolean_false", booleanValue(false));
+    VALUES.put("boolean_null", LITERAL_NULL);
+    VALUES.put("boolean_missing", LITERAL_MISSING);
+  }
+
+  private static void putValues(ExprType type, ExprValue... values) {
+    for (int i = 0; i < values.length; i++) {
+      VALUES.put(name(type, "value" + i), values[i]);
+    }
+    VALUES.put(name(type, "null"), LITERAL_NULL);
+    VALUES.put(name(type, "missing"), LITERAL_MISSING);
+  }
+
+  private static String name(ExprType type, String suffix) {
+    return type.typeName().toLowerCase() + "_" + suffix;
+  }
+
+  private static List<Expression> refs(ExprType type) {
+    List<Expression> refs = new ArrayList<>();
+    for (String name : VALUES.keySet()) {
+      if (name.startsWith(type.typeName().toLowerCase() + "_")) {
+        refs.add(DSL.ref(name, type));
+      }
+    }
+    return refs;
+  }
+
+  private static Stream<Arguments> binaryFunctions() {
+    Map<String, Function<Expression[], FunctionExpression>> functions = new HashMap<>();
+    functions.put("add", DSL::add);
+    functions.put("addFunction", DSL::addFunction);
+    functions.put("subtract", DSL::subtract);
+    functions.put("subtractFunction", DSL::subtractFunction);
+    functions.put("multiply", DSL::multiply);
+    functions.put("multiplyFunction", DSL::multiplyFunction);
+    functions.put("divide", DSL::divide);
+    functions.put("divideFunction", DSL::divideFunction);
+    functions.put("mod", DSL::mod);
+    functions.put("modulus", DSL::modulus);
+    functions.put("modulusFunction", DSL::modulusFunction);
+    functions.put("equal", DSL::equal);
+    functions.put("notequal", DSL::notequal);
+    functions.put("less", DSL::less);
+    functions.put("lte", DSL::lte);
+    functions.put("greater", DSL::greater);
+    functions.put("gte", DSL::gte);
+    return functions.entrySet().stream().flatMap(function ->
+        Stream.of(INTEGER, LONG, FLOAT, DOUBLE).map(type ->
+            Arguments.of(function.getKey(), type, function.getValue())));
+  }
+
+  @ParameterizedTest(name = "{0}({1}, {1})")
+  @MethodSource("binaryFunctions")
+  void compile_numeric_function(String name, ExprCoreType type,
+                                Function<Expression[], FunctionExpression> function) {
+    for (Expression left : refs(type)) {
+      for (Expression right : refs(type)) {
+        assertCompiled(function.apply(new Expression[] {left, right}));
+      }
+    }
+  }
+
+  @Test
+  void compile_logical_function() {
+    List<BinaryOperator<Expression>> functions = List.of(DSL::and, DSL::or);
+    for (BinaryOperator<Expression> function : functions) {
+      for (Expression left : refs(BOOLEAN)) {
+        for (Expression right : refs(BOOLEAN)) {
+          assertCompiled(function.apply(left, right));
+        }
+      }
+    }
+    for (Expression arg : refs(BOOLEAN)) {
+      assertCompiled(DSL.not(arg));
+    }
+  }
+
+  @Test
+  void compile_nested_function() {
+    Expression integer = DSL.ref(name(INTEGER, "value0"), INTEGER);
+    Expression doubleRef = DSL.ref(name(DOUBLE, "value1"), DOUBLE);
+    Expression nullDouble = DSL.ref(name(DOUBLE, "null"), DOUBLE);
+
+    assertCompiled(DSL.and(
+        DSL.greater(DSL.add(DSL.multiply(integer, DSL.literal(2)), DSL.abs(integer)),
+            DSL.literal(20)),
+        DSL.or(DSL.less(DSL.castDouble(integer), doubleRef),
+            DSL.not(DSL.equal(DSL.subtract(doubleRef, nullDouble), DSL.literal(0D))))));
+    assertCompiled(DSL.divide(DSL.castDouble(integer), DSL.subtract(doubleRef, doubleRef)));
+  }
+
+  @Test
+  void do_not_compile_unsupported_expression() {
+    Expression integer = DSL.ref(name(INTEGER, "value0"), INTEGER);
+    Expression bool = DSL.ref("boolean_true", BOOLEAN);
+    Expression string = DSL.ref("string", STRING);
+
+    List<Expression> expressions = List.of(
+        integer,
+        DSL.literal(1),
+        DSL.abs(DSL.add(integer, integer)),
+        DSL.pi(),
+        DSL.add(DSL.literal((byte) 1), DSL.literal((byte) 2)),
+        DSL.equal(string, string),
+        DSL.xor(bool, bool),
+        function("not", BOOLEAN, integer),
+        function("+", INTEGER, integer, DSL.literal(1L)),
+        function("=", BOOLEAN, integer, DSL.literal(1L)),
+        function("and", BOOLEAN, bool, integer));
+    for (Expression expression : expressions) {
+      assertSame(expression, ExpressionCompiler.compile(expression));
+    }
+  }
+
+  @Test
+  void compiled_expression_behaves_as_original_expression() {
+    Expression integer = DSL.ref(name(INTEGER, "value0"), INTEGER);
+    Expression expression = DSL.add(integer, DSL.literal(1));
+    CompiledExpression compiled = (CompiledExpression) ExpressionCompiler.compile(expression);
+
+    assertSame(expression, compiled.getExpression());
+    assertEquals(INTEGER, compiled.type());
+    assertEquals(expression.toString(), compiled.toString());
+    assertEquals(ExpressionCompiler.compile(expression), compiled);
+    assertEquals("visited", compiled.accept(new ExpressionNodeVisitor<String, Object>() {
+      @Override
+      public String visitFunction(FunctionExpression node, Object context) {
+        return "visited";
+      }
+    }, null));
+  }
+
+  @Test
+  @SneakyThrows
+  void serialize_as_original_expression() {
+    Expression expression = DSL.add(DSL.ref(name(INTEGER, "value0"), INTEGER), DSL.literal(1));
+
+    ByteArrayOutputStream output = new ByteArrayOutputStream();
+    try (ObjectOutputStream objectOutput = new ObjectOutputStream(output)) {
+      objectOutput.writeObject(ExpressionCompiler.compile(expression));
+    }
+    try (ObjectInputStream objectInput =
+             new ObjectInputStream(new ByteArrayInputStream(output.toByteArray()))) {
+      Object deserialized = objectInput.readObject();
+      assertTrue(deserialized instanceof FunctionExpression);
+      assertEquals(expression, deserialized);
+    }
+  }
+
+  @Test
+  void evaluate_node_as_unsupported_type() {
+    CompiledNode.Frame frame = new CompiledNode.Frame(VALUE_ENV);
+    CompiledNode arithmetic = new ArithmeticNode(INTEGER, ArithmeticNode.Operator.ADD,
+        new InterpretedNode(DSL.literal(1)), new InterpretedNode(DSL.literal(1)));
+    CompiledNode predicate = new NotNode(new InterpretedNode(DSL.literal(true)));
+
+    assertThrows(IllegalStateException.class, () -> arithmetic.evalDouble(frame));
+    assertThrows(IllegalStateException.class, () -> arithmetic.evalBoolean(frame));
+    assertThrows(IllegalStateException.class, () -> predicate.evalLong(frame));
+  }
+
+  private static void assertCompiled(Expression expression) {
+    Expression compiled = ExpressionCompiler.compile(expression);
+    assertTrue(compiled instanceof CompiledExpression, expression.toString());
+
+    Object expected = evaluate(expression);
+    Object actual = evaluate(compiled);
+    assertEquals(expected, actual, expression.toString());
+    if (expected instanceof ExprValue) {
+      assertEquals(((ExprValue) expected).type(), ((ExprValue) actual).type(),
+          expression.toString());
+    }
+  }
+
+  /**
+   * Evaluate an expression to the result or the class of the exception thrown.
+   */
+  private static Object evaluate(Expression expression) {
+    try {
+      return expression.valueOf(VALUE_ENV);
+    } catch (RuntimeException e) {
+      return e.getClass();
+    }
+  }
+
+  private static FunctionExpression function(String name, ExprType type, Expression... args) {
+    return new FunctionExpression(FunctionName.of(name), List.of(args)) {
+      @Override
+      public ExprValue valueOf(Environment<Expression, ExprValue> valueEnv) {
+        return LITERAL_NULL;
+      }
+
+      @Override
+      public ExprType type() {
+        return type;
+      }
+    };
+  }
+}
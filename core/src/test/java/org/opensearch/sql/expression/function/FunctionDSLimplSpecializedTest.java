@@ -0,0 +1,101 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.expression.function;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.opensearch.sql.expression.function.FunctionDSL.implSpecialized;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.apache.commons.lang3.tuple.Pair;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.opensearch.sql.data.model.ExprValue;
+import org.opensearch.sql.expression.DSL;
+import org.opensearch.sql.expression.Expression;
+import org.opensearch.sql.expression.env.Environment;
+
+class FunctionDSLimplSpecializedTest extends FunctionDSLimplTestBase {
+
+  private static final AtomicInteger specializations = new AtomicInteger();
+
+  private static final SerializableFunction<ExprValue, SerializableFunction<ExprValue, ExprValue>>
+      specialization = arg2 -> {
+        specializations.incrementAndGet();
+        return arg1 -> ANY;
+      };
+
+  @Override
+  SerializableFunction<FunctionName, Pair<FunctionSignature, FunctionBuilder>>
+      getImplementationGenerator() {
+    return implSpecialized(specialization, ANY_TYPE, ANY_TYPE, ANY_TYPE);
+  }
+
+  @Override
+  List<Expression> getSampleArguments() {
+    return List.of(DSL.literal(ANY), DSL.literal(ANY));
+  }
+
+  @Override
+  String getExpected_toString() {
+    return "sample(ANY, ANY)";
+  }
+
+  @BeforeEach
+  void resetSpecializations() {
+    specializations.set(0);
+  }
+
+  @Test
+  void specialize_once_on_literal() {
+    Expression expression = build(DSL.ref("a", ANY_TYPE), DSL.literal(ANY));
+    Environment<Expression, ExprValue> valueEnv = Map.<Expression, ExprValue>of(
+        DSL.ref("a", ANY_TYPE), ANY)::get;
+    assertEquals(0, specializations.get());
+
+    assertEquals(ANY, expression.valueOf(valueEnv));
+    assertEquals(ANY, expression.valueOf(valueEnv));
+    assertEquals(1, specializations.get());
+  }
+
+  @Test
+  void specialize_on_every_evaluation_of_non_literal() {
+    Expression expression = build(DSL.literal(ANY), DSL.ref("b", ANY_TYPE));
+    Environment<Expression, ExprValue> valueEnv = Map.<Expression, ExprValue>of(
+        DSL.ref("b", ANY_TYPE), ANY)::get;
+
+    assertEquals(ANY, expression.valueOf(valueEnv));
+    assertEquals(ANY, expression.valueOf(valueEnv));
+    assertEquals(2, specializations.get());
+  }
+
+  @Test
+  void do_not_specialize_on_null_or_missing_literal() {
+    assertEquals(NULL, build(DSL.literal(ANY), DSL.literal(NULL)).valueOf());
+    assertEquals(MISSING, build(DSL.literal(ANY), DSL.literal(MISSING)).valueOf());
+    assertEquals(MISSING, build(DSL.literal(MISSING), DSL.literal(ANY)).valueOf());
+    assertEquals(0, specializations.get());
+  }
+
+  @Test
+  void fail_on_evaluation_if_specialization_fails() {
+    IllegalArgumentException exception = new IllegalArgumentException("invalid pattern");
+    Expression expression = (Expression) implSpecialized(arg2 -> {
+      throw exception;
+    }, ANY_TYPE, ANY_TYPE, ANY_TYPE).apply(SAMPLE_NAME).getValue()
+        .apply(functionProperties, List.of(DSL.literal(ANY), DSL.literal(ANY)));
+
+    assertSame(exception, assertThrows(IllegalArgumentException.class, expression::valueOf));
+  }
+
+  private Expression build(Expression arg1, Expression arg2) {
+    return (Expression) getImplementation().getValue()
+        .apply(functionProperties, List.of(arg1, arg2));
+  }
+}
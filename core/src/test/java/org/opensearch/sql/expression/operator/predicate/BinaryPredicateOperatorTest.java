@@ -8,6 +8,7 @@ package org.opensearch.sql.expression.operator.predicate;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.opensearch.sql.config.TestConfig.BOOL_TYPE_MISSING_VALUE_FIELD;
 import static org.opensearch.sql.config.TestConfig.BOOL_TYPE_NULL_VALUE_FIELD;
@@ -46,6 +47,7 @@ import java.time.ZoneId;
 import java.util.Arrays;
 import java.util.Base64;
 import java.util.List;
+import java.util.regex.PatternSyntaxException;
 import java.util.stream.Stream;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
@@ -526,6 +528,12 @@ class BinaryPredicateOperatorTest extends ExpressionTestBase {
     STRING_PATTERN_PAIRS.forEach(this::testRegexpString);
   }
 
+  @Test
+  void test_invalid_regexp_fails_on_evaluation() {
+    FunctionExpression expression = DSL.regexp(DSL.literal("a"), DSL.literal("[a"));
+    assertThrows(PatternSyntaxException.class, () -> expression.valueOf(valueEnv()));
+  }
+
   void testRegexpString(StringPatternPair stringPatternPair) {
     FunctionExpression expression = DSL.regexp(
             DSL.literal(new ExprStringValue(stringPatternPair.getStr())),
@@ -7,6 +7,7 @@
 package org.opensearch.sql.expression.window.aggregation;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
@@ -16,16 +17,23 @@ import static org.opensearch.sql.data.type.ExprCoreType.LONG;
 
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
+import java.util.List;
 import org.junit.jupiter.api.DisplayNameGeneration;
 import org.junit.jupiter.api.DisplayNameGenerator;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.opensearch.sql.ast.expression.WindowFrameSpec;
+import org.opensearch.sql.ast.expression.WindowFrameSpec.FrameBound;
+import org.opensearch.sql.ast.expression.WindowFrameSpec.FrameUnit;
 import org.opensearch.sql.data.model.ExprIntegerValue;
+import org.opensearch.sql.data.model.ExprValue;
 import org.opensearch.sql.expression.DSL;
 import org.opensearch.sql.expression.ExpressionTestBase;
 import org.opensearch.sql.expression.aggregation.Aggregator;
+import org.opensearch.sql.expression.window.WindowDefinition;
 import org.opensearch.sql.expression.window.frame.PeerRowsWindowFrame;
+import org.opensearch.sql.expression.window.frame.SlidingWindowFrame;
 
 /**
  * Aggregate window function test collection.
@@ -67,4 +75,55 @@ class AggregateWindowFunctionTest extends ExpressionTestBase {
     assertEquals(new ExprIntegerValue(60), windowFunction.valueOf(windowFrame));
   }
 
+  @Test
+  void should_create_sliding_frame_if_frame_clause_defined() {
+    AggregateWindowFunction windowFunction =
+        new AggregateWindowFunction(DSL.sum(DSL.ref("age", INTEGER)));
+    WindowFrameSpec frame = new WindowFrameSpec(
+        FrameUnit.ROWS, FrameBound.preceding(1), FrameBound.CURRENT_ROW);
+
+    assertTrue(windowFunction.createWindowFrame(
+        new WindowDefinition(List.of(), List.of())) instanceof PeerRowsWindowFrame);
+    assertTrue(windowFunction.createWindowFrame(
+        new WindowDefinition(List.of(), List.of(), frame)) instanceof SlidingWindowFrame);
+  }
+
+  @Test
+  void should_remove_values_leaving_sliding_frame() {
+    SlidingWindowFrame windowFrame = mock(SlidingWindowFrame.class);
+    AggregateWindowFunction windowFunction =
+        new AggregateWindowFunction(DSL.sum(DSL.ref("age", INTEGER)));
+
+    when(windowFrame.isNewPartition()).thenReturn(true);
+    when(windowFrame.removed()).thenReturn(ImmutableList.of());
+    when(windowFrame.added()).thenReturn(ImmutableList.of(row(10), row(20)));
+    assertEquals(new ExprIntegerValue(30), windowFunction.valueOf(windowFrame));
+
+    when(windowFrame.isNewPartition()).thenReturn(false);
+    when(windowFrame.removed()).thenReturn(ImmutableList.of(row(10)));
+    when(windowFrame.added()).thenReturn(ImmutableList.of(row(30)));
+    assertEquals(new ExprIntegerValue(50), windowFunction.valueOf(windowFrame));
+  }
+
+  @Test
+  void should_aggregate_sliding_frame_again_if_values_cannot_be_removed() {
+    SlidingWindowFrame windowFrame = mock(SlidingWindowFrame.class);
+    AggregateWindowFunction windowFunction =
+        new AggregateWindowFunction(DSL.max(DSL.ref("age", INTEGER)));
+
+    when(windowFrame.isNewPartition()).thenReturn(true);
+    when(windowFrame.removed()).thenReturn(ImmutableList.of());
+    when(windowFrame.added()).thenReturn(ImmutableList.of(row(30), row(20)));
+    assertEquals(new ExprIntegerValue(30), windowFunction.valueOf(windowFrame));
+
+    when(windowFrame.isNewPartition()).thenReturn(false);
+    when(windowFrame.removed()).thenReturn(ImmutableList.of(row(30)));
+    when(windowFrame.next()).thenReturn(ImmutableList.of(row(20), row(10)));
+    assertEquals(new ExprIntegerValue(20), windowFunction.valueOf(windowFrame));
+  }
+
+  private ExprValue row(int age) {
+    return fromExprValueMap(ImmutableMap.of("age", new ExprIntegerValue(age)));
+  }
+
 }
@@ -0,0 +1,263 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+
+package org.opensearch.sql.expression.window.frame;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.opensearch.sql.ast.tree.Sort.SortOption.DEFAULT_ASC;
+import static org.opensearch.sql.ast.tree.Sort.SortOption.DEFAULT_DESC;
+import static org.opensearch.sql.data.model.ExprTupleValue.fromExprValueMap;
+import static org.opensearch.sql.data.type.ExprCoreType.INTEGER;
+import static org.opensearch.sql.data.type.ExprCoreType.STRING;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.Iterators;
+import com.google.common.collect.PeekingIterator;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import org.apache.commons.lang3.tuple.Pair;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+import org.opensearch.sql.ast.expression.WindowFrameSpec;
+import org.opensearch.sql.ast.expression.WindowFrameSpec.FrameBound;
+import org.opensearch.sql.ast.expression.WindowFrameSpec.FrameUnit;
+import org.opensearch.sql.ast.tree.Sort.SortOption;
+import org.opensearch.sql.data.model.ExprIntegerValue;
+import org.opensearch.sql.data.model.ExprNullValue;
+import org.opensearch.sql.data.model.ExprStringValue;
+import org.opensearch.sql.data.model.ExprValue;
+import org.opensearch.sql.expression.DSL;
+import org.opensearch.sql.expression.window.WindowDefinition;
+
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+class SlidingWindowFrameTest {
+
+  @Test
+  void rows_between_preceding_and_following_in_partitions() {
+    SlidingWindowFrame windowFrame = windowFrame(DEFAULT_ASC,
+        FrameUnit.ROWS, FrameBound.preceding(1), FrameBound.following(1));
+
+    assertEquals(
+        List.of(List.of(1, 2), List.of(1, 2, 3), List.of(2, 3, 4), List.of(3, 4),
+            List.of(5, 6), List.of(5, 6)),
+        slide(windowFrame,
+            tuple("WA", 10, 1), tuple("WA", 20, 2), tuple("WA", 30, 3), tuple("WA", 40, 4),
+            tuple("CA", 10, 5), tuple("CA", 20, 6)));
+  }
+
+  @Test
+  void rows_between_unbounded_preceding_and_current_row() {
+    SlidingWindowFrame windowFrame = windowFrame(DEFAULT_ASC,
+        FrameUnit.ROWS, FrameBound.UNBOUNDED_PRECEDING, FrameBound.CURRENT_ROW);
+
+    assertEquals(
+        List.of(List.of(1), List.of(1, 2), List.of(1, 2, 3), List.of(4)),
+        slide(windowFrame,
+            tuple("WA", 10, 1), tuple("WA", 20, 2), tuple("WA", 30, 3), tuple("CA", 10, 4)));
+  }
+
+  @Test
+  void rows_between_current_row_and_unbounded_following() {
+    SlidingWindowFrame windowFrame = windowFrame(DEFAULT_ASC,
+        FrameUnit.ROWS, FrameBound.CURRENT_ROW, FrameBound.UNBOUNDED_FOLLOWING);
+
+    ExprValue[] rows = new ExprValue[20];
+    for (int i = 0; i < rows.length; i++) {
+      rows[i] = tuple("WA", i, i + 1);
+    }
+    List<List<Integer>> frames = slide(windowFrame, rows);
+    assertEquals(20, frames.size());
+    assertEquals(20, frames.get(0).size());
+    assertEquals(List.of(19, 20), frames.get(18));
+    assertEquals(List.of(20), frames.get(19));
+  }
+
+  @Test
+  void rows_between_preceding_rows() {
+    SlidingWindowFrame windowFrame = windowFrame(DEFAULT_ASC,
+        FrameUnit.ROWS, FrameBound.preceding(3), FrameBound.preceding(2));
+
+    assertEquals(
+        List.of(List.of(), List.of(), List.of(1), List.of(1, 2), List.of(2, 3)),
+        slide(windowFrame,
+            tuple("WA", 10, 1), tuple("WA", 20, 2), tuple("WA", 30, 3), tuple("WA", 40, 4),
+            tuple("WA", 50, 5)));
+  }
+
+  @Test
+  void rows_between_following_rows_up_to_maximum_offset() {
+    SlidingWindowFrame windowFrame = windowFrame(DEFAULT_ASC,
+        FrameUnit.ROWS, FrameBound.following(1), FrameBound.following(Long.MAX_VALUE));
+
+    assertEquals(
+        List.of(List.of(2, 3), List.of(3), List.of()),
+        slide(windowFrame, tuple("WA", 10, 1), tuple("WA", 20, 2), tuple("WA", 30, 3)));
+  }
+
+  @Test
+  void rows_without_partition_and_sort_list() {
+    SlidingWindowFrame windowFrame = new SlidingWindowFrame(new WindowDefinition(
+        ImmutableList.of(), ImmutableList.of(),
+        new WindowFrameSpec(FrameUnit.ROWS, FrameBound.preceding(1), FrameBound.CURRENT_ROW)));
+
+    assertEquals(
+        List.of(List.of(1), List.of(1, 2), List.of(2, 3)),
+        slide(windowFrame, tuple("WA", 10, 1), tuple("CA", 20, 2), tuple("WA", 30, 3)));
+  }
+
+  @Test
+  void range_between_current_row_and_current_row_is_peers() {
+    SlidingWindowFrame windowFrame = windowFrame(DEFAULT_ASC,
+        FrameUnit.RANGE, FrameBound.CURRENT_ROW, FrameBound.CURRENT_ROW);
+
+    assertEquals(
+        List.of(List.of(1), List.of(2, 3), List.of(2, 3), List.of(4), List.of(5)),
+        slide(windowFrame,
+            tuple("WA", 10, 1), tuple("WA", 20, 2), tuple("WA", 20, 3), tuple("WA", 30, 4),
+            tuple("CA", 30, 5)));
+  }
+
+  @Test
+  void range_between_offsets_in_ascending_order() {
+    SlidingWindowFrame windowFrame = windowFrame(DEFAULT_ASC,
+        FrameUnit.RANGE, FrameBound.preceding(10), FrameBound.following(10));
+
+    assertEquals(
+        List.of(List.of(1, 2), List.of(1, 2, 3), List.of(2, 3), List.of(4)),
+        slide(windowFrame,
+            tuple("WA", 10, 1), tuple("WA", 20, 2), tuple("WA", 25, 3), tuple("WA", 40, 4)));
+  }
+
+  @Test
+  void range_between_offsets_in_descending_order_with_nulls_last() {
+    SlidingWindowFrame windowFrame = windowFrame(DEFAULT_DESC,
+        FrameUnit.RANGE, FrameBound.preceding(5), FrameBound.following(5));
+
+    assertEquals(
+        List.of(List.of(1, 2), List.of(1, 2, 3), List.of(2, 3), List.of(4), List.of(5)),
+        slide(windowFrame,
+            tuple("WA", 30, 1), tuple("WA", 25, 2), tuple("WA", 20, 3),
+            fromExprValueMap(ImmutableMap.of(
+                "state", new ExprStringValue("WA"),
+                "age", ExprNullValue.of(),
+                "balance", new ExprIntegerValue(4))),
+            fromExprValueMap(ImmutableMap.of(
+                "state", new ExprStringValue("WA"),
+                "balance", new ExprIntegerValue(5)))));
+  }
+
+  @Test
+  void range_from_offset_to_current_row_with_nulls_first() {
+    SlidingWindowFrame windowFrame = windowFrame(DEFAULT_ASC,
+        FrameUnit.RANGE, FrameBound.preceding(5), FrameBound.CURRENT_ROW);
+
+    assertEquals(
+        List.of(List.of(1), List.of(2), List.of(2, 3, 4), List.of(2, 3, 4)),
+        slide(windowFrame,
+            fromExprValueMap(ImmutableMap.of(
+                "state", new ExprStringValue("WA"),
+                "age", ExprNullValue.of(),
+                "balance", new ExprIntegerValue(1))),
+            tuple("WA", 10, 2), tuple("WA", 12, 3), tuple("WA", 12, 4)));
+  }
+
+  @Test
+  void range_between_preceding_offsets() {
+    SlidingWindowFrame windowFrame = windowFrame(DEFAULT_ASC,
+        FrameUnit.RANGE, FrameBound.UNBOUNDED_PRECEDING, FrameBound.preceding(5));
+
+    assertEquals(
+        List.of(List.of(), List.of(), List.of(1, 2), List.of(1, 2, 3)),
+        slide(windowFrame,
+            tuple("WA", 10, 1), tuple("WA", 12, 2), tuple("WA", 20, 3), tuple("WA", 30, 4)));
+  }
+
+  @Test
+  void load_rows_ahead_only_up_to_frame_end() {
+    SlidingWindowFrame windowFrame = windowFrame(DEFAULT_ASC,
+        FrameUnit.ROWS, FrameBound.CURRENT_ROW, FrameBound.following(1));
+    PeekingIterator<ExprValue> it = Iterators.peekingIterator(Iterators.forArray(
+        tuple("WA", 10, 1), tuple("WA", 20, 2), tuple("WA", 30, 3)));
+
+    windowFrame.load(it);
+    assertTrue(windowFrame.isNewPartition());
+    assertEquals(tuple("WA", 10, 1), windowFrame.current());
+    assertTrue(windowFrame.hasNext());
+    assertEquals(tuple("WA", 30, 3), it.peek());
+
+    windowFrame.load(it);
+    assertFalse(windowFrame.isNewPartition());
+    assertEquals(tuple("WA", 20, 2), windowFrame.current());
+    assertFalse(it.hasNext());
+  }
+
+  @Test
+  void drop_rows_behind_frame_and_current_row_and_rows_of_previous_partition() {
+    SlidingWindowFrame windowFrame = windowFrame(DEFAULT_ASC,
+        FrameUnit.ROWS, FrameBound.preceding(1), FrameBound.following(1));
+    PeekingIterator<ExprValue> it = Iterators.peekingIterator(Iterators.forArray(
+        tuple("WA", 10, 1), tuple("WA", 20, 2), tuple("WA", 30, 3), tuple("CA", 10, 4)));
+
+    windowFrame.load(it);
+    assertEquals(List.of(), windowFrame.dropped());
+    windowFrame.load(it);
+    assertEquals(List.of(), windowFrame.dropped());
+    windowFrame.load(it);
+    assertEquals(List.of(tuple("WA", 10, 1)), windowFrame.dropped());
+    windowFrame.load(it);
+    assertTrue(windowFrame.isNewPartition());
+    assertEquals(List.of(tuple("WA", 20, 2), tuple("WA", 30, 3)), windowFrame.dropped());
+  }
+
+  private SlidingWindowFrame windowFrame(SortOption sortOption, FrameUnit unit,
+                                         FrameBound start, FrameBound end) {
+    return new SlidingWindowFrame(new WindowDefinition(
+        ImmutableList.of(DSL.ref("state", STRING)),
+        ImmutableList.of(Pair.of(sortOption, DSL.ref("age", INTEGER))),
+        new WindowFrameSpec(unit, start, end)));
+  }
+
+  /**
+   * Slide the frame over the rows as window operator does, and check that the rows removed from
+   * and added to the frame on each row lead from the frame of previous row to the current one.
+   * @return balances of the rows in the frame of each row
+   */
+  private List<List<Integer>> slide(SlidingWindowFrame windowFrame, ExprValue... rows) {
+    PeekingIterator<ExprValue> it = Iterators.peekingIterator(Iterators.forArray(rows));
+    List<List<Integer>> frames = new ArrayList<>();
+    List<ExprValue> previous = List.of();
+    while (it.hasNext() || windowFrame.hasNext()) {
+      windowFrame.load(it);
+      List<ExprValue> kept = windowFrame.isNewPartition() ? List.of() : previous;
+      List<ExprValue> removed = windowFrame.removed();
+      assertEquals(kept.subList(0, removed.size()), removed);
+
+      List<ExprValue> expected = new ArrayList<>(kept.subList(removed.size(), kept.size()));
+      expected.addAll(windowFrame.added());
+      List<ExprValue> current = windowFrame.next();
+      assertEquals(expected, current);
+
+      frames.add(current.stream()
+          .map(row -> row.tupleValue().get("balance").integerValue())
+          .collect(Collectors.toList()));
+      previous = current;
+    }
+    return frames;
+  }
+
+  private ExprValue tuple(String state, int age, int balance) {
+    return fromExprValueMap(ImmutableMap.of(
+        "state", new ExprStringValue(state),
+        "age", new ExprIntegerValue(age),
+        "balance", new ExprIntegerValue(balance)));
+  }
+
+}
@@ -0,0 +1,41 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+
+package org.opensearch.sql.monitor;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.opensearch.sql.data.model.ExprValueUtils.LITERAL_MISSING;
+import static org.opensearch.sql.data.model.ExprValueUtils.LITERAL_NULL;
+import static org.opensearch.sql.data.model.ExprValueUtils.collectionValue;
+import static org.opensearch.sql.data.model.ExprValueUtils.integerValue;
+import static org.opensearch.sql.data.model.ExprValueUtils.stringValue;
+import static org.opensearch.sql.data.model.ExprValueUtils.tupleValue;
+import static org.opensearch.sql.monitor.UnlimitedMemoryTracker.UNLIMITED_MEMORY_TRACKER;
+
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+
+class MemoryTrackerTest {
+
+  @Test
+  void estimateSize() {
+    assertEquals(0L, MemoryTracker.estimateSize(LITERAL_NULL));
+    assertEquals(0L, MemoryTracker.estimateSize(LITERAL_MISSING));
+    assertEquals(32L, MemoryTracker.estimateSize(integerValue(1)));
+    assertEquals(56L + 2L * 3, MemoryTracker.estimateSize(stringValue("abc")));
+    assertEquals(48L + 2 * (8L + 32L), MemoryTracker.estimateSize(collectionValue(List.of(1, 2))));
+    assertEquals(64L + (40L + 32L) + (40L + 56L + 2L),
+        MemoryTracker.estimateSize(tupleValue(Map.of("a", 1, "b", "c"))));
+  }
+
+  @Test
+  void unlimitedMemoryTracker() {
+    assertDoesNotThrow(() -> UNLIMITED_MEMORY_TRACKER.reserve(Long.MAX_VALUE));
+    assertDoesNotThrow(() -> UNLIMITED_MEMORY_TRACKER.release(Long.MAX_VALUE));
+  }
+}
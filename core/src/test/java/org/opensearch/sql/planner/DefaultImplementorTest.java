@@ -288,4 +288,16 @@ class DefaultImplementorTest {
         new ValuesOperator(List.of(List.of())), List.of(), List.of());
     assertEquals(physicalPlanTree, logicalPlanTree.accept(implementor, null));
   }
+
+  @Test
+  public void visitLimit_over_sort_should_bound_sort_to_top_n() {
+    Pair<Sort.SortOption, Expression> sortField =
+        ImmutablePair.of(Sort.SortOption.DEFAULT_ASC, ref("name", STRING));
+    LogicalPlan plan = limit(sort(values(emptyList()), sortField), 10, 5);
+
+    assertEquals(
+        PhysicalPlanDSL.limit(
+            PhysicalPlanDSL.sort(PhysicalPlanDSL.values(emptyList()), 15, sortField), 10, 5),
+        plan.accept(implementor, null));
+  }
 }
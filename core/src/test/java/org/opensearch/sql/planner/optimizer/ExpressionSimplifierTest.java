@@ -0,0 +1,181 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+
+package org.opensearch.sql.planner.optimizer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.opensearch.sql.data.model.ExprValueUtils.LITERAL_MISSING;
+import static org.opensearch.sql.data.type.ExprCoreType.BOOLEAN;
+import static org.opensearch.sql.data.type.ExprCoreType.DATETIME;
+import static org.opensearch.sql.data.type.ExprCoreType.INTEGER;
+import static org.opensearch.sql.data.type.ExprCoreType.STRING;
+import static org.opensearch.sql.data.type.ExprCoreType.TIMESTAMP;
+
+import java.util.List;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+import org.opensearch.sql.data.model.ExprValue;
+import org.opensearch.sql.data.type.ExprType;
+import org.opensearch.sql.expression.DSL;
+import org.opensearch.sql.expression.Expression;
+import org.opensearch.sql.expression.FunctionExpression;
+import org.opensearch.sql.expression.env.Environment;
+import org.opensearch.sql.expression.function.BuiltinFunctionName;
+import org.opensearch.sql.expression.function.BuiltinFunctionRepository;
+import org.opensearch.sql.expression.function.FunctionName;
+import org.opensearch.sql.expression.function.FunctionProperties;
+
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+class ExpressionSimplifierTest {
+
+  private final ExpressionSimplifier simplifier = new ExpressionSimplifier();
+
+  private final Expression intRef = DSL.ref("int", INTEGER);
+
+  private final Expression boolRef = DSL.ref("bool", BOOLEAN);
+
+  private final Expression tsRef = DSL.ref("ts", TIMESTAMP);
+
+  @Test
+  void fold_constant_function() {
+    assertEquals(DSL.literal(5), simplifier.simplify(DSL.abs(DSL.literal(-5))));
+    assertEquals(
+        DSL.greater(intRef, DSL.literal(3)),
+        simplifier.simplify(DSL.greater(intRef, DSL.add(DSL.literal(1), DSL.literal(2)))));
+    assertEquals(
+        DSL.add(DSL.literal(5), intRef),
+        simplifier.simplify(DSL.add(DSL.abs(DSL.literal(-5)), intRef)));
+  }
+
+  @Test
+  void fold_current_time_to_query_start_time() {
+    FunctionProperties functionProperties = new FunctionProperties();
+    FunctionExpression now = DSL.now(functionProperties);
+
+    assertEquals(DSL.literal(now.valueOf()), simplifier.simplify(now));
+    assertEquals(DATETIME, simplifier.simplify(now).type());
+  }
+
+  @Test
+  void fold_constant_subtree_of_any_function() {
+    assertEquals(DSL.literal(3), simplifier.simplify(DSL.abs(DSL.add(DSL.literal(1),
+        DSL.abs(DSL.literal(-2))))));
+  }
+
+  @Test
+  void fold_comparison_with_current_time() {
+    FunctionProperties functionProperties = new FunctionProperties();
+    FunctionExpression condition = DSL.greater(tsRef, DSL.now(functionProperties));
+
+    assertEquals(DSL.greater(tsRef, DSL.literal(condition.getArguments().get(1).valueOf())),
+        simplifier.simplify(condition));
+  }
+
+  @Test
+  void fold_comparison_with_time_before_current_time() {
+    FunctionProperties functionProperties = new FunctionProperties();
+    FunctionExpression dayAgo = (FunctionExpression) BuiltinFunctionRepository.getInstance()
+        .compile(functionProperties, BuiltinFunctionName.DATE_SUB.getName(), List.of(
+            DSL.now(functionProperties), DSL.interval(DSL.literal(1), DSL.literal("day"))));
+    FunctionExpression condition = DSL.greater(tsRef, dayAgo);
+
+    Expression simplified = simplifier.simplify(condition);
+    assertEquals(DSL.greater(tsRef, DSL.literal(condition.getArguments().get(1).valueOf())),
+        simplified);
+    assertEquals(TIMESTAMP, ((FunctionExpression) simplified).getArguments().get(1).type());
+  }
+
+  @Test
+  void do_not_fold_non_deterministic_function() {
+    assertNotSimplified(DSL.rand());
+    assertNotSimplified(DSL.sysdate(new FunctionProperties()));
+    assertNotSimplified(DSL.abs(DSL.rand()));
+  }
+
+  @Test
+  void do_not_fold_function_without_typed_value() {
+    assertNotSimplified(DSL.divide(DSL.literal(1), DSL.literal(0)));
+    assertNotSimplified(function(INTEGER, LITERAL_MISSING));
+    assertNotSimplified(function(STRING, DSL.literal(1).valueOf()));
+  }
+
+  @Test
+  void do_not_fold_failed_function() {
+    assertNotSimplified(DSL.castInt(DSL.literal("abc")));
+  }
+
+  @Test
+  void do_not_simplify_arguments_of_other_functions() {
+    assertNotSimplified(DSL.abs(DSL.add(intRef, DSL.abs(DSL.literal(-5)))));
+  }
+
+  @Test
+  void simplify_and() {
+    Expression condition = DSL.equal(intRef, DSL.literal(1));
+    assertEquals(condition, simplifier.simplify(DSL.and(DSL.literal(true), condition)));
+    assertEquals(condition, simplifier.simplify(DSL.and(condition, DSL.literal(true))));
+    assertEquals(DSL.literal(false), simplifier.simplify(DSL.and(DSL.literal(false), boolRef)));
+    assertEquals(DSL.literal(false), simplifier.simplify(DSL.and(boolRef, DSL.literal(false))));
+    assertNotSimplified(DSL.and(boolRef, condition));
+  }
+
+  @Test
+  void simplify_or() {
+    assertEquals(boolRef, simplifier.simplify(DSL.or(DSL.literal(false), boolRef)));
+    assertEquals(boolRef, simplifier.simplify(DSL.or(boolRef, DSL.literal(false))));
+    assertEquals(DSL.literal(true), simplifier.simplify(DSL.or(DSL.literal(true), boolRef)));
+    assertEquals(DSL.literal(true), simplifier.simplify(
+        DSL.or(boolRef, DSL.less(DSL.literal(1), DSL.literal(2)))));
+    assertNotSimplified(DSL.or(boolRef, boolRef));
+  }
+
+  @Test
+  void simplify_not() {
+    assertEquals(boolRef, simplifier.simplify(DSL.not(DSL.not(boolRef))));
+    assertEquals(DSL.literal(true), simplifier.simplify(DSL.not(DSL.literal(false))));
+    assertNotSimplified(DSL.not(boolRef));
+    assertNotSimplified(DSL.not(DSL.equal(intRef, DSL.literal(1))));
+  }
+
+  @Test
+  void move_literal_of_comparison_to_right() {
+    Expression one = DSL.literal(1);
+    assertEquals(DSL.equal(intRef, one), simplifier.simplify(DSL.equal(one, intRef)));
+    assertEquals(DSL.notequal(intRef, one), simplifier.simplify(DSL.notequal(one, intRef)));
+    assertEquals(DSL.greater(intRef, one), simplifier.simplify(DSL.less(one, intRef)));
+    assertEquals(DSL.gte(intRef, one), simplifier.simplify(DSL.lte(one, intRef)));
+    assertEquals(DSL.less(intRef, one), simplifier.simplify(DSL.greater(one, intRef)));
+    assertEquals(DSL.lte(intRef, one), simplifier.simplify(DSL.gte(one, intRef)));
+    assertNotSimplified(DSL.less(intRef, one));
+  }
+
+  @Test
+  void do_not_simplify_other_expression() {
+    assertNotSimplified(intRef);
+    assertNotSimplified(DSL.literal(1));
+    assertNotSimplified(DSL.add(intRef, DSL.literal(1)));
+  }
+
+  private void assertNotSimplified(Expression expression) {
+    assertSame(expression, simplifier.simplify(expression));
+  }
+
+  private static FunctionExpression function(ExprType type, ExprValue value) {
+    return new FunctionExpression(FunctionName.of("test"), List.of()) {
+      @Override
+      public ExprValue valueOf(Environment<Expression, ExprValue> valueEnv) {
+        return value;
+      }
+
+      @Override
+      public ExprType type() {
+        return type;
+      }
+    };
+  }
+}
@@ -10,14 +10,18 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.opensearch.sql.data.model.ExprValueUtils.integerValue;
 import static org.opensearch.sql.data.model.ExprValueUtils.longValue;
+import static org.opensearch.sql.data.type.ExprCoreType.DOUBLE;
 import static org.opensearch.sql.data.type.ExprCoreType.INTEGER;
 import static org.opensearch.sql.data.type.ExprCoreType.LONG;
 import static org.opensearch.sql.data.type.ExprCoreType.STRING;
 import static org.opensearch.sql.planner.logical.LogicalPlanDSL.aggregation;
+import static org.opensearch.sql.planner.logical.LogicalPlanDSL.dedupe;
+import static org.opensearch.sql.planner.logical.LogicalPlanDSL.eval;
 import static org.opensearch.sql.planner.logical.LogicalPlanDSL.filter;
 import static org.opensearch.sql.planner.logical.LogicalPlanDSL.highlight;
 import static org.opensearch.sql.planner.logical.LogicalPlanDSL.limit;
@@ -48,10 +52,13 @@ import org.opensearch.sql.data.type.ExprType;
 import org.opensearch.sql.expression.DSL;
 import org.opensearch.sql.expression.NamedExpression;
 import org.opensearch.sql.expression.ReferenceExpression;
+import org.opensearch.sql.expression.window.WindowDefinition;
 import org.opensearch.sql.planner.logical.LogicalPaginate;
 import org.opensearch.sql.planner.logical.LogicalPlan;
 import org.opensearch.sql.planner.logical.LogicalPlanNodeVisitor;
+import org.opensearch.sql.planner.logical.LogicalProject;
 import org.opensearch.sql.planner.logical.LogicalRelation;
+import org.opensearch.sql.planner.logical.LogicalWindow;
 import org.opensearch.sql.planner.physical.PhysicalPlan;
 import org.opensearch.sql.storage.Table;
 import org.opensearch.sql.storage.read.TableScanBuilder;
@@ -149,6 +156,41 @@ class LogicalPlanOptimizerTest {
     );
   }
 
+  /**
+   * Filter(1 + 1 &lt; intV) --> Filter(intV &gt; 2).
+   */
+  @Test
+  void simplify_filter_condition() {
+    assertEquals(
+        filter(
+            relation("schema", table),
+            DSL.greater(DSL.ref("intV", INTEGER), DSL.literal(integerValue(2)))
+        ),
+        optimize(
+            filter(
+                relation("schema", table),
+                DSL.less(DSL.add(DSL.literal(1), DSL.literal(1)), DSL.ref("intV", INTEGER))
+            )
+        )
+    );
+  }
+
+  /**
+   * Filter(1 = 1) --> Relation.
+   */
+  @Test
+  void remove_filter_always_true() {
+    assertEquals(
+        tableScanBuilder,
+        optimize(
+            filter(
+                relation("schema", table),
+                DSL.equal(DSL.literal(1), DSL.literal(1))
+            )
+        )
+    );
+  }
+
   @Test
   void default_table_scan_builder_should_not_push_down_anything() {
     LogicalPlan[] plans = {
@@ -252,6 +294,34 @@ class LogicalPlanOptimizerTest {
     );
   }
 
+  @Test
+  void table_scan_builder_support_dedupe_push_down_can_apply_its_rule() {
+    when(tableScanBuilder.pushDownDedupe(any())).thenReturn(true);
+
+    assertEquals(
+        tableScanBuilder,
+        optimize(
+            dedupe(
+                relation("schema", table),
+                DSL.ref("name", STRING))
+        )
+    );
+  }
+
+  @Test
+  void table_scan_builder_not_support_dedupe_push_down_should_keep_dedupe() {
+    assertEquals(
+        dedupe(
+            tableScanBuilder,
+            DSL.ref("name", STRING)),
+        optimize(
+            dedupe(
+                relation("schema", table),
+                DSL.ref("name", STRING))
+        )
+    );
+  }
+
   @Test
   void table_scan_builder_support_highlight_push_down_can_apply_its_rule() {
     when(tableScanBuilder.pushDownHighlight(any())).thenReturn(true);
@@ -286,6 +356,88 @@ class LogicalPlanOptimizerTest {
     );
   }
 
+  /**
+   * Project - Limit - Eval - Window - Sort - Dedupe - Filter - Scan pushes down the columns
+   * referenced by all the operators except those derived by eval and window.
+   */
+  @Test
+  void table_scan_builder_should_get_required_columns_through_operators() {
+    LogicalPlan plan =
+        project(
+            limit(
+                eval(
+                    new LogicalWindow(
+                        sort(
+                            dedupe(
+                                filter(
+                                    relation("schema", table),
+                                    DSL.greater(DSL.ref("account_number", LONG),
+                                        DSL.literal(longValue(0L)))),
+                                DSL.ref("name", STRING)),
+                            Pair.of(Sort.SortOption.DEFAULT_ASC, DSL.ref("age", INTEGER))),
+                        DSL.named("rank", DSL.rowNumber()),
+                        new WindowDefinition(
+                            List.of(DSL.ref("state", STRING)),
+                            List.of(Pair.of(Sort.SortOption.DEFAULT_DESC,
+                                DSL.ref("balance", LONG))))),
+                    Pair.of(DSL.ref("doubled", LONG),
+                        DSL.multiply(DSL.ref("balance", LONG), DSL.literal(longValue(2L)))),
+                    Pair.of(DSL.ref("total", LONG),
+                        DSL.add(DSL.ref("doubled", LONG), DSL.ref("bonus", LONG)))),
+                10, 0),
+            DSL.named("name", DSL.ref("name", STRING)),
+            DSL.named("rank", DSL.ref("rank", INTEGER)),
+            DSL.named("total", DSL.ref("total", LONG)));
+
+    optimize(plan);
+    verify(tableScanBuilder).pushDownProject(
+        (LogicalProject) project(
+            tableScanBuilder,
+            DSL.named("account_number", DSL.ref("account_number", LONG)),
+            DSL.named("age", DSL.ref("age", INTEGER)),
+            DSL.named("balance", DSL.ref("balance", LONG)),
+            DSL.named("bonus", DSL.ref("bonus", LONG)),
+            DSL.named("name", DSL.ref("name", STRING)),
+            DSL.named("state", DSL.ref("state", STRING))));
+  }
+
+  @Test
+  void table_scan_builder_should_get_required_columns_of_parse_expressions() {
+    LogicalPlan plan =
+        project(
+            sort(
+                relation("schema", table),
+                Pair.of(Sort.SortOption.DEFAULT_ASC, DSL.ref("age", INTEGER))),
+            List.of(DSL.named("host", DSL.ref("host", STRING))),
+            List.of(DSL.named("host",
+                DSL.regex(DSL.ref("message", STRING),
+                    DSL.literal("(?<host>\\S+) .*"),
+                    DSL.literal("host")))));
+
+    optimize(plan);
+    verify(tableScanBuilder).pushDownProject(
+        (LogicalProject) project(
+            tableScanBuilder,
+            DSL.named("age", DSL.ref("age", INTEGER)),
+            DSL.named("message", DSL.ref("message", STRING))));
+  }
+
+  @Test
+  void table_scan_builder_should_not_get_required_columns_through_other_operators() {
+    LogicalPlan plan =
+        project(
+            eval(
+                aggregation(
+                    relation("schema", table),
+                    ImmutableList.of(DSL.named("AVG(intV)", DSL.avg(DSL.ref("intV", INTEGER)))),
+                    ImmutableList.of(DSL.named("longV", DSL.ref("longV", LONG)))),
+                Pair.of(DSL.ref("avg", DOUBLE), DSL.ref("AVG(intV)", DOUBLE))),
+            DSL.named("avg", DSL.ref("avg", DOUBLE)));
+
+    assertEquals(plan, optimize(plan));
+    verify(tableScanBuilder, never()).pushDownProject(any());
+  }
+
   @Test
   void table_not_support_scan_builder_should_not_be_impact() {
     Table table = new Table() {
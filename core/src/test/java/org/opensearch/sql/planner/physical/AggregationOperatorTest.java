@@ -7,9 +7,11 @@
 package org.opensearch.sql.planner.physical;
 
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
 import static org.hamcrest.Matchers.containsInAnyOrder;
 import static org.hamcrest.Matchers.containsInRelativeOrder;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.opensearch.sql.data.type.ExprCoreType.DATE;
 import static org.opensearch.sql.data.type.ExprCoreType.DATETIME;
 import static org.opensearch.sql.data.type.ExprCoreType.DOUBLE;
@@ -96,6 +98,34 @@ class AggregationOperatorTest extends PhysicalPlanTestBase {
     ));
   }
 
+  @Test
+  public void groups_are_sorted_by_key() {
+    PhysicalPlan plan = new AggregationOperator(new TestScan(),
+        Collections
+            .singletonList(DSL.named("count(ip)", DSL.count(DSL.ref("ip", STRING)))),
+        Collections.singletonList(DSL.named("response", DSL.ref("response", INTEGER))));
+    List<ExprValue> result = execute(plan);
+    assertThat(result, contains(
+        ExprValueUtils.tupleValue(ImmutableMap.of("response", 200, "count(ip)", 3)),
+        ExprValueUtils.tupleValue(ImmutableMap.of("response", 404, "count(ip)", 1)),
+        ExprValueUtils.tupleValue(ImmutableMap.of("response", 500, "count(ip)", 1))
+    ));
+  }
+
+  @Test
+  public void aggregation_named_as_group_overrides_group_key() {
+    PhysicalPlan plan = new AggregationOperator(new TestScan(),
+        Collections
+            .singletonList(DSL.named("response", DSL.count(DSL.ref("ip", STRING)))),
+        Collections.singletonList(DSL.named("response", DSL.ref("response", INTEGER))));
+    List<ExprValue> result = execute(plan);
+    assertThat(result, contains(
+        ExprValueUtils.tupleValue(ImmutableMap.of("response", 3)),
+        ExprValueUtils.tupleValue(ImmutableMap.of("response", 1)),
+        ExprValueUtils.tupleValue(ImmutableMap.of("response", 1))
+    ));
+  }
+
   @Test
   public void millisecond_span() {
     PhysicalPlan plan = new AggregationOperator(testScan(datetimeInputs),
@@ -598,4 +628,44 @@ class AggregationOperatorTest extends PhysicalPlanTestBase {
 
     assertEquals(plan, copy);
   }
+
+  @Test
+  public void reserve_memory_per_bucket_until_closed() {
+    TestMemoryTracker memoryTracker = new TestMemoryTracker();
+    PhysicalPlan plan = new AggregationOperator(new TestScan(),
+        Collections
+            .singletonList(DSL.named("avg(response)", DSL.avg(DSL.ref("response", INTEGER)))),
+        Collections.singletonList(DSL.named("action", DSL.ref("action", STRING))));
+    plan.setMemoryTracker(memoryTracker);
+
+    plan.open();
+    assertEquals((128L + 48L + 56L + 2 * "GET".length())
+        + (128L + 48L + 56L + 2 * "POST".length()), memoryTracker.usedBytes);
+    plan.close();
+    assertEquals(0, memoryTracker.usedBytes);
+  }
+
+  @Test
+  public void fail_when_buckets_exceed_memory_limit() {
+    TestMemoryTracker memoryTracker = new TestMemoryTracker() {
+      @Override
+      public void reserve(long bytes) {
+        if (usedBytes + bytes > 300L) {
+          throw new IllegalStateException("memory limit exceeded");
+        }
+        super.reserve(bytes);
+      }
+    };
+    PhysicalPlan plan = new AggregationOperator(new TestScan(),
+        Collections
+            .singletonList(DSL.named("avg(response)", DSL.avg(DSL.ref("response", INTEGER)))),
+        Collections.singletonList(DSL.named("action", DSL.ref("action", STRING))));
+    plan.setMemoryTracker(memoryTracker);
+
+    IllegalStateException exception = assertThrows(IllegalStateException.class, plan::open);
+    assertEquals("memory limit exceeded", exception.getMessage());
+    assertEquals(128L + 48L + 56L + 2 * "GET".length(), memoryTracker.usedBytes);
+    plan.close();
+    assertEquals(0, memoryTracker.usedBytes);
+  }
 }
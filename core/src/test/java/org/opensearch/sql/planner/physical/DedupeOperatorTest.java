@@ -10,17 +10,28 @@ import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.contains;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.Mockito.when;
+import static org.opensearch.sql.data.model.ExprTupleValue.fromExprValueMap;
+import static org.opensearch.sql.data.model.ExprValueUtils.LITERAL_MISSING;
+import static org.opensearch.sql.data.model.ExprValueUtils.LITERAL_NULL;
+import static org.opensearch.sql.data.model.ExprValueUtils.stringValue;
 import static org.opensearch.sql.data.model.ExprValueUtils.tupleValue;
+import static org.opensearch.sql.data.type.ExprCoreType.INTEGER;
 import static org.opensearch.sql.data.type.ExprCoreType.STRING;
+import static org.opensearch.sql.data.type.ExprCoreType.STRUCT;
 import static org.opensearch.sql.planner.physical.PhysicalPlanDSL.dedupe;
 
+import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.opensearch.sql.data.model.ExprCollectionValue;
+import org.opensearch.sql.data.model.ExprValue;
 import org.opensearch.sql.expression.DSL;
 import org.opensearch.sql.planner.physical.DedupeOperator.Deduper;
 
@@ -233,17 +244,29 @@ class DedupeOperatorTest extends PhysicalPlanTestBase {
   }
 
   @Test
-  public void historical_deduper() {
-    Deduper<Integer> deduper = Deduper.historicalDeduper();
+  public void dedupe_one_field_with_struct_and_array_value() {
+    ExprValue structWithNull = fromExprValueMap(
+        ImmutableMap.of("city", stringValue("Seattle"), "zip", LITERAL_NULL));
+    ExprValue structWithMissing = fromExprValueMap(
+        ImmutableMap.of("city", stringValue("Seattle"), "zip", LITERAL_MISSING));
+    ExprValue arrayWithNull = new ExprCollectionValue(
+        ImmutableList.of(stringValue("Seattle"), LITERAL_NULL));
+    when(inputPlan.hasNext()).thenReturn(true, true, true, true, true, true, false);
+    when(inputPlan.next())
+        .thenReturn(tupleValue(ImmutableMap.of("location", structWithNull, "id", 1)))
+        .thenReturn(tupleValue(ImmutableMap.of("location", structWithMissing, "id", 2)))
+        .thenReturn(tupleValue(ImmutableMap.of("location", structWithNull, "id", 3)))
+        .thenReturn(tupleValue(ImmutableMap.of("location", arrayWithNull, "id", 4)))
+        .thenReturn(tupleValue(ImmutableMap.of("location", arrayWithNull, "id", 5)))
+        .thenReturn(tupleValue(ImmutableMap.of("location", "Seattle", "id", 6)));
 
-    // first time seen 1
-    assertEquals(1, deduper.seenTimes(1));
-    // second time seen 1
-    assertEquals(2, deduper.seenTimes(1));
-    // first time seen 2
-    assertEquals(1, deduper.seenTimes(2));
-    // third time seen 1
-    assertEquals(3, deduper.seenTimes(1));
+    assertThat(
+        execute(dedupe(inputPlan, DSL.ref("location", STRUCT))),
+        contains(
+            tupleValue(ImmutableMap.of("location", structWithNull, "id", 1)),
+            tupleValue(ImmutableMap.of("location", structWithMissing, "id", 2)),
+            tupleValue(ImmutableMap.of("location", arrayWithNull, "id", 4)),
+            tupleValue(ImmutableMap.of("location", "Seattle", "id", 6))));
   }
 
   @Test
@@ -259,4 +282,52 @@ class DedupeOperatorTest extends PhysicalPlanTestBase {
     // first time seen 1
     assertEquals(1, deduper.seenTimes(1));
   }
+
+  @Test
+  public void dedupe_reserves_memory_per_distinct_key() {
+    TestMemoryTracker memoryTracker = new TestMemoryTracker();
+    when(inputPlan.hasNext()).thenReturn(true, true, true, false);
+    when(inputPlan.next())
+        .thenReturn(tupleValue(ImmutableMap.of("region", "us-east-1", "action", "GET")))
+        .thenReturn(tupleValue(ImmutableMap.of("region", "us-east-1", "action", "POST")))
+        .thenReturn(tupleValue(ImmutableMap.of("region", "us-west-2", "action", "GET")));
+    PhysicalPlan plan = dedupe(inputPlan, DSL.ref("region", STRING));
+    plan.setMemoryTracker(memoryTracker);
+
+    assertEquals(2, execute(plan).size());
+    // fingerprints of the 2 distinct keys fit in the initial hash table
+    assertEquals(16L * FingerprintCounter.SLOT_BYTES, memoryTracker.peakBytes);
+    assertEquals(0, memoryTracker.usedBytes);
+  }
+
+  @Test
+  public void dedupe_reserves_memory_when_fingerprints_grow() {
+    TestMemoryTracker memoryTracker = new TestMemoryTracker();
+    List<ExprValue> inputs = new ArrayList<>();
+    for (int i = 0; i < 13; i++) {
+      inputs.add(tupleValue(ImmutableMap.of("id", i)));
+      inputs.add(tupleValue(ImmutableMap.of("id", i)));
+    }
+    PhysicalPlan plan = dedupe(testScan(inputs), DSL.ref("id", INTEGER));
+    plan.setMemoryTracker(memoryTracker);
+
+    assertEquals(13, execute(plan).size());
+    // the 13th distinct key grows the hash table to 32 slots
+    assertEquals(32L * FingerprintCounter.SLOT_BYTES, memoryTracker.peakBytes);
+    assertEquals(0, memoryTracker.usedBytes);
+  }
+
+  @Test
+  public void consecutive_dedupe_reserves_no_memory() {
+    TestMemoryTracker memoryTracker = new TestMemoryTracker();
+    when(inputPlan.hasNext()).thenReturn(true, true, false);
+    when(inputPlan.next())
+        .thenReturn(tupleValue(ImmutableMap.of("region", "us-east-1", "action", "GET")))
+        .thenReturn(tupleValue(ImmutableMap.of("region", "us-west-2", "action", "GET")));
+    PhysicalPlan plan = dedupe(inputPlan, 1, false, true, DSL.ref("region", STRING));
+    plan.setMemoryTracker(memoryTracker);
+
+    assertEquals(2, execute(plan).size());
+    assertEquals(0, memoryTracker.peakBytes);
+  }
 }
@@ -8,6 +8,7 @@ package org.opensearch.sql.planner.physical;
 
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.allOf;
+import static org.hamcrest.Matchers.contains;
 import static org.hamcrest.Matchers.hasItems;
 import static org.hamcrest.Matchers.iterableWithSize;
 import static org.mockito.Mockito.when;
@@ -15,6 +16,7 @@ import static org.opensearch.sql.data.type.ExprCoreType.DOUBLE;
 import static org.opensearch.sql.data.type.ExprCoreType.INTEGER;
 import static org.opensearch.sql.data.type.ExprCoreType.STRING;
 import static org.opensearch.sql.planner.physical.PhysicalPlanDSL.eval;
+import static org.opensearch.sql.planner.physical.PhysicalPlanDSL.project;
 
 import com.google.common.collect.ImmutableMap;
 import java.util.List;
@@ -53,6 +55,49 @@ class EvalOperatorTest extends PhysicalPlanTestBase {
                     ImmutableMap.of("distance", 100, "time", 10, "velocity", 10)))));
   }
 
+  @Test
+  public void eval_in_batches() {
+    PhysicalPlan plan =
+        eval(
+            testScan(List.of(
+                ExprValueUtils.tupleValue(ImmutableMap.of("distance", 100, "time", 10)),
+                ExprValueUtils.tupleValue(ImmutableMap.of("distance", 60, "time", 2)))),
+            ImmutablePair.of(
+                DSL.ref("velocity", DOUBLE),
+                DSL.divide(DSL.ref("distance", INTEGER), DSL.ref("time", INTEGER))));
+    assertThat(
+        executeInBatches(plan, 10),
+        allOf(
+            iterableWithSize(2),
+            hasItems(
+                ExprValueUtils.tupleValue(
+                    ImmutableMap.of("distance", 100, "time", 10, "velocity", 10)),
+                ExprValueUtils.tupleValue(
+                    ImmutableMap.of("distance", 60, "time", 2, "velocity", 30)))));
+  }
+
+  @Test
+  public void replace_field_of_projected_rows() {
+    PhysicalPlan plan =
+        eval(
+            project(testScan(List.of(
+                    ExprValueUtils.tupleValue(ImmutableMap.of("distance", 100, "time", 10)),
+                    ExprValueUtils.tupleValue(ImmutableMap.of("distance", 60, "time", 2)))),
+                DSL.named("distance", DSL.ref("distance", INTEGER)),
+                DSL.named("time", DSL.ref("time", INTEGER))),
+            ImmutablePair.of(
+                DSL.ref("distance", INTEGER),
+                DSL.divide(DSL.ref("distance", INTEGER), DSL.ref("time", INTEGER))),
+            ImmutablePair.of(
+                DSL.ref("velocity", INTEGER),
+                DSL.ref("distance", INTEGER)));
+    assertThat(
+        execute(plan),
+        contains(
+            ExprValueUtils.tupleValue(ImmutableMap.of("distance", 10, "time", 10, "velocity", 10)),
+            ExprValueUtils.tupleValue(ImmutableMap.of("distance", 30, "time", 2, "velocity", 30))));
+  }
+
   @Test
   public void create_multiple_field_using_field_defined_in_input_tuple() {
     when(inputPlan.hasNext()).thenReturn(true, false);
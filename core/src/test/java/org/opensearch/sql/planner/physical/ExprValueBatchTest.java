@@ -0,0 +1,81 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+
+package org.opensearch.sql.planner.physical;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.opensearch.sql.data.model.ExprValueUtils.integerValue;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+import org.opensearch.sql.data.model.ExprValue;
+
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+class ExprValueBatchTest {
+
+  @Test
+  void empty_batch() {
+    assertTrue(ExprValueBatch.empty().isEmpty());
+  }
+
+  @Test
+  void add_grows_the_batch() {
+    ExprValueBatch batch = batchOf(5, 1);
+    assertEquals(5, batch.size());
+    assertEquals(integerValue(4), batch.get(4));
+  }
+
+  @Test
+  void filter_keeps_rows_in_place() {
+    ExprValueBatch batch = batchOf(6, 6)
+        .filter(value -> value.integerValue() % 2 == 0)
+        .filter(value -> value.integerValue() > 0);
+    assertEquals(List.of(integerValue(2), integerValue(4)), toList(batch));
+  }
+
+  @Test
+  void map_all_rows() {
+    ExprValueBatch batch = batchOf(3, 3)
+        .map(value -> integerValue(value.integerValue() * 10));
+    assertEquals(List.of(integerValue(0), integerValue(10), integerValue(20)), toList(batch));
+  }
+
+  @Test
+  void map_compacts_selected_rows() {
+    ExprValueBatch batch = batchOf(4, 4)
+        .filter(value -> value.integerValue() >= 2)
+        .map(value -> integerValue(value.integerValue() + 1));
+    assertEquals(List.of(integerValue(3), integerValue(4)), toList(batch));
+
+    batch.add(integerValue(5));
+    assertEquals(3, batch.size());
+  }
+
+  @Test
+  void cannot_add_to_filtered_batch() {
+    ExprValueBatch batch = batchOf(2, 2).filter(value -> true);
+    assertThrows(IllegalStateException.class, () -> batch.add(integerValue(3)));
+  }
+
+  private ExprValueBatch batchOf(int size, int capacity) {
+    ExprValueBatch batch = new ExprValueBatch(capacity);
+    for (int i = 0; i < size; i++) {
+      batch.add(integerValue(i));
+    }
+    return batch;
+  }
+
+  private List<ExprValue> toList(ExprValueBatch batch) {
+    List<ExprValue> result = new ArrayList<>();
+    batch.forEach(result::add);
+    return result;
+  }
+}
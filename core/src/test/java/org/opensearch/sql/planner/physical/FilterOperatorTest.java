@@ -52,6 +52,23 @@ class FilterOperatorTest extends PhysicalPlanTestBase {
                 "www.amazon.com"))));
   }
 
+  @Test
+  public void filter_in_batches_test() {
+    FilterOperator plan = new FilterOperator(new TestScan(),
+        DSL.notequal(DSL.ref("response", INTEGER), DSL.literal(200)));
+    assertEquals(execute(new FilterOperator(new TestScan(), plan.getConditions())),
+        executeInBatches(plan, 2));
+  }
+
+  @Test
+  public void filter_in_batches_should_skip_empty_batches() {
+    FilterOperator plan = new FilterOperator(new TestScan(),
+        DSL.equal(DSL.ref("response", INTEGER), DSL.literal(404)));
+    List<ExprValue> result = executeInBatches(plan, 1);
+    assertEquals(1, result.size());
+    assertEquals(404, result.get(0).tupleValue().get("response").integerValue());
+  }
+
   @Test
   public void null_value_should_been_ignored() {
     LinkedHashMap<String, ExprValue> value = new LinkedHashMap<>();
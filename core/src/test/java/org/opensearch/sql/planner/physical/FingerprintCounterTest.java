@@ -0,0 +1,67 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+
+package org.opensearch.sql.planner.physical;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+class FingerprintCounterTest {
+
+  @Test
+  void count_fingerprint_up_to_limit() {
+    FingerprintCounter counter = new FingerprintCounter();
+    assertEquals(0, counter.sizeInBytes());
+
+    assertTrue(counter.incrementUpTo(1L, 2L, 2));
+    assertTrue(counter.incrementUpTo(1L, 2L, 2));
+    assertFalse(counter.incrementUpTo(1L, 2L, 2));
+    assertEquals(1, counter.size());
+    assertEquals(16L * FingerprintCounter.SLOT_BYTES, counter.sizeInBytes());
+  }
+
+  @Test
+  void fingerprints_with_same_high_bits_are_distinct() {
+    FingerprintCounter counter = new FingerprintCounter();
+
+    assertTrue(counter.incrementUpTo(1L, 2L, 1));
+    assertTrue(counter.incrementUpTo(1L, 3L, 1));
+    assertTrue(counter.incrementUpTo(17L, 2L, 1));
+    assertFalse(counter.incrementUpTo(1L, 3L, 1));
+    assertFalse(counter.incrementUpTo(17L, 2L, 1));
+    assertEquals(3, counter.size());
+  }
+
+  @Test
+  void nothing_is_counted_with_zero_limit() {
+    FingerprintCounter counter = new FingerprintCounter();
+
+    assertFalse(counter.incrementUpTo(1L, 2L, 0));
+    assertEquals(0, counter.size());
+  }
+
+  @Test
+  void grow_and_keep_counts() {
+    FingerprintCounter counter = new FingerprintCounter();
+    for (long i = 0; i < 100; i++) {
+      assertTrue(counter.incrementUpTo(i * 16, i, 2));
+    }
+    assertEquals(100, counter.size());
+    assertEquals(256L * FingerprintCounter.SLOT_BYTES, counter.sizeInBytes());
+
+    for (long i = 0; i < 100; i++) {
+      assertTrue(counter.incrementUpTo(i * 16, i, 2));
+      assertFalse(counter.incrementUpTo(i * 16, i, 2));
+    }
+    assertEquals(100, counter.size());
+  }
+}
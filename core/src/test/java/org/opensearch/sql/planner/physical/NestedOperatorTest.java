@@ -336,4 +336,32 @@ class NestedOperatorTest extends PhysicalPlanTestBase {
         .tupleValue()
         .size());
   }
+
+  @Test
+  public void nested_reserves_memory_of_flattened_rows() {
+    when(inputPlan.hasNext()).thenReturn(true, false);
+    when(inputPlan.next())
+        .thenReturn(testData);
+
+    List<Map<String, ReferenceExpression>> fields =
+        List.of(
+            Map.of(
+                "field", new ReferenceExpression("message.info", STRING),
+                "path", new ReferenceExpression("message", STRING)),
+            Map.of(
+                "field", new ReferenceExpression("comment.data", STRING),
+                "path", new ReferenceExpression("comment", STRING))
+        );
+    var nested = new NestedOperator(inputPlan, fields);
+    TestMemoryTracker memoryTracker = new TestMemoryTracker();
+    nested.setMemoryTracker(memoryTracker);
+
+    nested.open();
+    assertTrue(nested.hasNext());
+    nested.next();
+    // 9 rows of 2 fields, each of a 1-character string
+    assertEquals(9 * (64L + 2 * (40L + 56L + 2L)), memoryTracker.usedBytes);
+    nested.close();
+    assertEquals(0, memoryTracker.usedBytes);
+  }
 }
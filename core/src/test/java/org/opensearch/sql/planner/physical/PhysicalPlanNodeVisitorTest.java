@@ -136,13 +136,15 @@ class PhysicalPlanNodeVisitorTest extends PhysicalPlanTestBase {
 
     PhysicalPlan cursorClose = new CursorCloseOperator(plan);
 
+    PhysicalPlan profile = new ProfilePlan(plan);
+
     return Stream.of(Arguments.of(filter, "filter"), Arguments.of(aggregation, "aggregation"),
         Arguments.of(rename, "rename"), Arguments.of(project, "project"),
         Arguments.of(window, "window"), Arguments.of(remove, "remove"),
         Arguments.of(eval, "eval"), Arguments.of(sort, "sort"), Arguments.of(dedupe, "dedupe"),
         Arguments.of(values, "values"), Arguments.of(rareTopN, "rareTopN"),
         Arguments.of(limit, "limit"), Arguments.of(nested, "nested"),
-        Arguments.of(cursorClose, "cursorClose"));
+        Arguments.of(cursorClose, "cursorClose"), Arguments.of(profile, "profile"));
   }
 
   @ParameterizedTest(name = "{1}")
@@ -13,6 +13,7 @@ import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.CALLS_REAL_METHODS;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
 
 import java.util.List;
@@ -23,6 +24,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.opensearch.sql.data.model.ExprValue;
+import org.opensearch.sql.monitor.MemoryTracker;
 import org.opensearch.sql.storage.split.Split;
 
 @ExtendWith(MockitoExtension.class)
@@ -56,9 +58,34 @@ class PhysicalPlanTest {
     }
   };
 
+  @Mock
+  MemoryTracker memoryTracker;
+
   @Test
   void add_split_to_child_by_default() {
     testPlan.add(split);
     verify(child).add(split);
   }
+
+  @Test
+  void release_reserved_memory_on_close() {
+    testPlan.setMemoryTracker(memoryTracker);
+    testPlan.reserveMemory(100L);
+    testPlan.reserveMemory(50L);
+    testPlan.releaseMemory(30L);
+    testPlan.reserveMemory(10L);
+    assertEquals(150L, testPlan.getPeakReservedBytes());
+    testPlan.close();
+
+    verify(memoryTracker).reserve(100L);
+    verify(memoryTracker).reserve(50L);
+    verify(memoryTracker).release(30L);
+    verify(memoryTracker).reserve(10L);
+    verify(memoryTracker).release(130L);
+    verify(child).close();
+
+    // nothing reserved any more
+    testPlan.close();
+    verifyNoMoreInteractions(memoryTracker);
+  }
 }
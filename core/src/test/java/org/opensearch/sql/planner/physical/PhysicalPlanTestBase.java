@@ -25,6 +25,7 @@ import org.opensearch.sql.exception.ExpressionEvaluationException;
 import org.opensearch.sql.expression.Expression;
 import org.opensearch.sql.expression.ReferenceExpression;
 import org.opensearch.sql.expression.env.Environment;
+import org.opensearch.sql.monitor.MemoryTracker;
 import org.opensearch.sql.planner.SerializablePlan;
 
 public class PhysicalPlanTestBase {
@@ -208,6 +209,18 @@ public class PhysicalPlanTestBase {
     return builder.build();
   }
 
+  protected List<ExprValue> executeInBatches(PhysicalPlan plan, int batchSize) {
+    ImmutableList.Builder<ExprValue> builder = new ImmutableList.Builder<>();
+    plan.open();
+    ExprValueBatch batch = plan.nextBatch(batchSize);
+    while (!batch.isEmpty()) {
+      batch.forEach(builder::add);
+      batch = plan.nextBatch(batchSize);
+    }
+    plan.close();
+    return builder.build();
+  }
+
   protected static PhysicalPlan testScan(List<ExprValue> inputs) {
     return new TestScan(inputs);
   }
@@ -259,4 +272,21 @@ public class PhysicalPlanTestBase {
       return 42;
     }
   }
+
+  /** Memory tracker which records the bytes currently used and the peak usage. */
+  protected static class TestMemoryTracker extends MemoryTracker {
+    protected long usedBytes;
+    protected long peakBytes;
+
+    @Override
+    public void reserve(long bytes) {
+      usedBytes += bytes;
+      peakBytes = Math.max(peakBytes, usedBytes);
+    }
+
+    @Override
+    public void release(long bytes) {
+      usedBytes -= bytes;
+    }
+  }
 }
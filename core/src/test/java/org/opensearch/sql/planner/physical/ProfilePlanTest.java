@@ -0,0 +1,102 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+
+package org.opensearch.sql.planner.physical;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.opensearch.sql.data.model.ExprValueUtils.integerValue;
+
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+class ProfilePlanTest {
+
+  @Mock
+  private PhysicalPlan delegate;
+
+  @Mock
+  private PhysicalPlanNodeVisitor<String, Object> visitor;
+
+  private ProfilePlan profilePlan;
+
+  @BeforeEach
+  void setUp() {
+    profilePlan = new ProfilePlan(delegate);
+  }
+
+  @Test
+  void count_rows_returned_by_delegate() {
+    when(delegate.hasNext()).thenReturn(true);
+    when(delegate.next()).thenReturn(integerValue(1));
+    ExprValueBatch batch = new ExprValueBatch(2);
+    batch.add(integerValue(2));
+    batch.add(integerValue(3));
+    when(delegate.nextBatch(2)).thenReturn(batch);
+
+    profilePlan.open();
+    assertTrue(profilePlan.hasNext());
+    assertEquals(integerValue(1), profilePlan.next());
+    assertSame(batch, profilePlan.nextBatch(2));
+    profilePlan.close();
+
+    assertEquals(3L, profilePlan.getRows());
+    assertTrue(profilePlan.getOpenNanos() >= 0L);
+    assertTrue(profilePlan.getNextNanos() >= 0L);
+    assertEquals(profilePlan.getOpenNanos() + profilePlan.getNextNanos(),
+        profilePlan.getTotalNanos());
+    verify(delegate).open();
+    verify(delegate).close();
+  }
+
+  @Test
+  void do_not_count_row_if_delegate_failed() {
+    when(delegate.next()).thenThrow(new IllegalStateException("failed"));
+
+    assertThrows(IllegalStateException.class, () -> profilePlan.next());
+    assertEquals(0L, profilePlan.getRows());
+  }
+
+  @Test
+  void measure_open_time_if_delegate_failed() {
+    doThrow(new IllegalStateException("failed")).when(delegate).open();
+
+    assertThrows(IllegalStateException.class, () -> profilePlan.open());
+    assertTrue(profilePlan.getOpenNanos() >= 0L);
+  }
+
+  @Test
+  void delegate_plan_properties() {
+    PhysicalPlan child = new ValuesOperator(List.of());
+    when(delegate.getChild()).thenReturn(List.of(child));
+    when(delegate.getPeakReservedBytes()).thenReturn(100L);
+
+    assertEquals(List.of(child), profilePlan.getChild());
+    assertEquals(100L, profilePlan.getPeakReservedBytes());
+    assertSame(delegate, profilePlan.getDelegate());
+    assertEquals(new ProfilePlan(delegate), profilePlan);
+  }
+
+  @Test
+  void accept_visitor() {
+    when(visitor.visitProfile(profilePlan, null)).thenReturn("profile");
+
+    assertEquals("profile", profilePlan.accept(visitor, null));
+  }
+}
@@ -59,6 +59,22 @@ class ProjectOperatorTest extends PhysicalPlanTestBase {
             hasItems(ExprValueUtils.tupleValue(ImmutableMap.of("action", "GET")))));
   }
 
+  @Test
+  public void project_in_batches() {
+    PhysicalPlan plan = project(testScan(inputs),
+        DSL.named("response", DSL.ref("response", INTEGER)));
+    List<ExprValue> result = executeInBatches(plan, 2);
+
+    assertThat(
+        result,
+        contains(
+            ExprValueUtils.tupleValue(ImmutableMap.of("response", 200)),
+            ExprValueUtils.tupleValue(ImmutableMap.of("response", 404)),
+            ExprValueUtils.tupleValue(ImmutableMap.of("response", 200)),
+            ExprValueUtils.tupleValue(ImmutableMap.of("response", 200)),
+            ExprValueUtils.tupleValue(ImmutableMap.of("response", 500))));
+  }
+
   @Test
   public void project_two_field_follow_the_project_order() {
     when(inputPlan.hasNext()).thenReturn(true, false);
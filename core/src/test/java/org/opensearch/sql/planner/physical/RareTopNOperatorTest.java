@@ -9,6 +9,7 @@ package org.opensearch.sql.planner.physical;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.containsInAnyOrder;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import com.google.common.collect.ImmutableMap;
 import java.util.Collections;
@@ -94,4 +95,19 @@ public class RareTopNOperatorTest extends PhysicalPlanTestBase {
         ExprValueUtils.tupleValue(ImmutableMap.of("action", "GET", "response", 200))
     ));
   }
+
+  @Test
+  public void reserve_memory_per_distinct_value_until_closed() {
+    TestMemoryTracker memoryTracker = new TestMemoryTracker();
+    PhysicalPlan plan = new RareTopNOperator(new TestScan(),
+        CommandType.TOP,
+        Collections.singletonList(DSL.ref("response", ExprCoreType.INTEGER)),
+        Collections.singletonList(DSL.ref("action", ExprCoreType.STRING)));
+    plan.setMemoryTracker(memoryTracker);
+
+    plan.open();
+    assertTrue(memoryTracker.usedBytes > 0);
+    plan.close();
+    assertEquals(0, memoryTracker.usedBytes);
+  }
 }
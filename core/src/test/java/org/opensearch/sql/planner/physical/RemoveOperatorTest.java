@@ -8,6 +8,7 @@ package org.opensearch.sql.planner.physical;
 
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.allOf;
+import static org.hamcrest.Matchers.contains;
 import static org.hamcrest.Matchers.hasItems;
 import static org.hamcrest.Matchers.iterableWithSize;
 import static org.junit.jupiter.api.Assertions.assertEquals;
@@ -15,6 +16,7 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.Mockito.when;
 import static org.opensearch.sql.data.type.ExprCoreType.INTEGER;
 import static org.opensearch.sql.data.type.ExprCoreType.STRING;
+import static org.opensearch.sql.planner.physical.PhysicalPlanDSL.project;
 import static org.opensearch.sql.planner.physical.PhysicalPlanDSL.remove;
 
 import com.google.common.collect.ImmutableMap;
@@ -101,6 +103,25 @@ class RemoveOperatorTest extends PhysicalPlanTestBase {
                 ExprValueUtils.tupleValue(ImmutableMap.of("action", "POST")))));
   }
 
+  @Test
+  public void remove_fields_of_projected_rows() {
+    PhysicalPlan plan = remove(
+        project(testScan(inputs),
+            DSL.named("action", DSL.ref("action", STRING)),
+            DSL.named("response", DSL.ref("response", INTEGER))),
+        DSL.ref("action", STRING));
+    List<ExprValue> result = execute(plan);
+
+    assertThat(
+        result,
+        contains(
+            ExprValueUtils.tupleValue(ImmutableMap.of("response", 200)),
+            ExprValueUtils.tupleValue(ImmutableMap.of("response", 404)),
+            ExprValueUtils.tupleValue(ImmutableMap.of("response", 200)),
+            ExprValueUtils.tupleValue(ImmutableMap.of("response", 200)),
+            ExprValueUtils.tupleValue(ImmutableMap.of("response", 500))));
+  }
+
   @Test
   public void remove_nothing_with_none_tuple_value() {
     when(inputPlan.hasNext()).thenReturn(true, false);
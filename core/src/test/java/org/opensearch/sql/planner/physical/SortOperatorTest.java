@@ -9,6 +9,7 @@ package org.opensearch.sql.planner.physical;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.contains;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.when;
 import static org.opensearch.sql.data.model.ExprValueUtils.tupleValue;
 import static org.opensearch.sql.data.type.ExprCoreType.INTEGER;
@@ -58,6 +59,47 @@ class SortOperatorTest extends PhysicalPlanTestBase {
             tupleValue(ImmutableMap.of("size", 399, "response", 503))));
   }
 
+  @Test
+  public void sort_one_field_top_n() {
+    when(inputPlan.hasNext()).thenReturn(true, true, true, true, false);
+    when(inputPlan.next())
+        .thenReturn(tupleValue(ImmutableMap.of("size", 499, "response", 404)))
+        .thenReturn(tupleValue(ImmutableMap.of("size", 320, "response", 200)))
+        .thenReturn(tupleValue(ImmutableMap.of("size", 399, "response", 503)))
+        .thenReturn(tupleValue(ImmutableMap.of("size", 120, "response", 302)));
+
+    assertThat(
+        execute(sort(inputPlan, 2, Pair.of(SortOption.DEFAULT_DESC, ref("response", INTEGER)))),
+        contains(
+            tupleValue(ImmutableMap.of("size", 399, "response", 503)),
+            tupleValue(ImmutableMap.of("size", 499, "response", 404))));
+  }
+
+  @Test
+  public void sort_top_n_with_fewer_rows() {
+    when(inputPlan.hasNext()).thenReturn(true, true, false);
+    when(inputPlan.next())
+        .thenReturn(tupleValue(ImmutableMap.of("size", 499, "response", 404)))
+        .thenReturn(tupleValue(ImmutableMap.of("size", 320, "response", 200)));
+
+    assertThat(
+        execute(sort(inputPlan, 5, Pair.of(SortOption.DEFAULT_ASC, ref("response", INTEGER)))),
+        contains(
+            tupleValue(ImmutableMap.of("size", 320, "response", 200)),
+            tupleValue(ImmutableMap.of("size", 499, "response", 404))));
+  }
+
+  @Test
+  public void sort_top_zero() {
+    when(inputPlan.hasNext()).thenReturn(true, false);
+    when(inputPlan.next())
+        .thenReturn(tupleValue(ImmutableMap.of("size", 499, "response", 404)));
+
+    assertEquals(0,
+        execute(sort(inputPlan, 0, Pair.of(SortOption.DEFAULT_ASC, ref("response", INTEGER))))
+            .size());
+  }
+
   @Test
   public void sort_one_field_with_duplication() {
     when(inputPlan.hasNext()).thenReturn(true, true, true, false);
@@ -267,4 +309,27 @@ class SortOperatorTest extends PhysicalPlanTestBase {
         execute(sort(inputPlan,
             Pair.of(SortOption.DEFAULT_ASC, ref("response", INTEGER)))).size());
   }
+
+  @Test
+  public void sort_reserves_memory_of_all_rows_until_closed() {
+    TestMemoryTracker memoryTracker = new TestMemoryTracker();
+    SortOperator plan = sort(testScan(countTestInputs),
+        Pair.of(SortOption.DEFAULT_DESC, ref("id", INTEGER)));
+    plan.setMemoryTracker(memoryTracker);
+
+    plan.open();
+    assertTrue(memoryTracker.usedBytes > 0);
+    long allRowsBytes = memoryTracker.usedBytes;
+    plan.close();
+    assertEquals(0, memoryTracker.usedBytes);
+
+    TestMemoryTracker topNMemoryTracker = new TestMemoryTracker();
+    SortOperator topNPlan = sort(testScan(countTestInputs), 2,
+        Pair.of(SortOption.DEFAULT_DESC, ref("id", INTEGER)));
+    topNPlan.setMemoryTracker(topNMemoryTracker);
+
+    assertEquals(2, execute(topNPlan).size());
+    assertTrue(topNMemoryTracker.peakBytes < allRowsBytes);
+    assertEquals(0, topNMemoryTracker.usedBytes);
+  }
 }
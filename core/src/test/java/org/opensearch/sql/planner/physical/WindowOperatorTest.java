@@ -26,13 +26,18 @@ import org.junit.jupiter.api.DisplayNameGenerator;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.opensearch.sql.ast.expression.WindowFrameSpec;
+import org.opensearch.sql.ast.expression.WindowFrameSpec.FrameBound;
+import org.opensearch.sql.ast.expression.WindowFrameSpec.FrameUnit;
 import org.opensearch.sql.ast.tree.Sort.SortOption;
+import org.opensearch.sql.data.model.ExprValue;
 import org.opensearch.sql.data.model.ExprValueUtils;
 import org.opensearch.sql.expression.DSL;
 import org.opensearch.sql.expression.Expression;
 import org.opensearch.sql.expression.NamedExpression;
 import org.opensearch.sql.expression.window.WindowDefinition;
 import org.opensearch.sql.expression.window.aggregation.AggregateWindowFunction;
+import org.opensearch.sql.monitor.MemoryTracker;
 
 @DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
 @ExtendWith(MockitoExtension.class)
@@ -107,6 +112,52 @@ class WindowOperatorTest extends PhysicalPlanTestBase {
         .done();
   }
 
+  @Test
+  void reserve_memory_of_rows_retained_by_window_frame() {
+    TestMemoryTracker memoryTracker = new TestMemoryTracker();
+    WindowOperator windowOperator = new WindowOperator(
+        new TestScan(),
+        DSL.named(new AggregateWindowFunction(DSL.sum(ref("response", INTEGER)))),
+        new WindowDefinition(List.of(), List.of()));
+    windowOperator.setMemoryTracker(memoryTracker);
+
+    windowOperator.open();
+    windowOperator.next();
+    // the only window frame retains all the rows
+    assertEquals(inputs.stream().mapToLong(MemoryTracker::estimateSize).sum(),
+        memoryTracker.usedBytes);
+    windowOperator.close();
+    assertEquals(0, memoryTracker.usedBytes);
+  }
+
+  @Test
+  void release_memory_of_rows_dropped_by_sliding_window_frame() {
+    List<ExprValue> rows = new ArrayList<>();
+    for (int i = 0; i < 100; i++) {
+      rows.add(ExprValueUtils.tupleValue(ImmutableMap.of("response", i)));
+    }
+    long rowSize = MemoryTracker.estimateSize(rows.get(0));
+    TestMemoryTracker memoryTracker = new TestMemoryTracker();
+    WindowOperator windowOperator = new WindowOperator(
+        new TestScan(rows),
+        DSL.named(new AggregateWindowFunction(DSL.sum(ref("response", INTEGER)))),
+        new WindowDefinition(List.of(), List.of(Pair.of(DEFAULT_ASC, ref("response", INTEGER))),
+            new WindowFrameSpec(FrameUnit.ROWS, FrameBound.CURRENT_ROW, FrameBound.following(1))));
+    windowOperator.setMemoryTracker(memoryTracker);
+
+    windowOperator.open();
+    int count = 0;
+    while (windowOperator.hasNext()) {
+      windowOperator.next();
+      count++;
+    }
+    assertEquals(100, count);
+    // the frame holds current and next row, and the row dropped on each move is released
+    assertTrue(memoryTracker.peakBytes <= 3 * rowSize);
+    windowOperator.close();
+    assertEquals(0, memoryTracker.usedBytes);
+  }
+
   private WindowOperatorAssertion window(Expression windowFunction) {
     return new WindowOperatorAssertion(windowFunction);
   }
@@ -0,0 +1,62 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+
+package org.opensearch.sql.utils;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.opensearch.sql.data.type.ExprCoreType.INTEGER;
+import static org.opensearch.sql.data.type.ExprCoreType.TIMESTAMP;
+import static org.opensearch.sql.utils.ExpressionUtils.isRepeatable;
+
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.opensearch.sql.expression.DSL;
+import org.opensearch.sql.expression.Expression;
+import org.opensearch.sql.expression.FunctionExpression;
+import org.opensearch.sql.expression.function.BuiltinFunctionName;
+import org.opensearch.sql.expression.function.BuiltinFunctionRepository;
+import org.opensearch.sql.expression.function.FunctionProperties;
+
+class ExpressionUtilsTest {
+
+  private final FunctionProperties functionProperties = new FunctionProperties();
+
+  @Test
+  void deterministic_expressions_are_repeatable() {
+    assertTrue(isRepeatable(DSL.literal(1)));
+    assertTrue(isRepeatable(DSL.named("a", DSL.abs(DSL.ref("a", INTEGER)))));
+    assertTrue(isRepeatable(DSL.named("count(a)", DSL.count(DSL.ref("a", INTEGER)))));
+    assertTrue(isRepeatable(DSL.namedArgument("query", DSL.literal("test"))));
+    assertTrue(isRepeatable(unixTimestamp(DSL.ref("time", TIMESTAMP))));
+  }
+
+  @Test
+  void non_deterministic_expressions_are_not_repeatable() {
+    assertFalse(isRepeatable(DSL.rand()));
+    assertFalse(isRepeatable(DSL.add(DSL.ref("a", INTEGER), DSL.rand())));
+    assertFalse(isRepeatable(DSL.sysdate(functionProperties)));
+  }
+
+  @Test
+  void current_time_expressions_are_not_repeatable() {
+    assertFalse(isRepeatable(DSL.now(functionProperties)));
+    assertFalse(isRepeatable(DSL.named("today", DSL.curdate(functionProperties))));
+    assertFalse(isRepeatable(unixTimestamp()));
+  }
+
+  @Test
+  void arguments_of_aggregators_and_named_arguments_are_visited() {
+    assertFalse(isRepeatable(DSL.count(DSL.rand())));
+    assertFalse(isRepeatable(DSL.named("count(rand())", DSL.count(DSL.rand()))));
+    assertFalse(isRepeatable(DSL.namedArgument("seed", DSL.rand())));
+  }
+
+  private FunctionExpression unixTimestamp(Expression... args) {
+    return (FunctionExpression) BuiltinFunctionRepository.getInstance().compile(functionProperties,
+        BuiltinFunctionName.UNIX_TIMESTAMP.getName(), List.of(args));
+  }
+}
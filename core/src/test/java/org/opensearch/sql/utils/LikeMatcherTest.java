@@ -0,0 +1,64 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+
+package org.opensearch.sql.utils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.regex.Pattern;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class LikeMatcherTest {
+
+  private static final List<String> TEXTS = List.of(
+      "", "abc", "ABC", "aBc", "xabcx", "XABC", "abcx", "ab", "a", "aac", "aa", "a%", "ab%",
+      "a?", "a.c", "A.Cd", "[a]b", "$^", "k", "K", "kx",
+      "a\nabc", "abc\n", "\rabc", "a\nb",
+      "abc\u0085", "\u2028abc", "abc\u2029", // line terminators
+      "\u212Ax", // kelvin sign
+      "\uD83D\uDE00x"); // surrogate pair
+
+  @ParameterizedTest(name = "like(text, {0})")
+  @ValueSource(strings = {
+      "", "%", "%%", "abc", "abc%", "%abc", "%abc%", "%%abc%%", "%a%", "a%c", "a_c", "_", "ab\\%",
+      "a?", "a{2}", "}", "a\nb", "a\nb%", "\rabc", "%\u0085", "\u2028%", "%\u2029", // separators
+      "A.C%", "[a]%", "$^%", "k%", "K",
+      "\uD83D\uDE00%" // surrogate pair
+  })
+  void match_same_as_regex(String pattern) {
+    Pattern regex = Pattern.compile(LikeMatcher.patternToRegex(pattern), Pattern.CASE_INSENSITIVE);
+    LikeMatcher matcher = LikeMatcher.compile(pattern);
+    for (String text : TEXTS) {
+      assertEquals(regex.matcher(text).matches(), matcher.matches(text),
+          String.format("like(%s, %s)", text, pattern));
+    }
+  }
+
+  @Test
+  void match_simple_pattern_without_regex() {
+    assertEquals(new LikeMatcher.LiteralMatcher("abc", false, false), LikeMatcher.compile("abc"));
+    assertEquals(new LikeMatcher.LiteralMatcher("abc", false, true), LikeMatcher.compile("abc%"));
+    assertEquals(new LikeMatcher.LiteralMatcher("abc", true, false), LikeMatcher.compile("%abc"));
+    assertEquals(new LikeMatcher.LiteralMatcher("abc", true, true), LikeMatcher.compile("%abc%"));
+    assertEquals(new LikeMatcher.LiteralMatcher("", true, false), LikeMatcher.compile("%"));
+    assertTrue(LikeMatcher.compile("a_c") instanceof LikeMatcher.RegexMatcher);
+    assertTrue(LikeMatcher.compile("a%c") instanceof LikeMatcher.RegexMatcher);
+  }
+
+  @Test
+  void cache_compiled_patterns() {
+    assertSame(OperatorUtils.likeMatcher("a_c"), OperatorUtils.likeMatcher("a_c"));
+    assertSame(OperatorUtils.regexpPattern("a.c"), OperatorUtils.regexpPattern("a.c"));
+    assertTrue(OperatorUtils.likeMatcher("a_c").matches("ABC"));
+    assertFalse(OperatorUtils.regexpPattern("a.c").matcher("ABC").matches());
+  }
+}
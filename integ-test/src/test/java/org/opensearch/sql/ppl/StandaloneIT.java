@@ -146,8 +146,11 @@ public class StandaloneIT extends PPLIntegTestCase {
 
   private Settings defaultSettings() {
     return new Settings() {
-      private final Map<Key, Integer> defaultSettings = new ImmutableMap.Builder<Key, Integer>()
+      private final Map<Key, Object> defaultSettings = new ImmutableMap.Builder<Key, Object>()
           .put(Key.QUERY_SIZE_LIMIT, 200)
+          .put(Key.QUERY_SCAN_SLICES, 1)
+          .put(Key.QUERY_SCAN_PREFETCH, false)
+          .put(Key.QUERY_DEDUP_PUSHDOWN, false)
           .build();
 
       @Override
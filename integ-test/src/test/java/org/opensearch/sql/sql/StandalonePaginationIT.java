@@ -155,6 +155,9 @@ public class StandalonePaginationIT extends SQLIntegTestCase {
     return new Settings() {
       private final Map<Key, Object> defaultSettings = new ImmutableMap.Builder<Key, Object>()
           .put(Key.QUERY_SIZE_LIMIT, 200)
+          .put(Key.QUERY_SCAN_SLICES, 1)
+          .put(Key.QUERY_SCAN_PREFETCH, false)
+          .put(Key.QUERY_DEDUP_PUSHDOWN, false)
           .put(Key.SQL_CURSOR_KEEP_ALIVE, TimeValue.timeValueMinutes(1))
           .build();
 
@@ -8,10 +8,12 @@ package org.opensearch.sql.opensearch.client;
 
 import java.util.List;
 import java.util.Map;
+import java.util.function.Supplier;
 import org.opensearch.client.node.NodeClient;
 import org.opensearch.sql.opensearch.mapping.IndexMapping;
 import org.opensearch.sql.opensearch.request.OpenSearchRequest;
 import org.opensearch.sql.opensearch.response.OpenSearchResponse;
+import org.opensearch.sql.opensearch.statistics.IndexStatistics;
 
 /**
  * OpenSearch client abstraction to wrap different OpenSearch client implementation. For
@@ -52,6 +54,32 @@ public interface OpenSearchClient {
    */
   Map<String, Integer> getIndexMaxResultWindows(String... indexExpression);
 
+  /**
+   * Fetch index.max_slices_per_scroll settings according to index expression given.
+   *
+   * @param indexExpression index expression
+   * @return map from index name to its max slices per scroll
+   */
+  Map<String, Integer> getIndexMaxSlicesPerScroll(String... indexExpression);
+
+  /**
+   * Fetch the number of refreshes of primary shards according to index expression given.
+   * The number changes whenever newly indexed data becomes visible to search.
+   *
+   * @param indexExpression index expression
+   * @return map from index UUID to its refresh count, or empty map if not available
+   */
+  Map<String, Long> getIndexRefreshCounts(String... indexExpression);
+
+  /**
+   * Fetch the document count and store size of primary shards according to index expression
+   * given.
+   *
+   * @param indexExpression index expression
+   * @return map from index name to its statistics, or empty map if not available
+   */
+  Map<String, IndexStatistics> getIndexStatistics(String... indexExpression);
+
   /**
    * Perform search query in the search request.
    *
@@ -60,6 +88,15 @@ public interface OpenSearchClient {
    */
   OpenSearchResponse search(OpenSearchRequest request);
 
+  /**
+   * Start the search in the background and return the way to wait for its response. The request
+   * must not be used by the caller until the response is taken.
+   *
+   * @param request search request
+   * @return supplier which blocks until the search response is available
+   */
+  Supplier<OpenSearchResponse> prefetch(OpenSearchRequest request);
+
   /**
    * Get the combination of the indices and the alias.
    *
@@ -12,8 +12,11 @@ import java.util.Arrays;
 import java.util.Collection;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
 import java.util.function.Function;
 import java.util.function.Predicate;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import org.opensearch.action.admin.indices.create.CreateIndexRequest;
@@ -22,14 +25,19 @@ import org.opensearch.action.admin.indices.exists.indices.IndicesExistsResponse;
 import org.opensearch.action.admin.indices.get.GetIndexResponse;
 import org.opensearch.action.admin.indices.mapping.get.GetMappingsResponse;
 import org.opensearch.action.admin.indices.settings.get.GetSettingsResponse;
+import org.opensearch.action.admin.indices.stats.CommonStats;
+import org.opensearch.action.admin.indices.stats.IndicesStatsResponse;
 import org.opensearch.client.node.NodeClient;
 import org.opensearch.cluster.metadata.AliasMetadata;
+import org.opensearch.common.settings.Setting;
 import org.opensearch.common.settings.Settings;
 import org.opensearch.index.IndexNotFoundException;
 import org.opensearch.index.IndexSettings;
 import org.opensearch.sql.opensearch.mapping.IndexMapping;
 import org.opensearch.sql.opensearch.request.OpenSearchRequest;
 import org.opensearch.sql.opensearch.response.OpenSearchResponse;
+import org.opensearch.sql.opensearch.statistics.IndexStatistics;
+import org.opensearch.threadpool.ThreadPool;
 
 /** OpenSearch connection by node client. */
 public class OpenSearchNodeClient implements OpenSearchClient {
@@ -107,6 +115,22 @@ public class OpenSearchNodeClient implements OpenSearchClient {
    */
   @Override
   public Map<String, Integer> getIndexMaxResultWindows(String... indexExpression) {
+    return getIndexIntSettings(IndexSettings.MAX_RESULT_WINDOW_SETTING, indexExpression);
+  }
+
+  /**
+   * Fetch index.max_slices_per_scroll settings according to index expression given.
+   *
+   * @param indexExpression index expression
+   * @return map from index name to its max slices per scroll
+   */
+  @Override
+  public Map<String, Integer> getIndexMaxSlicesPerScroll(String... indexExpression) {
+    return getIndexIntSettings(IndexSettings.MAX_SLICES_PER_SCROLL, indexExpression);
+  }
+
+  private Map<String, Integer> getIndexIntSettings(Setting<Integer> setting,
+                                                   String... indexExpression) {
     try {
       GetSettingsResponse settingsResponse =
           client.admin().indices().prepareGetSettings(indexExpression).setLocal(true).get();
@@ -116,9 +140,7 @@ public class OpenSearchNodeClient implements OpenSearchClient {
         Settings settings = indexToSetting.getValue();
         result.put(
             indexToSetting.getKey(),
-            settings.getAsInt(
-                IndexSettings.MAX_RESULT_WINDOW_SETTING.getKey(),
-                IndexSettings.MAX_RESULT_WINDOW_SETTING.getDefault(settings)));
+            settings.getAsInt(setting.getKey(), setting.getDefault(settings)));
       }
       return result.build();
     } catch (Exception e) {
@@ -127,15 +149,75 @@ public class OpenSearchNodeClient implements OpenSearchClient {
     }
   }
 
+  @Override
+  public Map<String, Long> getIndexRefreshCounts(String... indexExpression) {
+    try {
+      IndicesStatsResponse statsResponse = client.admin().indices()
+          .prepareStats(indexExpression).clear().setRefresh(true).get();
+      ImmutableMap.Builder<String, Long> result = ImmutableMap.builder();
+      statsResponse.getIndices().forEach((index, stats) ->
+          result.put(stats.getUuid(), stats.getPrimaries().getRefresh().getTotal()));
+      return result.build();
+    } catch (Exception e) {
+      throw new IllegalStateException(
+          "Failed to read refresh stats for index pattern [" + String.join(",", indexExpression)
+              + "]", e);
+    }
+  }
+
+  @Override
+  public Map<String, IndexStatistics> getIndexStatistics(String... indexExpression) {
+    try {
+      IndicesStatsResponse statsResponse = client.admin().indices()
+          .prepareStats(indexExpression).clear().setDocs(true).setStore(true).get();
+      ImmutableMap.Builder<String, IndexStatistics> result = ImmutableMap.builder();
+      statsResponse.getIndices().forEach((index, stats) -> {
+        CommonStats primaries = stats.getPrimaries();
+        // Stats are missing while no primary shard of the index is started
+        if (primaries.getDocs() != null && primaries.getStore() != null) {
+          result.put(index, new IndexStatistics(
+              primaries.getDocs().getCount(), primaries.getStore().getSizeInBytes()));
+        }
+      });
+      return result.build();
+    } catch (Exception e) {
+      throw new IllegalStateException(
+          "Failed to read index stats for index pattern [" + String.join(",", indexExpression)
+              + "]", e);
+    }
+  }
+
   /**
    * TODO: Scroll doesn't work for aggregation. Support aggregation later.
    */
   @Override
   public OpenSearchResponse search(OpenSearchRequest request) {
-    return request.search(
-        req -> client.search(req).actionGet(),
-        req -> client.searchScroll(req).actionGet()
-    );
+    return request.searchAsync(client::search, client::searchScroll);
+  }
+
+  /**
+   * Run the search on the generic thread pool. It's not submitted to the sql-worker pool, because
+   * the caller already runs there and waiting on a task of the same bounded pool could block it.
+   */
+  @Override
+  public Supplier<OpenSearchResponse> prefetch(OpenSearchRequest request) {
+    Future<OpenSearchResponse> future =
+        client.threadPool().executor(ThreadPool.Names.GENERIC).submit(() -> search(request));
+    return () -> {
+      try {
+        return future.get();
+      } catch (ExecutionException e) {
+        if (e.getCause() instanceof RuntimeException) {
+          throw (RuntimeException) e.getCause();
+        }
+        throw new IllegalStateException(
+            "Failed to perform search operation with request " + request, e.getCause());
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        throw new IllegalStateException(
+            "Interrupted while waiting for search request " + request, e);
+      }
+    };
   }
 
   /**
@@ -14,6 +14,7 @@ import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import lombok.RequiredArgsConstructor;
@@ -34,6 +35,7 @@ import org.opensearch.common.settings.Settings;
 import org.opensearch.sql.opensearch.mapping.IndexMapping;
 import org.opensearch.sql.opensearch.request.OpenSearchRequest;
 import org.opensearch.sql.opensearch.response.OpenSearchResponse;
+import org.opensearch.sql.opensearch.statistics.IndexStatistics;
 
 /**
  * OpenSearch REST client to support standalone mode that runs entire engine from remote.
@@ -80,6 +82,15 @@ public class OpenSearchRestClient implements OpenSearchClient {
 
   @Override
   public Map<String, Integer> getIndexMaxResultWindows(String... indexExpression) {
+    return getIndexIntSettings("index.max_result_window", indexExpression);
+  }
+
+  @Override
+  public Map<String, Integer> getIndexMaxSlicesPerScroll(String... indexExpression) {
+    return getIndexIntSettings("index.max_slices_per_scroll", indexExpression);
+  }
+
+  private Map<String, Integer> getIndexIntSettings(String setting, String... indexExpression) {
     GetSettingsRequest request = new GetSettingsRequest()
         .indices(indexExpression).includeDefaults(true);
     try {
@@ -89,25 +100,39 @@ public class OpenSearchRestClient implements OpenSearchClient {
       Map<String, Integer> result = new HashMap<>();
 
       defaultSettings.forEach((key, value) -> {
-        Integer maxResultWindow = value.getAsInt("index.max_result_window", null);
-        if (maxResultWindow != null) {
-          result.put(key, maxResultWindow);
+        Integer settingValue = value.getAsInt(setting, null);
+        if (settingValue != null) {
+          result.put(key, settingValue);
         }
       });
 
       settings.forEach((key, value) -> {
-        Integer maxResultWindow = value.getAsInt("index.max_result_window", null);
-        if (maxResultWindow != null) {
-          result.put(key, maxResultWindow);
+        Integer settingValue = value.getAsInt(setting, null);
+        if (settingValue != null) {
+          result.put(key, settingValue);
         }
       });
 
       return result;
     } catch (IOException e) {
-      throw new IllegalStateException("Failed to get max result window for " + indexExpression, e);
+      throw new IllegalStateException("Failed to get " + setting + " for " + indexExpression, e);
     }
   }
 
+  /**
+   * Refresh stats are not exposed by the high level REST client, so the result of queries
+   * through REST client is never cached.
+   */
+  @Override
+  public Map<String, Long> getIndexRefreshCounts(String... indexExpression) {
+    return Map.of();
+  }
+
+  @Override
+  public Map<String, IndexStatistics> getIndexStatistics(String... indexExpression) {
+    return Map.of();
+  }
+
   @Override
   public OpenSearchResponse search(OpenSearchRequest request) {
     return request.search(
@@ -130,6 +155,15 @@ public class OpenSearchRestClient implements OpenSearchClient {
     );
   }
 
+  /**
+   * Standalone mode has no thread pool to run the search on, so it's done right away.
+   */
+  @Override
+  public Supplier<OpenSearchResponse> prefetch(OpenSearchRequest request) {
+    OpenSearchResponse response = search(request);
+    return () -> response;
+  }
+
   /**
    * Get the combination of the indices and the alias.
    *
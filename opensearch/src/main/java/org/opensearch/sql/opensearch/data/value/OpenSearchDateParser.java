@@ -0,0 +1,137 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+
+package org.opensearch.sql.opensearch.data.value;
+
+import static org.opensearch.sql.utils.DateTimeFormatters.DATE_TIME_FORMATTER;
+import static org.opensearch.sql.utils.DateTimeFormatters.STRICT_HOUR_MINUTE_SECOND_FORMATTER;
+import static org.opensearch.sql.utils.DateTimeFormatters.STRICT_YEAR_MONTH_DAY_FORMATTER;
+import static org.opensearch.sql.utils.DateTimeUtils.UTC_ZONE_ID;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.List;
+import org.opensearch.common.time.DateFormatter;
+import org.opensearch.common.time.DateFormatters;
+import org.opensearch.common.time.FormatNames;
+import org.opensearch.sql.data.model.ExprDateValue;
+import org.opensearch.sql.data.model.ExprTimeValue;
+import org.opensearch.sql.data.model.ExprTimestampValue;
+import org.opensearch.sql.data.model.ExprValue;
+import org.opensearch.sql.data.type.ExprCoreType;
+import org.opensearch.sql.opensearch.data.type.OpenSearchDateType;
+import org.opensearch.sql.opensearch.data.utils.Content;
+
+/**
+ * Parser of the values of a date field into {@link ExprValue}. The formatters of the field and
+ * the handling of numbers only depend on the mapping, so they are resolved once for the field
+ * rather than for each value. Strings are parsed with the formatters in the order of the
+ * mapping, so a string accepted by several of them is always parsed by the first one, whatever
+ * the values parsed before.
+ */
+class OpenSearchDateParser {
+
+  private final ExprCoreType returnType;
+
+  /** Whether numbers are epoch values, otherwise they are parsed with the custom formats. */
+  private final boolean epochNumbers;
+
+  /** Whether epoch values are in seconds, otherwise they are in milliseconds. */
+  private final boolean epochSecond;
+
+  private final List<DateFormatter> formatters;
+
+  /**
+   * Constructor of OpenSearchDateParser.
+   *
+   * @param type date type of the field
+   */
+  OpenSearchDateParser(OpenSearchDateType type) {
+    this.returnType = (ExprCoreType) type.getExprType();
+    List<DateFormatter> numFormatters = type.getNumericNamedFormatters();
+    this.epochNumbers = numFormatters.size() > 0 || !type.hasFormats();
+    // no CamelCase for `EPOCH_*` formats
+    this.epochSecond = numFormatters.contains(
+        DateFormatter.forPattern(FormatNames.EPOCH_SECOND.getSnakeCaseName()));
+    this.formatters = new ArrayList<>(type.getAllNamedFormatters());
+    this.formatters.addAll(type.getAllCustomFormatters());
+  }
+
+  /**
+   * Parse a value of the field.
+   *
+   * @param value number, string or instant
+   * @return TIME, DATE or TIMESTAMP value depending on the formats of the field
+   */
+  ExprValue parse(Content value) {
+    if (value.isNumber()) {
+      if (epochNumbers) {
+        return fromEpochMillis(epochSecond ? value.longValue() * 1000 : value.longValue());
+      }
+      // custom format
+      return parseString(value.stringValue());
+    }
+    if (value.isString()) {
+      return parseString(value.stringValue());
+    }
+    return new ExprTimestampValue((Instant) value.objectValue());
+  }
+
+  private ExprValue fromEpochMillis(long epochMillis) {
+    Instant instant = Instant.ofEpochMilli(epochMillis);
+    switch (returnType) {
+      case TIME: return new ExprTimeValue(LocalTime.from(instant.atZone(UTC_ZONE_ID)));
+      case DATE: return new ExprDateValue(LocalDate.ofInstant(instant, UTC_ZONE_ID));
+      default: return new ExprTimestampValue(instant);
+    }
+  }
+
+  /**
+   * Parse a string with the formatters of the field in the order of the mapping, then with the
+   * default formatter of the type.
+   */
+  private ExprValue parseString(String value) {
+    for (DateFormatter formatter : formatters) {
+      try {
+        return fromZonedDateTime(DateFormatters.from(formatter.parse(value)));
+      } catch (IllegalArgumentException ignored) {
+        // nothing to do, try another format
+      }
+    }
+
+    // if no formatters are available, try the default formatter
+    try {
+      switch (returnType) {
+        case TIME: return new ExprTimeValue(
+            DateFormatters.from(STRICT_HOUR_MINUTE_SECOND_FORMATTER.parse(value)).toLocalTime());
+        case DATE: return new ExprDateValue(
+            DateFormatters.from(STRICT_YEAR_MONTH_DAY_FORMATTER.parse(value)).toLocalDate());
+        default: return new ExprTimestampValue(
+            DateFormatters.from(DATE_TIME_FORMATTER.parse(value)).toInstant());
+      }
+    } catch (DateTimeParseException ignored) {
+      // ignored
+    }
+
+    throw new IllegalArgumentException(String.format(
+        "Construct %s from \"%s\" failed, unsupported format.", returnType, value));
+  }
+
+  private ExprValue fromZonedDateTime(ZonedDateTime zonedDateTime) {
+    switch (returnType) {
+      case TIME: return new ExprTimeValue(
+          zonedDateTime.withZoneSameLocal(UTC_ZONE_ID).toLocalTime());
+      case DATE: return new ExprDateValue(
+          zonedDateTime.withZoneSameLocal(UTC_ZONE_ID).toLocalDate());
+      default: return new ExprTimestampValue(
+          zonedDateTime.withZoneSameLocal(UTC_ZONE_ID).toInstant());
+    }
+  }
+}
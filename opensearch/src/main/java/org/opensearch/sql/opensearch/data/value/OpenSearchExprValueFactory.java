@@ -8,48 +8,40 @@ package org.opensearch.sql.opensearch.data.value;
 
 import static org.opensearch.sql.data.type.ExprCoreType.ARRAY;
 import static org.opensearch.sql.data.type.ExprCoreType.BOOLEAN;
-import static org.opensearch.sql.data.type.ExprCoreType.DATE;
-import static org.opensearch.sql.data.type.ExprCoreType.DATETIME;
 import static org.opensearch.sql.data.type.ExprCoreType.DOUBLE;
 import static org.opensearch.sql.data.type.ExprCoreType.FLOAT;
 import static org.opensearch.sql.data.type.ExprCoreType.INTEGER;
 import static org.opensearch.sql.data.type.ExprCoreType.LONG;
 import static org.opensearch.sql.data.type.ExprCoreType.STRING;
 import static org.opensearch.sql.data.type.ExprCoreType.STRUCT;
-import static org.opensearch.sql.data.type.ExprCoreType.TIME;
-import static org.opensearch.sql.data.type.ExprCoreType.TIMESTAMP;
-import static org.opensearch.sql.utils.DateTimeFormatters.DATE_TIME_FORMATTER;
-import static org.opensearch.sql.utils.DateTimeFormatters.STRICT_HOUR_MINUTE_SECOND_FORMATTER;
-import static org.opensearch.sql.utils.DateTimeFormatters.STRICT_YEAR_MONTH_DAY_FORMATTER;
-import static org.opensearch.sql.utils.DateTimeUtils.UTC_ZONE_ID;
 
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.node.ArrayNode;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 import com.google.common.collect.ImmutableMap;
-import java.time.Instant;
-import java.time.LocalDate;
-import java.time.LocalTime;
+import java.io.IOException;
 import java.time.ZoneId;
-import java.time.ZonedDateTime;
-import java.time.format.DateTimeParseException;
-import java.time.temporal.TemporalAccessor;
 import java.util.ArrayList;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.BiFunction;
 import lombok.Getter;
 import lombok.Setter;
-import org.opensearch.common.time.DateFormatter;
-import org.opensearch.common.time.DateFormatters;
-import org.opensearch.common.time.FormatNames;
+import org.opensearch.common.xcontent.XContentHelper;
+import org.opensearch.common.xcontent.XContentType;
+import org.opensearch.core.common.bytes.BytesArray;
+import org.opensearch.core.common.bytes.BytesReference;
 import org.opensearch.sql.data.model.ExprBooleanValue;
 import org.opensearch.sql.data.model.ExprByteValue;
 import org.opensearch.sql.data.model.ExprCollectionValue;
-import org.opensearch.sql.data.model.ExprDateValue;
 import org.opensearch.sql.data.model.ExprDoubleValue;
 import org.opensearch.sql.data.model.ExprFloatValue;
 import org.opensearch.sql.data.model.ExprIntegerValue;
@@ -57,11 +49,8 @@ import org.opensearch.sql.data.model.ExprLongValue;
 import org.opensearch.sql.data.model.ExprNullValue;
 import org.opensearch.sql.data.model.ExprShortValue;
 import org.opensearch.sql.data.model.ExprStringValue;
-import org.opensearch.sql.data.model.ExprTimeValue;
-import org.opensearch.sql.data.model.ExprTimestampValue;
 import org.opensearch.sql.data.model.ExprTupleValue;
 import org.opensearch.sql.data.model.ExprValue;
-import org.opensearch.sql.data.type.ExprCoreType;
 import org.opensearch.sql.data.type.ExprType;
 import org.opensearch.sql.opensearch.data.type.OpenSearchBinaryType;
 import org.opensearch.sql.opensearch.data.type.OpenSearchDataType;
@@ -101,6 +90,14 @@ public class OpenSearchExprValueFactory {
   @Setter
   private OpenSearchAggregationResponseParser parser;
 
+  /**
+   * Parsers of the date fields met so far, see {@link OpenSearchDateParser}. A parser only holds
+   * what the mapping of its field decides, so it can be shared by every query using this factory,
+   * e.g. through the compiled scripts cached across queries. The type of a field never changes,
+   * as the type mapping is only extended with new fields.
+   */
+  private final Map<String, OpenSearchDateParser> dateParsers = new ConcurrentHashMap<>();
+
   private static final String TOP_PATH = "";
 
   private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
@@ -125,13 +122,6 @@ public class OpenSearchExprValueFactory {
               (c, dt) -> new ExprStringValue(c.stringValue()))
           .put(OpenSearchDataType.of(OpenSearchDataType.MappingType.Boolean),
               (c, dt) -> ExprBooleanValue.of(c.booleanValue()))
-          //Handles the creation of DATE, TIME & DATETIME
-          .put(OpenSearchDateType.of(TIME), OpenSearchExprValueFactory::createOpenSearchDateType)
-          .put(OpenSearchDateType.of(DATE), OpenSearchExprValueFactory::createOpenSearchDateType)
-          .put(OpenSearchDateType.of(TIMESTAMP),
-              OpenSearchExprValueFactory::createOpenSearchDateType)
-          .put(OpenSearchDateType.of(DATETIME),
-              OpenSearchExprValueFactory::createOpenSearchDateType)
           .put(OpenSearchDataType.of(OpenSearchDataType.MappingType.Ip),
               (c, dt) -> new OpenSearchExprIpValue(c.stringValue()))
           .put(OpenSearchDataType.of(OpenSearchDataType.MappingType.GeoPoint),
@@ -167,6 +157,55 @@ public class OpenSearchExprValueFactory {
     }
   }
 
+  /**
+   * Construct the fields of a document source straight from its bytes, without the intermediate
+   * source string and document tree. Top-level fields which are not in the given set are skipped
+   * without being parsed. An empty set means all the fields are parsed. A source indexed as
+   * SMILE, CBOR or YAML keeps its original bytes, so it is converted to JSON first.
+   *
+   * @param source document source
+   * @param fields top-level fields to parse
+   * @param supportArrays parsing the whole array if array is type nested
+   * @return field values in the order of the source
+   */
+  public LinkedHashMap<String, ExprValue> constructSource(BytesReference source,
+                                                          Set<String> fields,
+                                                          boolean supportArrays) {
+    LinkedHashMap<String, ExprValue> result = new LinkedHashMap<>();
+    if (source == null) {
+      return result;
+    }
+    try (JsonParser parser = OBJECT_MAPPER.getFactory().createParser(
+        toJson(source).streamInput())) {
+      if (parser.nextToken() != JsonToken.START_OBJECT) {
+        throw new IllegalStateException("invalid json: document source is not an object.");
+      }
+      while (parser.nextToken() == JsonToken.FIELD_NAME) {
+        String field = parser.getCurrentName();
+        parser.nextToken();
+        if (fields.isEmpty() || fields.contains(field)) {
+          JsonNode value = OBJECT_MAPPER.readTree(parser);
+          result.put(field,
+              parse(new OpenSearchJsonContent(value), field, type(field), supportArrays));
+        } else {
+          parser.skipChildren();
+        }
+      }
+    } catch (IOException e) {
+      throw new IllegalStateException("invalid json: failed to parse document source.", e);
+    }
+    return result;
+  }
+
+  private static BytesReference toJson(BytesReference source) throws IOException {
+    var contentType = XContentHelper.xContentType(source);
+    // a source which isn't detected as any type is left to the JSON parser to report
+    if (contentType == null || contentType == XContentType.JSON) {
+      return source;
+    }
+    return new BytesArray(XContentHelper.convertToJson(source, false, contentType));
+  }
+
   /**
    * Construct ExprValue from field and its value object. Throw exception if trying
    * to construct from field of unsupported type.
@@ -197,6 +236,9 @@ public class OpenSearchExprValueFactory {
     } else if (type.equals(OpenSearchDataType.of(OpenSearchDataType.MappingType.Object))
         || type == STRUCT) {
       return parseStruct(content, field, supportArrays);
+    } else if (type instanceof OpenSearchDateType) {
+      return dateParsers.computeIfAbsent(field,
+          f -> new OpenSearchDateParser((OpenSearchDateType) type)).parse(content);
     } else {
       if (typeActionMap.containsKey(type)) {
         return typeActionMap.get(type).apply(content, type);
@@ -216,87 +258,6 @@ public class OpenSearchExprValueFactory {
     return Optional.ofNullable(typeMapping.get(field));
   }
 
-  /**
-   * Parse value with the first matching formatter into {@link ExprValue}
-   * with corresponding {@link ExprCoreType}.
-   *
-   * @param value - time as string
-   * @param dataType - field data type
-   * @return Parsed value
-   */
-  private static ExprValue parseDateTimeString(String value, OpenSearchDateType dataType) {
-    List<DateFormatter> formatters = dataType.getAllNamedFormatters();
-    formatters.addAll(dataType.getAllCustomFormatters());
-    ExprCoreType returnFormat = (ExprCoreType) dataType.getExprType();
-
-    for (DateFormatter formatter : formatters) {
-      try {
-        TemporalAccessor accessor = formatter.parse(value);
-        ZonedDateTime zonedDateTime = DateFormatters.from(accessor);
-        switch (returnFormat) {
-          case TIME: return new ExprTimeValue(
-              zonedDateTime.withZoneSameLocal(UTC_ZONE_ID).toLocalTime());
-          case DATE: return new ExprDateValue(
-              zonedDateTime.withZoneSameLocal(UTC_ZONE_ID).toLocalDate());
-          default: return new ExprTimestampValue(
-              zonedDateTime.withZoneSameLocal(UTC_ZONE_ID).toInstant());
-        }
-      } catch (IllegalArgumentException ignored) {
-        // nothing to do, try another format
-      }
-    }
-
-    // if no formatters are available, try the default formatter
-    try {
-      switch (returnFormat) {
-        case TIME: return new ExprTimeValue(
-            DateFormatters.from(STRICT_HOUR_MINUTE_SECOND_FORMATTER.parse(value)).toLocalTime());
-        case DATE: return new ExprDateValue(
-            DateFormatters.from(STRICT_YEAR_MONTH_DAY_FORMATTER.parse(value)).toLocalDate());
-        default: return new ExprTimestampValue(
-            DateFormatters.from(DATE_TIME_FORMATTER.parse(value)).toInstant());
-      }
-    } catch (DateTimeParseException ignored) {
-      // ignored
-    }
-
-    throw new IllegalArgumentException(String.format(
-        "Construct %s from \"%s\" failed, unsupported format.", returnFormat, value));
-  }
-
-  private static ExprValue createOpenSearchDateType(Content value, ExprType type) {
-    OpenSearchDateType dt = (OpenSearchDateType) type;
-    ExprType returnFormat = dt.getExprType();
-
-    if (value.isNumber()) { // isNumber
-      var numFormatters = dt.getNumericNamedFormatters();
-      if (numFormatters.size() > 0 || !dt.hasFormats()) {
-        long epochMillis = 0;
-        if (numFormatters.contains(DateFormatter.forPattern(
-            FormatNames.EPOCH_SECOND.getSnakeCaseName()))) {
-          // no CamelCase for `EPOCH_*` formats
-          epochMillis = value.longValue() * 1000;
-        } else /* EPOCH_MILLIS */ {
-          epochMillis = value.longValue();
-        }
-        Instant instant = Instant.ofEpochMilli(epochMillis);
-        switch ((ExprCoreType) returnFormat) {
-          case TIME: return new ExprTimeValue(LocalTime.from(instant.atZone(UTC_ZONE_ID)));
-          case DATE: return new ExprDateValue(LocalDate.ofInstant(instant, UTC_ZONE_ID));
-          default: return new ExprTimestampValue(instant);
-        }
-      } else {
-        // custom format
-        return parseDateTimeString(value.stringValue(), dt);
-      }
-    }
-    if (value.isString()) {
-      return parseDateTimeString(value.stringValue(), dt);
-    }
-
-    return new ExprTimestampValue((Instant) value.objectValue());
-  }
-
   /**
    * Parse struct content.
    * @param content Content to parse.
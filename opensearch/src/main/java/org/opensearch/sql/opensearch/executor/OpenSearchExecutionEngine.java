@@ -6,30 +6,62 @@
 
 package org.opensearch.sql.opensearch.executor;
 
+import com.google.common.collect.ImmutableMap;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Stream;
 import lombok.RequiredArgsConstructor;
+import org.apache.commons.lang3.tuple.Pair;
 import org.opensearch.sql.common.response.ResponseListener;
 import org.opensearch.sql.data.model.ExprValue;
 import org.opensearch.sql.executor.ExecutionContext;
 import org.opensearch.sql.executor.ExecutionEngine;
 import org.opensearch.sql.executor.Explain;
+import org.opensearch.sql.executor.pagination.Cursor;
 import org.opensearch.sql.executor.pagination.PlanSerializer;
+import org.opensearch.sql.expression.Expression;
+import org.opensearch.sql.expression.window.WindowDefinition;
 import org.opensearch.sql.opensearch.client.OpenSearchClient;
 import org.opensearch.sql.opensearch.executor.protector.ExecutionProtector;
+import org.opensearch.sql.opensearch.storage.scan.OpenSearchIndexScan;
+import org.opensearch.sql.planner.physical.AggregationOperator;
+import org.opensearch.sql.planner.physical.DedupeOperator;
+import org.opensearch.sql.planner.physical.EvalOperator;
+import org.opensearch.sql.planner.physical.ExprValueBatch;
+import org.opensearch.sql.planner.physical.FilterOperator;
 import org.opensearch.sql.planner.physical.PhysicalPlan;
+import org.opensearch.sql.planner.physical.PhysicalPlanNodeVisitor;
+import org.opensearch.sql.planner.physical.ProjectOperator;
+import org.opensearch.sql.planner.physical.RareTopNOperator;
+import org.opensearch.sql.planner.physical.SortOperator;
+import org.opensearch.sql.planner.physical.WindowOperator;
 import org.opensearch.sql.storage.TableScanOperator;
+import org.opensearch.sql.utils.ExpressionUtils;
 
 /** OpenSearch execution engine implementation. */
 @RequiredArgsConstructor
 public class OpenSearchExecutionEngine implements ExecutionEngine {
 
+  /** Number of rows pulled from the plan per {@link PhysicalPlan#nextBatch(int)} call. */
+  public static final int EXECUTION_BATCH_SIZE = 1000;
+
   private final OpenSearchClient client;
 
   private final ExecutionProtector executionProtector;
   private final PlanSerializer planSerializer;
 
+  /** Query result cache, or null if results are never cached. */
+  private final QueryResultCache resultCache;
+
+  public OpenSearchExecutionEngine(OpenSearchClient client,
+                                   ExecutionProtector executionProtector,
+                                   PlanSerializer planSerializer) {
+    this(client, executionProtector, planSerializer, null);
+  }
+
   @Override
   public void execute(PhysicalPlan physicalPlan, ResponseListener<QueryResponse> listener) {
     execute(physicalPlan, ExecutionContext.emptyExecutionContext(), listener);
@@ -42,43 +74,217 @@ public class OpenSearchExecutionEngine implements ExecutionEngine {
     client.schedule(
         () -> {
           try {
-            List<ExprValue> result = new ArrayList<>();
-
-            context.getSplit().ifPresent(plan::add);
-            plan.open();
-
-            while (plan.hasNext()) {
-              result.add(plan.next());
+            Optional<QueryResultCache.Key> cacheKey = resultCacheKey(physicalPlan, context);
+            Optional<QueryResponse> cached = cacheKey.flatMap(key -> resultCache.get(key));
+            if (cached.isPresent()) {
+              listener.onResponse(cached.get());
+              return;
             }
 
-            QueryResponse response = new QueryResponse(physicalPlan.schema(), result,
-                planSerializer.convertToCursor(plan));
+            QueryResponse response = execute(plan, physicalPlan.schema(), context);
+            if (response.getCursor() == Cursor.None) {
+              cacheKey.ifPresent(key -> resultCache.put(key, response));
+            }
             listener.onResponse(response);
           } catch (Exception e) {
             listener.onFailure(e);
-          } finally {
-            plan.close();
           }
         });
   }
 
+  private QueryResponse execute(PhysicalPlan plan, Schema schema, ExecutionContext context) {
+    try {
+      List<ExprValue> result = new ArrayList<>();
+
+      context.getSplit().ifPresent(plan::add);
+      plan.open();
+
+      ExprValueBatch batch = plan.nextBatch(EXECUTION_BATCH_SIZE);
+      while (!batch.isEmpty()) {
+        batch.forEach(result::add);
+        batch = plan.nextBatch(EXECUTION_BATCH_SIZE);
+      }
+      return new QueryResponse(schema, result, planSerializer.convertToCursor(plan));
+    } finally {
+      plan.close();
+    }
+  }
+
+  /**
+   * Build the result cache key of the plan, only if the cache is enabled and the result of the
+   * plan is cacheable: the user is known, all the data comes from OpenSearch indices whose
+   * refresh counts are known, every operator in the plan is fully described by its explanation
+   * and the plan evaluates no expression which may change between queries.
+   */
+  private Optional<QueryResultCache.Key> resultCacheKey(PhysicalPlan plan,
+                                                       ExecutionContext context) {
+    if (resultCache == null || !resultCache.isEnabled() || context.getSplit().isPresent()) {
+      return Optional.empty();
+    }
+    Optional<String> user = resultCache.currentUser();
+    if (user.isEmpty()) {
+      return Optional.empty();
+    }
+
+    List<String> indices = new ArrayList<>();
+    if (!collectIndices(plan, indices)) {
+      return Optional.empty();
+    }
+    ExplainResponse explain = explain(plan);
+    if (!isFullyExplained(explain.getRoot()) || !isRepeatable(plan)) {
+      return Optional.empty();
+    }
+    Map<String, Long> refreshCounts = client.getIndexRefreshCounts(indices.toArray(new String[0]));
+    if (refreshCounts.isEmpty()) {
+      return Optional.empty();
+    }
+    return Optional.of(new QueryResultCache.Key(user.get(), explain, refreshCounts));
+  }
+
+  private boolean collectIndices(PhysicalPlan plan, List<String> indices) {
+    if (plan instanceof OpenSearchIndexScan) {
+      indices.addAll(Arrays.asList(((OpenSearchIndexScan) plan).getIndexName().getIndexNames()));
+      return true;
+    }
+    return !plan.getChild().isEmpty()
+        && plan.getChild().stream().allMatch(child -> collectIndices(child, indices));
+  }
+
+  private boolean isFullyExplained(ExplainResponseNode node) {
+    return node != null
+        && (node.getChildren() == null
+            || node.getChildren().stream().allMatch(this::isFullyExplained));
+  }
+
+  /**
+   * Whether every expression evaluated by the plan, including the ones pushed down into its
+   * index scans, returns the same value on the same data in every query. Functions of the current
+   * time are only folded into literals in filter conditions, so they may remain elsewhere.
+   */
+  private boolean isRepeatable(PhysicalPlan plan) {
+    return plan.accept(new PhysicalPlanNodeVisitor<Boolean, Object>() {
+      @Override
+      public Boolean visitNode(PhysicalPlan node, Object context) {
+        return node.getChild().stream().allMatch(child -> child.accept(this, context));
+      }
+
+      @Override
+      public Boolean visitTableScan(TableScanOperator node, Object context) {
+        // only index scans are left in a plan whose indices are collected
+        return ((OpenSearchIndexScan) node).isRepeatable();
+      }
+
+      @Override
+      public Boolean visitProject(ProjectOperator node, Object context) {
+        return visit(node, Stream.concat(node.getProjectList().stream(),
+            node.getNamedParseExpressions().stream()), context);
+      }
+
+      @Override
+      public Boolean visitFilter(FilterOperator node, Object context) {
+        return visit(node, Stream.of(node.getConditions()), context);
+      }
+
+      @Override
+      public Boolean visitEval(EvalOperator node, Object context) {
+        return visit(node, node.getExpressionList().stream().map(Pair::getRight), context);
+      }
+
+      @Override
+      public Boolean visitSort(SortOperator node, Object context) {
+        return visit(node, node.getSortList().stream().map(Pair::getRight), context);
+      }
+
+      @Override
+      public Boolean visitAggregation(AggregationOperator node, Object context) {
+        return visit(node, Stream.concat(node.getAggregatorList().stream(),
+            node.getGroupByExprList().stream()), context);
+      }
+
+      @Override
+      public Boolean visitWindow(WindowOperator node, Object context) {
+        WindowDefinition definition = node.getWindowDefinition();
+        return visit(node, Stream.concat(Stream.of(node.getWindowFunction()),
+            Stream.concat(definition.getPartitionByList().stream(),
+                definition.getSortList().stream().map(Pair::getRight))), context);
+      }
+
+      @Override
+      public Boolean visitDedupe(DedupeOperator node, Object context) {
+        return visit(node, node.getDedupeList().stream(), context);
+      }
+
+      @Override
+      public Boolean visitRareTopN(RareTopNOperator node, Object context) {
+        return visit(node, Stream.concat(node.getFieldExprList().stream(),
+            node.getGroupByExprList().stream()), context);
+      }
+
+      private Boolean visit(PhysicalPlan node, Stream<? extends Expression> expressions,
+                            Object context) {
+        return expressions.allMatch(ExpressionUtils::isRepeatable) && visitNode(node, context);
+      }
+    }, null);
+  }
+
   @Override
   public void explain(PhysicalPlan plan, ResponseListener<ExplainResponse> listener) {
     client.schedule(() -> {
       try {
-        Explain openSearchExplain = new Explain() {
-          @Override
-          public ExplainResponseNode visitTableScan(TableScanOperator node, Object context) {
-            return explain(node, context, explainNode -> {
-              explainNode.setDescription(Map.of("request", node.explain()));
-            });
-          }
-        };
+        listener.onResponse(explain(plan));
+      } catch (Exception e) {
+        listener.onFailure(e);
+      }
+    });
+  }
 
-        listener.onResponse(openSearchExplain.apply(plan));
+  /**
+   * Run the plan with every operator profiled, discard the result and explain the plan with the
+   * runtime statistics of each operator.
+   */
+  @Override
+  public void explainAnalyze(PhysicalPlan physicalPlan,
+                             ResponseListener<ExplainResponse> listener) {
+    PhysicalPlan plan = executionProtector.protectAndProfile(physicalPlan);
+    client.schedule(() -> {
+      try {
+        try {
+          plan.open();
+          ExprValueBatch batch = plan.nextBatch(EXECUTION_BATCH_SIZE);
+          while (!batch.isEmpty()) {
+            batch = plan.nextBatch(EXECUTION_BATCH_SIZE);
+          }
+        } finally {
+          plan.close();
+        }
+        listener.onResponse(explain(plan, true));
       } catch (Exception e) {
         listener.onFailure(e);
       }
     });
   }
+
+  private ExplainResponse explain(PhysicalPlan plan) {
+    return explain(plan, false);
+  }
+
+  private ExplainResponse explain(PhysicalPlan plan, boolean analyze) {
+    Explain openSearchExplain = new Explain() {
+      @Override
+      public ExplainResponseNode visitTableScan(TableScanOperator node, Object context) {
+        return explain(node, context, explainNode -> {
+          explainNode.setDescription(Map.of("request", node.explain()));
+          if (analyze && node instanceof OpenSearchIndexScan) {
+            // the scan time not spent in search requests is spent in building values
+            OpenSearchIndexScan scan = (OpenSearchIndexScan) node;
+            explainNode.setStatistics(ImmutableMap.of(
+                "fetchedBatches", scan.getFetchedBatches(),
+                "fetchedSourceBytes", scan.getFetchedSourceBytes(),
+                "fetchTimeMillis", toMillis(scan.getFetchNanos())));
+          }
+        });
+      }
+    };
+    return openSearchExplain.apply(plan);
+  }
 }
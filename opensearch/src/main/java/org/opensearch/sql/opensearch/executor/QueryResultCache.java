@@ -0,0 +1,168 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.opensearch.executor;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheStats;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.RequiredArgsConstructor;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.sql.common.setting.Settings;
+import org.opensearch.sql.executor.ExecutionEngine.ExplainResponse;
+import org.opensearch.sql.executor.ExecutionEngine.QueryResponse;
+
+/**
+ * Coordinator-side cache of query results, shared by all the queries on this node. A result is
+ * keyed by the user who ran the query and the explained physical plan, which covers the
+ * OpenSearch request and all the operators applied after it. Results are never shared between
+ * users, because the documents and fields visible to a user depend on their roles, and nothing
+ * is cached for a request whose user can't be identified. A cached result is only served while
+ * it is younger than the TTL and none of the indices queried has been refreshed since, i.e. no
+ * new data became visible. The cache is bounded by the total number of rows cached and evicts
+ * least recently used results first.
+ */
+public class QueryResultCache {
+
+  private final Settings settings;
+
+  /**
+   * Identity of the user of the current request, an empty string if security is disabled, or
+   * empty if the user can't be identified.
+   */
+  private final Supplier<Optional<String>> currentUser;
+
+  /** Source of current time in nanoseconds. */
+  private final LongSupplier nanoClock;
+
+  private final LongAdder hitCount = new LongAdder();
+
+  private final LongAdder missCount = new LongAdder();
+
+  private volatile Cache<Key, Entry> cache;
+
+  public QueryResultCache(Settings settings, Supplier<Optional<String>> currentUser) {
+    this(settings, currentUser, System::nanoTime);
+  }
+
+  @VisibleForTesting
+  QueryResultCache(Settings settings, Supplier<Optional<String>> currentUser,
+                   LongSupplier nanoClock) {
+    this.settings = settings;
+    this.currentUser = currentUser;
+    this.nanoClock = nanoClock;
+    this.cache = buildCache(settings.getSettingValue(Settings.Key.QUERY_RESULT_CACHE_MAX_ROWS));
+  }
+
+  public boolean isEnabled() {
+    return settings.getSettingValue(Settings.Key.QUERY_RESULT_CACHE_ENABLED);
+  }
+
+  /**
+   * Get the identity of the user of the current request, which is part of the cache key.
+   *
+   * @return user identity, an empty string if security is disabled, or empty if the user can't
+   *     be identified, in which case the result must not be cached
+   */
+  public Optional<String> currentUser() {
+    return currentUser.get();
+  }
+
+  /**
+   * Get the cached result of the query.
+   *
+   * @param key query key
+   * @return query result if cached and still valid
+   */
+  public Optional<QueryResponse> get(Key key) {
+    Cache<Key, Entry> current = cache;
+    Entry entry = current.getIfPresent(key);
+    if (entry != null && !isValid(entry, key)) {
+      current.invalidate(key);
+      entry = null;
+    }
+
+    if (entry == null) {
+      missCount.increment();
+      return Optional.empty();
+    }
+    hitCount.increment();
+    return Optional.of(entry.response);
+  }
+
+  /**
+   * Cache the result of the query.
+   *
+   * @param key      query key
+   * @param response query result
+   */
+  public void put(Key key, QueryResponse response) {
+    cache.put(key, new Entry(key.getRefreshCounts(), response, nanoClock.getAsLong()));
+  }
+
+  /**
+   * Rebuild the cache empty with a new maximum number of rows. Called when the setting changes.
+   *
+   * @param maxRows maximum number of rows cached
+   */
+  public void setMaxRows(int maxRows) {
+    cache = buildCache(maxRows);
+  }
+
+  /**
+   * Statistics of the cache. A stale result found in the cache counts as a miss.
+   */
+  public CacheStats getStats() {
+    return new CacheStats(hitCount.sum(), missCount.sum(), 0L, 0L, 0L,
+        cache.stats().evictionCount());
+  }
+
+  public long getSize() {
+    return cache.size();
+  }
+
+  private boolean isValid(Entry entry, Key key) {
+    TimeValue ttl = settings.getSettingValue(Settings.Key.QUERY_RESULT_CACHE_TTL);
+    return nanoClock.getAsLong() - entry.createdNanos <= ttl.nanos()
+        && entry.refreshCounts.equals(key.getRefreshCounts());
+  }
+
+  private static Cache<Key, Entry> buildCache(int maxRows) {
+    return CacheBuilder.newBuilder()
+        .maximumWeight(maxRows)
+        .<Key, Entry>weigher((key, entry) -> entry.response.getResults().size())
+        .recordStats()
+        .build();
+  }
+
+  /**
+   * What a query result depends on: the user, the plan and the refresh count of each index
+   * queried by index UUID, so that an index deleted and created again with the same name is not
+   * mistaken for the old one. The refresh counts are not part of the identity of the key, so a
+   * result cached before a refresh is found and dropped.
+   */
+  @Data
+  public static class Key {
+    private final String user;
+    private final ExplainResponse plan;
+    @EqualsAndHashCode.Exclude
+    private final Map<String, Long> refreshCounts;
+  }
+
+  @RequiredArgsConstructor
+  private static class Entry {
+    private final Map<String, Long> refreshCounts;
+    private final QueryResponse response;
+    private final long createdNanos;
+  }
+}
@@ -8,6 +8,7 @@ package org.opensearch.sql.opensearch.executor.protector;
 
 import org.opensearch.sql.planner.physical.PhysicalPlan;
 import org.opensearch.sql.planner.physical.PhysicalPlanNodeVisitor;
+import org.opensearch.sql.planner.physical.ProfilePlan;
 
 /**
  * Execution Plan Protector.
@@ -18,4 +19,10 @@ public abstract class ExecutionProtector extends PhysicalPlanNodeVisitor<Physica
    * Decorated the PhysicalPlan to run in resource sensitive mode.
    */
   public abstract PhysicalPlan protect(PhysicalPlan physicalPlan);
+
+  /**
+   * Decorate the PhysicalPlan like {@link #protect(PhysicalPlan)}, and wrap every operator with
+   * {@link ProfilePlan} to collect its runtime statistics for explain analyze.
+   */
+  public abstract PhysicalPlan protectAndProfile(PhysicalPlan physicalPlan);
 }
@@ -7,6 +7,7 @@
 package org.opensearch.sql.opensearch.executor.protector;
 
 import org.opensearch.sql.planner.physical.PhysicalPlan;
+import org.opensearch.sql.planner.physical.ProfilePlan;
 
 /**
  * No operation execution protector.
@@ -17,4 +18,12 @@ public class NoopExecutionProtector extends ExecutionProtector {
   public PhysicalPlan protect(PhysicalPlan physicalPlan) {
     return physicalPlan;
   }
+
+  /**
+   * Profile the plan as a whole without decorating the operators.
+   */
+  @Override
+  public PhysicalPlan protectAndProfile(PhysicalPlan physicalPlan) {
+    return new ProfilePlan(physicalPlan);
+  }
 }
@@ -6,7 +6,11 @@
 
 package org.opensearch.sql.opensearch.executor.protector;
 
+import static org.opensearch.sql.monitor.UnlimitedMemoryTracker.UNLIMITED_MEMORY_TRACKER;
+
+import java.util.function.Supplier;
 import lombok.RequiredArgsConstructor;
+import org.opensearch.sql.monitor.MemoryTracker;
 import org.opensearch.sql.monitor.ResourceMonitor;
 import org.opensearch.sql.opensearch.planner.physical.ADOperator;
 import org.opensearch.sql.opensearch.planner.physical.MLCommonsOperator;
@@ -19,6 +23,7 @@ import org.opensearch.sql.planner.physical.FilterOperator;
 import org.opensearch.sql.planner.physical.LimitOperator;
 import org.opensearch.sql.planner.physical.NestedOperator;
 import org.opensearch.sql.planner.physical.PhysicalPlan;
+import org.opensearch.sql.planner.physical.ProfilePlan;
 import org.opensearch.sql.planner.physical.ProjectOperator;
 import org.opensearch.sql.planner.physical.RareTopNOperator;
 import org.opensearch.sql.planner.physical.RemoveOperator;
@@ -29,7 +34,9 @@ import org.opensearch.sql.planner.physical.WindowOperator;
 import org.opensearch.sql.storage.TableScanOperator;
 
 /**
- * OpenSearch Execution Protector.
+ * OpenSearch Execution Protector. Besides decorating the plan with {@link ResourceMonitorPlan},
+ * it creates a {@link MemoryTracker} per query which the blocking operators of the query reserve
+ * the memory they retain from.
  */
 @RequiredArgsConstructor
 public class OpenSearchExecutionProtector extends ExecutionProtector {
@@ -39,8 +46,26 @@ public class OpenSearchExecutionProtector extends ExecutionProtector {
    */
   private final ResourceMonitor resourceMonitor;
 
+  /**
+   * Create the memory tracker of a query.
+   */
+  private final Supplier<MemoryTracker> memoryTrackerFactory;
+
+  public OpenSearchExecutionProtector(ResourceMonitor resourceMonitor) {
+    this(resourceMonitor, () -> UNLIMITED_MEMORY_TRACKER);
+  }
+
+  /**
+   * Protect the plan. The memory tracker of the query is passed down in visitor context.
+   */
   public PhysicalPlan protect(PhysicalPlan physicalPlan) {
-    return physicalPlan.accept(this, null);
+    return physicalPlan.accept(this, new ProtectorContext(memoryTrackerFactory.get(), false));
+  }
+
+  @Override
+  public PhysicalPlan protectAndProfile(PhysicalPlan physicalPlan) {
+    return new ProfilePlan(
+        physicalPlan.accept(this, new ProtectorContext(memoryTrackerFactory.get(), true)));
   }
 
   /**
@@ -59,14 +84,14 @@ public class OpenSearchExecutionProtector extends ExecutionProtector {
 
   @Override
   public PhysicalPlan visitAggregation(AggregationOperator node, Object context) {
-    return new AggregationOperator(visitInput(node.getInput(), context), node.getAggregatorList(),
-        node.getGroupByExprList());
+    return track(new AggregationOperator(visitInput(node.getInput(), context),
+        node.getAggregatorList(), node.getGroupByExprList()), context);
   }
 
   @Override
   public PhysicalPlan visitRareTopN(RareTopNOperator node, Object context) {
-    return new RareTopNOperator(visitInput(node.getInput(), context), node.getCommandType(),
-        node.getNoOfResults(), node.getFieldExprList(), node.getGroupByExprList());
+    return track(new RareTopNOperator(visitInput(node.getInput(), context), node.getCommandType(),
+        node.getNoOfResults(), node.getFieldExprList(), node.getGroupByExprList()), context);
   }
 
   @Override
@@ -101,24 +126,24 @@ public class OpenSearchExecutionProtector extends ExecutionProtector {
   @Override
   public PhysicalPlan visitNested(NestedOperator node, Object context) {
     return doProtect(
-        new NestedOperator(
+        track(new NestedOperator(
             visitInput(node.getInput(), context), node.getFields(), node.getGroupedPathsAndFields()
-        )
+        ), context)
     );
   }
 
   @Override
   public PhysicalPlan visitDedupe(DedupeOperator node, Object context) {
-    return new DedupeOperator(visitInput(node.getInput(), context), node.getDedupeList(),
-        node.getAllowedDuplication(), node.getKeepEmpty(), node.getConsecutive());
+    return track(new DedupeOperator(visitInput(node.getInput(), context), node.getDedupeList(),
+        node.getAllowedDuplication(), node.getKeepEmpty(), node.getConsecutive()), context);
   }
 
   @Override
   public PhysicalPlan visitWindow(WindowOperator node, Object context) {
-    return new WindowOperator(
+    return track(new WindowOperator(
         doProtect(visitInput(node.getInput(), context)),
         node.getWindowFunction(),
-        node.getWindowDefinition());
+        node.getWindowDefinition()), context);
   }
 
   /**
@@ -127,9 +152,10 @@ public class OpenSearchExecutionProtector extends ExecutionProtector {
   @Override
   public PhysicalPlan visitSort(SortOperator node, Object context) {
     return doProtect(
-        new SortOperator(
+        track(new SortOperator(
             visitInput(node.getInput(), context),
-            node.getSortList()));
+            node.getSortList(),
+            node.getTopN()), context));
   }
 
   /**
@@ -184,9 +210,12 @@ public class OpenSearchExecutionProtector extends ExecutionProtector {
   PhysicalPlan visitInput(PhysicalPlan node, Object context) {
     if (null == node) {
       return node;
-    } else {
-      return node.accept(this, context);
     }
+    PhysicalPlan input = node.accept(this, context);
+    if (context instanceof ProtectorContext && ((ProtectorContext) context).profile) {
+      return new ProfilePlan(input);
+    }
+    return input;
   }
 
   protected PhysicalPlan doProtect(PhysicalPlan node) {
@@ -196,8 +225,34 @@ public class OpenSearchExecutionProtector extends ExecutionProtector {
     return new ResourceMonitorPlan(node, resourceMonitor);
   }
 
+  /**
+   * Let the blocking operator reserve the memory it retains from the memory tracker of the query,
+   * if the plan is protected by {@link #protect(PhysicalPlan)} or
+   * {@link #protectAndProfile(PhysicalPlan)}.
+   */
+  private PhysicalPlan track(PhysicalPlan node, Object context) {
+    if (context instanceof ProtectorContext) {
+      node.setMemoryTracker(((ProtectorContext) context).memoryTracker);
+    }
+    return node;
+  }
+
   private boolean isProtected(PhysicalPlan node) {
+    if (node instanceof ProfilePlan) {
+      return isProtected(((ProfilePlan) node).getDelegate());
+    }
     return (node instanceof ResourceMonitorPlan);
   }
 
+  /**
+   * Visitor context of protecting the plan of a query.
+   */
+  @RequiredArgsConstructor
+  private static class ProtectorContext {
+    private final MemoryTracker memoryTracker;
+
+    /** Whether to wrap every operator with {@link ProfilePlan}. */
+    private final boolean profile;
+  }
+
 }
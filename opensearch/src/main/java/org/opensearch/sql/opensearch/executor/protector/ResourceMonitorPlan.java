@@ -16,6 +16,7 @@ import lombok.ToString;
 import org.opensearch.sql.data.model.ExprValue;
 import org.opensearch.sql.monitor.ResourceMonitor;
 import org.opensearch.sql.planner.SerializablePlan;
+import org.opensearch.sql.planner.physical.ExprValueBatch;
 import org.opensearch.sql.planner.physical.PhysicalPlan;
 import org.opensearch.sql.planner.physical.PhysicalPlanNodeVisitor;
 
@@ -87,6 +88,25 @@ public class ResourceMonitorPlan extends PhysicalPlan implements SerializablePla
     return delegate.next();
   }
 
+  @Override
+  public ExprValueBatch nextBatch(int maxBatchSize) {
+    ExprValueBatch batch = delegate.nextBatch(maxBatchSize);
+    long previousCount = nextCallCount;
+    nextCallCount += batch.size();
+    // check once each time the row count crosses a multiple of NUMBER_OF_NEXT_CALL_TO_CHECK
+    boolean shouldCheck = nextCallCount / NUMBER_OF_NEXT_CALL_TO_CHECK
+        > previousCount / NUMBER_OF_NEXT_CALL_TO_CHECK;
+    if (shouldCheck && !this.monitor.isHealthy()) {
+      throw new IllegalStateException("resource is not enough to load next row, quit.");
+    }
+    return batch;
+  }
+
+  @Override
+  public long getPeakReservedBytes() {
+    return delegate.getPeakReservedBytes();
+  }
+
   @Override
   public SerializablePlan getPlanForSerialization() {
     return (SerializablePlan) delegate;
@@ -0,0 +1,161 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+
+package org.opensearch.sql.opensearch.mapping;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.util.concurrent.UncheckedExecutionException;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import lombok.Data;
+import lombok.RequiredArgsConstructor;
+import org.opensearch.cluster.ClusterChangedEvent;
+import org.opensearch.cluster.ClusterStateListener;
+import org.opensearch.sql.data.type.ExprType;
+import org.opensearch.sql.opensearch.data.type.OpenSearchDataType;
+import org.opensearch.sql.opensearch.request.OpenSearchRequest;
+
+/**
+ * Node level cache of the field types and settings of indices, shared by all the queries so that
+ * they don't read and parse the mappings of the indices again. Entries are keyed by the current
+ * user and the index name as written in the query, which may be a pattern or a list of indices,
+ * so that a user never sees the mappings loaded with the permissions of another. Nothing is
+ * cached for a request whose user can't be identified. Any change of the cluster metadata, such
+ * as a mapping update, a setting update or an index created or deleted, invalidates all the
+ * entries because it may change what a pattern resolves to. Invalidated entries are only dropped
+ * when they are evicted, the cache size is bounded.
+ */
+@RequiredArgsConstructor
+public class IndexMappingCache implements ClusterStateListener {
+
+  /** Maximum number of index names cached. */
+  static final int MAX_INDICES = 1000;
+
+  /**
+   * Incremented on each metadata change. Entries loaded before the last change are stale and
+   * reloaded on the next access, including those whose load was still in progress during the
+   * change.
+   */
+  private final AtomicLong metadataVersion = new AtomicLong();
+
+  /**
+   * Supplier of the user running the current query, an empty string if security is disabled, or
+   * empty if the user can't be identified.
+   */
+  private final Supplier<Optional<String>> currentUser;
+
+  private final Cache<Key, Versioned<Map<String, OpenSearchDataType>>>
+      fieldOpenSearchTypes = CacheBuilder.newBuilder().maximumSize(MAX_INDICES).build();
+
+  private final Cache<Key, Versioned<Map<String, ExprType>>>
+      fieldTypes = CacheBuilder.newBuilder().maximumSize(MAX_INDICES).build();
+
+  private final Cache<Key, Versioned<Integer>> maxResultWindows =
+      CacheBuilder.newBuilder().maximumSize(MAX_INDICES).build();
+
+  private final Cache<Key, Versioned<Integer>> maxSlicesPerScroll =
+      CacheBuilder.newBuilder().maximumSize(MAX_INDICES).build();
+
+  /**
+   * Get the parsed mapping of an index.
+   *
+   * @param indexName index name
+   * @param loader    loader of the mapping if not cached
+   * @return map between field names and their types
+   */
+  public Map<String, OpenSearchDataType> getFieldOpenSearchTypes(
+      OpenSearchRequest.IndexName indexName, Supplier<Map<String, OpenSearchDataType>> loader) {
+    return get(fieldOpenSearchTypes, indexName, loader);
+  }
+
+  /**
+   * Get the flattened mapping of an index.
+   *
+   * @param indexName index name
+   * @param loader    loader of the flattened mapping if not cached
+   * @return map between flattened field names and their types
+   */
+  public Map<String, ExprType> getFieldTypes(OpenSearchRequest.IndexName indexName,
+                                             Supplier<Map<String, ExprType>> loader) {
+    return get(fieldTypes, indexName, loader);
+  }
+
+  /**
+   * Get the max result window setting of an index.
+   *
+   * @param indexName index name
+   * @param loader    loader of the setting if not cached
+   * @return max result window
+   */
+  public Integer getMaxResultWindow(OpenSearchRequest.IndexName indexName,
+                                    Supplier<Integer> loader) {
+    return get(maxResultWindows, indexName, loader);
+  }
+
+  /**
+   * Get the max slices per scroll setting of an index.
+   *
+   * @param indexName index name
+   * @param loader    loader of the setting if not cached
+   * @return max slices per scroll
+   */
+  public Integer getMaxSlicesPerScroll(OpenSearchRequest.IndexName indexName,
+                                       Supplier<Integer> loader) {
+    return get(maxSlicesPerScroll, indexName, loader);
+  }
+
+  @Override
+  public void clusterChanged(ClusterChangedEvent event) {
+    if (event.metadataChanged()) {
+      metadataVersion.incrementAndGet();
+    }
+  }
+
+  /**
+   * Get an entry, loading it if it is absent or stale. Failures are not cached and are thrown as
+   * they are, e.g. IndexNotFoundException if no index matches. The entry is loaded without the
+   * cache if the user is unknown.
+   */
+  private <V> V get(Cache<Key, Versioned<V>> cache,
+                    OpenSearchRequest.IndexName indexName, Supplier<V> loader) {
+    Optional<String> user = currentUser.get();
+    if (user.isEmpty()) {
+      return loader.get();
+    }
+    Key key = new Key(user.get(), indexName);
+    long version = metadataVersion.get();
+    Versioned<V> cached = cache.getIfPresent(key);
+    if (cached != null) {
+      if (cached.version == version) {
+        return cached.value;
+      }
+      cache.asMap().remove(key, cached);
+    }
+
+    try {
+      return cache.get(key, () -> new Versioned<>(version, loader.get())).value;
+    } catch (ExecutionException | UncheckedExecutionException e) {
+      // loader only throws unchecked exceptions, which are rethrown as they are
+      throw (RuntimeException) e.getCause();
+    }
+  }
+
+  @Data
+  private static class Key {
+    private final String user;
+    private final OpenSearchRequest.IndexName indexName;
+  }
+
+  @RequiredArgsConstructor
+  private static class Versioned<V> {
+    private final long version;
+    private final V value;
+  }
+}
@@ -0,0 +1,80 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+
+package org.opensearch.sql.opensearch.monitor;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.opensearch.core.common.breaker.CircuitBreaker;
+import org.opensearch.core.common.breaker.CircuitBreakingException;
+import org.opensearch.sql.monitor.MemoryTracker;
+
+/**
+ * {@link MemoryTracker} of one query on OpenSearch. The query fails once the memory retained by
+ * its operators exceeds the per query limit. The memory is also reserved from the circuit breaker
+ * of the plugin, so it counts towards the parent circuit breaker of the node together with the
+ * memory of other queries and OpenSearch itself. The circuit breaker is shared by all the
+ * queries, so it is updated in chunks to keep the contention low.
+ */
+@RequiredArgsConstructor
+public class OpenSearchMemoryTracker extends MemoryTracker {
+
+  /** Name of the circuit breaker of the plugin. */
+  public static final String CIRCUIT_BREAKER_NAME = "sql_query";
+
+  /** Granularity of the memory reserved from the circuit breaker. */
+  static final long CHUNK_BYTES = 1024L * 1024L;
+
+  private final CircuitBreaker circuitBreaker;
+
+  /** Maximum bytes retained by the query. */
+  private final long limitBytes;
+
+  /** Bytes retained by the query. */
+  @Getter
+  private long usedBytes;
+
+  /** Bytes reserved from the circuit breaker, a multiple of {@link #CHUNK_BYTES}. */
+  @Getter
+  private long breakerBytes;
+
+  @Override
+  public void reserve(long bytes) {
+    long newUsedBytes = usedBytes + bytes;
+    if (newUsedBytes > limitBytes) {
+      throw new CircuitBreakingException(String.format(
+          "[%s] memory used by the query [%d] would exceed the limit of a query [%d]",
+          CIRCUIT_BREAKER_NAME, newUsedBytes, limitBytes),
+          newUsedBytes, limitBytes, CircuitBreaker.Durability.TRANSIENT);
+    }
+    if (newUsedBytes > breakerBytes) {
+      long newBreakerBytes = roundUpToChunk(newUsedBytes);
+      circuitBreaker.addEstimateBytesAndMaybeBreak(
+          newBreakerBytes - breakerBytes, CIRCUIT_BREAKER_NAME);
+      breakerBytes = newBreakerBytes;
+    }
+    usedBytes = newUsedBytes;
+  }
+
+  /**
+   * Release memory. One spare chunk is kept reserved from the circuit breaker while the query
+   * still uses memory, so a query whose usage goes up and down around a chunk boundary doesn't
+   * update the circuit breaker every time.
+   */
+  @Override
+  public void release(long bytes) {
+    usedBytes -= bytes;
+    long newBreakerBytes = (usedBytes == 0) ? 0 : roundUpToChunk(usedBytes) + CHUNK_BYTES;
+    if (newBreakerBytes < breakerBytes) {
+      circuitBreaker.addWithoutBreaking(newBreakerBytes - breakerBytes);
+      breakerBytes = newBreakerBytes;
+    }
+  }
+
+  private static long roundUpToChunk(long bytes) {
+    return (bytes + CHUNK_BYTES - 1) / CHUNK_BYTES * CHUNK_BYTES;
+  }
+}
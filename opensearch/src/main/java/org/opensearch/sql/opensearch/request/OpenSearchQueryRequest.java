@@ -19,6 +19,10 @@ import org.opensearch.action.search.SearchResponse;
 import org.opensearch.action.search.SearchScrollRequest;
 import org.opensearch.core.common.io.stream.StreamOutput;
 import org.opensearch.search.SearchHits;
+import org.opensearch.search.aggregations.AggregationBuilder;
+import org.opensearch.search.aggregations.Aggregations;
+import org.opensearch.search.aggregations.bucket.composite.CompositeAggregation;
+import org.opensearch.search.aggregations.bucket.composite.CompositeAggregationBuilder;
 import org.opensearch.search.builder.SearchSourceBuilder;
 import org.opensearch.search.fetch.subphase.FetchSourceContext;
 import org.opensearch.sql.opensearch.data.value.OpenSearchExprValueFactory;
@@ -28,13 +32,20 @@ import org.opensearch.sql.opensearch.response.OpenSearchResponse;
  * OpenSearch search request. This has to be stateful because it needs to:
  *
  * <p>1) Accumulate search source builder when visiting logical plan to push down operation. 2)
- * Indicate the search already done.
+ * Indicate the search already done. 3) Track the after key of composite aggregation to fetch
+ * the buckets page by page.
  */
 @EqualsAndHashCode
 @Getter
 @ToString
 public class OpenSearchQueryRequest implements OpenSearchRequest {
 
+  /**
+   * Upper bound of the composite aggregation page size. The page size doubles on each follow-up
+   * page up to this value, so small group-bys stay cheap and large ones need few round trips.
+   */
+  public static final int MAX_COMPOSITE_BUCKET_SIZE = 10000;
+
   /**
    * {@link OpenSearchRequest.IndexName}.
    */
@@ -98,12 +109,39 @@ public class OpenSearchQueryRequest implements OpenSearchRequest {
     if (searchDone) {
       return new OpenSearchResponse(SearchHits.empty(), exprValueFactory, includes);
     } else {
-      searchDone = true;
-      return new OpenSearchResponse(
-          searchAction.apply(new SearchRequest()
-            .indices(indexName.getIndexNames())
-            .source(sourceBuilder)), exprValueFactory, includes);
+      SearchResponse searchResponse = searchAction.apply(new SearchRequest()
+          .indices(indexName.getIndexNames())
+          .source(sourceBuilder));
+      searchDone = !moveToNextCompositePage(searchResponse);
+      return new OpenSearchResponse(searchResponse, exprValueFactory, includes);
+    }
+  }
+
+  /**
+   * Set after key of the composite aggregation if the response is a full page of buckets, so
+   * the next search returns the following page.
+   *
+   * @return true if there may be more buckets to fetch
+   */
+  private boolean moveToNextCompositePage(SearchResponse searchResponse) {
+    Aggregations aggregations = searchResponse.getAggregations();
+    if (aggregations == null || sourceBuilder.aggregations() == null) {
+      return false;
     }
+    for (AggregationBuilder builder : sourceBuilder.aggregations().getAggregatorFactories()) {
+      if (builder instanceof CompositeAggregationBuilder
+          && aggregations.get(builder.getName()) instanceof CompositeAggregation) {
+        CompositeAggregationBuilder composite = (CompositeAggregationBuilder) builder;
+        CompositeAggregation result = aggregations.get(builder.getName());
+        if (result.afterKey() == null || result.getBuckets().size() < composite.size()) {
+          return false;
+        }
+        composite.aggregateAfter(result.afterKey())
+            .size(Math.min(composite.size() * 2, MAX_COMPOSITE_BUCKET_SIZE));
+        return true;
+      }
+    }
+    return false;
   }
 
   @Override
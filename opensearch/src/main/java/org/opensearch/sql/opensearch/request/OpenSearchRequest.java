@@ -10,6 +10,7 @@ import java.io.IOException;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import lombok.EqualsAndHashCode;
+import org.opensearch.action.ActionFuture;
 import org.opensearch.action.search.SearchRequest;
 import org.opensearch.action.search.SearchResponse;
 import org.opensearch.action.search.SearchScrollRequest;
@@ -39,6 +40,22 @@ public interface OpenSearchRequest extends Writeable {
   OpenSearchResponse search(Function<SearchRequest, SearchResponse> searchAction,
                             Function<SearchScrollRequest, SearchResponse> scrollAction);
 
+  /**
+   * Same as {@link #search(Function, Function)} but the actions only start the search and return
+   * a future. Requests which issue several searches per batch can overlap them.
+   *
+   * @param searchAction search action returning future.
+   * @param scrollAction scroll search action returning future.
+   * @return OpenSearchResponse.
+   */
+  default OpenSearchResponse searchAsync(
+      Function<SearchRequest, ActionFuture<SearchResponse>> searchAction,
+      Function<SearchScrollRequest, ActionFuture<SearchResponse>> scrollAction) {
+    return search(
+        req -> searchAction.apply(req).actionGet(),
+        req -> scrollAction.apply(req).actionGet());
+  }
+
   /**
    * Apply the cleanAction on request.
    *
@@ -46,6 +63,12 @@ public interface OpenSearchRequest extends Writeable {
    */
   void clean(Consumer<String> cleanAction);
 
+  /**
+   * Get the index name(s) searched by the request.
+   * @return IndexName.
+   */
+  IndexName getIndexName();
+
   /**
    * Get the OpenSearchExprValueFactory.
    * @return OpenSearchExprValueFactory.
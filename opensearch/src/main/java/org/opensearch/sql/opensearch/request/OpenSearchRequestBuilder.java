@@ -34,6 +34,7 @@ import org.opensearch.index.query.QueryBuilder;
 import org.opensearch.index.query.QueryBuilders;
 import org.opensearch.search.aggregations.AggregationBuilder;
 import org.opensearch.search.builder.SearchSourceBuilder;
+import org.opensearch.search.collapse.CollapseBuilder;
 import org.opensearch.search.fetch.subphase.FetchSourceContext;
 import org.opensearch.search.fetch.subphase.highlight.HighlightBuilder;
 import org.opensearch.search.sort.SortBuilder;
@@ -41,10 +42,13 @@ import org.opensearch.search.sort.SortBuilders;
 import org.opensearch.sql.ast.expression.Literal;
 import org.opensearch.sql.common.utils.StringUtils;
 import org.opensearch.sql.exception.SemanticCheckException;
+import org.opensearch.sql.expression.Expression;
 import org.opensearch.sql.expression.ReferenceExpression;
 import org.opensearch.sql.opensearch.data.type.OpenSearchDataType;
 import org.opensearch.sql.opensearch.data.value.OpenSearchExprValueFactory;
 import org.opensearch.sql.opensearch.response.agg.OpenSearchAggregationResponseParser;
+import org.opensearch.sql.opensearch.statistics.IndexScanCostModel;
+import org.opensearch.sql.utils.ExpressionUtils;
 
 /**
  * OpenSearch search request builder.
@@ -77,6 +81,14 @@ public class OpenSearchRequestBuilder {
   private final OpenSearchExprValueFactory exprValueFactory;
   private int startFrom = 0;
 
+  /**
+   * Whether the expressions pushed down as scripts are repeatable, i.e. the request returns the
+   * same result on the same data in every query.
+   */
+  @EqualsAndHashCode.Exclude
+  @ToString.Exclude
+  private boolean repeatable = true;
+
   /**
    * Constructor.
    */
@@ -97,10 +109,47 @@ public class OpenSearchRequestBuilder {
    */
   public OpenSearchRequest build(OpenSearchRequest.IndexName indexName,
                                  int maxResultWindow, TimeValue scrollTimeout) {
+    return build(indexName, maxResultWindow, scrollTimeout, 1);
+  }
+
+  /**
+   * Build DSL request. A scroll over the whole result without any order requirement is split
+   * into the given number of slices which are fetched concurrently.
+   *
+   * @return query request, scroll request or sliced scroll request
+   */
+  public OpenSearchRequest build(OpenSearchRequest.IndexName indexName,
+                                 int maxResultWindow, TimeValue scrollTimeout, int slices) {
+    return build(indexName, maxResultWindow, scrollTimeout, slices, IndexScanCostModel.DEFAULT);
+  }
+
+  /**
+   * Build DSL request. The cost model chooses the page size of a scroll over the whole result
+   * and the number of slices, up to the given maximum, it is split into.
+   *
+   * @return query request, scroll request or sliced scroll request
+   */
+  public OpenSearchRequest build(OpenSearchRequest.IndexName indexName,
+                                 int maxResultWindow, TimeValue scrollTimeout, int maxSlices,
+                                 IndexScanCostModel costModel) {
     int size = requestedTotalSize;
     if (pageSize == null) {
       if (startFrom + size > maxResultWindow) {
-        sourceBuilder.size(maxResultWindow - startFrom);
+        if (sourceBuilder.collapse() != null) {
+          // dedupe is only pushed down as field collapsing if its result fits in the window
+          throw new IllegalStateException(String.format(
+              "Collapsed result of size %d from %d exceeds the max result window %d",
+              size, startFrom, maxResultWindow));
+        }
+        int scrollPageSize = costModel.pageSize(maxResultWindow - startFrom);
+        sourceBuilder.size(scrollPageSize);
+        int slices = costModel.slices(maxSlices, scrollPageSize);
+        if (slices > 1 && isOrderInsensitiveScan()) {
+          // a page holds the next page of every slice, so the slices share the page size
+          sourceBuilder.size(Math.max(1, scrollPageSize / slices));
+          return new OpenSearchSlicedScrollRequest(
+              indexName, scrollTimeout, sourceBuilder, exprValueFactory, slices);
+        }
         return new OpenSearchScrollRequest(
             indexName, scrollTimeout, sourceBuilder, exprValueFactory);
       } else {
@@ -148,6 +197,16 @@ public class OpenSearchRequestBuilder {
     }
   }
 
+  /**
+   * Record an expression pushed down into the request, which is evaluated by OpenSearch, e.g. in
+   * a script. The request isn't repeatable if any of these expressions isn't.
+   *
+   * @param expression expression pushed down
+   */
+  public void pushDownExpression(Expression expression) {
+    repeatable &= ExpressionUtils.isRepeatable(expression);
+  }
+
   /**
    * Push down aggregation to DSL request.
    *
@@ -185,6 +244,16 @@ public class OpenSearchRequestBuilder {
     sourceBuilder.from(offset).size(limit);
   }
 
+  /**
+   * Push down dedupe of a field to DSL request as field collapsing, which returns only the top
+   * document of each distinct value of the field.
+   *
+   * @param field keyword or numeric field to collapse on
+   */
+  public void pushDownCollapse(String field) {
+    sourceBuilder.collapse(new CollapseBuilder(field));
+  }
+
   public void pushDownTrackedScore(boolean trackScores) {
     sourceBuilder.trackScores(trackScores);
   }
@@ -239,6 +308,12 @@ public class OpenSearchRequestBuilder {
     exprValueFactory.extendTypeMapping(typeMapping);
   }
 
+  private boolean isOrderInsensitiveScan() {
+    return startFrom == 0
+        && sourceBuilder.aggregations() == null
+        && (sourceBuilder.sorts() == null || isSortByDocOnly());
+  }
+
   private boolean isSortByDocOnly() {
     List<SortBuilder<?>> sorts = sourceBuilder.sorts();
     if (sorts != null) {
@@ -0,0 +1,192 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+
+package org.opensearch.sql.opensearch.request;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+import org.opensearch.action.ActionFuture;
+import org.opensearch.action.search.SearchRequest;
+import org.opensearch.action.search.SearchResponse;
+import org.opensearch.action.search.SearchScrollRequest;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.core.common.io.stream.StreamOutput;
+import org.opensearch.search.SearchHit;
+import org.opensearch.search.SearchHits;
+import org.opensearch.search.builder.SearchSourceBuilder;
+import org.opensearch.search.slice.SliceBuilder;
+import org.opensearch.sql.opensearch.data.value.OpenSearchExprValueFactory;
+import org.opensearch.sql.opensearch.response.OpenSearchResponse;
+
+/**
+ * OpenSearch sliced scroll request. A full scan without any order requirement is split into
+ * several {@link OpenSearchScrollRequest} slices. Each page of the request contains the next page
+ * of every slice which is not exhausted yet, and with {@link #searchAsync} the slices are fetched
+ * concurrently.
+ */
+@EqualsAndHashCode
+@Getter
+@ToString
+public class OpenSearchSlicedScrollRequest implements OpenSearchRequest {
+
+  /** Scroll request per slice. */
+  private final List<OpenSearchScrollRequest> slices;
+
+  /** Slices which may return more hits. */
+  @EqualsAndHashCode.Exclude
+  @ToString.Exclude
+  private List<OpenSearchScrollRequest> activeSlices;
+
+  @EqualsAndHashCode.Exclude
+  @ToString.Exclude
+  private final OpenSearchExprValueFactory exprValueFactory;
+
+  private final List<String> includes;
+
+  /** Constructor. */
+  public OpenSearchSlicedScrollRequest(IndexName indexName,
+                                       TimeValue scrollTimeout,
+                                       SearchSourceBuilder sourceBuilder,
+                                       OpenSearchExprValueFactory exprValueFactory,
+                                       int sliceCount) {
+    this.exprValueFactory = exprValueFactory;
+    this.slices = IntStream.range(0, sliceCount)
+        .mapToObj(id -> new OpenSearchScrollRequest(indexName, scrollTimeout,
+            sourceBuilder.shallowCopy().slice(new SliceBuilder(id, sliceCount)),
+            exprValueFactory))
+        .collect(Collectors.toList());
+    this.activeSlices = slices;
+    this.includes = slices.get(0).getIncludes();
+  }
+
+  @Override
+  public OpenSearchResponse search(Function<SearchRequest, SearchResponse> searchAction,
+                                   Function<SearchScrollRequest, SearchResponse> scrollAction) {
+    return searchSlices(slice -> {
+      SearchResponse response = slice.isScroll()
+          ? scrollAction.apply(slice.scrollRequest())
+          : searchAction.apply(slice.getInitialSearchRequest());
+      return () -> response;
+    });
+  }
+
+  /**
+   * Issue the next page request of all active slices before waiting for any of them,
+   * so the round trips of the slices overlap.
+   */
+  @Override
+  public OpenSearchResponse searchAsync(
+      Function<SearchRequest, ActionFuture<SearchResponse>> searchAction,
+      Function<SearchScrollRequest, ActionFuture<SearchResponse>> scrollAction) {
+    return searchSlices(slice -> {
+      ActionFuture<SearchResponse> future = slice.isScroll()
+          ? scrollAction.apply(slice.scrollRequest())
+          : searchAction.apply(slice.getInitialSearchRequest());
+      return future::actionGet;
+    });
+  }
+
+  /**
+   * Wait for every request issued even if another one fails, so that the scroll of every slice
+   * is known and cleaned up.
+   */
+  private OpenSearchResponse searchSlices(
+      Function<OpenSearchScrollRequest, Supplier<SearchResponse>> issue) {
+    List<Supplier<SearchResponse>> pending = new ArrayList<>();
+    RuntimeException failure = null;
+    try {
+      for (OpenSearchScrollRequest slice : activeSlices) {
+        pending.add(issue.apply(slice));
+      }
+    } catch (RuntimeException e) {
+      failure = e;
+    }
+
+    List<OpenSearchScrollRequest> stillActive = new ArrayList<>();
+    List<SearchHit> hits = new ArrayList<>();
+    for (int i = 0; i < pending.size(); i++) {
+      OpenSearchScrollRequest slice = activeSlices.get(i);
+      try {
+        SearchResponse searchResponse = pending.get(i).get();
+        // let the slice track its own state, but keep the scroll id of an empty page too
+        if (!slice.search(req -> searchResponse, req -> searchResponse).isEmpty()) {
+          stillActive.add(slice);
+          hits.addAll(Arrays.asList(searchResponse.getHits().getHits()));
+        } else if (searchResponse.getScrollId() != null) {
+          slice.setScrollId(searchResponse.getScrollId());
+        }
+      } catch (RuntimeException e) {
+        failure = addFailure(failure, e);
+      }
+    }
+    if (failure != null) {
+      throw failure;
+    }
+    activeSlices = stillActive;
+    return new OpenSearchResponse(
+        new SearchHits(hits.toArray(new SearchHit[0]), null, Float.NaN),
+        exprValueFactory, includes);
+  }
+
+  @Override
+  public IndexName getIndexName() {
+    return slices.get(0).getIndexName();
+  }
+
+  /**
+   * Clear the scroll of every slice, even if it isn't exhausted, because a sliced scroll never
+   * continues in another request. A failure to clear one doesn't stop clearing the others.
+   */
+  @Override
+  public void clean(Consumer<String> cleanAction) {
+    RuntimeException failure = null;
+    for (OpenSearchScrollRequest slice : slices) {
+      try {
+        if (slice.isScroll()) {
+          cleanAction.accept(slice.getScrollId());
+        }
+      } catch (RuntimeException e) {
+        failure = addFailure(failure, e);
+      } finally {
+        slice.reset();
+      }
+    }
+    if (failure != null) {
+      throw failure;
+    }
+  }
+
+  private static RuntimeException addFailure(RuntimeException failure, RuntimeException e) {
+    if (failure == null) {
+      return e;
+    }
+    failure.addSuppressed(e);
+    return failure;
+  }
+
+  /**
+   * Sliced scroll is only used without pagination, so there is never a cursor to continue.
+   */
+  @Override
+  public boolean hasAnotherBatch() {
+    return false;
+  }
+
+  @Override
+  public void writeTo(StreamOutput out) {
+    throw new UnsupportedOperationException(
+        "OpenSearchSlicedScrollRequest serialization is not implemented.");
+  }
+}
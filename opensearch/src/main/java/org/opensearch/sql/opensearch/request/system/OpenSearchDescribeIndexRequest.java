@@ -101,6 +101,16 @@ public class OpenSearchDescribeIndexRequest implements OpenSearchSystemRequest {
         .values().stream().min(Integer::compare).get();
   }
 
+  /**
+   * Get the minimum of the max slices per scroll of the indices.
+   *
+   * @return max slices per scroll
+   */
+  public Integer getMaxSlicesPerScroll() {
+    return client.getIndexMaxSlicesPerScroll(getLocalIndexNames(indexName.getIndexNames()))
+        .values().stream().min(Integer::compare).get();
+  }
+
   private ExprTupleValue row(String fieldName, String fieldType, int position, String clusterName) {
     LinkedHashMap<String, ExprValue> valueMap = new LinkedHashMap<>();
     valueMap.put("TABLE_CAT", stringValue(clusterName));
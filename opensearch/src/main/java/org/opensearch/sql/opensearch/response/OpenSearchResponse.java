@@ -16,9 +16,12 @@ import static org.opensearch.sql.opensearch.storage.OpenSearchIndex.METADATA_FIE
 
 import com.google.common.collect.ImmutableMap;
 import java.util.Arrays;
+import java.util.HashSet;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 import lombok.EqualsAndHashCode;
 import lombok.ToString;
@@ -57,6 +60,13 @@ public class OpenSearchResponse implements Iterable<ExprValue> {
    */
   private final List<String> includes;
 
+  /**
+   * Top-level source fields of the include fields. Empty means all source fields.
+   */
+  @EqualsAndHashCode.Exclude
+  @ToString.Exclude
+  private final Set<String> sourceFields;
+
   /**
    * OpenSearchExprValueFactory used to build ExprValue from search result.
    */
@@ -73,6 +83,7 @@ public class OpenSearchResponse implements Iterable<ExprValue> {
     this.aggregations = searchResponse.getAggregations();
     this.exprValueFactory = exprValueFactory;
     this.includes = includes;
+    this.sourceFields = sourceFields(includes);
   }
 
   /**
@@ -85,6 +96,23 @@ public class OpenSearchResponse implements Iterable<ExprValue> {
     this.aggregations = null;
     this.exprValueFactory = exprValueFactory;
     this.includes = includes;
+    this.sourceFields = sourceFields(includes);
+  }
+
+  /**
+   * A nested include field like "address.city" needs the top-level field "address". The include
+   * itself is kept as well in case the source has a field name with a dot.
+   */
+  private static Set<String> sourceFields(List<String> includes) {
+    Set<String> fields = new HashSet<>();
+    for (String include : includes) {
+      fields.add(include);
+      int dot = include.indexOf('.');
+      if (dot > 0) {
+        fields.add(include.substring(0, dot));
+      }
+    }
+    return fields;
   }
 
   /**
@@ -101,6 +129,33 @@ public class OpenSearchResponse implements Iterable<ExprValue> {
     return aggregations != null;
   }
 
+  /**
+   * Number of search hits in the response.
+   *
+   * @return hit count
+   */
+  public int getHitCount() {
+    return (hits.getHits() == null) ? 0 : hits.getHits().length;
+  }
+
+  /**
+   * Total size of the document sources in the response, which is the bulk of the bytes received
+   * for a search without aggregation.
+   *
+   * @return source size in bytes
+   */
+  public long getSourceBytes() {
+    long bytes = 0;
+    if (hits.getHits() != null) {
+      for (SearchHit hit : hits.getHits()) {
+        if (hit.hasSource()) {
+          bytes += hit.getSourceRef().length();
+        }
+      }
+    }
+    return bytes;
+  }
+
   /**
    * Make response iterable without need to return internal data structure explicitly.
    *
@@ -112,39 +167,24 @@ public class OpenSearchResponse implements Iterable<ExprValue> {
     } else {
       return Arrays.stream(hits.getHits())
           .map(hit -> {
-            ImmutableMap.Builder<String, ExprValue> builder = new ImmutableMap.Builder<>();
-            addParsedHitsToBuilder(builder, hit);
-            addMetaDataFieldsToBuilder(builder, hit);
-            addHighlightsToBuilder(builder, hit);
-            return (ExprValue) ExprTupleValue.fromExprValueMap(builder.build());
+            LinkedHashMap<String, ExprValue> row = exprValueFactory.constructSource(
+                hit.getSourceRef(),
+                sourceFields,
+                !(hit.getInnerHits() == null || hit.getInnerHits().isEmpty()));
+            addMetaDataFieldsToRow(row, hit);
+            addHighlightsToRow(row, hit);
+            return (ExprValue) new ExprTupleValue(row);
           }).iterator();
     }
   }
 
   /**
-   * Parse response for all hits to add to builder. Inner_hits supports arrays of objects
-   * with nested type.
-   * @param builder builder to build values from response.
-   * @param hit Search hit from response.
-   */
-  private void addParsedHitsToBuilder(
-      ImmutableMap.Builder<String, ExprValue> builder,
-      SearchHit hit
-  ) {
-    builder.putAll(
-        exprValueFactory.construct(
-            hit.getSourceAsString(),
-            !(hit.getInnerHits() == null || hit.getInnerHits().isEmpty())
-        ).tupleValue());
-  }
-
-  /**
-   * If highlight fields are present in response add the fields to the builder.
-   * @param builder builder to build values from response.
+   * If highlight fields are present in response add the fields to the row.
+   * @param row row to add values from response to.
    * @param hit Search hit from response.
    */
-  private void addHighlightsToBuilder(
-      ImmutableMap.Builder<String, ExprValue> builder,
+  private void addHighlightsToRow(
+      Map<String, ExprValue> row,
       SearchHit hit
   ) {
     if (!hit.getHighlightFields().isEmpty()) {
@@ -154,17 +194,17 @@ public class OpenSearchResponse implements Iterable<ExprValue> {
             Arrays.stream(es.getValue().fragments()).map(
                 Text::toString).collect(Collectors.toList())));
       }
-      builder.put("_highlight", ExprTupleValue.fromExprValueMap(hlBuilder.build()));
+      row.put("_highlight", ExprTupleValue.fromExprValueMap(hlBuilder.build()));
     }
   }
 
   /**
-   * Add metadata fields to builder from response.
-   * @param builder builder to build values from response.
+   * Add metadata fields to row from response.
+   * @param row row to add values from response to.
    * @param hit Search hit from response.
    */
-  private void addMetaDataFieldsToBuilder(
-      ImmutableMap.Builder<String, ExprValue> builder,
+  private void addMetaDataFieldsToRow(
+      Map<String, ExprValue> row,
       SearchHit hit
   ) {
     List<String> metaDataFieldSet = includes.stream()
@@ -175,21 +215,21 @@ public class OpenSearchResponse implements Iterable<ExprValue> {
 
     metaDataFieldSet.forEach(metaDataField -> {
       if (metaDataField.equals(METADATA_FIELD_INDEX)) {
-        builder.put(METADATA_FIELD_INDEX, new ExprStringValue(hit.getIndex()));
+        row.put(METADATA_FIELD_INDEX, new ExprStringValue(hit.getIndex()));
       } else if (metaDataField.equals(METADATA_FIELD_ID)) {
-        builder.put(METADATA_FIELD_ID, new ExprStringValue(hit.getId()));
+        row.put(METADATA_FIELD_ID, new ExprStringValue(hit.getId()));
       } else if (metaDataField.equals(METADATA_FIELD_SCORE)) {
         if (!Float.isNaN(hit.getScore())) {
-          builder.put(METADATA_FIELD_SCORE, new ExprFloatValue(hit.getScore()));
+          row.put(METADATA_FIELD_SCORE, new ExprFloatValue(hit.getScore()));
         }
       } else if (metaDataField.equals(METADATA_FIELD_MAXSCORE)) {
         if (maxScore != null) {
-          builder.put(METADATA_FIELD_MAXSCORE, maxScore);
+          row.put(METADATA_FIELD_MAXSCORE, maxScore);
         }
       } else if (metaDataField.equals(METADATA_FIELD_SORT)) {
-        builder.put(METADATA_FIELD_SORT, new ExprLongValue(hit.getSeqNo()));
+        row.put(METADATA_FIELD_SORT, new ExprLongValue(hit.getSeqNo()));
       } else { // if (metaDataField.equals(METADATA_FIELD_ROUTING)){
-        builder.put(METADATA_FIELD_ROUTING, new ExprStringValue(hit.getShard().toString()));
+        row.put(METADATA_FIELD_ROUTING, new ExprStringValue(hit.getShard().toString()));
       }
     });
   }
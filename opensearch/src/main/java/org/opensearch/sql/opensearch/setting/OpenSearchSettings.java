@@ -24,6 +24,7 @@ import org.opensearch.common.settings.ClusterSettings;
 import org.opensearch.common.settings.SecureSetting;
 import org.opensearch.common.settings.Setting;
 import org.opensearch.common.unit.MemorySizeValue;
+import org.opensearch.common.unit.TimeValue;
 import org.opensearch.sql.common.setting.LegacySettings;
 import org.opensearch.sql.common.setting.Settings;
 
@@ -81,6 +82,12 @@ public class OpenSearchSettings extends Settings {
       Setting.Property.NodeScope,
       Setting.Property.Dynamic);
 
+  public static final Setting<?> PER_QUERY_MEMORY_LIMIT_SETTING = Setting.memorySizeSetting(
+      Key.PER_QUERY_MEMORY_LIMIT.getKeyValue(),
+      "10%",
+      Setting.Property.NodeScope,
+      Setting.Property.Dynamic);
+
   public static final Setting<?> QUERY_SIZE_LIMIT_SETTING = Setting.intSetting(
       Key.QUERY_SIZE_LIMIT.getKeyValue(),
       LegacyOpenDistroSettings.QUERY_SIZE_LIMIT_SETTING,
@@ -88,6 +95,48 @@ public class OpenSearchSettings extends Settings {
       Setting.Property.NodeScope,
       Setting.Property.Dynamic);
 
+  /**
+   * The upper bound is the default of the index.max_slices_per_scroll index setting.
+   */
+  public static final Setting<?> QUERY_SCAN_SLICES_SETTING = Setting.intSetting(
+      Key.QUERY_SCAN_SLICES.getKeyValue(),
+      1,
+      1,
+      1024,
+      Setting.Property.NodeScope,
+      Setting.Property.Dynamic);
+
+  public static final Setting<?> QUERY_SCAN_PREFETCH_SETTING = Setting.boolSetting(
+      Key.QUERY_SCAN_PREFETCH.getKeyValue(),
+      false,
+      Setting.Property.NodeScope,
+      Setting.Property.Dynamic);
+
+  public static final Setting<?> QUERY_DEDUP_PUSHDOWN_SETTING = Setting.boolSetting(
+      Key.QUERY_DEDUP_PUSHDOWN.getKeyValue(),
+      false,
+      Setting.Property.NodeScope,
+      Setting.Property.Dynamic);
+
+  public static final Setting<?> QUERY_RESULT_CACHE_ENABLED_SETTING = Setting.boolSetting(
+      Key.QUERY_RESULT_CACHE_ENABLED.getKeyValue(),
+      false,
+      Setting.Property.NodeScope,
+      Setting.Property.Dynamic);
+
+  public static final Setting<?> QUERY_RESULT_CACHE_TTL_SETTING = Setting.positiveTimeSetting(
+      Key.QUERY_RESULT_CACHE_TTL.getKeyValue(),
+      TimeValue.timeValueMinutes(1),
+      Setting.Property.NodeScope,
+      Setting.Property.Dynamic);
+
+  public static final Setting<?> QUERY_RESULT_CACHE_MAX_ROWS_SETTING = Setting.intSetting(
+      Key.QUERY_RESULT_CACHE_MAX_ROWS.getKeyValue(),
+      100_000,
+      0,
+      Setting.Property.NodeScope,
+      Setting.Property.Dynamic);
+
   public static final Setting<?> METRICS_ROLLING_WINDOW_SETTING = Setting.longSetting(
       Key.METRICS_ROLLING_WINDOW.getKeyValue(),
       LegacyOpenDistroSettings.METRICS_ROLLING_WINDOW_SETTING,
@@ -140,8 +189,22 @@ public class OpenSearchSettings extends Settings {
         PPL_ENABLED_SETTING, new Updater(Key.PPL_ENABLED));
     register(settingBuilder, clusterSettings, Key.QUERY_MEMORY_LIMIT,
         QUERY_MEMORY_LIMIT_SETTING, new Updater(Key.QUERY_MEMORY_LIMIT));
+    register(settingBuilder, clusterSettings, Key.PER_QUERY_MEMORY_LIMIT,
+        PER_QUERY_MEMORY_LIMIT_SETTING, new Updater(Key.PER_QUERY_MEMORY_LIMIT));
     register(settingBuilder, clusterSettings, Key.QUERY_SIZE_LIMIT,
         QUERY_SIZE_LIMIT_SETTING, new Updater(Key.QUERY_SIZE_LIMIT));
+    register(settingBuilder, clusterSettings, Key.QUERY_SCAN_SLICES,
+        QUERY_SCAN_SLICES_SETTING, new Updater(Key.QUERY_SCAN_SLICES));
+    register(settingBuilder, clusterSettings, Key.QUERY_SCAN_PREFETCH,
+        QUERY_SCAN_PREFETCH_SETTING, new Updater(Key.QUERY_SCAN_PREFETCH));
+    register(settingBuilder, clusterSettings, Key.QUERY_DEDUP_PUSHDOWN,
+        QUERY_DEDUP_PUSHDOWN_SETTING, new Updater(Key.QUERY_DEDUP_PUSHDOWN));
+    register(settingBuilder, clusterSettings, Key.QUERY_RESULT_CACHE_ENABLED,
+        QUERY_RESULT_CACHE_ENABLED_SETTING, new Updater(Key.QUERY_RESULT_CACHE_ENABLED));
+    register(settingBuilder, clusterSettings, Key.QUERY_RESULT_CACHE_TTL,
+        QUERY_RESULT_CACHE_TTL_SETTING, new Updater(Key.QUERY_RESULT_CACHE_TTL));
+    register(settingBuilder, clusterSettings, Key.QUERY_RESULT_CACHE_MAX_ROWS,
+        QUERY_RESULT_CACHE_MAX_ROWS_SETTING, new Updater(Key.QUERY_RESULT_CACHE_MAX_ROWS));
     register(settingBuilder, clusterSettings, Key.METRICS_ROLLING_WINDOW,
         METRICS_ROLLING_WINDOW_SETTING, new Updater(Key.METRICS_ROLLING_WINDOW));
     register(settingBuilder, clusterSettings, Key.METRICS_ROLLING_INTERVAL,
@@ -213,7 +276,14 @@ public class OpenSearchSettings extends Settings {
         .add(SQL_DELETE_ENABLED_SETTING)
         .add(PPL_ENABLED_SETTING)
         .add(QUERY_MEMORY_LIMIT_SETTING)
+        .add(PER_QUERY_MEMORY_LIMIT_SETTING)
         .add(QUERY_SIZE_LIMIT_SETTING)
+        .add(QUERY_SCAN_SLICES_SETTING)
+        .add(QUERY_SCAN_PREFETCH_SETTING)
+        .add(QUERY_DEDUP_PUSHDOWN_SETTING)
+        .add(QUERY_RESULT_CACHE_ENABLED_SETTING)
+        .add(QUERY_RESULT_CACHE_TTL_SETTING)
+        .add(QUERY_RESULT_CACHE_MAX_ROWS_SETTING)
         .add(METRICS_ROLLING_WINDOW_SETTING)
         .add(METRICS_ROLLING_INTERVAL_SETTING)
         .add(DATASOURCE_URI_ALLOW_HOSTS)
@@ -0,0 +1,59 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+
+package org.opensearch.sql.opensearch.statistics;
+
+import java.util.Optional;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Cost model of a scan over the whole result of an index, which chooses how the scan is split
+ * into requests based on the index statistics. The document count and the average document size
+ * are upper bounds of the hits and of their size, since filters and source filtering only
+ * reduce them. Without statistics, the defaults of the scan are kept.
+ */
+@RequiredArgsConstructor
+public class IndexScanCostModel {
+
+  /** Cost model without statistics, which keeps the defaults. */
+  public static final IndexScanCostModel DEFAULT = new IndexScanCostModel(Optional.empty());
+
+  /** Size of a page of hits to aim for, which bounds the memory held by one response. */
+  static final long TARGET_PAGE_BYTES = 32L * 1024 * 1024;
+
+  /** Minimum number of hits in a page, so that large documents don't cause too many requests. */
+  static final int MIN_PAGE_SIZE = 100;
+
+  private final Optional<IndexStatistics> statistics;
+
+  /**
+   * Choose the number of hits fetched by each scroll request.
+   *
+   * @param maxPageSize maximum number of hits allowed in a page
+   * @return number of hits in a page
+   */
+  public int pageSize(int maxPageSize) {
+    return statistics
+        .filter(stats -> stats.getAverageDocSize() > 0)
+        .map(stats -> (int) Math.min(maxPageSize,
+            Math.max(MIN_PAGE_SIZE, TARGET_PAGE_BYTES / stats.getAverageDocSize())))
+        .orElse(maxPageSize);
+  }
+
+  /**
+   * Choose the number of slices a scroll is split into. Every slice should fill at least one
+   * page, otherwise the extra slices only add requests and scroll contexts.
+   *
+   * @param maxSlices maximum number of slices
+   * @param pageSize  number of hits in a page
+   * @return number of slices
+   */
+  public int slices(int maxSlices, int pageSize) {
+    return statistics
+        .map(stats -> (int) Math.max(1, Math.min(maxSlices, stats.getDocCount() / pageSize)))
+        .orElse(maxSlices);
+  }
+}
@@ -0,0 +1,40 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+
+package org.opensearch.sql.opensearch.statistics;
+
+import lombok.Data;
+
+/**
+ * Statistics of the primary shards of an index. The document count is the number of Lucene
+ * documents, which includes the hidden documents of nested fields.
+ */
+@Data
+public class IndexStatistics {
+
+  private final long docCount;
+
+  private final long sizeInBytes;
+
+  /**
+   * Get the average size of a document on disk.
+   *
+   * @return average size in bytes, or 0 if the index is empty
+   */
+  public long getAverageDocSize() {
+    return (docCount == 0) ? 0 : sizeInBytes / docCount;
+  }
+
+  /**
+   * Combine the statistics of two indices queried together.
+   *
+   * @param other statistics of the other index
+   * @return statistics of both indices
+   */
+  public IndexStatistics merge(IndexStatistics other) {
+    return new IndexStatistics(docCount + other.docCount, sizeInBytes + other.sizeInBytes);
+  }
+}
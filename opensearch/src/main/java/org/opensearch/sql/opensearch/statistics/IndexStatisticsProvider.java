@@ -0,0 +1,74 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+
+package org.opensearch.sql.opensearch.statistics;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.base.Ticker;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheLoader;
+import com.google.common.cache.LoadingCache;
+import com.google.common.util.concurrent.UncheckedExecutionException;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import org.opensearch.sql.opensearch.client.OpenSearchClient;
+import org.opensearch.sql.opensearch.request.OpenSearchRequest;
+
+/**
+ * Provider of index statistics, shared by all the queries on the data source. Statistics are
+ * cached because every query reads them, and once older than the refresh interval the next
+ * query reloads them while concurrent queries keep using the previous ones. Statistics are
+ * always read on the thread of a query, so with the context of its user. They are advisory, so
+ * if they can't be read the query goes on without them, and the next query tries again.
+ */
+public class IndexStatisticsProvider {
+
+  /** Age after which cached statistics are reloaded by the next query. */
+  static final long REFRESH_INTERVAL_MINUTES = 1;
+
+  /** Statistics of an index not queried for this long are dropped. */
+  static final long EXPIRE_INTERVAL_MINUTES = 60;
+
+  /** Maximum number of index expressions cached. */
+  static final int MAX_INDICES = 1000;
+
+  private final LoadingCache<OpenSearchRequest.IndexName, Optional<IndexStatistics>> cache;
+
+  public IndexStatisticsProvider(OpenSearchClient client) {
+    this(client, Ticker.systemTicker());
+  }
+
+  @VisibleForTesting
+  IndexStatisticsProvider(OpenSearchClient client, Ticker ticker) {
+    this.cache = CacheBuilder.newBuilder()
+        .maximumSize(MAX_INDICES)
+        .refreshAfterWrite(REFRESH_INTERVAL_MINUTES, TimeUnit.MINUTES)
+        .expireAfterAccess(EXPIRE_INTERVAL_MINUTES, TimeUnit.MINUTES)
+        .ticker(ticker)
+        .build(CacheLoader.from(indexName -> load(client, indexName)));
+  }
+
+  /**
+   * Get the statistics of the indices, summed up if the index name covers several of them.
+   *
+   * @param indexName index name
+   * @return statistics, or empty if not available
+   */
+  public Optional<IndexStatistics> getStatistics(OpenSearchRequest.IndexName indexName) {
+    try {
+      return cache.getUnchecked(indexName);
+    } catch (UncheckedExecutionException e) {
+      // Not cached, the failure may be specific to the user, e.g. a missing permission
+      return Optional.empty();
+    }
+  }
+
+  private static Optional<IndexStatistics> load(OpenSearchClient client,
+                                                OpenSearchRequest.IndexName indexName) {
+    return client.getIndexStatistics(indexName.getIndexNames()).values().stream()
+        .reduce(IndexStatistics::merge);
+  }
+}
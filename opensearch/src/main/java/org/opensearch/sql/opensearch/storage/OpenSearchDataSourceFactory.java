@@ -11,6 +11,7 @@ import org.opensearch.sql.datasource.model.DataSource;
 import org.opensearch.sql.datasource.model.DataSourceMetadata;
 import org.opensearch.sql.datasource.model.DataSourceType;
 import org.opensearch.sql.opensearch.client.OpenSearchClient;
+import org.opensearch.sql.opensearch.mapping.IndexMappingCache;
 import org.opensearch.sql.storage.DataSourceFactory;
 
 @RequiredArgsConstructor
@@ -21,6 +22,16 @@ public class OpenSearchDataSourceFactory implements DataSourceFactory {
 
   private final Settings settings;
 
+  /** Mapping cache shared by the storage engines on the node, null if not available. */
+  private final IndexMappingCache mappingCache;
+
+  /**
+   * Constructor without mapping cache.
+   */
+  public OpenSearchDataSourceFactory(OpenSearchClient client, Settings settings) {
+    this(client, settings, null);
+  }
+
   @Override
   public DataSourceType getDataSourceType() {
     return DataSourceType.OPENSEARCH;
@@ -29,6 +40,6 @@ public class OpenSearchDataSourceFactory implements DataSourceFactory {
   @Override
   public DataSource createDataSource(DataSourceMetadata metadata) {
     return new DataSource(metadata.getName(), DataSourceType.OPENSEARCH,
-        new OpenSearchStorageEngine(client, settings));
+        new OpenSearchStorageEngine(client, settings, mappingCache));
   }
 }
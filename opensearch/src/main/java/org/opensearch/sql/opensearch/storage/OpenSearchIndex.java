@@ -19,12 +19,15 @@ import org.opensearch.sql.data.type.ExprType;
 import org.opensearch.sql.opensearch.client.OpenSearchClient;
 import org.opensearch.sql.opensearch.data.type.OpenSearchDataType;
 import org.opensearch.sql.opensearch.data.value.OpenSearchExprValueFactory;
+import org.opensearch.sql.opensearch.mapping.IndexMappingCache;
 import org.opensearch.sql.opensearch.planner.physical.ADOperator;
 import org.opensearch.sql.opensearch.planner.physical.MLCommonsOperator;
 import org.opensearch.sql.opensearch.planner.physical.MLOperator;
 import org.opensearch.sql.opensearch.request.OpenSearchRequest;
 import org.opensearch.sql.opensearch.request.OpenSearchRequestBuilder;
 import org.opensearch.sql.opensearch.request.system.OpenSearchDescribeIndexRequest;
+import org.opensearch.sql.opensearch.statistics.IndexScanCostModel;
+import org.opensearch.sql.opensearch.statistics.IndexStatisticsProvider;
 import org.opensearch.sql.opensearch.storage.scan.OpenSearchIndexScan;
 import org.opensearch.sql.opensearch.storage.scan.OpenSearchIndexScanBuilder;
 import org.opensearch.sql.planner.DefaultImplementor;
@@ -81,13 +84,39 @@ public class OpenSearchIndex implements Table {
    */
   private Integer cachedMaxResultWindow = null;
 
+  /**
+   * The cached max slices per scroll setting of index.
+   */
+  private Integer cachedMaxSlicesPerScroll = null;
+
+  /**
+   * Provider of the index statistics, null if not available.
+   */
+  private final IndexStatisticsProvider statisticsProvider;
+
+  /**
+   * Mapping cache shared with the other queries on the node, null if not available.
+   */
+  private final IndexMappingCache mappingCache;
+
   /**
    * Constructor.
    */
   public OpenSearchIndex(OpenSearchClient client, Settings settings, String indexName) {
+    this(client, settings, indexName, null, null);
+  }
+
+  /**
+   * Constructor with the index statistics used to plan the scan and the shared mapping cache.
+   */
+  public OpenSearchIndex(OpenSearchClient client, Settings settings, String indexName,
+                         IndexStatisticsProvider statisticsProvider,
+                         IndexMappingCache mappingCache) {
     this.client = client;
     this.settings = settings;
     this.indexName = new OpenSearchRequest.IndexName(indexName);
+    this.statisticsProvider = statisticsProvider;
+    this.mappingCache = mappingCache;
   }
 
   @Override
@@ -119,20 +148,22 @@ public class OpenSearchIndex implements Table {
    */
   @Override
   public Map<String, ExprType> getFieldTypes() {
-    if (cachedFieldOpenSearchTypes == null) {
-      cachedFieldOpenSearchTypes = new OpenSearchDescribeIndexRequest(client, indexName)
-          .getFieldTypes();
-    }
     if (cachedFieldTypes == null) {
-      cachedFieldTypes = OpenSearchDataType.traverseAndFlatten(cachedFieldOpenSearchTypes)
-          .entrySet().stream().collect(
-              LinkedHashMap::new,
-              (map, item) -> map.put(item.getKey(), item.getValue().getExprType()),
-              Map::putAll);
+      cachedFieldTypes = (mappingCache == null)
+          ? flattenFieldTypes()
+          : mappingCache.getFieldTypes(indexName, this::flattenFieldTypes);
     }
     return cachedFieldTypes;
   }
 
+  private Map<String, ExprType> flattenFieldTypes() {
+    return OpenSearchDataType.traverseAndFlatten(getFieldOpenSearchTypes())
+        .entrySet().stream().collect(
+            LinkedHashMap::new,
+            (map, item) -> map.put(item.getKey(), item.getValue().getExprType()),
+            Map::putAll);
+  }
+
   @Override
   public Map<String, ExprType> getReservedFieldTypes() {
     return METADATAFIELD_TYPE_MAP;
@@ -144,23 +175,49 @@ public class OpenSearchIndex implements Table {
    */
   public Map<String, OpenSearchDataType> getFieldOpenSearchTypes() {
     if (cachedFieldOpenSearchTypes == null) {
-      cachedFieldOpenSearchTypes = new OpenSearchDescribeIndexRequest(client, indexName)
-          .getFieldTypes();
+      cachedFieldOpenSearchTypes = (mappingCache == null)
+          ? describeFieldTypes()
+          : mappingCache.getFieldOpenSearchTypes(indexName, this::describeFieldTypes);
     }
     return cachedFieldOpenSearchTypes;
   }
 
+  private Map<String, OpenSearchDataType> describeFieldTypes() {
+    return new OpenSearchDescribeIndexRequest(client, indexName).getFieldTypes();
+  }
+
   /**
    * Get the max result window setting of the table.
    */
   public Integer getMaxResultWindow() {
     if (cachedMaxResultWindow == null) {
-      cachedMaxResultWindow =
-          new OpenSearchDescribeIndexRequest(client, indexName).getMaxResultWindow();
+      cachedMaxResultWindow = (mappingCache == null)
+          ? describeMaxResultWindow()
+          : mappingCache.getMaxResultWindow(indexName, this::describeMaxResultWindow);
     }
     return cachedMaxResultWindow;
   }
 
+  private Integer describeMaxResultWindow() {
+    return new OpenSearchDescribeIndexRequest(client, indexName).getMaxResultWindow();
+  }
+
+  /**
+   * Get the max slices per scroll setting of the table.
+   */
+  public Integer getMaxSlicesPerScroll() {
+    if (cachedMaxSlicesPerScroll == null) {
+      cachedMaxSlicesPerScroll = (mappingCache == null)
+          ? describeMaxSlicesPerScroll()
+          : mappingCache.getMaxSlicesPerScroll(indexName, this::describeMaxSlicesPerScroll);
+    }
+    return cachedMaxSlicesPerScroll;
+  }
+
+  private Integer describeMaxSlicesPerScroll() {
+    return new OpenSearchDescribeIndexRequest(client, indexName).getMaxSlicesPerScroll();
+  }
+
   /**
    * TODO: Push down operations to index scan operator as much as possible in future.
    */
@@ -175,13 +232,35 @@ public class OpenSearchIndex implements Table {
     final int querySizeLimit = settings.getSettingValue(Settings.Key.QUERY_SIZE_LIMIT);
 
     final TimeValue cursorKeepAlive = settings.getSettingValue(Settings.Key.SQL_CURSOR_KEEP_ALIVE);
+    final int scanSlices = settings.getSettingValue(Settings.Key.QUERY_SCAN_SLICES);
+    final boolean scanPrefetch = settings.getSettingValue(Settings.Key.QUERY_SCAN_PREFETCH);
+    final boolean dedupPushDown = settings.getSettingValue(Settings.Key.QUERY_DEDUP_PUSHDOWN);
     var builder = new OpenSearchRequestBuilder(
         querySizeLimit,
         createExprValueFactory());
+    // paginated scan must not fetch ahead, the scroll position is saved in the cursor
     Function<OpenSearchRequestBuilder, OpenSearchIndexScan> createScanOperator =
         requestBuilder -> new OpenSearchIndexScan(client, requestBuilder.getMaxResponseSize(),
-        requestBuilder.build(indexName, getMaxResultWindow(), cursorKeepAlive));
-    return new OpenSearchIndexScanBuilder(builder, createScanOperator);
+        requestBuilder.build(indexName, getMaxResultWindow(), cursorKeepAlive,
+            getScanSlices(scanSlices), createScanCostModel()),
+        scanPrefetch && requestBuilder.getPageSize() == null, requestBuilder.isRepeatable());
+    return new OpenSearchIndexScanBuilder(builder, dedupPushDown, this::getMaxResultWindow,
+        createScanOperator);
+  }
+
+  /**
+   * Cap the slices setting at the max slices per scroll of the index, which a sliced scroll
+   * must not exceed. The index setting is only read if slicing is enabled.
+   */
+  private int getScanSlices(int scanSlices) {
+    return (scanSlices > 1) ? Math.min(scanSlices, getMaxSlicesPerScroll()) : scanSlices;
+  }
+
+  private IndexScanCostModel createScanCostModel() {
+    if (statisticsProvider == null) {
+      return IndexScanCostModel.DEFAULT;
+    }
+    return new IndexScanCostModel(statisticsProvider.getStatistics(indexName));
   }
 
   private OpenSearchExprValueFactory createExprValueFactory() {
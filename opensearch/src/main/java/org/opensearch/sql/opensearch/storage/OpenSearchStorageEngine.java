@@ -9,16 +9,16 @@ package org.opensearch.sql.opensearch.storage;
 import static org.opensearch.sql.utils.SystemIndexUtils.isSystemIndex;
 
 import lombok.Getter;
-import lombok.RequiredArgsConstructor;
 import org.opensearch.sql.DataSourceSchemaName;
 import org.opensearch.sql.common.setting.Settings;
 import org.opensearch.sql.opensearch.client.OpenSearchClient;
+import org.opensearch.sql.opensearch.mapping.IndexMappingCache;
+import org.opensearch.sql.opensearch.statistics.IndexStatisticsProvider;
 import org.opensearch.sql.opensearch.storage.system.OpenSearchSystemIndex;
 import org.opensearch.sql.storage.StorageEngine;
 import org.opensearch.sql.storage.Table;
 
 /** OpenSearch storage engine implementation. */
-@RequiredArgsConstructor
 public class OpenSearchStorageEngine implements StorageEngine {
 
   /** OpenSearch client connection. */
@@ -27,12 +27,36 @@ public class OpenSearchStorageEngine implements StorageEngine {
   @Getter
   private final Settings settings;
 
+  /** Index statistics shared by the queries on this storage engine. */
+  private final IndexStatisticsProvider statisticsProvider;
+
+  /** Mapping cache shared by the storage engines on the node, null if not available. */
+  private final IndexMappingCache mappingCache;
+
+  /**
+   * Constructor.
+   */
+  public OpenSearchStorageEngine(OpenSearchClient client, Settings settings) {
+    this(client, settings, null);
+  }
+
+  /**
+   * Constructor with the mapping cache of the node.
+   */
+  public OpenSearchStorageEngine(OpenSearchClient client, Settings settings,
+                                 IndexMappingCache mappingCache) {
+    this.client = client;
+    this.settings = settings;
+    this.statisticsProvider = new IndexStatisticsProvider(client);
+    this.mappingCache = mappingCache;
+  }
+
   @Override
   public Table getTable(DataSourceSchemaName dataSourceSchemaName, String name) {
     if (isSystemIndex(name)) {
       return new OpenSearchSystemIndex(client, name);
     } else {
-      return new OpenSearchIndex(client, settings, name);
+      return new OpenSearchIndex(client, settings, name, statisticsProvider, mappingCache);
     }
   }
 }
@@ -12,7 +12,9 @@ import java.io.ObjectInput;
 import java.io.ObjectOutput;
 import java.util.Collections;
 import java.util.Iterator;
+import java.util.function.Supplier;
 import lombok.EqualsAndHashCode;
+import lombok.Getter;
 import lombok.ToString;
 import org.opensearch.common.io.stream.BytesStreamOutput;
 import org.opensearch.core.common.io.stream.BytesStreamInput;
@@ -25,6 +27,7 @@ import org.opensearch.sql.opensearch.request.OpenSearchScrollRequest;
 import org.opensearch.sql.opensearch.response.OpenSearchResponse;
 import org.opensearch.sql.opensearch.storage.OpenSearchStorageEngine;
 import org.opensearch.sql.planner.SerializablePlan;
+import org.opensearch.sql.planner.physical.ExprValueBatch;
 import org.opensearch.sql.storage.TableScanOperator;
 
 /**
@@ -53,15 +56,66 @@ public class OpenSearchIndexScan extends TableScanOperator implements Serializab
   /** Search response for current batch. */
   private Iterator<ExprValue> iterator;
 
+  /** Fetch the next batch in background while the current one is consumed. */
+  @EqualsAndHashCode.Include
+  private boolean prefetch;
+
+  /**
+   * Whether the request returns the same result on the same data in every query. A scan restored
+   * from a cursor isn't known to be.
+   */
+  @Getter
+  private boolean repeatable;
+
+  /** Response of the next batch being fetched in background, if any. */
+  private Supplier<OpenSearchResponse> nextResponse;
+
+  /** Number of search responses received. */
+  @Getter
+  private long fetchedBatches;
+
+  /** Size of the document sources received. */
+  @Getter
+  private long fetchedSourceBytes;
+
+  /** Nanoseconds spent waiting for search responses. */
+  @Getter
+  private long fetchNanos;
+
   /**
    * Creates index scan based on a provided OpenSearchRequestBuilder.
    */
   public OpenSearchIndexScan(OpenSearchClient client,
                              int maxResponseSize,
                              OpenSearchRequest request) {
+    this(client, maxResponseSize, request, false);
+  }
+
+  /**
+   * Creates index scan which optionally keeps one batch request outstanding while the current
+   * batch is consumed.
+   */
+  public OpenSearchIndexScan(OpenSearchClient client,
+                             int maxResponseSize,
+                             OpenSearchRequest request,
+                             boolean prefetch) {
+    this(client, maxResponseSize, request, prefetch, true);
+  }
+
+  /**
+   * Creates index scan of a request which may evaluate non-repeatable expressions pushed down,
+   * e.g. a filter script calling rand().
+   */
+  public OpenSearchIndexScan(OpenSearchClient client,
+                             int maxResponseSize,
+                             OpenSearchRequest request,
+                             boolean prefetch,
+                             boolean repeatable) {
     this.client = client;
     this.maxResponseSize = maxResponseSize;
     this.request = request;
+    this.prefetch = prefetch;
+    this.repeatable = repeatable;
   }
 
   @Override
@@ -88,18 +142,51 @@ public class OpenSearchIndexScan extends TableScanOperator implements Serializab
     return iterator.next();
   }
 
+  @Override
+  public ExprValueBatch nextBatch(int maxBatchSize) {
+    ExprValueBatch batch = new ExprValueBatch(maxBatchSize);
+    while (batch.size() < maxBatchSize && hasNext()) {
+      // drain the current response page without going through the operator chain per row
+      while (batch.size() < maxBatchSize && queryCount < maxResponseSize && iterator.hasNext()) {
+        batch.add(next());
+      }
+    }
+    return batch;
+  }
+
   private void fetchNextBatch() {
-    OpenSearchResponse response = client.search(request);
+    long start = System.nanoTime();
+    OpenSearchResponse response = (nextResponse == null) ? client.search(request) : takeNext();
+    fetchNanos += System.nanoTime() - start;
+    fetchedBatches++;
+    fetchedSourceBytes += response.getSourceBytes();
     if (!response.isEmpty()) {
       iterator = response.iterator();
+      // no batch is needed after this one if it already reaches the response size limit
+      if (prefetch && queryCount + response.getHitCount() < maxResponseSize) {
+        nextResponse = client.prefetch(request);
+      }
     }
   }
 
+  private OpenSearchResponse takeNext() {
+    Supplier<OpenSearchResponse> response = nextResponse;
+    nextResponse = null;
+    return response.get();
+  }
+
   @Override
   public void close() {
     super.close();
 
-    client.cleanup(request);
+    // request state (e.g. scroll id) is only consistent once the outstanding search is done
+    try {
+      if (nextResponse != null) {
+        takeNext();
+      }
+    } finally {
+      client.cleanup(request);
+    }
   }
 
   @Override
@@ -107,6 +194,13 @@ public class OpenSearchIndexScan extends TableScanOperator implements Serializab
     return request.toString();
   }
 
+  /**
+   * Index name(s) scanned.
+   */
+  public OpenSearchRequest.IndexName getIndexName() {
+    return request.getIndexName();
+  }
+
   /** No-args constructor.
    * @deprecated Exists only to satisfy Java serialization API.
    */
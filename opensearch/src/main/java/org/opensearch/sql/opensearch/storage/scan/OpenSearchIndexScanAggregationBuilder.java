@@ -62,6 +62,8 @@ class OpenSearchIndexScanAggregationBuilder implements PushDownQueryBuilder {
     Pair<List<AggregationBuilder>, OpenSearchAggregationResponseParser> aggregationBuilder =
         builder.buildAggregationBuilder(aggregatorList, groupByList, sortList);
     requestBuilder.pushDownAggregation(aggregationBuilder);
+    aggregatorList.forEach(requestBuilder::pushDownExpression);
+    groupByList.forEach(requestBuilder::pushDownExpression);
     requestBuilder.pushTypeMapping(
         builder.buildTypeMapping(aggregatorList, groupByList));
     return requestBuilder;
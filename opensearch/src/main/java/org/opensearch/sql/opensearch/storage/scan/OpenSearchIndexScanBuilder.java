@@ -8,10 +8,12 @@ package org.opensearch.sql.opensearch.storage.scan;
 import static org.opensearch.sql.analysis.NestedAnalyzer.isNestedFunction;
 
 import java.util.function.Function;
+import java.util.function.Supplier;
 import lombok.EqualsAndHashCode;
 import org.opensearch.sql.expression.ReferenceExpression;
 import org.opensearch.sql.opensearch.request.OpenSearchRequestBuilder;
 import org.opensearch.sql.planner.logical.LogicalAggregation;
+import org.opensearch.sql.planner.logical.LogicalDedupe;
 import org.opensearch.sql.planner.logical.LogicalFilter;
 import org.opensearch.sql.planner.logical.LogicalHighlight;
 import org.opensearch.sql.planner.logical.LogicalLimit;
@@ -39,12 +41,25 @@ public class OpenSearchIndexScanBuilder extends TableScanBuilder {
   /** Is limit operator pushed down. */
   private boolean isLimitPushedDown = false;
 
+  /** Can dedupe operator be pushed down as field collapsing. */
+  private boolean isDedupePushDownEnabled = false;
+
+  /** Is dedupe operator pushed down. */
+  private boolean isDedupePushedDown = false;
+
+  /** Max result window of the index, which a collapsed result must fit in. */
+  private Supplier<Integer> maxResultWindow;
+
   /**
    * Constructor used during query execution.
    */
   public OpenSearchIndexScanBuilder(OpenSearchRequestBuilder requestBuilder,
+      boolean isDedupePushDownEnabled,
+      Supplier<Integer> maxResultWindow,
       Function<OpenSearchRequestBuilder, OpenSearchIndexScan> scanFactory) {
-    this.delegate = new OpenSearchIndexScanQueryBuilder(requestBuilder);
+    this.delegate = new OpenSearchIndexScanQueryBuilder(requestBuilder, maxResultWindow);
+    this.isDedupePushDownEnabled = isDedupePushDownEnabled;
+    this.maxResultWindow = maxResultWindow;
     this.scanFactory = scanFactory;
 
   }
@@ -65,12 +80,17 @@ public class OpenSearchIndexScanBuilder extends TableScanBuilder {
 
   @Override
   public boolean pushDownFilter(LogicalFilter filter) {
+    // Filter after dedupe must not change which documents are collapsed
+    if (isDedupePushedDown) {
+      return false;
+    }
     return delegate.pushDownFilter(filter);
   }
 
   @Override
   public boolean pushDownAggregation(LogicalAggregation aggregation) {
-    if (isLimitPushedDown) {
+    // Aggregations are computed on all the documents regardless of field collapsing
+    if (isLimitPushedDown || isDedupePushedDown) {
       return false;
     }
 
@@ -82,19 +102,38 @@ public class OpenSearchIndexScanBuilder extends TableScanBuilder {
 
   @Override
   public boolean pushDownPageSize(LogicalPaginate paginate) {
+    // Field collapsing can't scroll
+    if (isDedupePushedDown) {
+      return false;
+    }
     return delegate.pushDownPageSize(paginate);
   }
 
   @Override
   public boolean pushDownSort(LogicalSort sort) {
-    if (!sortByFieldsOnly(sort)) {
+    // Sort after dedupe must not change which document of each value is collapsed on
+    if (isDedupePushedDown || !sortByFieldsOnly(sort)) {
       return false;
     }
     return delegate.pushDownSort(sort);
   }
 
+  @Override
+  public boolean pushDownDedupe(LogicalDedupe dedupe) {
+    if (!isDedupePushDownEnabled || isLimitPushedDown) {
+      return false;
+    }
+    isDedupePushedDown = delegate.pushDownDedupe(dedupe);
+    return isDedupePushedDown;
+  }
+
   @Override
   public boolean pushDownLimit(LogicalLimit limit) {
+    // A collapsed result can't scroll beyond the max result window
+    if (isDedupePushedDown
+        && limit.getOffset() + limit.getLimit() > maxResultWindow.get()) {
+      return false;
+    }
     // Assume limit push down happening on OpenSearchIndexScanQueryBuilder
     isLimitPushedDown = true;
     return delegate.pushDownLimit(limit);
@@ -5,27 +5,41 @@
 
 package org.opensearch.sql.opensearch.storage.scan;
 
+import static org.opensearch.sql.data.type.ExprCoreType.BYTE;
+import static org.opensearch.sql.data.type.ExprCoreType.DOUBLE;
+import static org.opensearch.sql.data.type.ExprCoreType.FLOAT;
+import static org.opensearch.sql.data.type.ExprCoreType.INTEGER;
+import static org.opensearch.sql.data.type.ExprCoreType.LONG;
+import static org.opensearch.sql.data.type.ExprCoreType.SHORT;
+import static org.opensearch.sql.data.type.ExprCoreType.STRING;
+import static org.opensearch.sql.data.type.ExprCoreType.TIMESTAMP;
+
 import com.google.common.annotations.VisibleForTesting;
 import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import lombok.EqualsAndHashCode;
 import org.apache.commons.lang3.tuple.Pair;
 import org.opensearch.index.query.QueryBuilder;
+import org.opensearch.index.query.QueryBuilders;
 import org.opensearch.sql.ast.tree.Sort;
 import org.opensearch.sql.common.utils.StringUtils;
+import org.opensearch.sql.data.type.ExprType;
 import org.opensearch.sql.expression.Expression;
 import org.opensearch.sql.expression.ExpressionNodeVisitor;
 import org.opensearch.sql.expression.FunctionExpression;
 import org.opensearch.sql.expression.NamedExpression;
 import org.opensearch.sql.expression.ReferenceExpression;
 import org.opensearch.sql.expression.function.OpenSearchFunctions;
+import org.opensearch.sql.opensearch.data.type.OpenSearchTextType;
 import org.opensearch.sql.opensearch.request.OpenSearchRequestBuilder;
 import org.opensearch.sql.opensearch.storage.script.filter.FilterQueryBuilder;
 import org.opensearch.sql.opensearch.storage.script.sort.SortQueryBuilder;
 import org.opensearch.sql.opensearch.storage.serialization.DefaultExpressionSerializer;
+import org.opensearch.sql.planner.logical.LogicalDedupe;
 import org.opensearch.sql.planner.logical.LogicalFilter;
 import org.opensearch.sql.planner.logical.LogicalHighlight;
 import org.opensearch.sql.planner.logical.LogicalLimit;
@@ -42,10 +56,22 @@ import org.opensearch.sql.planner.logical.LogicalSort;
 @EqualsAndHashCode
 class OpenSearchIndexScanQueryBuilder implements PushDownQueryBuilder {
 
+  /**
+   * Types of the fields with doc values that OpenSearch can collapse on.
+   */
+  private static final Set<ExprType> COLLAPSIBLE_TYPES =
+      Set.of(STRING, BYTE, SHORT, INTEGER, LONG, FLOAT, DOUBLE, TIMESTAMP);
+
   OpenSearchRequestBuilder requestBuilder;
 
-  public OpenSearchIndexScanQueryBuilder(OpenSearchRequestBuilder requestBuilder) {
+  /** Max result window of the index, which a collapsed result must fit in. */
+  @EqualsAndHashCode.Exclude
+  private final Supplier<Integer> maxResultWindow;
+
+  public OpenSearchIndexScanQueryBuilder(OpenSearchRequestBuilder requestBuilder,
+                                         Supplier<Integer> maxResultWindow) {
     this.requestBuilder = requestBuilder;
+    this.maxResultWindow = maxResultWindow;
   }
 
   @Override
@@ -55,6 +81,7 @@ class OpenSearchIndexScanQueryBuilder implements PushDownQueryBuilder {
     Expression queryCondition = filter.getCondition();
     QueryBuilder query = queryBuilder.build(queryCondition);
     requestBuilder.pushDownFilter(query);
+    requestBuilder.pushDownExpression(queryCondition);
     requestBuilder.pushDownTrackedScore(
         trackScoresFromOpenSearchFunction(queryCondition));
     return true;
@@ -99,6 +126,48 @@ class OpenSearchIndexScanQueryBuilder implements PushDownQueryBuilder {
     return true;
   }
 
+  /**
+   * Push down dedupe which keeps the first document of each value of a single field and drops
+   * documents without the field, as field collapsing on the field and exists query on it. It is
+   * not pushed down if the result would exceed the max result window or be paginated.
+   */
+  @Override
+  public boolean pushDownDedupe(LogicalDedupe dedupe) {
+    List<Expression> dedupeList = dedupe.getDedupeList();
+    if (dedupeList.size() != 1
+        || !(dedupeList.get(0) instanceof ReferenceExpression)
+        || dedupe.getAllowedDuplication() != 1
+        || dedupe.getKeepEmpty()
+        || dedupe.getConsecutive()) {
+      return false;
+    }
+
+    ReferenceExpression field = (ReferenceExpression) dedupeList.get(0);
+    if (!isCollapsible(field.type())) {
+      return false;
+    }
+    // field collapsing can't scroll, so the whole result must fit in a single search request
+    if (requestBuilder.getPageSize() != null
+        || requestBuilder.getStartFrom() + requestBuilder.getRequestedTotalSize()
+            > maxResultWindow.get()) {
+      return false;
+    }
+    String fieldName = OpenSearchTextType.convertTextToKeyword(field.getAttr(), field.type());
+    requestBuilder.pushDownFilter(QueryBuilders.existsQuery(fieldName));
+    requestBuilder.pushDownCollapse(fieldName);
+    return true;
+  }
+
+  /**
+   * Text field is collapsed on its keyword subfield, which is assumed to exist if it has any.
+   */
+  private boolean isCollapsible(ExprType type) {
+    if (type instanceof OpenSearchTextType) {
+      return !((OpenSearchTextType) type).getFields().isEmpty();
+    }
+    return COLLAPSIBLE_TYPES.contains(type);
+  }
+
   private boolean trackScoresFromOpenSearchFunction(Expression condition) {
     if (condition instanceof OpenSearchFunctions.OpenSearchFunction
         && ((OpenSearchFunctions.OpenSearchFunction) condition).isScoreTracked()) {
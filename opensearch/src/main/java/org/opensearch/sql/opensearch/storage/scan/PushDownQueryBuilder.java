@@ -6,6 +6,7 @@
 package org.opensearch.sql.opensearch.storage.scan;
 
 import org.opensearch.sql.opensearch.request.OpenSearchRequestBuilder;
+import org.opensearch.sql.planner.logical.LogicalDedupe;
 import org.opensearch.sql.planner.logical.LogicalFilter;
 import org.opensearch.sql.planner.logical.LogicalHighlight;
 import org.opensearch.sql.planner.logical.LogicalLimit;
@@ -46,5 +47,9 @@ public interface PushDownQueryBuilder {
     return false;
   }
 
+  default boolean pushDownDedupe(LogicalDedupe dedupe) {
+    return false;
+  }
+
   OpenSearchRequestBuilder build();
 }
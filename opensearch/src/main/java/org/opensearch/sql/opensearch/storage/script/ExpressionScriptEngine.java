@@ -6,17 +6,21 @@
 
 package org.opensearch.sql.opensearch.storage.script;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheStats;
 import com.google.common.collect.ImmutableMap;
+import com.google.common.util.concurrent.UncheckedExecutionException;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ExecutionException;
 import java.util.function.Function;
-import lombok.RequiredArgsConstructor;
 import org.opensearch.script.AggregationScript;
 import org.opensearch.script.FilterScript;
 import org.opensearch.script.ScriptContext;
 import org.opensearch.script.ScriptEngine;
-import org.opensearch.sql.expression.Expression;
 import org.opensearch.sql.opensearch.storage.script.aggregation.ExpressionAggregationScriptFactory;
+import org.opensearch.sql.opensearch.storage.script.core.ExpressionScript;
 import org.opensearch.sql.opensearch.storage.script.filter.ExpressionFilterScriptFactory;
 import org.opensearch.sql.opensearch.storage.serialization.ExpressionSerializer;
 
@@ -24,7 +28,6 @@ import org.opensearch.sql.opensearch.storage.serialization.ExpressionSerializer;
  * Custom expression script engine that supports using core engine expression code in DSL
  * as a new script language just like built-in Painless language.
  */
-@RequiredArgsConstructor
 public class ExpressionScriptEngine implements ScriptEngine {
 
   /**
@@ -32,11 +35,16 @@ public class ExpressionScriptEngine implements ScriptEngine {
    */
   public static final String EXPRESSION_LANG_NAME = "opensearch_query_expression";
 
+  /**
+   * Default maximum number of compiled scripts kept in cache.
+   */
+  public static final int DEFAULT_SCRIPT_CACHE_SIZE = 1000;
+
   /**
    * All supported script contexts and function to create factory from expression.
    */
-  private static final Map<ScriptContext<?>, Function<Expression, Object>> CONTEXTS =
-      new ImmutableMap.Builder<ScriptContext<?>, Function<Expression, Object>>()
+  private static final Map<ScriptContext<?>, Function<ExpressionScript, Object>> CONTEXTS =
+      new ImmutableMap.Builder<ScriptContext<?>, Function<ExpressionScript, Object>>()
           .put(FilterScript.CONTEXT, ExpressionFilterScriptFactory::new)
           .put(AggregationScript.CONTEXT, ExpressionAggregationScriptFactory::new)
           .build();
@@ -46,6 +54,31 @@ public class ExpressionScriptEngine implements ScriptEngine {
    */
   private final ExpressionSerializer serializer;
 
+  /**
+   * Compiled scripts keyed by script code. The same script code is compiled for every shard
+   * a query hits and for every execution of the same query, so caching avoids deserializing
+   * the expression and extracting its fields over and over again.
+   */
+  private final Cache<String, ExpressionScript> scriptCache;
+
+  public ExpressionScriptEngine(ExpressionSerializer serializer) {
+    this(serializer, DEFAULT_SCRIPT_CACHE_SIZE);
+  }
+
+  /**
+   * Constructor of ExpressionScriptEngine.
+   *
+   * @param serializer      expression serializer
+   * @param scriptCacheSize maximum number of compiled scripts to cache
+   */
+  public ExpressionScriptEngine(ExpressionSerializer serializer, int scriptCacheSize) {
+    this.serializer = serializer;
+    this.scriptCache = CacheBuilder.newBuilder()
+        .maximumSize(scriptCacheSize)
+        .recordStats()
+        .build();
+  }
+
   @Override
   public String getType() {
     return EXPRESSION_LANG_NAME;
@@ -56,18 +89,35 @@ public class ExpressionScriptEngine implements ScriptEngine {
                        String scriptCode,
                        ScriptContext<T> context,
                        Map<String, String> params) {
-    /*
-     * Note that in fact the expression source is already compiled in query engine.
-     * The "code" is actually a serialized expression tree by our serializer.
-     * Therefore the compilation here is simply to deserialize the expression tree.
-     */
-    Expression expression = serializer.deserialize(scriptCode);
-
-    if (CONTEXTS.containsKey(context)) {
-      return context.factoryClazz.cast(CONTEXTS.get(context).apply(expression));
+    if (!CONTEXTS.containsKey(context)) {
+      throw new IllegalStateException(String.format("Script context is currently not supported: "
+          + "all supported contexts [%s], given context [%s] ", CONTEXTS, context));
+    }
+    return context.factoryClazz.cast(CONTEXTS.get(context).apply(compile(scriptCode)));
+  }
+
+  /**
+   * Note that in fact the expression source is already compiled in query engine.
+   * The "code" is actually a serialized expression tree by our serializer.
+   * Therefore the compilation here is simply to deserialize the expression tree
+   * and prepare the fields it references. Concurrent compilation of the same code
+   * waits for the one in progress. Failures are not cached.
+   */
+  private ExpressionScript compile(String scriptCode) {
+    try {
+      return scriptCache.get(scriptCode,
+          () -> new ExpressionScript(serializer.deserialize(scriptCode)));
+    } catch (ExecutionException | UncheckedExecutionException e) {
+      // deserialization only throws unchecked exceptions, which are rethrown as they are
+      throw (RuntimeException) e.getCause();
     }
-    throw new IllegalStateException(String.format("Script context is currently not supported: "
-        + "all supported contexts [%s], given context [%s] ", CONTEXTS, context));
+  }
+
+  /**
+   * Statistics of the compiled script cache.
+   */
+  public CacheStats getScriptCacheStats() {
+    return scriptCache.stats();
   }
 
   @Override
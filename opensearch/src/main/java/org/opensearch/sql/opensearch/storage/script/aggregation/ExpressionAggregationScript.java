@@ -43,8 +43,19 @@ public class ExpressionAggregationScript extends AggregationScript {
       SearchLookup lookup,
       LeafReaderContext context,
       Map<String, Object> params) {
+    this(new ExpressionScript(expression), lookup, context, params);
+  }
+
+  /**
+   * Constructor of ExpressionAggregationScript with an already compiled expression.
+   */
+  public ExpressionAggregationScript(
+      ExpressionScript expressionScript,
+      SearchLookup lookup,
+      LeafReaderContext context,
+      Map<String, Object> params) {
     super(params, lookup, context);
-    this.expressionScript = new ExpressionScript(expression);
+    this.expressionScript = expressionScript;
   }
 
   @Override
@@ -10,7 +10,7 @@ import java.util.Map;
 import org.apache.lucene.index.LeafReaderContext;
 import org.opensearch.script.AggregationScript;
 import org.opensearch.search.lookup.SearchLookup;
-import org.opensearch.sql.expression.Expression;
+import org.opensearch.sql.opensearch.storage.script.core.ExpressionScript;
 
 /**
  * Expression script leaf factory that produces script executor for each leaf.
@@ -18,9 +18,9 @@ import org.opensearch.sql.expression.Expression;
 public class ExpressionAggregationScriptLeafFactory implements AggregationScript.LeafFactory {
 
   /**
-   * Expression to execute.
+   * Compiled expression to execute.
    */
-  private final Expression expression;
+  private final ExpressionScript expressionScript;
 
   /**
    * Expression to execute.
@@ -36,15 +36,15 @@ public class ExpressionAggregationScriptLeafFactory implements AggregationScript
    * Constructor of ExpressionAggregationScriptLeafFactory.
    */
   public ExpressionAggregationScriptLeafFactory(
-      Expression expression, Map<String, Object> params, SearchLookup lookup) {
-    this.expression = expression;
+      ExpressionScript expressionScript, Map<String, Object> params, SearchLookup lookup) {
+    this.expressionScript = expressionScript;
     this.params = params;
     this.lookup = lookup;
   }
 
   @Override
   public AggregationScript newInstance(LeafReaderContext ctx) {
-    return new ExpressionAggregationScript(expression, lookup, ctx, params);
+    return new ExpressionAggregationScript(expressionScript, lookup, ctx, params);
   }
 
   @Override
@@ -26,6 +26,7 @@ import org.opensearch.sql.data.type.ExprType;
 import org.opensearch.sql.expression.Expression;
 import org.opensearch.sql.expression.ExpressionNodeVisitor;
 import org.opensearch.sql.expression.ReferenceExpression;
+import org.opensearch.sql.expression.compiler.ExpressionCompiler;
 import org.opensearch.sql.expression.env.Environment;
 import org.opensearch.sql.expression.parse.ParseExpression;
 import org.opensearch.sql.opensearch.data.type.OpenSearchDataType;
@@ -35,6 +36,8 @@ import org.opensearch.sql.opensearch.data.value.OpenSearchExprValueFactory;
 /**
  * Expression script executor that executes the expression on each document
  * and determine if the document is supposed to be filtered out or not.
+ * The referenced fields and value factory are prepared once on construction,
+ * so the same instance is shared by the scripts of all segments and shards.
  */
 @EqualsAndHashCode(callSuper = false)
 public class ExpressionScript {
@@ -44,6 +47,12 @@ public class ExpressionScript {
    */
   private final Expression expression;
 
+  /**
+   * Expression compiled for the evaluation on each document.
+   */
+  @EqualsAndHashCode.Exclude
+  private final Expression compiledExpression;
+
   /**
    * ElasticsearchExprValueFactory.
    */
@@ -61,6 +70,7 @@ public class ExpressionScript {
    */
   public ExpressionScript(Expression expression) {
     this.expression = expression;
+    this.compiledExpression = ExpressionCompiler.compile(expression);
     this.fields = AccessController.doPrivileged((PrivilegedAction<Set<ReferenceExpression>>) () ->
         extractFields(expression));
     this.valueFactory =
@@ -82,7 +92,7 @@ public class ExpressionScript {
     return AccessController.doPrivileged((PrivilegedAction<ExprValue>) () -> {
       Environment<Expression, ExprValue> valueEnv =
           buildValueEnv(fields, valueFactory, docProvider);
-      ExprValue result = evaluator.apply(expression, valueEnv);
+      ExprValue result = evaluator.apply(compiledExpression, valueEnv);
       return result;
     });
   }
@@ -11,6 +11,7 @@ import lombok.EqualsAndHashCode;
 import org.opensearch.script.FilterScript;
 import org.opensearch.search.lookup.SearchLookup;
 import org.opensearch.sql.expression.Expression;
+import org.opensearch.sql.opensearch.storage.script.core.ExpressionScript;
 
 /**
  * Expression script factory that generates leaf factory.
@@ -19,12 +20,16 @@ import org.opensearch.sql.expression.Expression;
 public class ExpressionFilterScriptFactory implements FilterScript.Factory {
 
   /**
-   * Expression to execute.
+   * Compiled expression to execute.
    */
-  private final Expression expression;
+  private final ExpressionScript expressionScript;
 
   public ExpressionFilterScriptFactory(Expression expression) {
-    this.expression = expression;
+    this(new ExpressionScript(expression));
+  }
+
+  public ExpressionFilterScriptFactory(ExpressionScript expressionScript) {
+    this.expressionScript = expressionScript;
   }
 
   @Override
@@ -35,7 +40,7 @@ public class ExpressionFilterScriptFactory implements FilterScript.Factory {
 
   @Override
   public FilterScript.LeafFactory newFactory(Map<String, Object> params, SearchLookup lookup) {
-    return new ExpressionFilterScriptLeafFactory(expression, params, lookup);
+    return new ExpressionFilterScriptLeafFactory(expressionScript, params, lookup);
   }
 
 }
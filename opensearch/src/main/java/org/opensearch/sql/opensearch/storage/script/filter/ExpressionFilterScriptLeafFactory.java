@@ -10,7 +10,7 @@ import java.util.Map;
 import org.apache.lucene.index.LeafReaderContext;
 import org.opensearch.script.FilterScript;
 import org.opensearch.search.lookup.SearchLookup;
-import org.opensearch.sql.expression.Expression;
+import org.opensearch.sql.opensearch.storage.script.core.ExpressionScript;
 
 /**
  * Expression script leaf factory that produces script executor for each leaf.
@@ -18,9 +18,9 @@ import org.opensearch.sql.expression.Expression;
 class ExpressionFilterScriptLeafFactory implements FilterScript.LeafFactory {
 
   /**
-   * Expression to execute.
+   * Compiled expression to execute.
    */
-  private final Expression expression;
+  private final ExpressionScript expressionScript;
 
   /**
    * Parameters for the expression.
@@ -32,17 +32,17 @@ class ExpressionFilterScriptLeafFactory implements FilterScript.LeafFactory {
    */
   private final SearchLookup lookup;
 
-  public ExpressionFilterScriptLeafFactory(Expression expression,
+  public ExpressionFilterScriptLeafFactory(ExpressionScript expressionScript,
                                            Map<String, Object> params,
                                            SearchLookup lookup) {
-    this.expression = expression;
+    this.expressionScript = expressionScript;
     this.params = params;
     this.lookup = lookup;
   }
 
   @Override
   public FilterScript newInstance(LeafReaderContext ctx) {
-    return new ExpressionFilterScript(expression, lookup, ctx, params);
+    return new ExpressionFilterScript(expressionScript, lookup, ctx, params);
   }
 
 }
@@ -17,6 +17,7 @@ import static org.mockito.Answers.RETURNS_DEEP_STUBS;
 import static org.mockito.ArgumentMatchers.anyBoolean;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.any;
+import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
@@ -27,12 +28,18 @@ import static org.opensearch.sql.opensearch.data.type.OpenSearchDataType.Mapping
 import com.google.common.base.Charsets;
 import com.google.common.collect.ImmutableMap;
 import com.google.common.io.Resources;
+import com.google.common.util.concurrent.MoreExecutors;
 import java.io.IOException;
 import java.net.URL;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
 import lombok.SneakyThrows;
 import org.apache.commons.lang3.reflect.FieldUtils;
 import org.apache.lucene.search.TotalHits;
@@ -52,6 +59,8 @@ import org.opensearch.action.admin.indices.exists.indices.IndicesExistsResponse;
 import org.opensearch.action.admin.indices.get.GetIndexResponse;
 import org.opensearch.action.admin.indices.mapping.get.GetMappingsResponse;
 import org.opensearch.action.admin.indices.settings.get.GetSettingsResponse;
+import org.opensearch.action.admin.indices.stats.IndexStats;
+import org.opensearch.action.admin.indices.stats.IndicesStatsResponse;
 import org.opensearch.action.search.ClearScrollRequestBuilder;
 import org.opensearch.action.search.SearchResponse;
 import org.opensearch.client.node.NodeClient;
@@ -79,6 +88,8 @@ import org.opensearch.sql.opensearch.mapping.IndexMapping;
 import org.opensearch.sql.opensearch.request.OpenSearchRequest;
 import org.opensearch.sql.opensearch.request.OpenSearchScrollRequest;
 import org.opensearch.sql.opensearch.response.OpenSearchResponse;
+import org.opensearch.sql.opensearch.statistics.IndexStatistics;
+import org.opensearch.threadpool.ThreadPool;
 
 @ExtendWith(MockitoExtension.class)
 @DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
@@ -285,6 +296,17 @@ class OpenSearchNodeClientTest {
     assertEquals(10000, indexMaxResultWindow);
   }
 
+  @Test
+  void get_index_max_slices_per_scroll_with_default_settings() throws IOException {
+    URL url = Resources.getResource(TEST_MAPPING_FILE);
+    String indexMetadata = Resources.toString(url, Charsets.UTF_8);
+    String indexName = "accounts";
+    mockNodeClientSettings(indexName, indexMetadata);
+
+    Map<String, Integer> indexMaxSlices = client.getIndexMaxSlicesPerScroll(indexName);
+    assertEquals(Map.of(indexName, 1024), indexMaxSlices);
+  }
+
   @Test
   void get_index_max_result_windows_with_IOException() {
     String indexName = "test";
@@ -293,6 +315,61 @@ class OpenSearchNodeClientTest {
     assertThrows(IllegalStateException.class, () -> client.getIndexMaxResultWindows(indexName));
   }
 
+  @Test
+  void get_index_refresh_counts() {
+    IndexStats indexStats = mock(IndexStats.class, RETURNS_DEEP_STUBS);
+    when(indexStats.getUuid()).thenReturn("uuid");
+    when(indexStats.getPrimaries().getRefresh().getTotal()).thenReturn(3L);
+    IndicesStatsResponse statsResponse = mock(IndicesStatsResponse.class);
+    when(statsResponse.getIndices()).thenReturn(Map.of("test", indexStats));
+    when(nodeClient.admin().indices()
+        .prepareStats(any())
+        .clear()
+        .setRefresh(anyBoolean())
+        .get()
+    ).thenReturn(statsResponse);
+
+    assertEquals(Map.of("uuid", 3L), client.getIndexRefreshCounts("test"));
+  }
+
+  @Test
+  void get_index_refresh_counts_with_exception() {
+    when(nodeClient.admin().indices()).thenThrow(RuntimeException.class);
+
+    assertThrows(IllegalStateException.class, () -> client.getIndexRefreshCounts("test"));
+  }
+
+  @Test
+  void get_index_statistics() {
+    IndexStats indexStats = mock(IndexStats.class, RETURNS_DEEP_STUBS);
+    when(indexStats.getPrimaries().getDocs().getCount()).thenReturn(10L);
+    when(indexStats.getPrimaries().getStore().getSizeInBytes()).thenReturn(1000L);
+    IndexStats startingIndexStats = mock(IndexStats.class, RETURNS_DEEP_STUBS);
+    when(startingIndexStats.getPrimaries().getDocs()).thenReturn(null);
+    IndexStats noStoreIndexStats = mock(IndexStats.class, RETURNS_DEEP_STUBS);
+    when(noStoreIndexStats.getPrimaries().getStore()).thenReturn(null);
+    IndicesStatsResponse statsResponse = mock(IndicesStatsResponse.class);
+    when(statsResponse.getIndices()).thenReturn(Map.of(
+        "test", indexStats, "starting", startingIndexStats, "no_store", noStoreIndexStats));
+    when(nodeClient.admin().indices()
+        .prepareStats(any())
+        .clear()
+        .setDocs(anyBoolean())
+        .setStore(anyBoolean())
+        .get()
+    ).thenReturn(statsResponse);
+
+    assertEquals(Map.of("test", new IndexStatistics(10L, 1000L)),
+        client.getIndexStatistics("test", "starting", "no_store"));
+  }
+
+  @Test
+  void get_index_statistics_with_exception() {
+    when(nodeClient.admin().indices()).thenThrow(RuntimeException.class);
+
+    assertThrows(IllegalStateException.class, () -> client.getIndexStatistics("test"));
+  }
+
   /** Jacoco enforce this constant lambda be tested. */
   @Test
   void test_all_fields_predicate() {
@@ -311,9 +388,9 @@ class OpenSearchNodeClientTest {
                 new SearchHit[] {searchHit},
                 new TotalHits(1L, TotalHits.Relation.EQUAL_TO),
                 1.0F));
-    when(searchHit.getSourceAsString()).thenReturn("{\"id\", 1}");
     when(searchHit.getInnerHits()).thenReturn(null);
-    when(factory.construct(any(), anyBoolean())).thenReturn(exprTupleValue);
+    when(factory.constructSource(any(), any(), anyBoolean()))
+        .thenReturn(new LinkedHashMap<>(exprTupleValue.tupleValue()));
 
     // Mock second scroll request followed
     SearchResponse scrollResponse = mock(SearchResponse.class);
@@ -338,6 +415,54 @@ class OpenSearchNodeClientTest {
     assertTrue(response2.isEmpty());
   }
 
+  @Test
+  void prefetch_runs_search_on_generic_thread_pool() {
+    when(nodeClient.threadPool().executor(ThreadPool.Names.GENERIC))
+        .thenReturn(MoreExecutors.newDirectExecutorService());
+    OpenSearchRequest request = mock(OpenSearchRequest.class);
+    OpenSearchResponse response = mock(OpenSearchResponse.class);
+    when(request.searchAsync(any(), any())).thenReturn(response);
+
+    assertEquals(response, client.prefetch(request).get());
+  }
+
+  @Test
+  void prefetch_rethrows_search_exception() {
+    when(nodeClient.threadPool().executor(ThreadPool.Names.GENERIC))
+        .thenReturn(MoreExecutors.newDirectExecutorService());
+    OpenSearchRequest request = mock(OpenSearchRequest.class);
+    when(request.searchAsync(any(), any())).thenThrow(new IndexNotFoundException("test"));
+    Supplier<OpenSearchResponse> response = client.prefetch(request);
+
+    assertThrows(IndexNotFoundException.class, response::get);
+  }
+
+  @Test
+  void prefetch_wraps_search_error() {
+    when(nodeClient.threadPool().executor(ThreadPool.Names.GENERIC))
+        .thenReturn(MoreExecutors.newDirectExecutorService());
+    OpenSearchRequest request = mock(OpenSearchRequest.class);
+    when(request.searchAsync(any(), any())).thenThrow(new AssertionError());
+    Supplier<OpenSearchResponse> response = client.prefetch(request);
+
+    IllegalStateException e = assertThrows(IllegalStateException.class, response::get);
+    assertTrue(e.getCause() instanceof AssertionError);
+  }
+
+  @Test
+  @SneakyThrows
+  void prefetch_interrupted() {
+    ExecutorService executor = mock(ExecutorService.class);
+    Future<?> future = mock(Future.class);
+    when(nodeClient.threadPool().executor(ThreadPool.Names.GENERIC)).thenReturn(executor);
+    doReturn(future).when(executor).submit(any(Callable.class));
+    when(future.get()).thenThrow(new InterruptedException());
+    Supplier<OpenSearchResponse> response = client.prefetch(mock(OpenSearchRequest.class));
+
+    assertThrows(IllegalStateException.class, response::get);
+    assertTrue(Thread.interrupted());
+  }
+
   @Test
   void schedule() {
     AtomicBoolean isRun = new AtomicBoolean(false);
@@ -29,9 +29,11 @@ import com.google.common.io.Resources;
 import java.io.IOException;
 import java.net.URL;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
 import lombok.SneakyThrows;
 import org.apache.commons.lang3.reflect.FieldUtils;
 import org.apache.lucene.search.TotalHits;
@@ -283,6 +285,29 @@ class OpenSearchRestClientTest {
     assertEquals(maxResultWindow, indexMaxResultWindows.values().iterator().next());
   }
 
+  @Test
+  void get_index_max_slices_per_scroll_settings() throws IOException {
+    String indexName = "test";
+    Integer maxSlices = 8;
+
+    GetSettingsResponse response = mock(GetSettingsResponse.class);
+    Settings maxSlicesSettings = Settings.builder()
+        .put("index.max_slices_per_scroll", maxSlices)
+        .build();
+    Settings emptySettings = Settings.builder().build();
+    Map<String, Settings> indexToSettings =
+        mockSettings(indexName, maxSlicesSettings);
+    Map<String, Settings> indexToDefaultSettings =
+        mockSettings(indexName, emptySettings);
+    when(response.getIndexToSettings()).thenReturn(indexToSettings);
+    when(response.getIndexToDefaultSettings()).thenReturn(indexToDefaultSettings);
+    when(restClient.indices().getSettings(any(GetSettingsRequest.class), any()))
+        .thenReturn(response);
+
+    Map<String, Integer> indexMaxSlices = client.getIndexMaxSlicesPerScroll(indexName);
+    assertEquals(Map.of(indexName, maxSlices), indexMaxSlices);
+  }
+
   @Test
   void get_index_max_result_windows_with_IOException() throws IOException {
     when(restClient.indices().getSettings(any(GetSettingsRequest.class), any()))
@@ -290,6 +315,16 @@ class OpenSearchRestClientTest {
     assertThrows(IllegalStateException.class, () -> client.getIndexMaxResultWindows("test"));
   }
 
+  @Test
+  void get_index_refresh_counts_not_available() {
+    assertEquals(Map.of(), client.getIndexRefreshCounts("test"));
+  }
+
+  @Test
+  void get_index_statistics_not_available() {
+    assertEquals(Map.of(), client.getIndexStatistics("test"));
+  }
+
   @Test
   void search() throws IOException {
     // Mock first scroll request
@@ -302,9 +337,9 @@ class OpenSearchRestClientTest {
                 new SearchHit[] {searchHit},
                 new TotalHits(1L, TotalHits.Relation.EQUAL_TO),
                 1.0F));
-    when(searchHit.getSourceAsString()).thenReturn("{\"id\", 1}");
     when(searchHit.getInnerHits()).thenReturn(null);
-    when(factory.construct(any(), anyBoolean())).thenReturn(exprTupleValue);
+    when(factory.constructSource(any(), any(), anyBoolean()))
+        .thenReturn(new LinkedHashMap<>(exprTupleValue.tupleValue()));
 
     // Mock second scroll request followed
     SearchResponse scrollResponse = mock(SearchResponse.class);
@@ -329,6 +364,20 @@ class OpenSearchRestClientTest {
     assertTrue(response2.isEmpty());
   }
 
+  @Test
+  void prefetch_searches_right_away() throws IOException {
+    SearchResponse searchResponse = mock(SearchResponse.class);
+    when(restClient.search(any(), any())).thenReturn(searchResponse);
+    when(searchResponse.getHits()).thenReturn(SearchHits.empty());
+
+    OpenSearchScrollRequest request = new OpenSearchScrollRequest(
+        new OpenSearchRequest.IndexName("test"), TimeValue.timeValueMinutes(1),
+        new SearchSourceBuilder(), factory);
+    Supplier<OpenSearchResponse> response = client.prefetch(request);
+    verify(restClient).search(any(), any());
+    assertTrue(response.get().isEmpty());
+  }
+
   @Test
   void search_with_IOException() throws IOException {
     when(restClient.search(any(), any())).thenThrow(new IOException());
@@ -40,15 +40,22 @@ import static org.opensearch.sql.utils.DateTimeUtils.UTC_ZONE_ID;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.google.common.collect.ImmutableMap;
+import java.io.IOException;
 import java.time.Instant;
 import java.time.LocalDate;
 import java.time.LocalTime;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import lombok.EqualsAndHashCode;
 import lombok.ToString;
 import org.junit.jupiter.api.Test;
+import org.opensearch.common.xcontent.XContentFactory;
+import org.opensearch.common.xcontent.XContentType;
+import org.opensearch.core.common.bytes.BytesArray;
+import org.opensearch.core.common.bytes.BytesReference;
+import org.opensearch.core.xcontent.XContentBuilder;
 import org.opensearch.sql.data.model.ExprCollectionValue;
 import org.opensearch.sql.data.model.ExprDateValue;
 import org.opensearch.sql.data.model.ExprDatetimeValue;
@@ -87,6 +94,7 @@ class OpenSearchExprValueFactoryTest {
           .put("dateOrEpochMillisV", OpenSearchDateType.of("date_time_no_millis || epoch_millis"))
           .put("timeNoMillisOrTimeV", OpenSearchDateType.of("time_no_millis || time"))
           .put("dateOrOrdinalDateV", OpenSearchDateType.of("date || ordinal_date"))
+          .put("monthOrDayFirstV", OpenSearchDateType.of("uuuuMMdd || uuuuddMM"))
           .put("customFormatV", OpenSearchDateType.of("yyyy-MM-dd-HH-mm-ss"))
           .put("customAndEpochMillisV",
               OpenSearchDateType.of("yyyy-MM-dd-HH-mm-ss || epoch_millis"))
@@ -427,6 +435,34 @@ class OpenSearchExprValueFactoryTest {
         constructFromObject("incompleteFormatV", "1984"));
   }
 
+  @Test
+  public void constructDates_switchingBetweenFormatsOfField() {
+    assertAll(
+        () -> assertEquals(new ExprDateValue("1984-04-12"),
+            constructFromObject("dateOrOrdinalDateV", "1984-103")),
+        () -> assertEquals(new ExprDateValue("1984-04-12"),
+            constructFromObject("dateOrOrdinalDateV", "1984-103")),
+        () -> assertEquals(new ExprDateValue("2015-01-01"),
+            constructFromObject("dateOrOrdinalDateV", "2015-01-01")),
+        () -> assertEquals(new ExprDateValue("2015-01-01"),
+            constructFromObject("dateOrOrdinalDateV", "2015-001")),
+        () -> assertThrows(IllegalArgumentException.class,
+            () -> constructFromObject("dateOrOrdinalDateV", "abc")),
+        () -> assertEquals(new ExprDateValue("2015-01-01"),
+            constructFromObject("dateOrOrdinalDateV", "2015-01-01"))
+    );
+  }
+
+  @Test
+  public void constructDates_withFirstMatchingFormatOfMapping() {
+    assertAll(
+        () -> assertEquals(new ExprDateValue("2015-01-13"),
+            constructFromObject("monthOrDayFirstV", "20151301")),
+        () -> assertEquals(new ExprDateValue("2015-01-02"),
+            constructFromObject("monthOrDayFirstV", "20150102"))
+    );
+  }
+
   @Test
   public void constructArray() {
     assertEquals(
@@ -786,6 +822,50 @@ class OpenSearchExprValueFactoryTest {
     assertEquals("invalid json: {\"invalid_json:1}.", exception.getMessage());
   }
 
+  @Test
+  public void constructSourceSameAsConstructFromString() {
+    String json = "{\"intV\":1,\"stringV\":\"a\",\"structV\":{\"id\":2,\"state\":\"WA\"},"
+        + "\"arrayV\":[{\"info\":\"x\"}],\"dateV\":\"1984-04-12\",\"boolV\":null}";
+    assertEquals(tupleValue(json), exprValueFactory.constructSource(
+        new BytesArray(json), Set.of(), false));
+  }
+
+  @Test
+  public void constructSourceSkipsFieldsNotIncluded() {
+    String json = "{\"intV\":1,\"structV\":{\"id\":2},\"arrayV\":[1,[2]],\"stringV\":\"a\"}";
+    assertEquals(
+        Map.of("structV", new ExprTupleValue(new LinkedHashMap<>(Map.of("id", integerValue(2)))),
+            "stringV", stringValue("a")),
+        exprValueFactory.constructSource(
+            new BytesArray(json), Set.of("structV", "stringV"), false));
+  }
+
+  @Test
+  public void constructSourceFromSmile() throws IOException {
+    XContentBuilder smile = XContentFactory.contentBuilder(XContentType.SMILE)
+        .startObject()
+        .field("intV", 1)
+        .field("stringV", "a")
+        .startObject("structV").field("id", 2).endObject()
+        .endObject();
+    assertEquals(tupleValue("{\"intV\":1,\"stringV\":\"a\",\"structV\":{\"id\":2}}"),
+        exprValueFactory.constructSource(BytesReference.bytes(smile), Set.of(), false));
+  }
+
+  @Test
+  public void constructSourceWithoutSource() {
+    assertTrue(exprValueFactory.constructSource(null, Set.of(), false).isEmpty());
+  }
+
+  @Test
+  public void constructSourceFromInvalidJsonThrowException() {
+    assertThrows(IllegalStateException.class, () -> exprValueFactory.constructSource(
+        new BytesArray("{\"invalid_json:1}"), Set.of(), false));
+    IllegalStateException exception = assertThrows(IllegalStateException.class,
+        () -> exprValueFactory.constructSource(new BytesArray("[1]"), Set.of(), false));
+    assertEquals("invalid json: document source is not an object.", exception.getMessage());
+  }
+
   @Test
   public void noTypeFoundForMapping() {
     assertEquals(nullValue(), tupleValue("{\"not_exist\":[]}").get("not_exist"));
@@ -13,13 +13,30 @@ import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.opensearch.sql.common.setting.Settings.Key.SQL_CURSOR_KEEP_ALIVE;
 import static org.opensearch.sql.data.model.ExprValueUtils.tupleValue;
+import static org.opensearch.sql.ast.tree.Sort.SortOption.DEFAULT_ASC;
+import static org.opensearch.sql.data.type.ExprCoreType.INTEGER;
+import static org.opensearch.sql.data.type.ExprCoreType.STRING;
+import static org.opensearch.sql.data.type.ExprCoreType.TIMESTAMP;
 import static org.opensearch.sql.executor.ExecutionEngine.QueryResponse;
+import static org.opensearch.sql.expression.DSL.named;
+import static org.opensearch.sql.expression.DSL.ref;
+import static org.opensearch.sql.planner.physical.PhysicalPlanDSL.agg;
+import static org.opensearch.sql.planner.physical.PhysicalPlanDSL.dedupe;
+import static org.opensearch.sql.planner.physical.PhysicalPlanDSL.eval;
+import static org.opensearch.sql.planner.physical.PhysicalPlanDSL.filter;
+import static org.opensearch.sql.planner.physical.PhysicalPlanDSL.project;
+import static org.opensearch.sql.planner.physical.PhysicalPlanDSL.rareTopN;
+import static org.opensearch.sql.planner.physical.PhysicalPlanDSL.sort;
+import static org.opensearch.sql.planner.physical.PhysicalPlanDSL.window;
 
 import java.io.ObjectInput;
 import java.io.ObjectOutput;
@@ -27,9 +44,11 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.atomic.AtomicReference;
 import lombok.RequiredArgsConstructor;
+import org.apache.commons.lang3.tuple.Pair;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayNameGeneration;
 import org.junit.jupiter.api.DisplayNameGenerator;
@@ -38,21 +57,30 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.opensearch.common.unit.TimeValue;
+import org.opensearch.sql.ast.tree.RareTopN.CommandType;
 import org.opensearch.sql.common.response.ResponseListener;
 import org.opensearch.sql.common.setting.Settings;
 import org.opensearch.sql.data.model.ExprValue;
 import org.opensearch.sql.executor.ExecutionContext;
 import org.opensearch.sql.executor.ExecutionEngine;
 import org.opensearch.sql.executor.ExecutionEngine.ExplainResponse;
+import org.opensearch.sql.executor.ExecutionEngine.ExplainResponseNode;
+import org.opensearch.sql.executor.pagination.Cursor;
 import org.opensearch.sql.executor.pagination.PlanSerializer;
+import org.opensearch.sql.expression.DSL;
+import org.opensearch.sql.expression.function.FunctionProperties;
+import org.opensearch.sql.expression.window.WindowDefinition;
 import org.opensearch.sql.opensearch.client.OpenSearchClient;
 import org.opensearch.sql.opensearch.data.value.OpenSearchExprValueFactory;
 import org.opensearch.sql.opensearch.executor.protector.OpenSearchExecutionProtector;
 import org.opensearch.sql.opensearch.request.OpenSearchRequest;
 import org.opensearch.sql.opensearch.request.OpenSearchRequestBuilder;
+import org.opensearch.sql.opensearch.response.OpenSearchResponse;
 import org.opensearch.sql.opensearch.storage.scan.OpenSearchIndexScan;
 import org.opensearch.sql.planner.SerializablePlan;
+import org.opensearch.sql.planner.physical.ExprValueBatch;
 import org.opensearch.sql.planner.physical.PhysicalPlan;
+import org.opensearch.sql.planner.physical.ProfilePlan;
 import org.opensearch.sql.storage.TableScanOperator;
 import org.opensearch.sql.storage.split.Split;
 
@@ -70,6 +98,8 @@ class OpenSearchExecutionEngineTest {
 
   @Mock private Split split;
 
+  @Mock private QueryResultCache resultCache;
+
   @BeforeEach
   void setUp() {
     doAnswer(
@@ -146,7 +176,7 @@ class OpenSearchExecutionEngineTest {
   void execute_with_failure() {
     PhysicalPlan plan = mock(PhysicalPlan.class);
     RuntimeException expected = new RuntimeException("Execution error");
-    when(plan.hasNext()).thenThrow(expected);
+    when(plan.nextBatch(anyInt())).thenThrow(expected);
     when(protector.protect(plan)).thenReturn(plan);
 
     OpenSearchExecutionEngine executor = new OpenSearchExecutionEngine(client, protector,
@@ -225,6 +255,83 @@ class OpenSearchExecutionEngineTest {
     assertNotNull(result.get());
   }
 
+  @Test
+  void explain_analyze_successfully() {
+    OpenSearchRequest request = mock(OpenSearchRequest.class);
+    mockSearch(request);
+    OpenSearchIndexScan scan = new OpenSearchIndexScan(client, 100, request);
+    PhysicalPlan plan = project(scan, named("name", ref("name", STRING)));
+    when(protector.protectAndProfile(plan)).thenReturn(
+        new ProfilePlan(project(new ProfilePlan(scan), named("name", ref("name", STRING)))));
+
+    ExplainResponseNode root = explainAnalyze(plan).getRoot();
+    assertEquals("ProjectOperator", root.getName());
+    assertEquals(1L, root.getStatistics().get("inputRows"));
+    assertEquals(1L, root.getStatistics().get("outputRows"));
+
+    ExplainResponseNode scanNode = root.getChildren().get(0);
+    assertEquals("OpenSearchIndexScan", scanNode.getName());
+    assertEquals(1L, scanNode.getStatistics().get("outputRows"));
+    // the exhausted scan searches once more for the last, empty batch
+    assertEquals(3L, scanNode.getStatistics().get("fetchedBatches"));
+    assertEquals(0L, scanNode.getStatistics().get("fetchedSourceBytes"));
+    assertTrue(scanNode.getStatistics().containsKey("fetchTimeMillis"));
+  }
+
+  @Test
+  void explain_analyze_without_scan_statistics_for_non_opensearch_scan() {
+    FakePhysicalPlan plan = new FakePhysicalPlan(List.<ExprValue>of().iterator());
+    when(protector.protectAndProfile(plan)).thenReturn(new ProfilePlan(plan));
+
+    ExplainResponseNode root = explainAnalyze(plan).getRoot();
+    assertEquals(0L, root.getStatistics().get("outputRows"));
+    assertFalse(root.getStatistics().containsKey("fetchedBatches"));
+    assertTrue(plan.hasClosed);
+  }
+
+  @Test
+  void explain_analyze_with_failure() {
+    OpenSearchExecutionEngine executor = new OpenSearchExecutionEngine(client, protector,
+        new PlanSerializer(null));
+    PhysicalPlan plan = mock(PhysicalPlan.class);
+    when(protector.protectAndProfile(plan)).thenReturn(plan);
+    doThrow(new IllegalStateException("failed")).when(plan).open();
+
+    AtomicReference<Exception> result = new AtomicReference<>();
+    executor.explainAnalyze(plan, new ResponseListener<>() {
+      @Override
+      public void onResponse(ExplainResponse response) {
+        fail("Should fail as expected");
+      }
+
+      @Override
+      public void onFailure(Exception e) {
+        result.set(e);
+      }
+    });
+
+    assertTrue(result.get() instanceof IllegalStateException);
+    verify(plan).close();
+  }
+
+  private ExplainResponse explainAnalyze(PhysicalPlan plan) {
+    OpenSearchExecutionEngine executor = new OpenSearchExecutionEngine(client, protector,
+        new PlanSerializer(null));
+    AtomicReference<ExplainResponse> result = new AtomicReference<>();
+    executor.explainAnalyze(plan, new ResponseListener<>() {
+      @Override
+      public void onResponse(ExplainResponse response) {
+        result.set(response);
+      }
+
+      @Override
+      public void onFailure(Exception e) {
+        fail(e);
+      }
+    });
+    return result.get();
+  }
+
   @Test
   void call_add_split_and_open_in_order() {
     List<ExprValue> expected =
@@ -258,6 +365,242 @@ class OpenSearchExecutionEngineTest {
     assertTrue(plan.hasClosed);
   }
 
+  @Test
+  void execute_returns_cached_result() {
+    OpenSearchRequest request = mockRequest();
+    PhysicalPlan plan = project(new OpenSearchIndexScan(client, 100, request),
+        named("name", ref("name", STRING)));
+    when(protector.protect(plan)).thenReturn(plan);
+    when(resultCache.isEnabled()).thenReturn(true);
+    when(resultCache.currentUser()).thenReturn(Optional.of(""));
+    when(client.getIndexRefreshCounts("test")).thenReturn(Map.of("test", 1L));
+    QueryResponse cached = new QueryResponse(schema, List.of(), Cursor.None);
+    when(resultCache.get(any())).thenReturn(Optional.of(cached));
+
+    assertEquals(cached, executeWithResultCache(plan, executionContext));
+    verify(client, never()).search(any());
+  }
+
+  @Test
+  void execute_caches_result_without_cursor() {
+    OpenSearchRequest request = mockRequest();
+    when(request.hasAnotherBatch()).thenReturn(false);
+    mockSearch(request);
+    PhysicalPlan plan = project(new OpenSearchIndexScan(client, 100, request),
+        named("name", ref("name", STRING)));
+    when(protector.protect(plan)).thenReturn(plan);
+    when(resultCache.isEnabled()).thenReturn(true);
+    when(resultCache.currentUser()).thenReturn(Optional.of(""));
+    when(client.getIndexRefreshCounts("test")).thenReturn(Map.of("test", 1L));
+    when(resultCache.get(any())).thenReturn(Optional.empty());
+
+    QueryResponse response = executeWithResultCache(plan, executionContext);
+    assertEquals(List.of(tupleValue(of("name", "John"))), response.getResults());
+    verify(resultCache).put(any(), any());
+  }
+
+  @Test
+  void execute_does_not_cache_result_with_cursor() {
+    OpenSearchRequest request = mockRequest();
+    when(request.hasAnotherBatch()).thenReturn(true);
+    mockSearch(request);
+    PhysicalPlan plan = project(new OpenSearchIndexScan(client, 100, request),
+        named("name", ref("name", STRING)));
+    when(protector.protect(plan)).thenReturn(plan);
+    when(resultCache.isEnabled()).thenReturn(true);
+    when(resultCache.currentUser()).thenReturn(Optional.of(""));
+    when(client.getIndexRefreshCounts("test")).thenReturn(Map.of("test", 1L));
+    when(resultCache.get(any())).thenReturn(Optional.empty());
+
+    QueryResponse response = executeWithResultCache(plan, executionContext);
+    assertTrue(response.getCursor().toString().startsWith("n:"));
+    verify(resultCache, never()).put(any(), any());
+  }
+
+  @Test
+  void execute_does_not_use_disabled_result_cache() {
+    FakePhysicalPlan plan = new FakePhysicalPlan(List.<ExprValue>of().iterator());
+    when(protector.protect(plan)).thenReturn(plan);
+    when(resultCache.isEnabled()).thenReturn(false);
+
+    executeWithResultCache(plan, executionContext);
+    verify(resultCache, never()).get(any());
+  }
+
+  @Test
+  void execute_does_not_use_result_cache_with_split() {
+    FakePhysicalPlan plan = new FakePhysicalPlan(List.<ExprValue>of().iterator());
+    when(protector.protect(plan)).thenReturn(plan);
+    when(resultCache.isEnabled()).thenReturn(true);
+    when(executionContext.getSplit()).thenReturn(Optional.of(split));
+
+    executeWithResultCache(plan, executionContext);
+    verify(resultCache, never()).get(any());
+  }
+
+  @Test
+  void execute_does_not_use_result_cache_for_unknown_user() {
+    OpenSearchRequest request = mockRequest();
+    mockSearch(request);
+    PhysicalPlan plan = project(new OpenSearchIndexScan(client, 100, request),
+        named("name", ref("name", STRING)));
+    when(protector.protect(plan)).thenReturn(plan);
+    when(resultCache.isEnabled()).thenReturn(true);
+    when(resultCache.currentUser()).thenReturn(Optional.empty());
+
+    executeWithResultCache(plan, executionContext);
+    verify(resultCache, never()).get(any());
+    verify(resultCache, never()).put(any(), any());
+  }
+
+  @Test
+  void execute_does_not_use_result_cache_for_non_opensearch_scan() {
+    FakePhysicalPlan plan = new FakePhysicalPlan(List.<ExprValue>of().iterator());
+    when(protector.protect(plan)).thenReturn(plan);
+    when(resultCache.isEnabled()).thenReturn(true);
+    when(resultCache.currentUser()).thenReturn(Optional.of(""));
+
+    executeWithResultCache(plan, executionContext);
+    verify(resultCache, never()).get(any());
+  }
+
+  @Test
+  void execute_does_not_use_result_cache_for_plan_not_fully_explained() {
+    PhysicalPlan scan = new OpenSearchIndexScan(client, 100, mockRequest());
+    PhysicalPlan plan = mock(PhysicalPlan.class);
+    when(plan.getChild()).thenReturn(List.of(scan));
+    when(plan.nextBatch(anyInt())).thenReturn(ExprValueBatch.empty());
+    when(protector.protect(plan)).thenReturn(plan);
+    when(resultCache.isEnabled()).thenReturn(true);
+    when(resultCache.currentUser()).thenReturn(Optional.of(""));
+
+    executeWithResultCache(plan, executionContext);
+    verify(resultCache, never()).get(any());
+  }
+
+  @Test
+  void execute_returns_cached_result_of_plan_with_repeatable_expressions() {
+    PhysicalPlan aggregation = agg(new OpenSearchIndexScan(client, 100, mockRequest()),
+        List.of(DSL.named("count(age)", DSL.count(ref("age", INTEGER)))),
+        List.of(named("name", ref("name", STRING))));
+    PhysicalPlan plan = project(
+        eval(
+            filter(
+                dedupe(
+                    rareTopN(
+                        window(
+                            sort(aggregation, Pair.of(DEFAULT_ASC, ref("name", STRING))),
+                            named("row_number", DSL.rowNumber()),
+                            new WindowDefinition(List.of(ref("name", STRING)),
+                                List.of(Pair.of(DEFAULT_ASC, ref("count(age)", INTEGER))))),
+                        CommandType.TOP, List.of(ref("name", STRING)), ref("count(age)", INTEGER)),
+                    ref("name", STRING)),
+                DSL.equal(ref("name", STRING), DSL.literal("John"))),
+            Pair.of(ref("upper", STRING), DSL.upper(ref("name", STRING)))),
+        named("name", ref("name", STRING)));
+    when(protector.protect(plan)).thenReturn(plan);
+    when(resultCache.isEnabled()).thenReturn(true);
+    when(resultCache.currentUser()).thenReturn(Optional.of(""));
+    when(client.getIndexRefreshCounts("test")).thenReturn(Map.of("test", 1L));
+    QueryResponse cached = new QueryResponse(schema, List.of(), Cursor.None);
+    when(resultCache.get(any())).thenReturn(Optional.of(cached));
+
+    assertEquals(cached, executeWithResultCache(plan, executionContext));
+  }
+
+  @Test
+  void execute_does_not_use_result_cache_for_non_deterministic_projection() {
+    OpenSearchRequest request = mockRequest();
+    mockSearch(request);
+    PhysicalPlan plan = project(new OpenSearchIndexScan(client, 100, request),
+        named("rand()", DSL.rand()));
+    when(protector.protect(plan)).thenReturn(plan);
+    when(resultCache.isEnabled()).thenReturn(true);
+    when(resultCache.currentUser()).thenReturn(Optional.of(""));
+
+    executeWithResultCache(plan, executionContext);
+    verify(resultCache, never()).get(any());
+    verify(resultCache, never()).put(any(), any());
+  }
+
+  @Test
+  void execute_does_not_use_result_cache_for_current_time_in_eval() {
+    OpenSearchRequest request = mockRequest();
+    mockSearch(request);
+    PhysicalPlan plan = eval(new OpenSearchIndexScan(client, 100, request),
+        Pair.of(ref("now", TIMESTAMP), DSL.now(new FunctionProperties())));
+    when(protector.protect(plan)).thenReturn(plan);
+    when(resultCache.isEnabled()).thenReturn(true);
+    when(resultCache.currentUser()).thenReturn(Optional.of(""));
+
+    executeWithResultCache(plan, executionContext);
+    verify(resultCache, never()).get(any());
+  }
+
+  @Test
+  void execute_does_not_use_result_cache_for_scan_with_non_repeatable_script() {
+    OpenSearchRequest request = mockRequest();
+    mockSearch(request);
+    PhysicalPlan plan = project(new OpenSearchIndexScan(client, 100, request, false, false),
+        named("name", ref("name", STRING)));
+    when(protector.protect(plan)).thenReturn(plan);
+    when(resultCache.isEnabled()).thenReturn(true);
+    when(resultCache.currentUser()).thenReturn(Optional.of(""));
+
+    executeWithResultCache(plan, executionContext);
+    verify(resultCache, never()).get(any());
+  }
+
+  @Test
+  void execute_does_not_use_result_cache_without_refresh_counts() {
+    OpenSearchRequest request = mockRequest();
+    mockSearch(request);
+    PhysicalPlan plan = project(new OpenSearchIndexScan(client, 100, request),
+        named("name", ref("name", STRING)));
+    when(protector.protect(plan)).thenReturn(plan);
+    when(resultCache.isEnabled()).thenReturn(true);
+    when(resultCache.currentUser()).thenReturn(Optional.of(""));
+    when(client.getIndexRefreshCounts("test")).thenReturn(Map.of());
+
+    executeWithResultCache(plan, executionContext);
+    verify(resultCache, never()).get(any());
+  }
+
+  private OpenSearchRequest mockRequest() {
+    OpenSearchRequest request = mock(OpenSearchRequest.class);
+    when(request.getIndexName()).thenReturn(new OpenSearchRequest.IndexName("test"));
+    return request;
+  }
+
+  private void mockSearch(OpenSearchRequest request) {
+    OpenSearchResponse response = mock(OpenSearchResponse.class);
+    when(response.iterator()).thenReturn(List.of(tupleValue(of("name", "John"))).iterator());
+    OpenSearchResponse emptyResponse = mock(OpenSearchResponse.class);
+    when(emptyResponse.isEmpty()).thenReturn(true);
+    when(client.search(request)).thenReturn(response, emptyResponse);
+  }
+
+  private QueryResponse executeWithResultCache(PhysicalPlan plan, ExecutionContext context) {
+    OpenSearchExecutionEngine executor = new OpenSearchExecutionEngine(client, protector,
+        new PlanSerializer(null), resultCache);
+    AtomicReference<QueryResponse> result = new AtomicReference<>();
+    executor.execute(
+        plan,
+        context,
+        new ResponseListener<>() {
+          @Override
+          public void onResponse(QueryResponse response) {
+            result.set(response);
+          }
+
+          @Override
+          public void onFailure(Exception e) {
+            fail("Error occurred during execution", e);
+          }
+        });
+    return result.get();
+  }
+
   @RequiredArgsConstructor
   private static class FakePhysicalPlan extends TableScanOperator implements SerializablePlan {
     private final Iterator<ExprValue> it;
@@ -0,0 +1,147 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.opensearch.executor;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.opensearch.sql.data.model.ExprValueUtils.integerValue;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.sql.common.setting.Settings;
+import org.opensearch.sql.data.model.ExprValue;
+import org.opensearch.sql.executor.ExecutionEngine.ExplainResponse;
+import org.opensearch.sql.executor.ExecutionEngine.ExplainResponseNode;
+import org.opensearch.sql.executor.ExecutionEngine.QueryResponse;
+import org.opensearch.sql.executor.ExecutionEngine.Schema;
+import org.opensearch.sql.executor.pagination.Cursor;
+
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+class QueryResultCacheTest {
+
+  private final Map<Settings.Key, Object> settingValues = new HashMap<>();
+
+  private final AtomicLong nanos = new AtomicLong();
+
+  private String user = "";
+
+  private QueryResultCache cache;
+
+  @BeforeEach
+  void setUp() {
+    settingValues.put(Settings.Key.QUERY_RESULT_CACHE_ENABLED, true);
+    settingValues.put(Settings.Key.QUERY_RESULT_CACHE_TTL, TimeValue.timeValueSeconds(10));
+    settingValues.put(Settings.Key.QUERY_RESULT_CACHE_MAX_ROWS, 5);
+    cache = new QueryResultCache(new Settings() {
+      @Override
+      @SuppressWarnings("unchecked")
+      public <T> T getSettingValue(Key key) {
+        return (T) settingValues.get(key);
+      }
+
+      @Override
+      public List<?> getSettings() {
+        return List.of();
+      }
+    }, () -> Optional.ofNullable(user), nanos::get);
+  }
+
+  @Test
+  void is_enabled_by_setting() {
+    assertTrue(cache.isEnabled());
+    settingValues.put(Settings.Key.QUERY_RESULT_CACHE_ENABLED, false);
+    assertFalse(cache.isEnabled());
+  }
+
+  @Test
+  void get_cached_response() {
+    QueryResponse response = response(2);
+    cache.put(key("plan", 1L), response);
+
+    assertSame(response, cache.get(key("plan", 1L)).get());
+    assertEquals(Optional.empty(), cache.get(key("other", 1L)));
+    assertEquals(1, cache.getStats().hitCount());
+    assertEquals(1, cache.getStats().missCount());
+    assertEquals(1, cache.getSize());
+  }
+
+  @Test
+  void do_not_share_response_between_users() {
+    user = "alice||readall|";
+    assertEquals(Optional.of(user), cache.currentUser());
+    QueryResponse response = response(2);
+    cache.put(key("plan", 1L), response);
+
+    user = "bob||own_index|";
+    assertEquals(Optional.empty(), cache.get(key("plan", 1L)));
+
+    user = "alice||readall|";
+    assertSame(response, cache.get(key("plan", 1L)).get());
+  }
+
+  @Test
+  void miss_if_index_refreshed() {
+    cache.put(key("plan", 1L), response(2));
+
+    assertEquals(Optional.empty(), cache.get(key("plan", 2L)));
+    assertEquals(0, cache.getSize());
+    assertEquals(1, cache.getStats().missCount());
+  }
+
+  @Test
+  void miss_if_expired() {
+    cache.put(key("plan", 1L), response(2));
+
+    nanos.set(TimeValue.timeValueSeconds(10).nanos());
+    assertTrue(cache.get(key("plan", 1L)).isPresent());
+    nanos.incrementAndGet();
+    assertEquals(Optional.empty(), cache.get(key("plan", 1L)));
+  }
+
+  @Test
+  void evict_if_max_rows_exceeded() {
+    cache.put(key("plan1", 1L), response(3));
+    cache.put(key("plan2", 1L), response(3));
+
+    assertEquals(1, cache.getSize());
+    assertEquals(1, cache.getStats().evictionCount());
+    assertTrue(cache.get(key("plan2", 1L)).isPresent());
+  }
+
+  @Test
+  void rebuild_cache_if_max_rows_changed() {
+    cache.put(key("plan", 1L), response(2));
+    assertEquals(1, cache.getSize());
+
+    cache.setMaxRows(10);
+    assertEquals(0, cache.getSize());
+    cache.put(key("plan1", 1L), response(5));
+    cache.put(key("plan2", 1L), response(5));
+    assertEquals(2, cache.getSize());
+  }
+
+  private QueryResultCache.Key key(String plan, Long refreshCount) {
+    ExplainResponse explain = new ExplainResponse(
+        new ExplainResponseNode(plan, Map.of(), null));
+    return new QueryResultCache.Key(user, explain, Map.of("test", refreshCount));
+  }
+
+  private QueryResponse response(int rowCount) {
+    List<ExprValue> rows = Collections.nCopies(rowCount, integerValue(1));
+    return new QueryResponse(new Schema(List.of()), rows, Cursor.None);
+  }
+}
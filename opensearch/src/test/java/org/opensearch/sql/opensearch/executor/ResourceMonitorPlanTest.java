@@ -13,6 +13,7 @@ import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.mockito.Mockito.withSettings;
+import static org.opensearch.sql.data.model.ExprValueUtils.integerValue;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -22,6 +23,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.opensearch.sql.monitor.ResourceMonitor;
 import org.opensearch.sql.opensearch.executor.protector.ResourceMonitorPlan;
 import org.opensearch.sql.planner.SerializablePlan;
+import org.opensearch.sql.planner.physical.ExprValueBatch;
 import org.opensearch.sql.planner.physical.PhysicalPlan;
 import org.opensearch.sql.planner.physical.PhysicalPlanNodeVisitor;
 
@@ -87,6 +89,29 @@ class ResourceMonitorPlanTest {
     assertEquals("resource is not enough to load next row, quit.", exception.getMessage());
   }
 
+  @Test
+  void nextBatchSuccess() {
+    when(resourceMonitor.isHealthy()).thenReturn(true);
+    when(plan.nextBatch(400)).thenReturn(batchOf(400));
+
+    for (int i = 1; i <= 3; i++) {
+      monitorPlan.nextBatch(400);
+    }
+    verify(resourceMonitor, times(1)).isHealthy();
+    verify(plan, times(3)).nextBatch(400);
+  }
+
+  @Test
+  void nextBatchExceedResourceLimit() {
+    when(resourceMonitor.isHealthy()).thenReturn(false);
+    when(plan.nextBatch(600)).thenReturn(batchOf(600));
+
+    monitorPlan.nextBatch(600);
+    IllegalStateException exception =
+        assertThrows(IllegalStateException.class, () -> monitorPlan.nextBatch(600));
+    assertEquals("resource is not enough to load next row, quit.", exception.getMessage());
+  }
+
   @Test
   void hasNextSuccess() {
     monitorPlan.hasNext();
@@ -105,6 +130,12 @@ class ResourceMonitorPlanTest {
     verify(plan, times(1)).getChild();
   }
 
+  @Test
+  void getPeakReservedBytesSuccess() {
+    monitorPlan.getPeakReservedBytes();
+    verify(plan, times(1)).getPeakReservedBytes();
+  }
+
   @Test
   void acceptSuccess() {
     monitorPlan.accept(visitor, context);
@@ -118,6 +149,14 @@ class ResourceMonitorPlanTest {
     assertEquals(plan, monitorPlan.getPlanForSerialization());
   }
 
+  private ExprValueBatch batchOf(int size) {
+    ExprValueBatch batch = new ExprValueBatch(size);
+    for (int i = 0; i < size; i++) {
+      batch.add(integerValue(i));
+    }
+    return batch;
+  }
+
   @Test
   void notSerializable() {
     // ResourceMonitorPlan shouldn't be serialized, attempt should throw an exception
@@ -13,6 +13,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.opensearch.sql.planner.physical.PhysicalPlan;
+import org.opensearch.sql.planner.physical.ProfilePlan;
 
 @ExtendWith(MockitoExtension.class)
 class NoopExecutionProtectorTest {
@@ -27,4 +28,12 @@ class NoopExecutionProtectorTest {
 
     assertEquals(plan, protectedPlan);
   }
+
+  @Test
+  void protectAndProfile() {
+    NoopExecutionProtector executionProtector = new NoopExecutionProtector();
+    PhysicalPlan profiledPlan = executionProtector.protectAndProfile(plan);
+
+    assertEquals(new ProfilePlan(plan), profiledPlan);
+  }
 }
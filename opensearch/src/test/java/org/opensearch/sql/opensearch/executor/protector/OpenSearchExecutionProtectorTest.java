@@ -9,9 +9,13 @@ package org.opensearch.sql.opensearch.executor.protector;
 import static java.util.Collections.emptyList;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 import static org.opensearch.sql.ast.tree.Sort.SortOption.DEFAULT_ASC;
 import static org.opensearch.sql.data.type.ExprCoreType.DOUBLE;
 import static org.opensearch.sql.data.type.ExprCoreType.INTEGER;
@@ -55,6 +59,7 @@ import org.opensearch.sql.expression.aggregation.NamedAggregator;
 import org.opensearch.sql.expression.window.WindowDefinition;
 import org.opensearch.sql.expression.window.aggregation.AggregateWindowFunction;
 import org.opensearch.sql.expression.window.ranking.RankFunction;
+import org.opensearch.sql.monitor.MemoryTracker;
 import org.opensearch.sql.monitor.ResourceMonitor;
 import org.opensearch.sql.opensearch.client.OpenSearchClient;
 import org.opensearch.sql.opensearch.data.value.OpenSearchExprValueFactory;
@@ -68,6 +73,7 @@ import org.opensearch.sql.opensearch.storage.scan.OpenSearchIndexScan;
 import org.opensearch.sql.planner.physical.CursorCloseOperator;
 import org.opensearch.sql.planner.physical.NestedOperator;
 import org.opensearch.sql.planner.physical.PhysicalPlan;
+import org.opensearch.sql.planner.physical.ProfilePlan;
 import org.opensearch.sql.planner.physical.PhysicalPlanDSL;
 
 @ExtendWith(MockitoExtension.class)
@@ -342,7 +348,83 @@ class OpenSearchExecutionProtectorTest {
     var child = mock(PhysicalPlan.class);
     var plan = new CursorCloseOperator(child);
     assertSame(plan, executionProtector.protect(plan));
-    verify(child, never()).accept(executionProtector, null);
+    verify(child, never()).accept(any(), any());
+  }
+
+  @Test
+  void blocking_operator_reserves_memory_from_memory_tracker_of_query() {
+    MemoryTracker memoryTracker = mock(MemoryTracker.class);
+    when(resourceMonitor.isHealthy()).thenReturn(true);
+    Pair<Sort.SortOption, Expression> sortItem = ImmutablePair.of(DEFAULT_ASC, literal(1));
+    PhysicalPlan plan = new OpenSearchExecutionProtector(resourceMonitor, () -> memoryTracker)
+        .protect(sort(values(List.of(literal(1))), sortItem));
+
+    plan.open();
+    verify(memoryTracker).reserve(anyLong());
+    plan.close();
+    verify(memoryTracker).release(anyLong());
+  }
+
+  @Test
+  void profile_every_operator() {
+    Expression filterExpr = literal(ExprBooleanValue.of(true));
+
+    assertEquals(
+        new ProfilePlan(
+            filter(
+                new ProfilePlan(
+                    filter(
+                        new ProfilePlan(values(emptyList())),
+                        filterExpr)),
+                filterExpr)),
+        executionProtector.protectAndProfile(
+            filter(
+                filter(
+                    values(emptyList()),
+                    filterExpr),
+                filterExpr)));
+  }
+
+  @SuppressWarnings("unchecked")
+  @Test
+  void profile_without_protecting_windowOperator_input_again() {
+    NamedExpression avg = named(mock(AggregateWindowFunction.class));
+    Pair<Sort.SortOption, Expression> sortItem =
+        ImmutablePair.of(DEFAULT_ASC, DSL.ref("age", INTEGER));
+    WindowDefinition windowDefinition =
+        new WindowDefinition(emptyList(), ImmutableList.of(sortItem));
+
+    assertEquals(
+        new ProfilePlan(
+            window(
+                new ProfilePlan(
+                    resourceMonitor(
+                        sort(
+                            new ProfilePlan(values(emptyList())),
+                            sortItem))),
+                avg,
+                windowDefinition)),
+        executionProtector.protectAndProfile(
+            window(
+                sort(
+                    values(emptyList()),
+                    sortItem),
+                avg,
+                windowDefinition)));
+  }
+
+  @Test
+  void profiled_blocking_operator_reserves_memory_from_memory_tracker_of_query() {
+    MemoryTracker memoryTracker = mock(MemoryTracker.class);
+    when(resourceMonitor.isHealthy()).thenReturn(true);
+    Pair<Sort.SortOption, Expression> sortItem = ImmutablePair.of(DEFAULT_ASC, literal(1));
+    PhysicalPlan plan = new OpenSearchExecutionProtector(resourceMonitor, () -> memoryTracker)
+        .protectAndProfile(sort(values(List.of(literal(1))), sortItem));
+
+    plan.open();
+    verify(memoryTracker).reserve(anyLong());
+    assertTrue(plan.getPeakReservedBytes() > 0);
+    plan.close();
   }
 
   PhysicalPlan resourceMonitor(PhysicalPlan input) {
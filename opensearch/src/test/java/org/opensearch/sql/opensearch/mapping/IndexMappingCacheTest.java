@@ -0,0 +1,110 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+
+package org.opensearch.sql.opensearch.mapping;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+import org.opensearch.cluster.ClusterChangedEvent;
+import org.opensearch.index.IndexNotFoundException;
+import org.opensearch.sql.data.type.ExprCoreType;
+import org.opensearch.sql.data.type.ExprType;
+import org.opensearch.sql.opensearch.data.type.OpenSearchDataType;
+import org.opensearch.sql.opensearch.request.OpenSearchRequest;
+
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+class IndexMappingCacheTest {
+
+  private static final OpenSearchRequest.IndexName INDEX_NAME =
+      new OpenSearchRequest.IndexName("test*");
+
+  private final AtomicReference<String> user = new AtomicReference<>("");
+
+  private final IndexMappingCache cache =
+      new IndexMappingCache(() -> Optional.ofNullable(user.get()));
+
+  private final AtomicInteger loads = new AtomicInteger();
+
+  @Test
+  void load_entries_once() {
+    Map<String, OpenSearchDataType> mapping =
+        Map.of("name", OpenSearchDataType.of(OpenSearchDataType.MappingType.Keyword));
+    Map<String, ExprType> fieldTypes = Map.of("name", ExprCoreType.STRING);
+
+    for (int i = 0; i < 2; i++) {
+      assertSame(mapping, cache.getFieldOpenSearchTypes(INDEX_NAME, () -> load(mapping)));
+      assertSame(fieldTypes, cache.getFieldTypes(INDEX_NAME, () -> load(fieldTypes)));
+      assertEquals(Integer.valueOf(100), cache.getMaxResultWindow(INDEX_NAME, () -> load(100)));
+      assertEquals(Integer.valueOf(8), cache.getMaxSlicesPerScroll(INDEX_NAME, () -> load(8)));
+    }
+    assertEquals(4, loads.get());
+  }
+
+  @Test
+  void reload_entries_after_metadata_changed() {
+    cache.getMaxResultWindow(INDEX_NAME, () -> load(100));
+    cache.clusterChanged(event(false));
+    assertEquals(Integer.valueOf(100), cache.getMaxResultWindow(INDEX_NAME, () -> load(200)));
+
+    cache.clusterChanged(event(true));
+    assertEquals(Integer.valueOf(200), cache.getMaxResultWindow(INDEX_NAME, () -> load(200)));
+    assertEquals(Integer.valueOf(200), cache.getMaxResultWindow(INDEX_NAME, () -> load(300)));
+    assertEquals(2, loads.get());
+  }
+
+  @Test
+  void cache_entries_per_user() {
+    user.set("alice");
+    assertEquals(Integer.valueOf(100), cache.getMaxResultWindow(INDEX_NAME, () -> load(100)));
+    user.set("bob");
+    assertEquals(Integer.valueOf(200), cache.getMaxResultWindow(INDEX_NAME, () -> load(200)));
+    user.set("alice");
+    assertEquals(Integer.valueOf(100), cache.getMaxResultWindow(INDEX_NAME, () -> load(300)));
+    assertEquals(2, loads.get());
+  }
+
+  @Test
+  void do_not_cache_entries_of_unknown_user() {
+    user.set(null);
+    assertEquals(Integer.valueOf(100), cache.getMaxResultWindow(INDEX_NAME, () -> load(100)));
+    assertEquals(Integer.valueOf(200), cache.getMaxResultWindow(INDEX_NAME, () -> load(200)));
+    user.set("alice");
+    assertEquals(Integer.valueOf(300), cache.getMaxResultWindow(INDEX_NAME, () -> load(300)));
+    assertEquals(3, loads.get());
+  }
+
+  @Test
+  void do_not_cache_failures() {
+    IndexNotFoundException exception = new IndexNotFoundException("test*");
+    assertSame(exception, assertThrows(IndexNotFoundException.class,
+        () -> cache.getMaxResultWindow(INDEX_NAME, () -> {
+          throw exception;
+        })));
+    assertEquals(Integer.valueOf(100), cache.getMaxResultWindow(INDEX_NAME, () -> load(100)));
+  }
+
+  private <V> V load(V value) {
+    loads.incrementAndGet();
+    return value;
+  }
+
+  private ClusterChangedEvent event(boolean metadataChanged) {
+    ClusterChangedEvent event = mock(ClusterChangedEvent.class);
+    when(event.metadataChanged()).thenReturn(metadataChanged);
+    return event;
+  }
+}
@@ -0,0 +1,83 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+
+package org.opensearch.sql.opensearch.monitor;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.opensearch.sql.opensearch.monitor.OpenSearchMemoryTracker.CHUNK_BYTES;
+import static org.opensearch.sql.opensearch.monitor.OpenSearchMemoryTracker.CIRCUIT_BREAKER_NAME;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.opensearch.core.common.breaker.CircuitBreaker;
+import org.opensearch.core.common.breaker.CircuitBreakingException;
+
+@ExtendWith(MockitoExtension.class)
+class OpenSearchMemoryTrackerTest {
+
+  @Mock
+  private CircuitBreaker circuitBreaker;
+
+  private OpenSearchMemoryTracker memoryTracker;
+
+  @BeforeEach
+  void setUp() {
+    memoryTracker = new OpenSearchMemoryTracker(circuitBreaker, 10 * CHUNK_BYTES);
+  }
+
+  @Test
+  void reserveFromCircuitBreakerInChunks() {
+    memoryTracker.reserve(100L);
+    memoryTracker.reserve(CHUNK_BYTES - 100L);
+    assertEquals(CHUNK_BYTES, memoryTracker.getBreakerBytes());
+
+    memoryTracker.reserve(CHUNK_BYTES + 1);
+    assertEquals(2 * CHUNK_BYTES + 1, memoryTracker.getUsedBytes());
+    assertEquals(3 * CHUNK_BYTES, memoryTracker.getBreakerBytes());
+
+    verify(circuitBreaker).addEstimateBytesAndMaybeBreak(CHUNK_BYTES, CIRCUIT_BREAKER_NAME);
+    verify(circuitBreaker).addEstimateBytesAndMaybeBreak(2 * CHUNK_BYTES, CIRCUIT_BREAKER_NAME);
+    verifyNoMoreInteractions(circuitBreaker);
+  }
+
+  @Test
+  void failIfQueryLimitExceeded() {
+    memoryTracker.reserve(10 * CHUNK_BYTES);
+
+    assertThrows(CircuitBreakingException.class, () -> memoryTracker.reserve(1L));
+    assertEquals(10 * CHUNK_BYTES, memoryTracker.getUsedBytes());
+  }
+
+  @Test
+  void releaseToCircuitBreakerKeepingSpareChunk() {
+    memoryTracker.reserve(5 * CHUNK_BYTES);
+
+    memoryTracker.release(CHUNK_BYTES);
+    assertEquals(5 * CHUNK_BYTES, memoryTracker.getBreakerBytes());
+
+    memoryTracker.release(3 * CHUNK_BYTES);
+    assertEquals(2 * CHUNK_BYTES, memoryTracker.getBreakerBytes());
+    verify(circuitBreaker).addWithoutBreaking(-3 * CHUNK_BYTES);
+
+    memoryTracker.release(CHUNK_BYTES);
+    assertEquals(0L, memoryTracker.getUsedBytes());
+    assertEquals(0L, memoryTracker.getBreakerBytes());
+    verify(circuitBreaker).addWithoutBreaking(-2 * CHUNK_BYTES);
+  }
+
+  @Test
+  void releaseNothingReserved() {
+    memoryTracker.release(0L);
+    verifyNoInteractions(circuitBreaker);
+  }
+}
@@ -11,6 +11,7 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
@@ -18,6 +19,9 @@ import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.opensearch.sql.opensearch.request.OpenSearchRequest.DEFAULT_QUERY_TIMEOUT;
 
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import org.apache.lucene.search.TotalHits;
@@ -32,6 +36,12 @@ import org.opensearch.core.common.io.stream.StreamOutput;
 import org.opensearch.index.query.QueryBuilders;
 import org.opensearch.search.SearchHit;
 import org.opensearch.search.SearchHits;
+import org.opensearch.search.aggregations.Aggregation;
+import org.opensearch.search.aggregations.AggregationBuilders;
+import org.opensearch.search.aggregations.Aggregations;
+import org.opensearch.search.aggregations.bucket.composite.CompositeAggregation;
+import org.opensearch.search.aggregations.bucket.composite.CompositeAggregationBuilder;
+import org.opensearch.search.aggregations.bucket.composite.TermsValuesSourceBuilder;
 import org.opensearch.search.builder.SearchSourceBuilder;
 import org.opensearch.search.fetch.subphase.FetchSourceContext;
 import org.opensearch.sql.opensearch.data.value.OpenSearchExprValueFactory;
@@ -138,6 +148,80 @@ public class OpenSearchQueryRequestTest {
     verify(searchAction, times(1)).apply(any());
   }
 
+  @Test
+  void search_composite_aggregation_page_by_page() {
+    CompositeAggregationBuilder composite = compositeBuilder().size(2);
+    OpenSearchQueryRequest request = new OpenSearchQueryRequest(
+        new OpenSearchRequest.IndexName("test"),
+        new SearchSourceBuilder().aggregation(composite),
+        factory
+    );
+
+    SearchResponse fullPage = compositeResponse(Map.of("name", "b"), 2);
+    SearchResponse lastPage = compositeResponse(Map.of("name", "c"), 1);
+    when(searchAction.apply(any())).thenReturn(fullPage).thenReturn(lastPage);
+
+    assertFalse(request.search(searchAction, scrollAction).isEmpty());
+    assertEquals(compositeBuilder().size(4).aggregateAfter(Map.of("name", "b")), composite);
+
+    assertFalse(request.search(searchAction, scrollAction).isEmpty());
+    assertTrue(request.search(searchAction, scrollAction).isEmpty());
+    verify(searchAction, times(2)).apply(any());
+  }
+
+  @Test
+  void search_composite_aggregation_page_size_is_bounded() {
+    CompositeAggregationBuilder composite =
+        compositeBuilder().size(OpenSearchQueryRequest.MAX_COMPOSITE_BUCKET_SIZE - 1);
+    OpenSearchQueryRequest request = new OpenSearchQueryRequest(
+        new OpenSearchRequest.IndexName("test"),
+        new SearchSourceBuilder().aggregation(composite),
+        factory
+    );
+
+    SearchResponse fullPage = compositeResponse(Map.of("name", "b"), composite.size());
+    when(searchAction.apply(any())).thenReturn(fullPage);
+
+    request.search(searchAction, scrollAction);
+    assertEquals(OpenSearchQueryRequest.MAX_COMPOSITE_BUCKET_SIZE, composite.size());
+  }
+
+  @Test
+  void search_composite_aggregation_without_after_key_is_done() {
+    OpenSearchQueryRequest request = new OpenSearchQueryRequest(
+        new OpenSearchRequest.IndexName("test"),
+        new SearchSourceBuilder().aggregation(compositeBuilder().size(2)),
+        factory
+    );
+
+    SearchResponse response = compositeResponse(null, 0);
+    when(searchAction.apply(any())).thenReturn(response);
+
+    request.search(searchAction, scrollAction);
+    assertTrue(request.search(searchAction, scrollAction).isEmpty());
+    verify(searchAction, times(1)).apply(any());
+  }
+
+  @Test
+  void search_non_composite_aggregation_is_done() {
+    Aggregation aggregation = mock(Aggregation.class);
+    when(aggregation.getName()).thenReturn("composite_buckets");
+    when(searchResponse.getHits()).thenReturn(SearchHits.empty());
+    when(searchResponse.getAggregations()).thenReturn(new Aggregations(List.of(aggregation)));
+    when(searchAction.apply(any())).thenReturn(searchResponse);
+
+    for (SearchSourceBuilder source : List.of(
+        new SearchSourceBuilder(),
+        new SearchSourceBuilder().aggregation(AggregationBuilders.terms("terms")),
+        new SearchSourceBuilder().aggregation(compositeBuilder()))) {
+      OpenSearchQueryRequest request = new OpenSearchQueryRequest(
+          new OpenSearchRequest.IndexName("test"), source, factory);
+      request.search(searchAction, scrollAction);
+      assertTrue(request.search(searchAction, scrollAction).isEmpty());
+    }
+    verify(searchAction, times(3)).apply(any());
+  }
+
   @Test
   void clean() {
     request.clean(cleanAction);
@@ -179,6 +263,24 @@ public class OpenSearchQueryRequestTest {
         () -> request.writeTo(mock(StreamOutput.class)));
   }
 
+  private CompositeAggregationBuilder compositeBuilder() {
+    return AggregationBuilders.composite("composite_buckets",
+        List.of(new TermsValuesSourceBuilder("name").field("name")));
+  }
+
+  private SearchResponse compositeResponse(Map<String, Object> afterKey, int bucketCount) {
+    CompositeAggregation aggregation = mock(CompositeAggregation.class);
+    when(aggregation.getName()).thenReturn("composite_buckets");
+    lenient().when(aggregation.afterKey()).thenReturn(afterKey);
+    lenient().doReturn(Collections.nCopies(bucketCount, mock(CompositeAggregation.Bucket.class)))
+        .when(aggregation).getBuckets();
+
+    SearchResponse response = mock(SearchResponse.class);
+    when(response.getHits()).thenReturn(SearchHits.empty());
+    when(response.getAggregations()).thenReturn(new Aggregations(List.of(aggregation)));
+    return response;
+  }
+
   private void assertSearchRequest(SearchRequest expected, OpenSearchQueryRequest request) {
     Function<SearchRequest, SearchResponse> querySearch = searchRequest -> {
       assertEquals(expected, searchRequest);
@@ -8,6 +8,8 @@ package org.opensearch.sql.opensearch.request;
 
 import static org.junit.Assert.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -21,6 +23,7 @@ import static org.opensearch.sql.data.type.ExprCoreType.STRING;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
 import java.util.function.Function;
 import org.apache.commons.lang3.tuple.Pair;
@@ -47,6 +50,7 @@ import org.opensearch.search.aggregations.AggregationBuilder;
 import org.opensearch.search.aggregations.AggregationBuilders;
 import org.opensearch.search.aggregations.bucket.composite.TermsValuesSourceBuilder;
 import org.opensearch.search.builder.SearchSourceBuilder;
+import org.opensearch.search.collapse.CollapseBuilder;
 import org.opensearch.search.fetch.subphase.FetchSourceContext;
 import org.opensearch.search.sort.FieldSortBuilder;
 import org.opensearch.search.sort.ScoreSortBuilder;
@@ -60,6 +64,8 @@ import org.opensearch.sql.opensearch.data.value.OpenSearchExprValueFactory;
 import org.opensearch.sql.opensearch.response.agg.CompositeAggregationParser;
 import org.opensearch.sql.opensearch.response.agg.OpenSearchAggregationResponseParser;
 import org.opensearch.sql.opensearch.response.agg.SingleValueParser;
+import org.opensearch.sql.opensearch.statistics.IndexScanCostModel;
+import org.opensearch.sql.opensearch.statistics.IndexStatistics;
 import org.opensearch.sql.planner.logical.LogicalNested;
 
 @ExtendWith(MockitoExtension.class)
@@ -120,6 +126,110 @@ class OpenSearchRequestBuilderTest {
         requestBuilder.build(indexName, MAX_RESULT_WINDOW, DEFAULT_QUERY_TIMEOUT));
   }
 
+  @Test
+  void build_collapse_query_request_within_max_result_window() {
+    requestBuilder.pushDownLimit(400, 10);
+    requestBuilder.pushDownCollapse("name");
+
+    assertEquals(
+        new OpenSearchQueryRequest(
+            new OpenSearchRequest.IndexName("test"),
+            new SearchSourceBuilder()
+                .from(10)
+                .size(400)
+                .timeout(DEFAULT_QUERY_TIMEOUT)
+                .collapse(new CollapseBuilder("name")),
+            exprValueFactory),
+        requestBuilder.build(indexName, MAX_RESULT_WINDOW, DEFAULT_QUERY_TIMEOUT, 4));
+  }
+
+  @Test
+  void fail_to_build_collapse_request_beyond_max_result_window() {
+    requestBuilder.pushDownLimit(800, 10);
+    requestBuilder.pushDownCollapse("name");
+
+    IllegalStateException exception = assertThrows(IllegalStateException.class,
+        () -> requestBuilder.build(indexName, MAX_RESULT_WINDOW, DEFAULT_QUERY_TIMEOUT, 4));
+    assertEquals("Collapsed result of size 800 from 10 exceeds the max result window 500",
+        exception.getMessage());
+  }
+
+  @Test
+  void build_sliced_scroll_request() {
+    requestBuilder.pushDownLimit(800, 0);
+
+    OpenSearchRequest request =
+        requestBuilder.build(indexName, MAX_RESULT_WINDOW, DEFAULT_QUERY_TIMEOUT, 4);
+    assertEquals(
+        new OpenSearchSlicedScrollRequest(
+            new OpenSearchRequest.IndexName("test"), TimeValue.timeValueMinutes(1),
+            new SearchSourceBuilder()
+                .from(0)
+                .size(MAX_RESULT_WINDOW / 4)
+                .timeout(DEFAULT_QUERY_TIMEOUT),
+            exprValueFactory, 4),
+        request);
+    // the page of the sliced scroll holds a page of each slice
+    assertEquals(MAX_RESULT_WINDOW / 4, ((OpenSearchSlicedScrollRequest) request).getSlices()
+        .get(0).getInitialSearchRequest().source().size());
+  }
+
+  @Test
+  void build_scroll_request_planned_by_cost_model() {
+    requestBuilder.pushDownLimit(800, 0);
+    // 1MB documents are fetched 100 at a time, too few to fill a page of each slice
+    IndexScanCostModel costModel = new IndexScanCostModel(
+        Optional.of(new IndexStatistics(150L, 150L * 1024 * 1024)));
+
+    assertEquals(
+        new OpenSearchScrollRequest(
+            new OpenSearchRequest.IndexName("test"), TimeValue.timeValueMinutes(1),
+            new SearchSourceBuilder()
+                .from(0)
+                .size(100)
+                .timeout(DEFAULT_QUERY_TIMEOUT),
+            exprValueFactory),
+        requestBuilder.build(indexName, MAX_RESULT_WINDOW, DEFAULT_QUERY_TIMEOUT, 4, costModel));
+  }
+
+  @Test
+  void build_sliced_scroll_request_when_sort_by_doc_only() {
+    requestBuilder.pushDownLimit(800, 0);
+    requestBuilder.pushDownFilter(QueryBuilders.termQuery("intA", 1));
+
+    assertEquals(OpenSearchSlicedScrollRequest.class,
+        requestBuilder.build(indexName, MAX_RESULT_WINDOW, DEFAULT_QUERY_TIMEOUT, 4).getClass());
+  }
+
+  @Test
+  void build_scroll_request_instead_of_sliced_if_offset() {
+    requestBuilder.pushDownLimit(800, 10);
+
+    assertEquals(OpenSearchScrollRequest.class,
+        requestBuilder.build(indexName, MAX_RESULT_WINDOW, DEFAULT_QUERY_TIMEOUT, 4).getClass());
+  }
+
+  @Test
+  void build_scroll_request_instead_of_sliced_if_sort() {
+    requestBuilder.pushDownLimit(800, 0);
+    requestBuilder.pushDownSort(List.of(SortBuilders.fieldSort("intA")));
+
+    assertEquals(OpenSearchScrollRequest.class,
+        requestBuilder.build(indexName, MAX_RESULT_WINDOW, DEFAULT_QUERY_TIMEOUT, 4).getClass());
+  }
+
+  @Test
+  void build_scroll_request_instead_of_sliced_if_aggregation() {
+    requestBuilder.pushDownAggregation(Pair.of(
+        List.of(AggregationBuilders.composite("composite_buckets",
+            Collections.singletonList(new TermsValuesSourceBuilder("longA")))),
+        mock(OpenSearchAggregationResponseParser.class)));
+    requestBuilder.pushDownLimit(800, 0);
+
+    assertEquals(OpenSearchScrollRequest.class,
+        requestBuilder.build(indexName, MAX_RESULT_WINDOW, DEFAULT_QUERY_TIMEOUT, 4).getClass());
+  }
+
   @Test
   void test_push_down_query() {
     QueryBuilder query = QueryBuilders.termQuery("intA", 1);
@@ -259,6 +369,16 @@ class OpenSearchRequestBuilderTest {
         requestBuilder);
   }
 
+  @Test
+  void test_push_down_non_repeatable_expression() {
+    requestBuilder.pushDownExpression(
+        DSL.equal(new ReferenceExpression("intA", INTEGER), DSL.literal(1)));
+    assertTrue(requestBuilder.isRepeatable());
+
+    requestBuilder.pushDownExpression(DSL.rand());
+    assertFalse(requestBuilder.isRepeatable());
+  }
+
   @Test
   void test_push_down_nested() {
     List<Map<String, ReferenceExpression>> args = List.of(
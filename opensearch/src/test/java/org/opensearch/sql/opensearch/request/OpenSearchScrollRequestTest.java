@@ -33,6 +33,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.opensearch.action.ActionFuture;
 import org.opensearch.action.search.SearchRequest;
 import org.opensearch.action.search.SearchResponse;
 import org.opensearch.action.search.SearchScrollRequest;
@@ -144,6 +145,24 @@ class OpenSearchScrollRequestTest {
     assertFalse(response.isEmpty());
   }
 
+  @Test
+  void search_async_should_wait_for_the_future() {
+    OpenSearchScrollRequest request = new OpenSearchScrollRequest(
+        new OpenSearchRequest.IndexName("test"),
+        TimeValue.timeValueMinutes(1),
+        sourceBuilder,
+        factory
+    );
+
+    when(searchResponse.getHits()).thenReturn(searchHits);
+    when(searchHits.getHits()).thenReturn(new SearchHit[] {searchHit});
+    ActionFuture<SearchResponse> future = mock(ActionFuture.class);
+    when(future.actionGet()).thenReturn(searchResponse);
+
+    OpenSearchResponse response = request.searchAsync((sr) -> future, (sr) -> fail());
+    assertFalse(response.isEmpty());
+  }
+
   @Test
   void search_without_context() {
     OpenSearchScrollRequest request = new OpenSearchScrollRequest(
@@ -0,0 +1,252 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+
+package org.opensearch.sql.opensearch.request;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.opensearch.action.ActionFuture;
+import org.opensearch.action.search.SearchResponse;
+import org.opensearch.common.io.stream.BytesStreamOutput;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.core.common.bytes.BytesArray;
+import org.opensearch.search.SearchHit;
+import org.opensearch.search.SearchHits;
+import org.opensearch.search.builder.SearchSourceBuilder;
+import org.opensearch.search.slice.SliceBuilder;
+import org.opensearch.sql.opensearch.data.value.OpenSearchExprValueFactory;
+import org.opensearch.sql.opensearch.response.OpenSearchResponse;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+class OpenSearchSlicedScrollRequestTest {
+
+  private static final OpenSearchRequest.IndexName INDEX_NAME
+      = new OpenSearchRequest.IndexName("test");
+  private static final TimeValue SCROLL_TIMEOUT = TimeValue.timeValueMinutes(1);
+
+  private final OpenSearchExprValueFactory factory = new OpenSearchExprValueFactory(Map.of());
+
+  private final OpenSearchSlicedScrollRequest request = new OpenSearchSlicedScrollRequest(
+      INDEX_NAME, SCROLL_TIMEOUT, new SearchSourceBuilder().size(100), factory, 2);
+
+  @Test
+  void constructor_should_create_one_scroll_request_per_slice() {
+    List<OpenSearchScrollRequest> slices = request.getSlices();
+    assertEquals(2, slices.size());
+    for (int i = 0; i < slices.size(); i++) {
+      assertEquals(new SliceBuilder(i, 2),
+          slices.get(i).getInitialSearchRequest().source().slice());
+    }
+    assertEquals(List.of(), request.getIncludes());
+    assertEquals(INDEX_NAME, request.getIndexName());
+  }
+
+  @Test
+  void search_should_merge_hits_of_all_active_slices() {
+    OpenSearchResponse response = request.search(
+        req -> response(req.source().slice().getId(), 1),
+        req -> fail());
+    assertEquals(2, hitCount(response));
+
+    // slice 0 is exhausted, slice 1 returns one more hit
+    response = request.search(
+        req -> fail(),
+        req -> req.scrollId().equals("scroll0") ? response(0, 0) : response(1, 1));
+    assertEquals(1, hitCount(response));
+
+    response = request.search(
+        req -> fail(),
+        req -> {
+          assertEquals("scroll1", req.scrollId());
+          return response(1, 0);
+        });
+    assertTrue(response.isEmpty());
+
+    // no active slice left, so no request issued
+    response = request.search(req -> fail(), req -> fail());
+    assertTrue(response.isEmpty());
+  }
+
+  @Test
+  void search_async_should_issue_all_slices_before_waiting() {
+    List<String> events = new ArrayList<>();
+    OpenSearchResponse response = request.searchAsync(
+        req -> {
+          int id = req.source().slice().getId();
+          events.add("issue" + id);
+          return future(events, id, response(id, 1));
+        },
+        req -> fail());
+
+    assertEquals(List.of("issue0", "issue1", "get0", "get1"), events);
+    assertEquals(2, hitCount(response));
+  }
+
+  @Test
+  void clean_should_clean_every_exhausted_slice() {
+    request.search(req -> response(req.source().slice().getId(), 1), req -> fail());
+    request.search(req -> fail(), req -> response(0, 0));
+
+    List<String> cleaned = new ArrayList<>();
+    request.clean(cleaned::add);
+    assertEquals(List.of("scroll0", "scroll1"), cleaned);
+  }
+
+  @Test
+  void clean_should_clean_active_slices_when_stopped_early() {
+    request.search(req -> response(req.source().slice().getId(), 1), req -> fail());
+
+    List<String> cleaned = new ArrayList<>();
+    request.clean(cleaned::add);
+    assertEquals(List.of("scroll0", "scroll1"), cleaned);
+    assertFalse(request.getSlices().get(0).isScroll());
+  }
+
+  @Test
+  void clean_should_clean_scroll_of_empty_first_page() {
+    SearchResponse emptyResponse = response(0, 0);
+    when(emptyResponse.getScrollId()).thenReturn("scroll0");
+    request.search(
+        req -> req.source().slice().getId() == 0 ? emptyResponse : response(1, 1),
+        req -> fail());
+
+    List<String> cleaned = new ArrayList<>();
+    request.clean(cleaned::add);
+    assertEquals(List.of("scroll0", "scroll1"), cleaned);
+  }
+
+  @Test
+  void clean_should_clean_every_slice_even_if_one_fails() {
+    request.search(req -> response(req.source().slice().getId(), 1), req -> fail());
+
+    List<String> cleaned = new ArrayList<>();
+    IllegalStateException exception = assertThrows(IllegalStateException.class,
+        () -> request.clean(scrollId -> {
+          cleaned.add(scrollId);
+          throw new IllegalStateException("failed to clean " + scrollId);
+        }));
+    assertEquals("failed to clean scroll0", exception.getMessage());
+    assertEquals("failed to clean scroll1", exception.getSuppressed()[0].getMessage());
+    assertEquals(List.of("scroll0", "scroll1"), cleaned);
+  }
+
+  @Test
+  void search_should_keep_scroll_of_slices_searched_before_failure() {
+    IllegalStateException exception = assertThrows(IllegalStateException.class,
+        () -> request.search(
+            req -> {
+              int id = req.source().slice().getId();
+              if (id == 1) {
+                throw new IllegalStateException("failed");
+              }
+              return response(id, 1);
+            },
+            req -> fail()));
+    assertEquals("failed", exception.getMessage());
+
+    List<String> cleaned = new ArrayList<>();
+    request.clean(cleaned::add);
+    assertEquals(List.of("scroll0"), cleaned);
+  }
+
+  @Test
+  void search_async_should_wait_for_every_slice_on_failure() {
+    List<String> events = new ArrayList<>();
+    IllegalStateException exception = assertThrows(IllegalStateException.class,
+        () -> request.searchAsync(
+            req -> {
+              int id = req.source().slice().getId();
+              events.add("issue" + id);
+              return id == 0 ? failedFuture(events, id) : future(events, id, response(id, 1));
+            },
+            req -> fail()));
+    assertEquals("failed0", exception.getMessage());
+    assertEquals(List.of("issue0", "issue1", "get0", "get1"), events);
+
+    List<String> cleaned = new ArrayList<>();
+    request.clean(cleaned::add);
+    assertEquals(List.of("scroll1"), cleaned);
+  }
+
+  @Test
+  void search_async_should_report_every_failed_slice() {
+    List<String> events = new ArrayList<>();
+    IllegalStateException exception = assertThrows(IllegalStateException.class,
+        () -> request.searchAsync(
+            req -> failedFuture(events, req.source().slice().getId()),
+            req -> fail()));
+    assertEquals("failed0", exception.getMessage());
+    assertEquals("failed1", exception.getSuppressed()[0].getMessage());
+  }
+
+  @Test
+  void has_no_another_batch() {
+    assertFalse(request.hasAnotherBatch());
+  }
+
+  @Test
+  void serialization_is_not_supported() {
+    assertThrows(UnsupportedOperationException.class,
+        () -> request.writeTo(new BytesStreamOutput()));
+  }
+
+  private SearchResponse response(int sliceId, int hitCount) {
+    SearchResponse searchResponse = mock(SearchResponse.class);
+    SearchHit[] hits = new SearchHit[hitCount];
+    for (int i = 0; i < hitCount; i++) {
+      hits[i] = new SearchHit(i).sourceRef(new BytesArray("{}"));
+    }
+    when(searchResponse.getHits()).thenReturn(new SearchHits(hits, null, Float.NaN));
+    if (hitCount > 0) {
+      when(searchResponse.getScrollId()).thenReturn("scroll" + sliceId);
+    }
+    return searchResponse;
+  }
+
+  @SuppressWarnings("unchecked")
+  private ActionFuture<SearchResponse> future(List<String> events, int sliceId,
+                                              SearchResponse searchResponse) {
+    ActionFuture<SearchResponse> future = mock(ActionFuture.class);
+    when(future.actionGet()).thenAnswer(invocation -> {
+      events.add("get" + sliceId);
+      return searchResponse;
+    });
+    return future;
+  }
+
+  @SuppressWarnings("unchecked")
+  private ActionFuture<SearchResponse> failedFuture(List<String> events, int sliceId) {
+    ActionFuture<SearchResponse> future = mock(ActionFuture.class);
+    when(future.actionGet()).thenAnswer(invocation -> {
+      events.add("get" + sliceId);
+      throw new IllegalStateException("failed" + sliceId);
+    });
+    return future;
+  }
+
+  private int hitCount(OpenSearchResponse response) {
+    int count = 0;
+    for (var ignored : response) {
+      count++;
+    }
+    return count;
+  }
+}
@@ -21,8 +21,10 @@ import static org.mockito.Mockito.when;
 
 import com.google.common.collect.ImmutableMap;
 import java.util.Arrays;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 import org.apache.lucene.search.TotalHits;
 import org.junit.jupiter.api.Test;
@@ -116,12 +118,10 @@ class OpenSearchResponseTest {
                 new TotalHits(2L, TotalHits.Relation.EQUAL_TO),
                 1.0F));
 
-    when(searchHit1.getSourceAsString()).thenReturn("{\"id1\", 1}");
-    when(searchHit2.getSourceAsString()).thenReturn("{\"id1\", 2}");
     when(searchHit1.getInnerHits()).thenReturn(null);
     when(searchHit2.getInnerHits()).thenReturn(null);
-    when(factory.construct(any(), anyBoolean()))
-        .thenReturn(exprTupleValue1).thenReturn(exprTupleValue2);
+    when(factory.constructSource(any(), any(), anyBoolean()))
+        .thenReturn(row(exprTupleValue1)).thenReturn(row(exprTupleValue2));
 
     int i = 0;
     for (ExprValue hit : new OpenSearchResponse(searchResponse, factory, List.of("id1"))) {
@@ -153,14 +153,13 @@ class OpenSearchResponseTest {
     ShardId shardId = new ShardId("index", "indexUUID", 42);
     SearchShardTarget shardTarget = new SearchShardTarget("node", shardId, null, null);
 
-    when(searchHit1.getSourceAsString()).thenReturn("{\"id1\", 1}");
     when(searchHit1.getId()).thenReturn("testId");
     when(searchHit1.getIndex()).thenReturn("testIndex");
     when(searchHit1.getShard()).thenReturn(shardTarget);
     when(searchHit1.getScore()).thenReturn(3.75F);
     when(searchHit1.getSeqNo()).thenReturn(123456L);
 
-    when(factory.construct(any(), anyBoolean())).thenReturn(exprTupleHit);
+    when(factory.constructSource(any(), any(), anyBoolean())).thenReturn(row(exprTupleHit));
 
     ExprTupleValue exprTupleResponse = ExprTupleValue.fromExprValueMap(ImmutableMap.of(
         "id1", new ExprIntegerValue(1),
@@ -197,9 +196,8 @@ class OpenSearchResponseTest {
                 new TotalHits(1L, TotalHits.Relation.EQUAL_TO),
                 3.75F));
 
-    when(searchHit1.getSourceAsString()).thenReturn("{\"id1\", 1}");
 
-    when(factory.construct(any(), anyBoolean())).thenReturn(exprTupleHit);
+    when(factory.constructSource(any(), any(), anyBoolean())).thenReturn(row(exprTupleHit));
 
     List includes = List.of("id1");
     ExprTupleValue exprTupleResponse = ExprTupleValue.fromExprValueMap(ImmutableMap.of(
@@ -230,13 +228,12 @@ class OpenSearchResponseTest {
                 new TotalHits(1L, TotalHits.Relation.EQUAL_TO),
                 Float.NaN));
 
-    when(searchHit1.getSourceAsString()).thenReturn("{\"id1\", 1}");
     when(searchHit1.getId()).thenReturn("testId");
     when(searchHit1.getIndex()).thenReturn("testIndex");
     when(searchHit1.getScore()).thenReturn(Float.NaN);
     when(searchHit1.getSeqNo()).thenReturn(123456L);
 
-    when(factory.construct(any(), anyBoolean())).thenReturn(exprTupleHit);
+    when(factory.constructSource(any(), any(), anyBoolean())).thenReturn(row(exprTupleHit));
 
     List includes = List.of("id1", "_index", "_id", "_sort", "_score", "_maxscore");
     ExprTupleValue exprTupleResponse = ExprTupleValue.fromExprValueMap(ImmutableMap.of(
@@ -272,7 +269,7 @@ class OpenSearchResponseTest {
                 new TotalHits(2L, TotalHits.Relation.EQUAL_TO),
                 1.0F)));
 
-    when(factory.construct(any(), anyBoolean())).thenReturn(exprTupleValue1);
+    when(factory.constructSource(any(), any(), anyBoolean())).thenReturn(row(exprTupleValue1));
 
     for (ExprValue hit : new OpenSearchResponse(searchResponse, factory, includes)) {
       assertEquals(exprTupleValue1, hit);
@@ -320,6 +317,40 @@ class OpenSearchResponseTest {
     }
   }
 
+  @Test
+  void source_bytes() {
+    SearchHit hitWithSource = new SearchHit(1);
+    hitWithSource.sourceRef(new BytesArray("{\"name\":\"John\"}"));
+    SearchHit hitWithoutSource = new SearchHit(2);
+    when(searchResponse.getHits())
+        .thenReturn(
+            new SearchHits(
+                new SearchHit[] {hitWithSource, hitWithoutSource},
+                new TotalHits(2L, TotalHits.Relation.EQUAL_TO),
+                1.0F));
+
+    assertEquals(15L, new OpenSearchResponse(searchResponse, factory, includes).getSourceBytes());
+
+    when(searchResponse.getHits())
+        .thenReturn(new SearchHits(null, new TotalHits(0, TotalHits.Relation.EQUAL_TO), 0));
+    assertEquals(0L, new OpenSearchResponse(searchResponse, factory, includes).getSourceBytes());
+  }
+
+  @Test
+  void hit_count() {
+    when(searchResponse.getHits())
+        .thenReturn(
+            new SearchHits(
+                new SearchHit[] {searchHit1, searchHit2},
+                new TotalHits(2L, TotalHits.Relation.EQUAL_TO),
+                1.0F));
+    assertEquals(2, new OpenSearchResponse(searchResponse, factory, includes).getHitCount());
+
+    when(searchResponse.getHits())
+        .thenReturn(new SearchHits(null, new TotalHits(0, TotalHits.Relation.EQUAL_TO), 0));
+    assertEquals(0, new OpenSearchResponse(searchResponse, factory, includes).getHitCount());
+  }
+
   @Test
   void highlight_iterator() {
     SearchHit searchHit = new SearchHit(1);
@@ -339,7 +370,7 @@ class OpenSearchResponseTest {
                 1.0F));
 
     when(searchHit1.getHighlightFields()).thenReturn(highlightMap);
-    when(factory.construct(any(), anyBoolean())).thenReturn(resultTuple);
+    when(factory.constructSource(any(), any(), anyBoolean())).thenReturn(row(resultTuple));
 
     for (ExprValue resultHit : new OpenSearchResponse(searchResponse, factory, includes)) {
       var expected = ExprValueUtils.collectionValue(
@@ -350,4 +381,27 @@ class OpenSearchResponseTest {
       assertTrue(expected.equals(result));
     }
   }
+
+  @Test
+  void iterator_parses_top_level_fields_of_includes() {
+    when(searchResponse.getHits())
+        .thenReturn(
+            new SearchHits(
+                new SearchHit[] {searchHit1},
+                new TotalHits(1L, TotalHits.Relation.EQUAL_TO),
+                1.0F));
+    BytesArray source = new BytesArray("{\"id1\": 1}");
+    when(searchHit1.getSourceRef()).thenReturn(source);
+    when(factory.constructSource(source, Set.of("id1", "address", "address.city"), false))
+        .thenReturn(row(exprTupleValue1));
+
+    for (ExprValue hit : new OpenSearchResponse(
+        searchResponse, factory, List.of("id1", "address.city"))) {
+      assertEquals(exprTupleValue1, hit);
+    }
+  }
+
+  private static LinkedHashMap<String, ExprValue> row(ExprValue tuple) {
+    return new LinkedHashMap<>(tuple.tupleValue());
+  }
 }
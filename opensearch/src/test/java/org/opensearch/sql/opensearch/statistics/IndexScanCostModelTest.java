@@ -0,0 +1,60 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+
+package org.opensearch.sql.opensearch.statistics;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.Optional;
+import org.junit.jupiter.api.Test;
+
+class IndexScanCostModelTest {
+
+  private static final int MAX_PAGE_SIZE = 10000;
+
+  @Test
+  void keepDefaultsWithoutStatistics() {
+    assertEquals(MAX_PAGE_SIZE, IndexScanCostModel.DEFAULT.pageSize(MAX_PAGE_SIZE));
+    assertEquals(4, IndexScanCostModel.DEFAULT.slices(4, MAX_PAGE_SIZE));
+  }
+
+  @Test
+  void boundPageSizeByAverageDocSize() {
+    IndexScanCostModel costModel = costModel(1_000_000L, 64L * 1024);
+
+    assertEquals(512, costModel.pageSize(MAX_PAGE_SIZE));
+    assertEquals(4, costModel.slices(4, 512));
+  }
+
+  @Test
+  void pageSizeOfLargeDocuments() {
+    assertEquals(IndexScanCostModel.MIN_PAGE_SIZE,
+        costModel(1_000L, 10L * 1024 * 1024).pageSize(MAX_PAGE_SIZE));
+  }
+
+  @Test
+  void pageSizeOfSmallDocuments() {
+    assertEquals(MAX_PAGE_SIZE, costModel(1_000_000L, 100L).pageSize(MAX_PAGE_SIZE));
+  }
+
+  @Test
+  void emptyIndex() {
+    IndexScanCostModel costModel = costModel(0L, 0L);
+
+    assertEquals(MAX_PAGE_SIZE, costModel.pageSize(MAX_PAGE_SIZE));
+    assertEquals(1, costModel.slices(4, MAX_PAGE_SIZE));
+  }
+
+  @Test
+  void sliceOnlyIfEverySliceFillsPage() {
+    assertEquals(2, costModel(25_000L, 100L).slices(4, MAX_PAGE_SIZE));
+  }
+
+  private static IndexScanCostModel costModel(long docCount, long averageDocSize) {
+    return new IndexScanCostModel(
+        Optional.of(new IndexStatistics(docCount, docCount * averageDocSize)));
+  }
+}
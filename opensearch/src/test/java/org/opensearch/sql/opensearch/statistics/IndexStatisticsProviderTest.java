@@ -0,0 +1,99 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+
+package org.opensearch.sql.opensearch.statistics;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.google.common.base.Ticker;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.opensearch.sql.opensearch.client.OpenSearchClient;
+import org.opensearch.sql.opensearch.request.OpenSearchRequest;
+
+@ExtendWith(MockitoExtension.class)
+class IndexStatisticsProviderTest {
+
+  private static final OpenSearchRequest.IndexName INDEX_NAME =
+      new OpenSearchRequest.IndexName("logs-1,logs-2");
+
+  @Mock
+  private OpenSearchClient client;
+
+  private long nanos;
+
+  private IndexStatisticsProvider provider;
+
+  @BeforeEach
+  void setUp() {
+    provider = new IndexStatisticsProvider(client, new Ticker() {
+      @Override
+      public long read() {
+        return nanos;
+      }
+    });
+  }
+
+  @Test
+  void mergeStatisticsOfIndices() {
+    when(client.getIndexStatistics("logs-1", "logs-2")).thenReturn(Map.of(
+        "logs-1", new IndexStatistics(10L, 1000L),
+        "logs-2", new IndexStatistics(30L, 1000L)));
+
+    IndexStatistics statistics = provider.getStatistics(INDEX_NAME).orElseThrow();
+    assertEquals(new IndexStatistics(40L, 2000L), statistics);
+    assertEquals(50L, statistics.getAverageDocSize());
+
+    provider.getStatistics(INDEX_NAME);
+    verify(client, times(1)).getIndexStatistics("logs-1", "logs-2");
+  }
+
+  @Test
+  void doNotCacheUnavailableStatistics() {
+    when(client.getIndexStatistics("logs-1", "logs-2"))
+        .thenThrow(new IllegalStateException("failed"))
+        .thenReturn(Map.of("logs-1", new IndexStatistics(10L, 1000L)));
+
+    assertEquals(Optional.empty(), provider.getStatistics(INDEX_NAME));
+    assertEquals(10L, provider.getStatistics(INDEX_NAME).orElseThrow().getDocCount());
+    verify(client, times(2)).getIndexStatistics("logs-1", "logs-2");
+  }
+
+  @Test
+  void refreshStatisticsOnNextQuery() {
+    when(client.getIndexStatistics("logs-1", "logs-2"))
+        .thenReturn(Map.of("logs-1", new IndexStatistics(10L, 1000L)))
+        .thenReturn(Map.of("logs-1", new IndexStatistics(20L, 2000L)));
+
+    assertEquals(10L, provider.getStatistics(INDEX_NAME).orElseThrow().getDocCount());
+    assertEquals(10L, provider.getStatistics(INDEX_NAME).orElseThrow().getDocCount());
+
+    nanos += TimeUnit.MINUTES.toNanos(IndexStatisticsProvider.REFRESH_INTERVAL_MINUTES + 1);
+    assertEquals(20L, provider.getStatistics(INDEX_NAME).orElseThrow().getDocCount());
+    verify(client, times(2)).getIndexStatistics("logs-1", "logs-2");
+  }
+
+  @Test
+  void keepPreviousStatisticsIfRefreshFails() {
+    when(client.getIndexStatistics("logs-1", "logs-2"))
+        .thenReturn(Map.of("logs-1", new IndexStatistics(10L, 1000L)))
+        .thenThrow(new IllegalStateException("failed"));
+
+    assertEquals(10L, provider.getStatistics(INDEX_NAME).orElseThrow().getDocCount());
+
+    nanos += TimeUnit.MINUTES.toNanos(IndexStatisticsProvider.REFRESH_INTERVAL_MINUTES + 1);
+    assertEquals(10L, provider.getStatistics(INDEX_NAME).orElseThrow().getDocCount());
+  }
+}
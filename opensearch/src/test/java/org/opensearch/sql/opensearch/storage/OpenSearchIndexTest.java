@@ -10,10 +10,13 @@ import static org.hamcrest.Matchers.aMapWithSize;
 import static org.hamcrest.Matchers.allOf;
 import static org.hamcrest.Matchers.hasEntry;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.opensearch.sql.data.type.ExprCoreType.INTEGER;
@@ -29,7 +32,9 @@ import static org.opensearch.sql.planner.logical.LogicalPlanDSL.sort;
 
 import com.google.common.collect.ImmutableMap;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.stream.Collectors;
 import org.apache.commons.lang3.tuple.ImmutablePair;
 import org.apache.commons.lang3.tuple.Pair;
@@ -51,12 +56,19 @@ import org.opensearch.sql.opensearch.data.type.OpenSearchDataType;
 import org.opensearch.sql.opensearch.data.type.OpenSearchTextType;
 import org.opensearch.sql.opensearch.data.value.OpenSearchExprValueFactory;
 import org.opensearch.sql.opensearch.mapping.IndexMapping;
+import org.opensearch.sql.opensearch.mapping.IndexMappingCache;
 import org.opensearch.sql.opensearch.request.OpenSearchRequest;
 import org.opensearch.sql.opensearch.request.OpenSearchRequestBuilder;
+import org.opensearch.sql.opensearch.statistics.IndexScanCostModel;
+import org.opensearch.sql.opensearch.statistics.IndexStatistics;
+import org.opensearch.sql.opensearch.statistics.IndexStatisticsProvider;
 import org.opensearch.sql.opensearch.storage.scan.OpenSearchIndexScan;
+import org.opensearch.sql.planner.logical.LogicalDedupe;
+import org.opensearch.sql.planner.logical.LogicalPaginate;
 import org.opensearch.sql.planner.logical.LogicalPlan;
 import org.opensearch.sql.planner.logical.LogicalPlanDSL;
 import org.opensearch.sql.planner.physical.PhysicalPlanDSL;
+import org.opensearch.sql.storage.read.TableScanBuilder;
 
 @ExtendWith(MockitoExtension.class)
 class OpenSearchIndexTest {
@@ -201,6 +213,9 @@ class OpenSearchIndexTest {
   void implementRelationOperatorOnly() {
     when(client.getIndexMaxResultWindows("test")).thenReturn(Map.of("test", 10000));
     when(settings.getSettingValue(Settings.Key.QUERY_SIZE_LIMIT)).thenReturn(200);
+    when(settings.getSettingValue(Settings.Key.QUERY_SCAN_SLICES)).thenReturn(1);
+    when(settings.getSettingValue(Settings.Key.QUERY_SCAN_PREFETCH)).thenReturn(false);
+    when(settings.getSettingValue(Settings.Key.QUERY_DEDUP_PUSHDOWN)).thenReturn(false);
     LogicalPlan plan = index.createScanBuilder();
     Integer maxResultWindow = index.getMaxResultWindow();
     final var requestBuilder = new OpenSearchRequestBuilder(QUERY_SIZE_LIMIT, exprValueFactory);
@@ -213,6 +228,9 @@ class OpenSearchIndexTest {
   void implementRelationOperatorWithOptimization() {
     when(client.getIndexMaxResultWindows("test")).thenReturn(Map.of("test", 10000));
     when(settings.getSettingValue(Settings.Key.QUERY_SIZE_LIMIT)).thenReturn(200);
+    when(settings.getSettingValue(Settings.Key.QUERY_SCAN_SLICES)).thenReturn(1);
+    when(settings.getSettingValue(Settings.Key.QUERY_SCAN_PREFETCH)).thenReturn(false);
+    when(settings.getSettingValue(Settings.Key.QUERY_DEDUP_PUSHDOWN)).thenReturn(false);
     LogicalPlan plan = index.createScanBuilder();
     Integer maxResultWindow = index.getMaxResultWindow();
     final var requestBuilder = new OpenSearchRequestBuilder(QUERY_SIZE_LIMIT, exprValueFactory);
@@ -220,10 +238,101 @@ class OpenSearchIndexTest {
         requestBuilder.build(INDEX_NAME, maxResultWindow, SCROLL_TIMEOUT)), index.implement(plan));
   }
 
+  @Test
+  void implementRelationOperatorWithPrefetch() {
+    when(client.getIndexMaxResultWindows("test")).thenReturn(Map.of("test", 10000));
+    when(settings.getSettingValue(Settings.Key.QUERY_SIZE_LIMIT)).thenReturn(200);
+    when(settings.getSettingValue(Settings.Key.QUERY_SCAN_SLICES)).thenReturn(1);
+    when(settings.getSettingValue(Settings.Key.QUERY_SCAN_PREFETCH)).thenReturn(true);
+    when(settings.getSettingValue(Settings.Key.QUERY_DEDUP_PUSHDOWN)).thenReturn(false);
+
+    Integer maxResultWindow = index.getMaxResultWindow();
+    final var requestBuilder = new OpenSearchRequestBuilder(QUERY_SIZE_LIMIT, exprValueFactory);
+    assertEquals(new OpenSearchIndexScan(client, 200,
+        requestBuilder.build(INDEX_NAME, maxResultWindow, SCROLL_TIMEOUT), true),
+        index.implement(index.createScanBuilder()));
+
+    // paginated scan never fetches ahead
+    TableScanBuilder pagedScanBuilder = index.createScanBuilder();
+    pagedScanBuilder.pushDownPageSize(new LogicalPaginate(5, List.of()));
+    final var pagedRequestBuilder =
+        new OpenSearchRequestBuilder(QUERY_SIZE_LIMIT, exprValueFactory);
+    pagedRequestBuilder.pushDownPageSize(5);
+    assertEquals(new OpenSearchIndexScan(client, 5,
+        pagedRequestBuilder.build(INDEX_NAME, maxResultWindow, SCROLL_TIMEOUT), false),
+        pagedScanBuilder.build());
+  }
+
+  @Test
+  void pushDownDedupeOnlyIfEnabled() {
+    when(client.getIndexMaxResultWindows("test")).thenReturn(Map.of("test", 10000));
+    when(settings.getSettingValue(Settings.Key.QUERY_SIZE_LIMIT)).thenReturn(200);
+    when(settings.getSettingValue(Settings.Key.QUERY_SCAN_SLICES)).thenReturn(1);
+    when(settings.getSettingValue(Settings.Key.QUERY_SCAN_PREFETCH)).thenReturn(false);
+    when(settings.getSettingValue(Settings.Key.QUERY_DEDUP_PUSHDOWN)).thenReturn(false, true);
+
+    TableScanBuilder disabled = index.createScanBuilder();
+    assertFalse(disabled.pushDownDedupe(
+        (LogicalDedupe) LogicalPlanDSL.dedupe(disabled, ref("name", STRING))));
+    TableScanBuilder enabled = index.createScanBuilder();
+    assertTrue(enabled.pushDownDedupe(
+        (LogicalDedupe) LogicalPlanDSL.dedupe(enabled, ref("name", STRING))));
+  }
+
+  @Test
+  void implementRelationOperatorWithStatistics() {
+    IndexStatisticsProvider statisticsProvider = mock(IndexStatisticsProvider.class);
+    IndexStatistics statistics = new IndexStatistics(1_000_000L, 1_000_000L * 64 * 1024);
+    when(statisticsProvider.getStatistics(INDEX_NAME)).thenReturn(Optional.of(statistics));
+    when(client.getIndexMaxResultWindows("test")).thenReturn(Map.of("test", 10000));
+    when(client.getIndexMaxSlicesPerScroll("test")).thenReturn(Map.of("test", 2));
+    when(settings.getSettingValue(Settings.Key.QUERY_SIZE_LIMIT)).thenReturn(20000);
+    when(settings.getSettingValue(Settings.Key.SQL_CURSOR_KEEP_ALIVE)).thenReturn(SCROLL_TIMEOUT);
+    when(settings.getSettingValue(Settings.Key.QUERY_SCAN_SLICES)).thenReturn(4);
+    when(settings.getSettingValue(Settings.Key.QUERY_SCAN_PREFETCH)).thenReturn(false);
+    when(settings.getSettingValue(Settings.Key.QUERY_DEDUP_PUSHDOWN)).thenReturn(false);
+    OpenSearchIndex index =
+        new OpenSearchIndex(client, settings, "test", statisticsProvider, null);
+
+    // slices are capped at the max slices per scroll of the index
+    final var requestBuilder = new OpenSearchRequestBuilder(20000, exprValueFactory);
+    assertEquals(new OpenSearchIndexScan(client, 20000,
+        requestBuilder.build(INDEX_NAME, 10000, SCROLL_TIMEOUT, 2,
+            new IndexScanCostModel(Optional.of(statistics)))),
+        index.implement(index.createScanBuilder()));
+    assertEquals(Integer.valueOf(2), index.getMaxSlicesPerScroll());
+    verify(client, times(1)).getIndexMaxSlicesPerScroll("test");
+  }
+
+  @Test
+  void getMappingFromSharedCache() {
+    when(mapping.getFieldMappings()).thenReturn(
+        Map.of("name", OpenSearchDataType.of(MappingType.Keyword)));
+    when(client.getIndexMappings("test")).thenReturn(ImmutableMap.of("test", mapping));
+    when(client.getIndexMaxResultWindows("test")).thenReturn(Map.of("test", 10000));
+    when(client.getIndexMaxSlicesPerScroll("test")).thenReturn(Map.of("test", 1024));
+    IndexMappingCache mappingCache = new IndexMappingCache(() -> Optional.of(""));
+
+    for (int i = 0; i < 2; i++) {
+      OpenSearchIndex index = new OpenSearchIndex(client, settings, "test", null, mappingCache);
+      assertEquals(Map.of("name", ExprCoreType.STRING), index.getFieldTypes());
+      assertEquals(Map.of("name", OpenSearchDataType.of(MappingType.Keyword)),
+          index.getFieldOpenSearchTypes());
+      assertEquals(Integer.valueOf(10000), index.getMaxResultWindow());
+      assertEquals(Integer.valueOf(1024), index.getMaxSlicesPerScroll());
+    }
+    verify(client, times(1)).getIndexMappings("test");
+    verify(client, times(1)).getIndexMaxResultWindows("test");
+    verify(client, times(1)).getIndexMaxSlicesPerScroll("test");
+  }
+
   @Test
   void implementOtherLogicalOperators() {
     when(client.getIndexMaxResultWindows("test")).thenReturn(Map.of("test", 10000));
     when(settings.getSettingValue(Settings.Key.QUERY_SIZE_LIMIT)).thenReturn(200);
+    when(settings.getSettingValue(Settings.Key.QUERY_SCAN_SLICES)).thenReturn(1);
+    when(settings.getSettingValue(Settings.Key.QUERY_SCAN_PREFETCH)).thenReturn(false);
+    when(settings.getSettingValue(Settings.Key.QUERY_DEDUP_PUSHDOWN)).thenReturn(false);
     NamedExpression include = named("age", ref("age", INTEGER));
     ReferenceExpression exclude = ref("name", STRING);
     ReferenceExpression dedupeField = ref("name", STRING);
@@ -7,10 +7,12 @@
 package org.opensearch.sql.opensearch.storage.scan;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.reset;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 import static org.opensearch.sql.ast.tree.Sort.NullOrder.NULL_FIRST;
 import static org.opensearch.sql.ast.tree.Sort.SortOrder.ASC;
@@ -19,8 +21,11 @@ import static org.opensearch.sql.data.type.ExprCoreType.DOUBLE;
 import static org.opensearch.sql.data.type.ExprCoreType.INTEGER;
 import static org.opensearch.sql.data.type.ExprCoreType.LONG;
 import static org.opensearch.sql.data.type.ExprCoreType.STRING;
+import static org.opensearch.sql.data.type.ExprCoreType.STRUCT;
 import static org.opensearch.sql.expression.DSL.literal;
 import static org.opensearch.sql.planner.logical.LogicalPlanDSL.aggregation;
+import static org.opensearch.sql.planner.logical.LogicalPlanDSL.dedupe;
+import static org.opensearch.sql.planner.logical.LogicalPlanDSL.eval;
 import static org.opensearch.sql.planner.logical.LogicalPlanDSL.filter;
 import static org.opensearch.sql.planner.logical.LogicalPlanDSL.highlight;
 import static org.opensearch.sql.planner.logical.LogicalPlanDSL.limit;
@@ -30,6 +35,7 @@ import static org.opensearch.sql.planner.logical.LogicalPlanDSL.project;
 import static org.opensearch.sql.planner.logical.LogicalPlanDSL.relation;
 import static org.opensearch.sql.planner.logical.LogicalPlanDSL.sort;
 import static org.opensearch.sql.planner.optimizer.rule.read.TableScanPushDown.PUSH_DOWN_AGGREGATION;
+import static org.opensearch.sql.planner.optimizer.rule.read.TableScanPushDown.PUSH_DOWN_DEDUPE;
 import static org.opensearch.sql.planner.optimizer.rule.read.TableScanPushDown.PUSH_DOWN_FILTER;
 import static org.opensearch.sql.planner.optimizer.rule.read.TableScanPushDown.PUSH_DOWN_HIGHLIGHT;
 import static org.opensearch.sql.planner.optimizer.rule.read.TableScanPushDown.PUSH_DOWN_LIMIT;
@@ -69,28 +75,34 @@ import org.opensearch.sql.data.model.ExprTupleValue;
 import org.opensearch.sql.data.model.ExprValueUtils;
 import org.opensearch.sql.data.type.ExprType;
 import org.opensearch.sql.expression.DSL;
+import org.opensearch.sql.expression.Expression;
 import org.opensearch.sql.expression.FunctionExpression;
 import org.opensearch.sql.expression.HighlightExpression;
 import org.opensearch.sql.expression.NamedExpression;
 import org.opensearch.sql.expression.ReferenceExpression;
 import org.opensearch.sql.expression.function.OpenSearchFunctions;
 import org.opensearch.sql.opensearch.data.type.OpenSearchDataType;
+import org.opensearch.sql.opensearch.data.type.OpenSearchTextType;
 import org.opensearch.sql.opensearch.request.OpenSearchRequestBuilder;
 import org.opensearch.sql.opensearch.response.agg.CompositeAggregationParser;
 import org.opensearch.sql.opensearch.response.agg.OpenSearchAggregationResponseParser;
 import org.opensearch.sql.opensearch.response.agg.SingleValueParser;
 import org.opensearch.sql.opensearch.storage.script.aggregation.AggregationQueryBuilder;
 import org.opensearch.sql.planner.logical.LogicalAggregation;
+import org.opensearch.sql.planner.logical.LogicalDedupe;
 import org.opensearch.sql.planner.logical.LogicalNested;
 import org.opensearch.sql.planner.logical.LogicalPlan;
 import org.opensearch.sql.planner.optimizer.LogicalPlanOptimizer;
 import org.opensearch.sql.planner.optimizer.PushDownPageSize;
 import org.opensearch.sql.planner.optimizer.rule.read.CreateTableScanBuilder;
+import org.opensearch.sql.planner.optimizer.rule.read.PushDownRequiredColumns;
 import org.opensearch.sql.storage.Table;
 
 @ExtendWith(MockitoExtension.class)
 class OpenSearchIndexScanOptimizationTest {
 
+  private static final int MAX_RESULT_WINDOW = 10000;
+
   @Mock
   private Table table;
 
@@ -106,7 +118,9 @@ class OpenSearchIndexScanOptimizationTest {
 
   @BeforeEach
   void setUp() {
-    indexScanBuilder = new OpenSearchIndexScanBuilder(requestBuilder, requestBuilder -> indexScan);
+    indexScanBuilder =
+        new OpenSearchIndexScanBuilder(requestBuilder, true, () -> MAX_RESULT_WINDOW,
+            requestBuilder -> indexScan);
     when(table.createScanBuilder()).thenReturn(indexScanBuilder);
   }
 
@@ -576,6 +590,36 @@ class OpenSearchIndexScanOptimizationTest {
     );
   }
 
+  /*
+   * Project(i2, stringV) -> Eval(i2 = intV + 1) -> Relation.
+   * -- will be optimized as
+   * Project -> Eval -> Relation(project=[intV, stringV]).
+   */
+  @Test
+  void test_project_push_down_through_eval() {
+    assertEqualsAfterOptimization(
+        project(
+            eval(
+                indexScanBuilder(
+                    withProjectPushedDown(
+                        DSL.ref("intV", INTEGER),
+                        DSL.ref("stringV", STRING))),
+                Pair.of(DSL.ref("i2", INTEGER),
+                    DSL.add(DSL.ref("intV", INTEGER), DSL.literal(1)))),
+            DSL.named("i2", DSL.ref("i2", INTEGER)),
+            DSL.named("stringV", DSL.ref("stringV", STRING))
+        ),
+        project(
+            eval(
+                relation("schema", table),
+                Pair.of(DSL.ref("i2", INTEGER),
+                    DSL.add(DSL.ref("intV", INTEGER), DSL.literal(1)))),
+            DSL.named("i2", DSL.ref("i2", INTEGER)),
+            DSL.named("stringV", DSL.ref("stringV", STRING))
+        )
+    );
+  }
+
   @Test
   void test_nested_sort_filter_push_down() {
     assertEqualsAfterOptimization(
@@ -745,6 +789,222 @@ class OpenSearchIndexScanOptimizationTest {
     );
   }
 
+  @Test
+  void test_dedupe_push_down() {
+    assertEqualsAfterOptimization(
+        project(
+            indexScanBuilder(
+                withFilterPushedDown(QueryBuilders.existsQuery("stringV")),
+                withCollapsePushedDown("stringV")),
+            DSL.named("intV", DSL.ref("intV", INTEGER))
+        ),
+        project(
+            dedupe(
+                relation("schema", table),
+                DSL.ref("stringV", STRING)),
+            DSL.named("intV", DSL.ref("intV", INTEGER))
+        )
+    );
+  }
+
+  @Test
+  void test_dedupe_text_field_push_down_on_keyword_subfield() {
+    ReferenceExpression textField = DSL.ref("textV", OpenSearchTextType.of(
+        Map.of("keyword", OpenSearchDataType.of(OpenSearchDataType.MappingType.Keyword))));
+    assertEqualsAfterOptimization(
+        indexScanBuilder(
+            withFilterPushedDown(QueryBuilders.existsQuery("textV.keyword")),
+            withCollapsePushedDown("textV.keyword")),
+        dedupe(
+            relation("schema", table),
+            textField)
+    );
+  }
+
+  @Test
+  void test_limit_dedupe_sort_push_down() {
+    assertEqualsAfterOptimization(
+        indexScanBuilder(
+            withSortPushedDown(
+                SortBuilders.fieldSort("longV").order(SortOrder.ASC).missing("_first")),
+            withFilterPushedDown(QueryBuilders.existsQuery("stringV")),
+            withCollapsePushedDown("stringV"),
+            withLimitPushedDown(10, 0)),
+        limit(
+            dedupe(
+                sort(
+                    relation("schema", table),
+                    Pair.of(SortOption.DEFAULT_ASC, DSL.ref("longV", LONG))),
+                DSL.ref("stringV", STRING)),
+            10, 0)
+    );
+  }
+
+  @Test
+  void filter_after_dedupe_should_not_be_pushed_down() {
+    assertEqualsAfterOptimization(
+        filter(
+            indexScanBuilder(
+                withFilterPushedDown(QueryBuilders.existsQuery("stringV")),
+                withCollapsePushedDown("stringV")),
+            DSL.equal(DSL.ref("intV", INTEGER), DSL.literal(integerValue(1)))
+        ),
+        filter(
+            dedupe(
+                relation("schema", table),
+                DSL.ref("stringV", STRING)),
+            DSL.equal(DSL.ref("intV", INTEGER), DSL.literal(integerValue(1)))
+        )
+    );
+  }
+
+  @Test
+  void sort_after_dedupe_should_not_be_pushed_down() {
+    assertEqualsAfterOptimization(
+        sort(
+            indexScanBuilder(
+                withFilterPushedDown(QueryBuilders.existsQuery("stringV")),
+                withCollapsePushedDown("stringV")),
+            Pair.of(SortOption.DEFAULT_ASC, DSL.ref("longV", LONG))
+        ),
+        sort(
+            dedupe(
+                relation("schema", table),
+                DSL.ref("stringV", STRING)),
+            Pair.of(SortOption.DEFAULT_ASC, DSL.ref("longV", LONG))
+        )
+    );
+  }
+
+  @Test
+  void aggregation_after_dedupe_should_not_be_pushed_down() {
+    assertEqualsAfterOptimization(
+        aggregation(
+            indexScanBuilder(
+                withFilterPushedDown(QueryBuilders.existsQuery("stringV")),
+                withCollapsePushedDown("stringV")),
+            ImmutableList.of(DSL.named("AVG(intV)", DSL.avg(DSL.ref("intV", INTEGER)))),
+            ImmutableList.of(DSL.named("stringV", DSL.ref("stringV", STRING)))),
+        aggregation(
+            dedupe(
+                relation("schema", table),
+                DSL.ref("stringV", STRING)),
+            ImmutableList.of(DSL.named("AVG(intV)", DSL.avg(DSL.ref("intV", INTEGER)))),
+            ImmutableList.of(DSL.named("stringV", DSL.ref("stringV", STRING))))
+    );
+  }
+
+  @Test
+  void dedupe_after_limit_should_not_be_pushed_down() {
+    assertEqualsAfterOptimization(
+        dedupe(
+            indexScanBuilder(
+                withLimitPushedDown(10, 0)),
+            DSL.ref("stringV", STRING)),
+        dedupe(
+            limit(
+                relation("schema", table),
+                10, 0),
+            DSL.ref("stringV", STRING))
+    );
+  }
+
+  @Test
+  void dedupe_beyond_max_result_window_should_not_be_pushed_down() {
+    when(requestBuilder.getRequestedTotalSize()).thenReturn(MAX_RESULT_WINDOW + 1);
+    assertEqualsAfterOptimization(
+        dedupe(
+            indexScanBuilder(),
+            DSL.ref("stringV", STRING)),
+        dedupe(
+            relation("schema", table),
+            DSL.ref("stringV", STRING))
+    );
+  }
+
+  @Test
+  void dedupe_with_page_size_should_not_be_pushed_down() {
+    when(requestBuilder.getPageSize()).thenReturn(5);
+    assertEqualsAfterOptimization(
+        dedupe(
+            indexScanBuilder(),
+            DSL.ref("stringV", STRING)),
+        dedupe(
+            relation("schema", table),
+            DSL.ref("stringV", STRING))
+    );
+  }
+
+  @Test
+  void limit_beyond_max_result_window_after_dedupe_should_not_be_pushed_down() {
+    assertEqualsAfterOptimization(
+        limit(
+            indexScanBuilder(
+                withFilterPushedDown(QueryBuilders.existsQuery("stringV")),
+                withCollapsePushedDown("stringV")),
+            10, MAX_RESULT_WINDOW),
+        limit(
+            dedupe(
+                relation("schema", table),
+                DSL.ref("stringV", STRING)),
+            10, MAX_RESULT_WINDOW)
+    );
+  }
+
+  @Test
+  void page_size_after_dedupe_should_fail_to_push_down() {
+    assertThrows(IllegalStateException.class, () -> optimize(
+        paginate(
+            dedupe(
+                relation("schema", table),
+                DSL.ref("stringV", STRING)),
+            5)));
+  }
+
+  @Test
+  void dedupe_after_aggregation_should_not_be_pushed_down() {
+    assertEqualsAfterOptimization(
+        dedupe(
+            indexScanAggBuilder(
+                withAggregationPushedDown(
+                    aggregate("AVG(intV)")
+                        .aggregateBy("intV")
+                        .groupBy("stringV")
+                        .resultTypes(Map.of(
+                            "AVG(intV)", DOUBLE,
+                            "stringV", STRING)))),
+            DSL.ref("stringV", STRING)),
+        dedupe(
+            aggregation(
+                relation("schema", table),
+                ImmutableList
+                    .of(DSL.named("AVG(intV)", DSL.avg(DSL.ref("intV", INTEGER)))),
+                ImmutableList.of(DSL.named("stringV", DSL.ref("stringV", STRING)))),
+            DSL.ref("stringV", STRING))
+    );
+  }
+
+  @Test
+  void dedupe_not_supported_by_field_collapsing_should_not_be_pushed_down() {
+    ReferenceExpression stringField = DSL.ref("stringV", STRING);
+    List<LogicalDedupe> dedupes = List.of(
+        dedupeOn(1, false, false, stringField, DSL.ref("intV", INTEGER)),
+        dedupeOn(1, false, false, DSL.abs(DSL.ref("intV", INTEGER))),
+        dedupeOn(2, false, false, stringField),
+        dedupeOn(1, true, false, stringField),
+        dedupeOn(1, false, true, stringField),
+        dedupeOn(1, false, false, DSL.ref("textV", OpenSearchTextType.of())),
+        dedupeOn(1, false, false, DSL.ref("objectV", STRUCT)));
+
+    for (LogicalDedupe dedupe : dedupes) {
+      assertEqualsAfterOptimization(
+          new LogicalDedupe(indexScanBuilder(), dedupe.getDedupeList(),
+              dedupe.getAllowedDuplication(), dedupe.getKeepEmpty(), dedupe.getConsecutive()),
+          dedupe);
+    }
+    verifyNoInteractions(requestBuilder);
+  }
+
   @Test
   void project_literal_should_not_be_pushed_down() {
     assertEqualsAfterOptimization(
@@ -761,9 +1021,16 @@ class OpenSearchIndexScanOptimizationTest {
     );
   }
 
+  private LogicalDedupe dedupeOn(int allowedDuplication, boolean keepEmpty, boolean consecutive,
+                                 Expression... fields) {
+    return (LogicalDedupe) dedupe(relation("schema", table),
+        allowedDuplication, keepEmpty, consecutive, fields);
+  }
+
   private OpenSearchIndexScanBuilder indexScanBuilder(Runnable... verifyPushDownCalls) {
     this.verifyPushDownCalls = verifyPushDownCalls;
-    return new OpenSearchIndexScanBuilder(new OpenSearchIndexScanQueryBuilder(requestBuilder),
+    return new OpenSearchIndexScanBuilder(
+        new OpenSearchIndexScanQueryBuilder(requestBuilder, () -> MAX_RESULT_WINDOW),
         requestBuilder -> indexScan);
   }
 
@@ -844,6 +1111,10 @@ class OpenSearchIndexScanOptimizationTest {
     return () -> verify(requestBuilder, times(1)).pushDownNested(fields);
   }
 
+  private Runnable withCollapsePushedDown(String field) {
+    return () -> verify(requestBuilder, times(1)).pushDownCollapse(field);
+  }
+
   private Runnable withTrackedScoresPushedDown(boolean trackScores) {
     return () -> verify(requestBuilder, times(1)).pushDownTrackedScore(trackScores);
   }
@@ -881,10 +1152,12 @@ class OpenSearchIndexScanOptimizationTest {
         PUSH_DOWN_FILTER,
         PUSH_DOWN_AGGREGATION,
         PUSH_DOWN_SORT,
+        PUSH_DOWN_DEDUPE,
         PUSH_DOWN_LIMIT,
         PUSH_DOWN_HIGHLIGHT,
         PUSH_DOWN_NESTED,
-        PUSH_DOWN_PROJECT));
+        PUSH_DOWN_PROJECT,
+        new PushDownRequiredColumns()));
     return optimizer.optimize(plan);
   }
 }
@@ -12,8 +12,11 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.opensearch.search.sort.FieldSortBuilder.DOC_FIELD_NAME;
@@ -24,13 +27,16 @@ import java.io.ByteArrayOutputStream;
 import java.io.ObjectOutputStream;
 import java.util.Arrays;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.function.Supplier;
 import lombok.SneakyThrows;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayNameGeneration;
 import org.junit.jupiter.api.DisplayNameGenerator;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
 import org.mockito.Mock;
 import org.mockito.invocation.InvocationOnMock;
 import org.mockito.junit.jupiter.MockitoExtension;
@@ -60,6 +66,7 @@ import org.opensearch.sql.opensearch.request.OpenSearchScrollRequest;
 import org.opensearch.sql.opensearch.response.OpenSearchResponse;
 import org.opensearch.sql.opensearch.storage.OpenSearchIndex;
 import org.opensearch.sql.opensearch.storage.OpenSearchStorageEngine;
+import org.opensearch.sql.planner.physical.ExprValueBatch;
 
 @ExtendWith(MockitoExtension.class)
 @DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
@@ -265,6 +272,159 @@ class OpenSearchIndexScanTest {
     verify(client).cleanup(any());
   }
 
+  @Test
+  void query_results_in_batches() {
+    mockTwoPageResponse(client);
+    final var requestBuilder = new OpenSearchRequestBuilder(10, exprValueFactory);
+    try (OpenSearchIndexScan indexScan = new OpenSearchIndexScan(client,
+        3, requestBuilder.build(INDEX_NAME, MAX_RESULT_WINDOW, CURSOR_KEEP_ALIVE))) {
+      indexScan.open();
+
+      ExprValueBatch first = indexScan.nextBatch(2);
+      ExprValueBatch second = indexScan.nextBatch(2);
+      assertAll(
+          () -> assertEquals(2, first.size()),
+          () -> assertEquals(employee(1, "John", "IT"), first.get(0)),
+          () -> assertEquals(employee(2, "Smith", "HR"), first.get(1)),
+          () -> assertEquals(1, second.size()),
+          () -> assertEquals(employee(3, "Allen", "IT"), second.get(0)),
+          () -> assertTrue(indexScan.nextBatch(2).isEmpty())
+      );
+    }
+    verify(client).cleanup(any());
+  }
+
+  @Test
+  void query_results_in_batch_across_pages() {
+    mockTwoPageResponse(client);
+    final var requestBuilder = new OpenSearchRequestBuilder(10, exprValueFactory);
+    try (OpenSearchIndexScan indexScan = new OpenSearchIndexScan(client,
+        10, requestBuilder.build(INDEX_NAME, MAX_RESULT_WINDOW, CURSOR_KEEP_ALIVE))) {
+      indexScan.open();
+
+      ExprValueBatch batch = indexScan.nextBatch(10);
+      assertAll(
+          () -> assertEquals(4, batch.size()),
+          () -> assertEquals(employee(4, "Bob", "HR"), batch.get(3)),
+          () -> assertTrue(indexScan.nextBatch(10).isEmpty())
+      );
+    }
+    verify(client).cleanup(any());
+  }
+
+  @Test
+  void query_all_results_with_prefetch() {
+    mockTwoPageResponse(client);
+    mockPrefetch(client);
+    final var requestBuilder = new OpenSearchRequestBuilder(10, exprValueFactory);
+    try (OpenSearchIndexScan indexScan = new OpenSearchIndexScan(client,
+        10, requestBuilder.build(INDEX_NAME, MAX_RESULT_WINDOW, CURSOR_KEEP_ALIVE), true)) {
+      indexScan.open();
+
+      assertAll(
+          () -> assertEquals(employee(1, "John", "IT"), indexScan.next()),
+          () -> assertEquals(employee(2, "Smith", "HR"), indexScan.next()),
+          () -> assertTrue(indexScan.hasNext()),
+          () -> assertEquals(employee(3, "Allen", "IT"), indexScan.next()),
+          () -> assertEquals(employee(4, "Bob", "HR"), indexScan.next()),
+          () -> assertFalse(indexScan.hasNext())
+      );
+    }
+    // the empty page ends the scan, nothing is fetched after it
+    verify(client, times(2)).prefetch(any());
+    verify(client, times(3)).search(any());
+    verify(client).cleanup(any());
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  void close_waits_for_prefetched_batch() {
+    mockTwoPageResponse(client);
+    Supplier<OpenSearchResponse> nextResponse = mock(Supplier.class);
+    when(client.prefetch(any())).thenReturn(nextResponse);
+    final var requestBuilder = new OpenSearchRequestBuilder(10, exprValueFactory);
+    try (OpenSearchIndexScan indexScan = new OpenSearchIndexScan(client,
+        1, requestBuilder.build(INDEX_NAME, MAX_RESULT_WINDOW, CURSOR_KEEP_ALIVE), true)) {
+      indexScan.open();
+
+      assertAll(
+          () -> assertEquals(employee(1, "John", "IT"), indexScan.next()),
+          () -> assertFalse(indexScan.hasNext())
+      );
+    }
+    InOrder inOrder = inOrder(nextResponse, client);
+    inOrder.verify(nextResponse).get();
+    inOrder.verify(client).cleanup(any());
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  void close_cleans_up_when_prefetched_batch_fails() {
+    mockTwoPageResponse(client);
+    Supplier<OpenSearchResponse> nextResponse = mock(Supplier.class);
+    when(nextResponse.get()).thenThrow(new IllegalStateException("search failed"));
+    when(client.prefetch(any())).thenReturn(nextResponse);
+    final var requestBuilder = new OpenSearchRequestBuilder(10, exprValueFactory);
+    OpenSearchIndexScan indexScan = new OpenSearchIndexScan(client,
+        10, requestBuilder.build(INDEX_NAME, MAX_RESULT_WINDOW, CURSOR_KEEP_ALIVE), true);
+    indexScan.open();
+
+    assertThrows(IllegalStateException.class, indexScan::close);
+    verify(client).cleanup(any());
+  }
+
+  @Test
+  void do_not_prefetch_after_batch_reaching_response_size() {
+    OpenSearchResponse response = mock(OpenSearchResponse.class);
+    when(response.iterator()).thenReturn(
+        List.of(employee(1, "John", "IT"), employee(2, "Smith", "HR")).iterator());
+    when(response.getHitCount()).thenReturn(2);
+    when(client.search(any())).thenReturn(response);
+    final var requestBuilder = new OpenSearchRequestBuilder(10, exprValueFactory);
+    try (OpenSearchIndexScan indexScan = new OpenSearchIndexScan(client,
+        2, requestBuilder.build(INDEX_NAME, MAX_RESULT_WINDOW, CURSOR_KEEP_ALIVE), true)) {
+      indexScan.open();
+
+      assertAll(
+          () -> assertEquals(employee(1, "John", "IT"), indexScan.next()),
+          () -> assertEquals(employee(2, "Smith", "HR"), indexScan.next()),
+          () -> assertFalse(indexScan.hasNext())
+      );
+    }
+    verify(client, never()).prefetch(any());
+    verify(client).cleanup(any());
+  }
+
+  @Test
+  void count_fetched_batches_and_source_bytes() {
+    OpenSearchResponse response = mock(OpenSearchResponse.class);
+    when(response.iterator()).thenReturn(List.of(employee(1, "John", "IT")).iterator());
+    when(response.getSourceBytes()).thenReturn(36L);
+    OpenSearchResponse emptyResponse = mock(OpenSearchResponse.class);
+    when(emptyResponse.isEmpty()).thenReturn(true);
+    when(client.search(any())).thenReturn(response, emptyResponse);
+    final var requestBuilder = new OpenSearchRequestBuilder(10, exprValueFactory);
+    try (OpenSearchIndexScan indexScan = new OpenSearchIndexScan(client,
+        10, requestBuilder.build(INDEX_NAME, MAX_RESULT_WINDOW, CURSOR_KEEP_ALIVE))) {
+      indexScan.open();
+
+      assertAll(
+          () -> assertEquals(employee(1, "John", "IT"), indexScan.next()),
+          () -> assertFalse(indexScan.hasNext()),
+          () -> assertEquals(2L, indexScan.getFetchedBatches()),
+          () -> assertEquals(36L, indexScan.getFetchedSourceBytes()),
+          () -> assertTrue(indexScan.getFetchNanos() >= 0L)
+      );
+    }
+  }
+
+  static void mockPrefetch(OpenSearchClient client) {
+    when(client.prefetch(any())).thenAnswer(invocation -> {
+      OpenSearchResponse response = client.search(invocation.getArgument(0));
+      return (Supplier<OpenSearchResponse>) () -> response;
+    });
+  }
+
   static void mockTwoPageResponse(OpenSearchClient client) {
     mockResponse(client,
         new ExprValue[]{employee(1, "John", "IT"), employee(2, "Smith", "HR")},
@@ -9,6 +9,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.opensearch.sql.opensearch.request.OpenSearchRequestBuilder;
+import org.opensearch.sql.planner.logical.LogicalDedupe;
 import org.opensearch.sql.planner.logical.LogicalFilter;
 import org.opensearch.sql.planner.logical.LogicalHighlight;
 import org.opensearch.sql.planner.logical.LogicalLimit;
@@ -34,7 +35,8 @@ class PushDownQueryBuilderTest {
         () -> assertFalse(sample.pushDownSort(mock(LogicalSort.class))),
         () -> assertFalse(sample.pushDownNested(mock(LogicalNested.class))),
         () -> assertFalse(sample.pushDownLimit(mock(LogicalLimit.class))),
-        () -> assertFalse(sample.pushDownPageSize(mock(LogicalPaginate.class)))
+        () -> assertFalse(sample.pushDownPageSize(mock(LogicalPaginate.class))),
+        () -> assertFalse(sample.pushDownDedupe(mock(LogicalDedupe.class)))
 
     );
   }
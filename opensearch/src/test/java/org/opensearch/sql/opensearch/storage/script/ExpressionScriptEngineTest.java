@@ -10,10 +10,14 @@ import static java.util.Collections.emptyMap;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.contains;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import com.google.common.cache.CacheStats;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayNameGeneration;
 import org.junit.jupiter.api.DisplayNameGenerator;
@@ -27,6 +31,7 @@ import org.opensearch.script.ScriptContext;
 import org.opensearch.script.ScriptEngine;
 import org.opensearch.sql.expression.DSL;
 import org.opensearch.sql.expression.Expression;
+import org.opensearch.sql.opensearch.storage.script.aggregation.ExpressionAggregationScriptFactory;
 import org.opensearch.sql.opensearch.storage.script.filter.ExpressionFilterScriptFactory;
 import org.opensearch.sql.opensearch.storage.serialization.ExpressionSerializer;
 
@@ -63,6 +68,51 @@ class ExpressionScriptEngineTest {
     assertEquals(new ExpressionFilterScriptFactory(expression), actualFactory);
   }
 
+  @Test
+  void should_reuse_compiled_script_for_same_code() {
+    when(serializer.deserialize("test code")).thenReturn(expression);
+
+    Object filterFactory = scriptEngine.compile(
+        "test", "test code", FilterScript.CONTEXT, emptyMap());
+    Object aggFactory = scriptEngine.compile(
+        "test", "test code", AggregationScript.CONTEXT, emptyMap());
+
+    assertEquals(new ExpressionFilterScriptFactory(expression), filterFactory);
+    assertEquals(new ExpressionAggregationScriptFactory(expression), aggFactory);
+    verify(serializer, times(1)).deserialize("test code");
+
+    CacheStats stats = ((ExpressionScriptEngine) scriptEngine).getScriptCacheStats();
+    assertEquals(1, stats.missCount());
+    assertEquals(1, stats.hitCount());
+  }
+
+  @Test
+  void should_evict_compiled_script_beyond_cache_size() {
+    ExpressionScriptEngine engine = new ExpressionScriptEngine(serializer, 1);
+    Expression other = DSL.literal(false);
+    when(serializer.deserialize("code 1")).thenReturn(expression);
+    when(serializer.deserialize("code 2")).thenReturn(other);
+
+    engine.compile("test", "code 1", FilterScript.CONTEXT, emptyMap());
+    engine.compile("test", "code 2", FilterScript.CONTEXT, emptyMap());
+    Object factory = engine.compile("test", "code 1", FilterScript.CONTEXT, emptyMap());
+
+    assertEquals(new ExpressionFilterScriptFactory(expression), factory);
+    verify(serializer, times(2)).deserialize("code 1");
+    assertEquals(2, engine.getScriptCacheStats().evictionCount());
+  }
+
+  @Test
+  void should_not_cache_failed_compilation() {
+    IllegalStateException exception = new IllegalStateException("Failed to deserialize");
+    when(serializer.deserialize("test code")).thenThrow(exception).thenReturn(expression);
+
+    assertSame(exception, assertThrows(IllegalStateException.class, () ->
+        scriptEngine.compile("test", "test code", FilterScript.CONTEXT, emptyMap())));
+    assertEquals(new ExpressionFilterScriptFactory(expression),
+        scriptEngine.compile("test", "test code", FilterScript.CONTEXT, emptyMap()));
+  }
+
   @Test
   void should_throw_exception_for_unsupported_script_context() {
     ScriptContext<?> unknownCtx = mock(ScriptContext.class);
@@ -7,6 +7,7 @@ package org.opensearch.sql.plugin;
 
 import static org.opensearch.sql.datasource.model.DataSourceMetadata.defaultOpenSearchDataSourceMetadata;
 
+import com.google.common.cache.CacheStats;
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableSet;
 import java.util.Arrays;
@@ -14,6 +15,7 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.function.Supplier;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.logging.log4j.LogManager;
@@ -33,12 +35,17 @@ import org.opensearch.common.settings.IndexScopedSettings;
 import org.opensearch.common.settings.Setting;
 import org.opensearch.common.settings.Settings;
 import org.opensearch.common.settings.SettingsFilter;
+import org.opensearch.common.unit.ByteSizeValue;
 import org.opensearch.common.util.concurrent.OpenSearchExecutors;
+import org.opensearch.common.util.concurrent.ThreadContext;
+import org.opensearch.core.common.breaker.CircuitBreaker;
 import org.opensearch.core.common.io.stream.NamedWriteableRegistry;
 import org.opensearch.core.xcontent.NamedXContentRegistry;
 import org.opensearch.env.Environment;
 import org.opensearch.env.NodeEnvironment;
+import org.opensearch.indices.breaker.BreakerSettings;
 import org.opensearch.plugins.ActionPlugin;
+import org.opensearch.plugins.CircuitBreakerPlugin;
 import org.opensearch.plugins.Plugin;
 import org.opensearch.plugins.ScriptPlugin;
 import org.opensearch.repositories.RepositoriesService;
@@ -65,10 +72,14 @@ import org.opensearch.sql.datasources.transport.TransportGetDataSourceAction;
 import org.opensearch.sql.datasources.transport.TransportUpdateDataSourceAction;
 import org.opensearch.sql.legacy.esdomain.LocalClusterState;
 import org.opensearch.sql.legacy.executor.AsyncRestExecutor;
+import org.opensearch.sql.legacy.metrics.GaugeMetric;
 import org.opensearch.sql.legacy.metrics.Metrics;
 import org.opensearch.sql.legacy.plugin.RestSqlAction;
 import org.opensearch.sql.legacy.plugin.RestSqlStatsAction;
 import org.opensearch.sql.opensearch.client.OpenSearchNodeClient;
+import org.opensearch.sql.opensearch.executor.QueryResultCache;
+import org.opensearch.sql.opensearch.mapping.IndexMappingCache;
+import org.opensearch.sql.opensearch.monitor.OpenSearchMemoryTracker;
 import org.opensearch.sql.opensearch.setting.LegacyOpenDistroSettings;
 import org.opensearch.sql.opensearch.setting.OpenSearchSettings;
 import org.opensearch.sql.opensearch.storage.OpenSearchDataSourceFactory;
@@ -89,10 +100,24 @@ import org.opensearch.threadpool.FixedExecutorBuilder;
 import org.opensearch.threadpool.ThreadPool;
 import org.opensearch.watcher.ResourceWatcherService;
 
-public class SQLPlugin extends Plugin implements ActionPlugin, ScriptPlugin {
+public class SQLPlugin extends Plugin
+    implements ActionPlugin, ScriptPlugin, CircuitBreakerPlugin {
 
   private static final Logger LOGGER = LogManager.getLogger(SQLPlugin.class);
 
+  /**
+   * Node setting registered by the security plugin, so it is only known if the plugin is
+   * installed. Same as ConfigConstants.SECURITY_DISABLED.
+   */
+  private static final String SECURITY_DISABLED_SETTING = "plugins.security.disabled";
+
+  /**
+   * Thread context entry with the authenticated user, which is set by the REST filter of the
+   * security plugin for REST requests and by its transport interceptor for transport requests.
+   * Same as ConfigConstants.OPENDISTRO_SECURITY_USER.
+   */
+  private static final String SECURITY_USER_THREAD_CONTEXT = "_opendistro_security_user";
+
   private ClusterService clusterService;
   /**
    * Settings should be inited when bootstrap the plugin.
@@ -102,6 +127,32 @@ public class SQLPlugin extends Plugin implements ActionPlugin, ScriptPlugin {
   private DataSourceServiceImpl dataSourceService;
   private Injector injector;
 
+  /**
+   * Whether the security plugin is installed and enabled, so that the user of a request decides
+   * what they can see.
+   */
+  private boolean securityEnabled;
+
+  /**
+   * Circuit breaker which the memory retained by queries is reserved from.
+   */
+  private CircuitBreaker circuitBreaker;
+
+  /**
+   * Mapping cache shared by all the queries on the node.
+   */
+  private final IndexMappingCache mappingCache = new IndexMappingCache(this::currentUser);
+
+  /**
+   * Query result cache shared by all the queries on the node.
+   */
+  private QueryResultCache resultCache;
+
+  /**
+   * Script engine created for the node, which caches the compiled scripts.
+   */
+  private ExpressionScriptEngine scriptEngine;
+
   public String name() {
     return "sql";
   }
@@ -124,6 +175,10 @@ public class SQLPlugin extends Plugin implements ActionPlugin, ScriptPlugin {
 
     LocalClusterState.state().setResolver(indexNameExpressionResolver);
     Metrics.getInstance().registerDefaultMetrics();
+    if (scriptEngine != null) {
+      registerCacheMetrics("script_cache", scriptEngine::getScriptCacheStats);
+    }
+    registerCacheMetrics("query_result_cache", resultCache::getStats);
 
     return Arrays.asList(
         new RestPPLQueryAction(pluginSettings, settings),
@@ -169,6 +224,10 @@ public class SQLPlugin extends Plugin implements ActionPlugin, ScriptPlugin {
     this.clusterService = clusterService;
     this.pluginSettings = new OpenSearchSettings(clusterService.getClusterSettings());
     this.client = (NodeClient) client;
+    this.securityEnabled = isSecurityEnabled(clusterService);
+    clusterService.addListener(mappingCache);
+    this.resultCache = new QueryResultCache(pluginSettings, this::currentUser);
+    addMaxRowsUpdateConsumer(clusterService.getClusterSettings(), resultCache);
     this.dataSourceService = createDataSourceService();
     dataSourceService.createDataSource(defaultOpenSearchDataSourceMetadata());
     LocalClusterState.state().setClusterService(clusterService);
@@ -180,10 +239,43 @@ public class SQLPlugin extends Plugin implements ActionPlugin, ScriptPlugin {
       b.bind(NodeClient.class).toInstance((NodeClient) client);
       b.bind(org.opensearch.sql.common.setting.Settings.class).toInstance(pluginSettings);
       b.bind(DataSourceService.class).toInstance(dataSourceService);
+      b.bind(CircuitBreaker.class).toInstance(circuitBreaker);
+      b.bind(IndexMappingCache.class).toInstance(mappingCache);
+      b.bind(QueryResultCache.class).toInstance(resultCache);
     });
 
     injector = modules.createInjector();
-    return ImmutableList.of(dataSourceService);
+    // node level caches are also injected into the transport actions
+    return ImmutableList.of(dataSourceService, mappingCache, resultCache);
+  }
+
+  /**
+   * Identity of the user of the current request, i.e. their name, backend roles and tenant, an
+   * empty string if the security plugin is not enabled, or empty if the request has no
+   * authenticated user, in which case nothing is cached for it.
+   */
+  private Optional<String> currentUser() {
+    if (!securityEnabled) {
+      return Optional.of("");
+    }
+    ThreadContext threadContext = client.threadPool().getThreadContext();
+    Object user = threadContext.getTransient(SECURITY_USER_THREAD_CONTEXT);
+    return Optional.ofNullable(user).map(Object::toString);
+  }
+
+  private static boolean isSecurityEnabled(ClusterService clusterService) {
+    Setting<?> securityDisabled =
+        clusterService.getClusterSettings().get(SECURITY_DISABLED_SETTING);
+    return securityDisabled != null
+        && !Boolean.TRUE.equals(securityDisabled.get(clusterService.getSettings()));
+  }
+
+  @SuppressWarnings("unchecked")
+  private static void addMaxRowsUpdateConsumer(ClusterSettings clusterSettings,
+                                               QueryResultCache resultCache) {
+    clusterSettings.addSettingsUpdateConsumer(
+        (Setting<Integer>) OpenSearchSettings.QUERY_RESULT_CACHE_MAX_ROWS_SETTING,
+        resultCache::setMaxRows);
   }
 
   @Override
@@ -206,9 +298,37 @@ public class SQLPlugin extends Plugin implements ActionPlugin, ScriptPlugin {
         .build();
   }
 
+  /**
+   * The memory retained by all the queries on the node is limited by the query memory limit.
+   */
+  @Override
+  public BreakerSettings getCircuitBreaker(Settings settings) {
+    ByteSizeValue limit =
+        (ByteSizeValue) OpenSearchSettings.QUERY_MEMORY_LIMIT_SETTING.get(settings);
+    return new BreakerSettings(OpenSearchMemoryTracker.CIRCUIT_BREAKER_NAME, limit.getBytes(), 1.0);
+  }
+
+  @Override
+  public void setCircuitBreaker(CircuitBreaker circuitBreaker) {
+    this.circuitBreaker = circuitBreaker;
+  }
+
   @Override
   public ScriptEngine getScriptEngine(Settings settings, Collection<ScriptContext<?>> contexts) {
-    return new ExpressionScriptEngine(new DefaultExpressionSerializer());
+    scriptEngine = new ExpressionScriptEngine(new DefaultExpressionSerializer());
+    return scriptEngine;
+  }
+
+  /**
+   * Publish the hit and miss counts of a node level cache through the stats API.
+   */
+  private static void registerCacheMetrics(String cacheName, Supplier<CacheStats> stats) {
+    Metrics.getInstance().registerMetric(
+        new GaugeMetric<>(cacheName + "_hit_count", () -> stats.get().hitCount()));
+    Metrics.getInstance().registerMetric(
+        new GaugeMetric<>(cacheName + "_miss_count", () -> stats.get().missCount()));
+    Metrics.getInstance().registerMetric(
+        new GaugeMetric<>(cacheName + "_eviction_count", () -> stats.get().evictionCount()));
   }
 
   private DataSourceServiceImpl createDataSourceService() {
@@ -230,7 +350,7 @@ public class SQLPlugin extends Plugin implements ActionPlugin, ScriptPlugin {
     return new DataSourceServiceImpl(
         new ImmutableSet.Builder<DataSourceFactory>()
             .add(new OpenSearchDataSourceFactory(
-                new OpenSearchNodeClient(this.client), pluginSettings))
+                new OpenSearchNodeClient(this.client), pluginSettings, mappingCache))
             .add(new PrometheusStorageFactory(pluginSettings))
             .add(new SparkStorageFactory(this.client, pluginSettings))
             .build(),
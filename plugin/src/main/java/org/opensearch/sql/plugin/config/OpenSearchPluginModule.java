@@ -10,6 +10,8 @@ import org.opensearch.client.node.NodeClient;
 import org.opensearch.common.inject.AbstractModule;
 import org.opensearch.common.inject.Provides;
 import org.opensearch.common.inject.Singleton;
+import org.opensearch.common.unit.ByteSizeValue;
+import org.opensearch.core.common.breaker.CircuitBreaker;
 import org.opensearch.sql.analysis.Analyzer;
 import org.opensearch.sql.analysis.ExpressionAnalyzer;
 import org.opensearch.sql.common.setting.Settings;
@@ -17,6 +19,7 @@ import org.opensearch.sql.datasource.DataSourceService;
 import org.opensearch.sql.executor.ExecutionEngine;
 import org.opensearch.sql.executor.QueryManager;
 import org.opensearch.sql.executor.QueryService;
+import org.opensearch.sql.executor.StatementCache;
 import org.opensearch.sql.executor.execution.QueryPlanFactory;
 import org.opensearch.sql.executor.pagination.PlanSerializer;
 import org.opensearch.sql.expression.function.BuiltinFunctionRepository;
@@ -25,9 +28,12 @@ import org.opensearch.sql.opensearch.client.OpenSearchClient;
 import org.opensearch.sql.opensearch.client.OpenSearchNodeClient;
 import org.opensearch.sql.opensearch.executor.OpenSearchExecutionEngine;
 import org.opensearch.sql.opensearch.executor.OpenSearchQueryManager;
+import org.opensearch.sql.opensearch.executor.QueryResultCache;
 import org.opensearch.sql.opensearch.executor.protector.ExecutionProtector;
 import org.opensearch.sql.opensearch.executor.protector.OpenSearchExecutionProtector;
+import org.opensearch.sql.opensearch.mapping.IndexMappingCache;
 import org.opensearch.sql.opensearch.monitor.OpenSearchMemoryHealthy;
+import org.opensearch.sql.opensearch.monitor.OpenSearchMemoryTracker;
 import org.opensearch.sql.opensearch.monitor.OpenSearchResourceMonitor;
 import org.opensearch.sql.opensearch.storage.OpenSearchStorageEngine;
 import org.opensearch.sql.planner.Planner;
@@ -44,6 +50,11 @@ public class OpenSearchPluginModule extends AbstractModule {
   private final BuiltinFunctionRepository functionRepository =
       BuiltinFunctionRepository.getInstance();
 
+  /** Statements parsed by the services, shared by all the requests. */
+  private final StatementCache sqlStatementCache = new StatementCache();
+
+  private final StatementCache pplStatementCache = new StatementCache();
+
   @Override
   protected void configure() {
   }
@@ -54,14 +65,17 @@ public class OpenSearchPluginModule extends AbstractModule {
   }
 
   @Provides
-  public StorageEngine storageEngine(OpenSearchClient client, Settings settings) {
-    return new OpenSearchStorageEngine(client, settings);
+  @Singleton
+  public StorageEngine storageEngine(OpenSearchClient client, Settings settings,
+                                     IndexMappingCache mappingCache) {
+    return new OpenSearchStorageEngine(client, settings, mappingCache);
   }
 
   @Provides
   public ExecutionEngine executionEngine(OpenSearchClient client, ExecutionProtector protector,
-                                         PlanSerializer planSerializer) {
-    return new OpenSearchExecutionEngine(client, protector, planSerializer);
+                                         PlanSerializer planSerializer,
+                                         QueryResultCache resultCache) {
+    return new OpenSearchExecutionEngine(client, protector, planSerializer, resultCache);
   }
 
   @Provides
@@ -70,8 +84,12 @@ public class OpenSearchPluginModule extends AbstractModule {
   }
 
   @Provides
-  public ExecutionProtector protector(ResourceMonitor resourceMonitor) {
-    return new OpenSearchExecutionProtector(resourceMonitor);
+  public ExecutionProtector protector(ResourceMonitor resourceMonitor, Settings settings,
+                                      CircuitBreaker circuitBreaker) {
+    return new OpenSearchExecutionProtector(resourceMonitor,
+        () -> new OpenSearchMemoryTracker(circuitBreaker,
+            ((ByteSizeValue) settings.getSettingValue(Settings.Key.PER_QUERY_MEMORY_LIMIT))
+                .getBytes()));
   }
 
   @Provides
@@ -87,12 +105,14 @@ public class OpenSearchPluginModule extends AbstractModule {
 
   @Provides
   public PPLService pplService(QueryManager queryManager, QueryPlanFactory queryPlanFactory) {
-    return new PPLService(new PPLSyntaxParser(), queryManager, queryPlanFactory);
+    return new PPLService(new PPLSyntaxParser(), queryManager, queryPlanFactory,
+        pplStatementCache);
   }
 
   @Provides
   public SQLService sqlService(QueryManager queryManager, QueryPlanFactory queryPlanFactory) {
-    return new SQLService(new SQLSyntaxParser(), queryManager, queryPlanFactory);
+    return new SQLService(new SQLSyntaxParser(), queryManager, queryPlanFactory,
+        sqlStatementCache);
   }
 
   /**
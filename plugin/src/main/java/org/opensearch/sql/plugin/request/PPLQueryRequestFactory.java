@@ -25,6 +25,7 @@ public class PPLQueryRequestFactory {
   private static final String QUERY_PARAMS_SANITIZE = "sanitize";
   private static final String DEFAULT_RESPONSE_FORMAT = "jdbc";
   private static final String QUERY_PARAMS_PRETTY = "pretty";
+  private static final String QUERY_PARAMS_ANALYZE = "analyze";
 
   /**
    * Build {@link PPLQueryRequest} from {@link RestRequest}.
@@ -73,6 +74,8 @@ public class PPLQueryRequestFactory {
     if (pretty) {
       pplRequest.style(JsonResponseFormatter.Style.PRETTY);
     }
+    pplRequest.analyze(
+        Boolean.parseBoolean(restRequest.params().get(QUERY_PARAMS_ANALYZE)));
     return pplRequest;
   }
 
@@ -94,7 +94,7 @@ public class RestPPLQueryAction extends BaseRestHandler {
   @Override
   protected Set<String> responseParams() {
     Set<String> responseParams = new HashSet<>(super.responseParams());
-    responseParams.addAll(Arrays.asList("format", "sanitize"));
+    responseParams.addAll(Arrays.asList("format", "sanitize", "analyze"));
     return responseParams;
   }
 
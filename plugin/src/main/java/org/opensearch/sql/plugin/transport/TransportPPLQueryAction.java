@@ -7,6 +7,7 @@ package org.opensearch.sql.plugin.transport;
 
 import static org.opensearch.sql.protocol.response.format.JsonResponseFormatter.Style.PRETTY;
 
+import com.google.common.annotations.VisibleForTesting;
 import java.util.Locale;
 import java.util.Optional;
 import org.opensearch.action.ActionListener;
@@ -18,6 +19,8 @@ import org.opensearch.cluster.service.ClusterService;
 import org.opensearch.common.inject.Inject;
 import org.opensearch.common.inject.Injector;
 import org.opensearch.common.inject.ModulesBuilder;
+import org.opensearch.core.common.breaker.CircuitBreaker;
+import org.opensearch.core.indices.breaker.CircuitBreakerService;
 import org.opensearch.sql.common.response.ResponseListener;
 import org.opensearch.sql.common.utils.QueryContext;
 import org.opensearch.sql.datasource.DataSourceService;
@@ -25,6 +28,9 @@ import org.opensearch.sql.datasources.service.DataSourceServiceImpl;
 import org.opensearch.sql.executor.ExecutionEngine;
 import org.opensearch.sql.legacy.metrics.MetricName;
 import org.opensearch.sql.legacy.metrics.Metrics;
+import org.opensearch.sql.opensearch.executor.QueryResultCache;
+import org.opensearch.sql.opensearch.mapping.IndexMappingCache;
+import org.opensearch.sql.opensearch.monitor.OpenSearchMemoryTracker;
 import org.opensearch.sql.opensearch.security.SecurityAccess;
 import org.opensearch.sql.opensearch.setting.OpenSearchSettings;
 import org.opensearch.sql.plugin.config.OpenSearchPluginModule;
@@ -45,7 +51,8 @@ import org.opensearch.transport.TransportService;
 public class TransportPPLQueryAction
     extends HandledTransportAction<ActionRequest, TransportPPLQueryResponse> {
 
-  private final Injector injector;
+  @VisibleForTesting
+  final Injector injector;
 
   /** Constructor of TransportPPLQueryAction. */
   @Inject
@@ -54,7 +61,10 @@ public class TransportPPLQueryAction
       ActionFilters actionFilters,
       NodeClient client,
       ClusterService clusterService,
-      DataSourceServiceImpl dataSourceService) {
+      CircuitBreakerService circuitBreakerService,
+      DataSourceServiceImpl dataSourceService,
+      IndexMappingCache mappingCache,
+      QueryResultCache resultCache) {
     super(PPLQueryAction.NAME, transportService, actionFilters, TransportPPLQueryRequest::new);
 
     ModulesBuilder modules = new ModulesBuilder();
@@ -65,6 +75,10 @@ public class TransportPPLQueryAction
           b.bind(org.opensearch.sql.common.setting.Settings.class)
               .toInstance(new OpenSearchSettings(clusterService.getClusterSettings()));
           b.bind(DataSourceService.class).toInstance(dataSourceService);
+          b.bind(CircuitBreaker.class).toInstance(
+              circuitBreakerService.getBreaker(OpenSearchMemoryTracker.CIRCUIT_BREAKER_NAME));
+          b.bind(IndexMappingCache.class).toInstance(mappingCache);
+          b.bind(QueryResultCache.class).toInstance(resultCache);
         });
     this.injector = modules.createInjector();
   }
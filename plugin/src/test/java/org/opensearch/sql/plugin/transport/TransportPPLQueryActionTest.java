@@ -0,0 +1,53 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.plugin.transport;
+
+import static org.junit.Assert.assertNotNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.Collections;
+import java.util.Optional;
+import org.junit.Test;
+import org.opensearch.action.support.ActionFilters;
+import org.opensearch.client.node.NodeClient;
+import org.opensearch.cluster.ClusterName;
+import org.opensearch.cluster.service.ClusterService;
+import org.opensearch.common.settings.ClusterSettings;
+import org.opensearch.core.common.breaker.CircuitBreaker;
+import org.opensearch.core.indices.breaker.CircuitBreakerService;
+import org.opensearch.sql.datasources.service.DataSourceServiceImpl;
+import org.opensearch.sql.opensearch.executor.QueryResultCache;
+import org.opensearch.sql.opensearch.mapping.IndexMappingCache;
+import org.opensearch.sql.opensearch.monitor.OpenSearchMemoryTracker;
+import org.opensearch.sql.ppl.PPLService;
+import org.opensearch.transport.TransportService;
+
+public class TransportPPLQueryActionTest {
+
+  @Test
+  public void testResolvePPLServiceWithNodeLevelComponents() {
+    ClusterSettings clusterSettings = mock(ClusterSettings.class);
+    when(clusterSettings.get(ClusterName.CLUSTER_NAME_SETTING)).thenReturn(ClusterName.DEFAULT);
+    ClusterService clusterService = mock(ClusterService.class);
+    when(clusterService.getClusterSettings()).thenReturn(clusterSettings);
+    CircuitBreakerService circuitBreakerService = mock(CircuitBreakerService.class);
+    when(circuitBreakerService.getBreaker(OpenSearchMemoryTracker.CIRCUIT_BREAKER_NAME))
+        .thenReturn(mock(CircuitBreaker.class));
+
+    TransportPPLQueryAction action = new TransportPPLQueryAction(
+        mock(TransportService.class),
+        new ActionFilters(Collections.emptySet()),
+        mock(NodeClient.class),
+        clusterService,
+        circuitBreakerService,
+        mock(DataSourceServiceImpl.class),
+        new IndexMappingCache(() -> Optional.of("")),
+        mock(QueryResultCache.class));
+
+    assertNotNull(action.injector.getInstance(PPLService.class));
+  }
+}
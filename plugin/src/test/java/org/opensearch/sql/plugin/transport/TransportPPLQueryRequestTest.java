@@ -8,6 +8,7 @@ package org.opensearch.sql.plugin.transport;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotSame;
 import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
 
 import java.io.IOException;
 import org.json.JSONObject;
@@ -80,6 +81,29 @@ public class TransportPPLQueryRequestTest {
     assertEquals(request.getRequest(), recreatedObject.getRequest());
   }
 
+  @Test
+  public void testAnalyzeActionRequestFromActionRequest() {
+    TransportPPLQueryRequest request = new TransportPPLQueryRequest(
+            "source=t a=1", null, "/_plugins/_ppl/_explain"
+    ).analyze(true);
+    ActionRequest actionRequest =
+        new ActionRequest() {
+          @Override
+          public ActionRequestValidationException validate() {
+            return null;
+          }
+
+          @Override
+          public void writeTo(StreamOutput out) throws IOException {
+            request.writeTo(out);
+          }
+        };
+    TransportPPLQueryRequest recreatedObject =
+        TransportPPLQueryRequest.fromActionRequest(actionRequest);
+    assertTrue(recreatedObject.analyze());
+    assertTrue(recreatedObject.toPPLQueryRequest().isExplainAnalyzeRequest());
+  }
+
   @Test
   public void testFailedParsingActionRequestFromActionRequest() {
     ActionRequest actionRequest =
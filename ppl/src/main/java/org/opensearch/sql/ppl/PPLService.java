@@ -18,6 +18,7 @@ import org.opensearch.sql.common.response.ResponseListener;
 import org.opensearch.sql.common.utils.QueryContext;
 import org.opensearch.sql.executor.ExecutionEngine.ExplainResponse;
 import org.opensearch.sql.executor.QueryManager;
+import org.opensearch.sql.executor.StatementCache;
 import org.opensearch.sql.executor.execution.AbstractPlan;
 import org.opensearch.sql.executor.execution.QueryPlanFactory;
 import org.opensearch.sql.ppl.antlr.PPLSyntaxParser;
@@ -40,8 +41,19 @@ public class PPLService {
 
   private final PPLQueryDataAnonymizer anonymizer = new PPLQueryDataAnonymizer();
 
+  private final StatementCache statementCache;
+
   private static final Logger LOG = LogManager.getLogger();
 
+  /**
+   * Constructor of PPLService with its own statement cache.
+   */
+  public PPLService(PPLSyntaxParser parser,
+                    QueryManager queryManager,
+                    QueryPlanFactory queryExecutionFactory) {
+    this(parser, queryManager, queryExecutionFactory, new StatementCache());
+  }
+
   /**
    * Execute the {@link PPLQueryRequest}, using {@link ResponseListener} to get response.
    *
@@ -76,14 +88,17 @@ public class PPLService {
       Optional<ResponseListener<QueryResponse>> queryListener,
       Optional<ResponseListener<ExplainResponse>> explainListener) {
     // 1.Parse query and convert parse tree (CST) to abstract syntax tree (AST)
-    ParseTree cst = parser.parse(request.getRequest());
-    Statement statement =
-        cst.accept(
-            new AstStatementBuilder(
-                new AstBuilder(new AstExpressionBuilder(), request.getRequest()),
-                AstStatementBuilder.StatementBuilderContext.builder()
-                    .isExplain(request.isExplainRequest())
-                    .build()));
+    Statement statement = statementCache.get(request.getRequest(), request.isExplainRequest(),
+        request.isExplainAnalyzeRequest(), 0, () -> {
+          ParseTree cst = parser.parse(request.getRequest());
+          return cst.accept(
+              new AstStatementBuilder(
+                  new AstBuilder(new AstExpressionBuilder(), request.getRequest()),
+                  AstStatementBuilder.StatementBuilderContext.builder()
+                      .isExplain(request.isExplainRequest())
+                      .isAnalyze(request.isExplainAnalyzeRequest())
+                      .build()));
+        });
 
     LOG.info(
         "[{}] Incoming request {}",
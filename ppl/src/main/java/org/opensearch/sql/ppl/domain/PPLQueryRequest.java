@@ -39,6 +39,14 @@ public class PPLQueryRequest {
   @Accessors(fluent = true)
   private JsonResponseFormatter.Style style = JsonResponseFormatter.Style.COMPACT;
 
+  /**
+   * Whether to execute the query and explain it with runtime statistics.
+   */
+  @Setter
+  @Getter
+  @Accessors(fluent = true)
+  private boolean analyze = false;
+
   public PPLQueryRequest(String pplQuery, JSONObject jsonContent, String path) {
     this(pplQuery, jsonContent, path, "");
   }
@@ -65,6 +73,14 @@ public class PPLQueryRequest {
     return path.endsWith("/_explain");
   }
 
+  /**
+   * Check if request is to execute the query and explain it with runtime statistics.
+   * @return  true if it is an explain request with analyze parameter
+   */
+  public boolean isExplainAnalyzeRequest() {
+    return isExplainRequest() && analyze;
+  }
+
   /**
    * Decide on the formatter by the requested format.
    */
@@ -34,7 +34,7 @@ public class AstStatementBuilder extends OpenSearchPPLParserBaseVisitor<Statemen
   @Override
   public Statement visitDmlStatement(OpenSearchPPLParser.DmlStatementContext ctx) {
     Query query = new Query(addSelectAll(astBuilder.visit(ctx)), context.getFetchSize());
-    return context.isExplain ? new Explain(query) : query;
+    return context.isExplain ? new Explain(query, context.isAnalyze) : query;
   }
 
   @Override
@@ -46,6 +46,7 @@ public class AstStatementBuilder extends OpenSearchPPLParserBaseVisitor<Statemen
   @Builder
   public static class StatementBuilderContext {
     private final boolean isExplain;
+    private final boolean isAnalyze;
     private final int fetchSize;
   }
 
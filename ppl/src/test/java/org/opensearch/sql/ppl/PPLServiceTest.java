@@ -8,6 +8,9 @@ package org.opensearch.sql.ppl;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 
 import java.util.Collections;
 import java.util.concurrent.TimeUnit;
@@ -127,6 +130,28 @@ public class PPLServiceTest {
         });
   }
 
+  @Test
+  public void testExplainAnalyzeShouldPass() {
+    doAnswer(invocation -> {
+      ResponseListener<ExplainResponse> listener = invocation.getArgument(1);
+      listener.onResponse(new ExplainResponse(new ExplainResponseNode("test")));
+      return null;
+    }).when(queryService).explainAnalyze(any(), any());
+
+    pplService.explain(
+        new PPLQueryRequest("search source=t a=1", null, EXPLAIN).analyze(true),
+        new ResponseListener<ExplainResponse>() {
+          @Override
+          public void onResponse(ExplainResponse pplQueryResponse) {
+          }
+
+          @Override
+          public void onFailure(Exception e) {
+            Assert.fail();
+          }
+        });
+  }
+
   @Test
   public void testExecuteWithIllegalQueryShouldBeCaughtByHandler() {
     pplService.execute(new PPLQueryRequest("search", null, QUERY),
@@ -196,4 +221,28 @@ public class PPLServiceTest {
           }
         });
   }
+
+  @Test
+  public void testParsedStatementOfSameQueryIsReused() {
+    PPLSyntaxParser parser = spy(new PPLSyntaxParser());
+    pplService = new PPLService(parser, queryManager, new QueryPlanFactory(queryService));
+    ResponseListener<QueryResponse> listener = new ResponseListener<>() {
+      @Override
+      public void onResponse(QueryResponse pplQueryResponse) {
+
+      }
+
+      @Override
+      public void onFailure(Exception e) {
+        Assert.fail();
+      }
+    };
+
+    pplService.execute(new PPLQueryRequest("search source=t a=1", null, QUERY), listener);
+    pplService.execute(new PPLQueryRequest("search source=t a=1", null, QUERY), listener);
+    pplService.execute(new PPLQueryRequest("search source=t a=2", null, QUERY), listener);
+
+    verify(parser, times(1)).parse("search source=t a=1");
+    verify(parser, times(1)).parse("search source=t a=2");
+  }
 }
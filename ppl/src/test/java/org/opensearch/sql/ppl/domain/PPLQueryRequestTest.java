@@ -7,6 +7,7 @@
 package org.opensearch.sql.ppl.domain;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 
 import org.junit.Rule;
@@ -32,6 +33,16 @@ public class PPLQueryRequestTest {
     assertTrue(request.isExplainRequest());
   }
 
+  @Test
+  public void testExplainAnalyzeRequest() {
+    PPLQueryRequest request = new PPLQueryRequest(
+        "source=t a=1", null, "/_plugins/_ppl/_explain").analyze(true);
+    assertTrue(request.isExplainAnalyzeRequest());
+
+    request = new PPLQueryRequest("source=t a=1", null, "/_plugins/_ppl").analyze(true);
+    assertFalse(request.isExplainAnalyzeRequest());
+  }
+
   @Test
   public void testDefaultFormat() {
     PPLQueryRequest request = new PPLQueryRequest(
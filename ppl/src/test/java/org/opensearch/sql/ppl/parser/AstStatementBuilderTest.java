@@ -54,6 +54,17 @@ public class AstStatementBuilderTest {
                     AllFields.of()), 0)));
   }
 
+  @Test
+  public void buildExplainAnalyzeStatement() {
+    final AstStatementBuilder builder =
+        new AstStatementBuilder(new AstBuilder(new AstExpressionBuilder(), "search source=t"),
+            AstStatementBuilder.StatementBuilderContext.builder()
+                .isExplain(true).isAnalyze(true).build());
+    assertEquals(
+        new Explain(new Query(project(relation("t"), AllFields.of()), 0), true),
+        builder.visit(parser.parse("search source=t")));
+  }
+
   private void assertEqual(String query, Statement expectedStatement) {
     Node actualPlan = plan(query, false);
     assertEquals(expectedStatement, actualPlan);
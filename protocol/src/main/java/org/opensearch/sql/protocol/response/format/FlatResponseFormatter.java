@@ -8,8 +8,6 @@ package org.opensearch.sql.protocol.response.format;
 
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableSet;
-import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.List;
 import java.util.Set;
 import java.util.stream.Collectors;
@@ -58,11 +56,17 @@ public abstract class FlatResponseFormatter implements ResponseFormatter<QueryRe
     private final QueryResult response;
     private final boolean sanitize;
 
+    /**
+     * Write header and data lines straight into one buffer row by row, so no intermediate
+     * copy of the whole result set is built before the final string.
+     */
     public String getFlat() {
-      List<String> headersAndData = new ArrayList<>();
-      headersAndData.add(getHeaderLine(response, sanitize));
-      headersAndData.addAll(getDataLines(response, sanitize));
-      return String.join(INTERLINE_SEPARATOR, headersAndData);
+      StringBuilder flat = new StringBuilder(getHeaderLine(response, sanitize));
+      for (Object[] row : response) {
+        flat.append(INTERLINE_SEPARATOR);
+        appendDataLine(flat, row);
+      }
+      return flat.toString();
     }
 
     private String getHeaderLine(QueryResult response, boolean sanitize) {
@@ -70,9 +74,18 @@ public abstract class FlatResponseFormatter implements ResponseFormatter<QueryRe
       return String.join(INLINE_SEPARATOR, headers);
     }
 
-    private List<String> getDataLines(QueryResult response, boolean sanitize) {
-      List<List<String>> data = getData(response, sanitize);
-      return data.stream().map(v -> String.join(INLINE_SEPARATOR, v)).collect(Collectors.toList());
+    private void appendDataLine(StringBuilder flat, Object[] row) {
+      for (int i = 0; i < row.length; i++) {
+        if (i > 0) {
+          flat.append(INLINE_SEPARATOR);
+        }
+        // replace null values with empty string
+        String cell = row[i] == null ? "" : row[i].toString();
+        if (sanitize) {
+          cell = sanitizeCell(cell);
+        }
+        flat.append(quoteIfRequired(INLINE_SEPARATOR, cell));
+      }
     }
 
     private List<String> getHeaders(QueryResult response, boolean sanitize) {
@@ -82,18 +95,6 @@ public abstract class FlatResponseFormatter implements ResponseFormatter<QueryRe
       return sanitizeHeaders(result);
     }
 
-    private List<List<String>> getData(QueryResult response, boolean sanitize) {
-      ImmutableList.Builder<List<String>> dataLines = new ImmutableList.Builder<>();
-      response.iterator().forEachRemaining(row -> {
-        ImmutableList.Builder<String> line = new ImmutableList.Builder<>();
-        // replace null values with empty string
-        Arrays.asList(row).forEach(val -> line.add(val == null ? "" : val.toString()));
-        dataLines.add(line.build());
-      });
-      List<List<String>> result = dataLines.build();
-      return sanitizeData(result);
-    }
-
     /**
      * Sanitize headers because OpenSearch allows special character present in field names.
      */
@@ -110,25 +111,6 @@ public abstract class FlatResponseFormatter implements ResponseFormatter<QueryRe
       }
     }
 
-    private List<List<String>> sanitizeData(List<List<String>> lines) {
-      List<List<String>> result = new ArrayList<>();
-      if (sanitize) {
-        for (List<String> line : lines) {
-          result.add(line.stream()
-                  .map(this::sanitizeCell)
-                  .map(cell -> quoteIfRequired(INLINE_SEPARATOR, cell))
-                  .collect(Collectors.toList()));
-        }
-      } else {
-        for (List<String> line : lines) {
-          result.add(line.stream()
-                  .map(cell -> quoteIfRequired(INLINE_SEPARATOR, cell))
-                  .collect(Collectors.toList()));
-        }
-      }
-      return result;
-    }
-
     private String sanitizeCell(String cell) {
       if (isStartWithSensitiveChar(cell)) {
         return "'" + cell;
@@ -19,6 +19,7 @@ import static org.opensearch.sql.protocol.response.format.FlatResponseFormatter.
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
 import java.util.Arrays;
+import java.util.Collections;
 import org.junit.jupiter.api.Test;
 import org.opensearch.sql.data.model.ExprTupleValue;
 import org.opensearch.sql.executor.ExecutionEngine;
@@ -157,6 +158,30 @@ public class RawResponseFormatterTest {
     assertEquals(format(expected), rawFormatter.format(response));
   }
 
+  @Test
+  void formatEmptyResponse() {
+    ExecutionEngine.Schema schema = new ExecutionEngine.Schema(ImmutableList.of(
+        new ExecutionEngine.Schema.Column("name", "name", STRING),
+        new ExecutionEngine.Schema.Column("age", "age", INTEGER)));
+    QueryResult response = new QueryResult(schema, Collections.emptyList());
+    assertEquals("name|age", rawFormatter.format(response));
+  }
+
+  @Test
+  void quoteEachCellOfRow() {
+    ExecutionEngine.Schema schema = new ExecutionEngine.Schema(ImmutableList.of(
+        new ExecutionEngine.Schema.Column("name", "name", STRING),
+        new ExecutionEngine.Schema.Column("city", "city", STRING),
+        new ExecutionEngine.Schema.Column("age", "age", INTEGER)));
+    QueryResult response = new QueryResult(schema, Arrays.asList(
+        tupleValue(ImmutableMap.of("name", "=John|Smith", "city", "Seattle", "age", 20)),
+        tupleValue(ImmutableMap.of("name", "Jane", "city", "+Seattle|WA", "age", 30))));
+    String expected = "name|city|age%n"
+        + "\"=John|Smith\"|Seattle|20%n"
+        + "Jane|\"+Seattle|WA\"|30";
+    assertEquals(format(expected), rawFormatter.format(response));
+  }
+
   @Test
   void testContentType() {
     assertEquals(rawFormatter.contentType(), CONTENT_TYPE);
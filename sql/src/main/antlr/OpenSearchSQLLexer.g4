@@ -58,6 +58,7 @@ CASE:                               'CASE';
 CAST:                               'CAST';
 CROSS:                              'CROSS';
 COLUMNS:                            'COLUMNS';
+CURRENT:                            'CURRENT';
 DATETIME:                           'DATETIME';
 DELETE:                             'DELETE';
 DESC:                               'DESC';
@@ -69,6 +70,7 @@ EXISTS:                             'EXISTS';
 FALSE:                              'FALSE';
 FLOAT:                              'FLOAT';
 FIRST:                              'FIRST';
+FOLLOWING:                          'FOLLOWING';
 FROM:                               'FROM';
 GROUP:                              'GROUP';
 HAVING:                             'HAVING';
@@ -95,13 +97,17 @@ ORDER:                              'ORDER';
 OUTER:                              'OUTER';
 OVER:                               'OVER';
 PARTITION:                          'PARTITION';
+PRECEDING:                          'PRECEDING';
 REGEXP:                             'REGEXP';
 RIGHT:                              'RIGHT';
+ROW:                                'ROW';
+ROWS:                               'ROWS';
 SELECT:                             'SELECT';
 SHOW:                               'SHOW';
 STRING:                             'STRING';
 THEN:                               'THEN';
 TRUE:                               'TRUE';
+UNBOUNDED:                          'UNBOUNDED';
 UNION:                              'UNION';
 USING:                              'USING';
 WHEN:                               'WHEN';
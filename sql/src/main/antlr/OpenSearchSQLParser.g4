@@ -164,13 +164,24 @@ windowFunction
     ;
 
 overClause
-    : OVER LR_BRACKET partitionByClause? orderByClause? RR_BRACKET
+    : OVER LR_BRACKET partitionByClause? orderByClause? frameClause? RR_BRACKET
     ;
 
 partitionByClause
     : PARTITION BY expression (COMMA expression)*
     ;
 
+frameClause
+    : frameUnit=(ROWS | RANGE) frameStart=frameBound
+    | frameUnit=(ROWS | RANGE) BETWEEN frameStart=frameBound AND frameEnd=frameBound
+    ;
+
+frameBound
+    : UNBOUNDED boundType=(PRECEDING | FOLLOWING)
+    | CURRENT ROW
+    | offset=decimalLiteral boundType=(PRECEDING | FOLLOWING)
+    ;
+
 
 //    Literals
 
@@ -841,4 +852,5 @@ keywordsCanBeId
     | COUNT | SUM | AVG | MAX | MIN
     | FIRST | LAST
     | TYPE // TODO: Type is keyword required by relevancy function. Remove this when relevancy functions moved out
+    | CURRENT | ROW | ROWS | PRECEDING | FOLLOWING | UNBOUNDED
     ;
@@ -14,6 +14,7 @@ import org.opensearch.sql.common.response.ResponseListener;
 import org.opensearch.sql.executor.ExecutionEngine.ExplainResponse;
 import org.opensearch.sql.executor.ExecutionEngine.QueryResponse;
 import org.opensearch.sql.executor.QueryManager;
+import org.opensearch.sql.executor.StatementCache;
 import org.opensearch.sql.executor.execution.AbstractPlan;
 import org.opensearch.sql.executor.execution.QueryPlanFactory;
 import org.opensearch.sql.sql.antlr.SQLSyntaxParser;
@@ -33,6 +34,17 @@ public class SQLService {
 
   private final QueryPlanFactory queryExecutionFactory;
 
+  private final StatementCache statementCache;
+
+  /**
+   * Constructor of SQLService with its own statement cache.
+   */
+  public SQLService(SQLSyntaxParser parser,
+                    QueryManager queryManager,
+                    QueryPlanFactory queryExecutionFactory) {
+    this(parser, queryManager, queryExecutionFactory, new StatementCache());
+  }
+
   /**
    * Given {@link SQLQueryRequest}, execute it. Using listener to listen result.
    *
@@ -80,15 +92,19 @@ public class SQLService {
         isExplainRequest, queryListener.orElse(null), explainListener.orElse(null));
     } else {
       // 1.Parse query and convert parse tree (CST) to abstract syntax tree (AST)
-      ParseTree cst = parser.parse(request.getQuery());
-      Statement statement =
-          cst.accept(
-              new AstStatementBuilder(
-                  new AstBuilder(request.getQuery()),
-                  AstStatementBuilder.StatementBuilderContext.builder()
-                      .isExplain(isExplainRequest)
-                      .fetchSize(request.getFetchSize())
-                      .build()));
+      boolean isAnalyzeRequest = request.isExplainAnalyzeRequest();
+      Statement statement = statementCache.get(request.getQuery(), isExplainRequest,
+          isAnalyzeRequest, request.getFetchSize(), () -> {
+            ParseTree cst = parser.parse(request.getQuery());
+            return cst.accept(
+                new AstStatementBuilder(
+                    new AstBuilder(request.getQuery()),
+                    AstStatementBuilder.StatementBuilderContext.builder()
+                        .isExplain(isExplainRequest)
+                        .isAnalyze(isAnalyzeRequest)
+                        .fetchSize(request.getFetchSize())
+                        .build()));
+          });
 
       return queryExecutionFactory.create(
           statement, queryListener, explainListener);
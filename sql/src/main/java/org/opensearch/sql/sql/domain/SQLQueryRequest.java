@@ -32,6 +32,7 @@ public class SQLQueryRequest {
       "query", "fetch_size", "parameters", QUERY_FIELD_CURSOR);
   private static final String QUERY_PARAMS_FORMAT = "format";
   private static final String QUERY_PARAMS_SANITIZE = "sanitize";
+  private static final String QUERY_PARAMS_ANALYZE = "analyze";
 
   /**
    * JSON payload in REST request.
@@ -112,6 +113,14 @@ public class SQLQueryRequest {
     return path.endsWith("/_explain");
   }
 
+  /**
+   * Check if request is to execute the query and explain it with runtime statistics.
+   * @return true if it is an explain request with analyze parameter
+   */
+  public boolean isExplainAnalyzeRequest() {
+    return isExplainRequest() && Boolean.parseBoolean(params.get(QUERY_PARAMS_ANALYZE));
+  }
+
   public boolean isCursorCloseRequest() {
     return path.endsWith("/close");
   }
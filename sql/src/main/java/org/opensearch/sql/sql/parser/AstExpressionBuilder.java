@@ -66,6 +66,7 @@ import static org.opensearch.sql.sql.antlr.parser.OpenSearchSQLParser.TimestampF
 import static org.opensearch.sql.sql.antlr.parser.OpenSearchSQLParser.TimestampLiteralContext;
 import static org.opensearch.sql.sql.antlr.parser.OpenSearchSQLParser.WindowFunctionClauseContext;
 import static org.opensearch.sql.sql.parser.ParserUtils.createSortOption;
+import static org.opensearch.sql.sql.parser.ParserUtils.createWindowFrame;
 
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
@@ -99,6 +100,7 @@ import org.opensearch.sql.ast.expression.ScoreFunction;
 import org.opensearch.sql.ast.expression.UnresolvedArgument;
 import org.opensearch.sql.ast.expression.UnresolvedExpression;
 import org.opensearch.sql.ast.expression.When;
+import org.opensearch.sql.ast.expression.WindowFrameSpec;
 import org.opensearch.sql.ast.expression.WindowFunction;
 import org.opensearch.sql.ast.tree.Sort.SortOption;
 import org.opensearch.sql.common.utils.StringUtils;
@@ -252,7 +254,12 @@ public class AstExpressionBuilder extends OpenSearchSQLParserBaseVisitor<Unresol
                                createSortOption(item), visit(item.expression())))
                            .collect(Collectors.toList());
     }
-    return new WindowFunction(visit(ctx.function), partitionByList, sortList);
+
+    WindowFrameSpec frame = null;
+    if (overClause.frameClause() != null) {
+      frame = createWindowFrame(overClause.frameClause());
+    }
+    return new WindowFunction(visit(ctx.function), partitionByList, sortList, frame);
   }
 
   @Override
@@ -9,12 +9,18 @@ package org.opensearch.sql.sql.parser;
 import static org.opensearch.sql.ast.tree.Sort.NullOrder;
 import static org.opensearch.sql.ast.tree.Sort.SortOption;
 import static org.opensearch.sql.ast.tree.Sort.SortOrder;
+import static org.opensearch.sql.sql.antlr.parser.OpenSearchSQLParser.FrameBoundContext;
+import static org.opensearch.sql.sql.antlr.parser.OpenSearchSQLParser.FrameClauseContext;
 import static org.opensearch.sql.sql.antlr.parser.OpenSearchSQLParser.OrderByElementContext;
 
 import lombok.experimental.UtilityClass;
 import org.antlr.v4.runtime.ParserRuleContext;
 import org.antlr.v4.runtime.Token;
 import org.antlr.v4.runtime.tree.TerminalNode;
+import org.opensearch.sql.ast.expression.WindowFrameSpec;
+import org.opensearch.sql.ast.expression.WindowFrameSpec.FrameBound;
+import org.opensearch.sql.ast.expression.WindowFrameSpec.FrameUnit;
+import org.opensearch.sql.sql.antlr.parser.OpenSearchSQLParser;
 
 /**
  * Parser Utils Class.
@@ -63,4 +69,30 @@ public class ParserUtils {
     }
   }
 
+  /**
+   * Create window frame from frame clause. The frame ends at current row if only its start is
+   * specified.
+   */
+  public static WindowFrameSpec createWindowFrame(FrameClauseContext ctx) {
+    return new WindowFrameSpec(
+        FrameUnit.valueOf(ctx.frameUnit.getText().toUpperCase()),
+        createFrameBound(ctx.frameStart),
+        (ctx.frameEnd == null) ? FrameBound.CURRENT_ROW : createFrameBound(ctx.frameEnd));
+  }
+
+  /**
+   * Create frame bound from syntax tree node.
+   */
+  public static FrameBound createFrameBound(FrameBoundContext ctx) {
+    if (ctx.CURRENT() != null) {
+      return FrameBound.CURRENT_ROW;
+    }
+    boolean preceding = ctx.boundType.getType() == OpenSearchSQLParser.PRECEDING;
+    if (ctx.UNBOUNDED() != null) {
+      return preceding ? FrameBound.UNBOUNDED_PRECEDING : FrameBound.UNBOUNDED_FOLLOWING;
+    }
+    long offset = Long.parseLong(ctx.offset.getText());
+    return preceding ? FrameBound.preceding(offset) : FrameBound.following(offset);
+  }
+
 }
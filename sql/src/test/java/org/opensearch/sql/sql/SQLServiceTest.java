@@ -11,6 +11,9 @@ import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.fail;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.opensearch.sql.executor.ExecutionEngine.QueryResponse;
 
 import java.util.Map;
@@ -151,6 +154,29 @@ class SQLServiceTest {
         });
   }
 
+  @Test
+  public void can_explain_analyze_sql_query() {
+    doAnswer(invocation -> {
+      ResponseListener<ExplainResponse> listener = invocation.getArgument(1);
+      listener.onResponse(new ExplainResponse(new ExplainResponseNode("Test")));
+      return null;
+    }).when(queryService).explainAnalyze(any(), any());
+
+    sqlService.explain(new SQLQueryRequest(new JSONObject(), "SELECT 123", EXPLAIN,
+            Map.of("analyze", "true"), null),
+        new ResponseListener<ExplainResponse>() {
+          @Override
+          public void onResponse(ExplainResponse response) {
+            assertNotNull(response);
+          }
+
+          @Override
+          public void onFailure(Exception e) {
+            fail(e);
+          }
+        });
+  }
+
   @Test
   public void cannot_explain_cursor_query() {
     sqlService.explain(new SQLQueryRequest(new JSONObject(), null, EXPLAIN,
@@ -202,4 +228,31 @@ class SQLServiceTest {
           }
         });
   }
+
+  @Test
+  public void can_reuse_parsed_statement_of_same_query() {
+    SQLSyntaxParser parser = spy(new SQLSyntaxParser());
+    sqlService = new SQLService(parser, queryManager, new QueryPlanFactory(queryService));
+    ResponseListener<QueryResponse> listener = new ResponseListener<>() {
+      @Override
+      public void onResponse(QueryResponse response) {
+        assertNotNull(response);
+      }
+
+      @Override
+      public void onFailure(Exception e) {
+        fail(e);
+      }
+    };
+
+    sqlService.execute(
+        new SQLQueryRequest(new JSONObject(), "SELECT 123", QUERY, "jdbc"), listener);
+    sqlService.execute(
+        new SQLQueryRequest(new JSONObject(), "SELECT 123", QUERY, "jdbc"), listener);
+    sqlService.execute(
+        new SQLQueryRequest(new JSONObject(), "SELECT 456", QUERY, "jdbc"), listener);
+
+    verify(parser, times(1)).parse("SELECT 123");
+    verify(parser, times(1)).parse("SELECT 456");
+  }
 }
@@ -153,6 +153,30 @@ class SQLSyntaxParserTest {
         "SELECT name, age FROM test ORDER BY name ASC NULLS FIRST, age DESC NULLS LAST"));
   }
 
+  @Test
+  public void canParseWindowFrameClause() {
+    assertNotNull(parser.parse(
+        "SELECT AVG(age) OVER (ORDER BY age ROWS BETWEEN 2 PRECEDING AND 1 FOLLOWING) FROM test"));
+    assertNotNull(parser.parse(
+        "SELECT SUM(age) OVER (PARTITION BY state ORDER BY age "
+            + "RANGE BETWEEN UNBOUNDED PRECEDING AND CURRENT ROW) FROM test"));
+    assertNotNull(parser.parse(
+        "SELECT COUNT(age) OVER (ORDER BY age ROWS UNBOUNDED PRECEDING) FROM test"));
+    assertNotNull(parser.parse(
+        "SELECT COUNT(age) OVER (ORDER BY age RANGE 10 FOLLOWING) FROM test"));
+    assertNotNull(parser.parse("SELECT rows, current, preceding FROM test"));
+  }
+
+  @Test
+  public void canNotParseWindowFrameClauseWithWrongBound() {
+    assertThrows(SyntaxCheckException.class, () -> parser.parse(
+        "SELECT AVG(age) OVER (ORDER BY age ROWS BETWEEN 2 AND 1 FOLLOWING) FROM test"));
+    assertThrows(SyntaxCheckException.class, () -> parser.parse(
+        "SELECT AVG(age) OVER (ORDER BY age ROWS BETWEEN -1 PRECEDING AND CURRENT ROW) FROM test"));
+    assertThrows(SyntaxCheckException.class, () -> parser.parse(
+        "SELECT AVG(age) OVER (ROWS BETWEEN CURRENT ROW) FROM test"));
+  }
+
   @Test
   public void canNotParseShowStatementWithoutFilterClause() {
     assertThrows(SyntaxCheckException.class, () -> parser.parse("SHOW TABLES"));
@@ -106,6 +106,25 @@ public class SQLQueryRequestTest {
     );
   }
 
+  @Test
+  public void should_support_explain_analyze() {
+    SQLQueryRequest explainAnalyzeRequest =
+        SQLQueryRequestBuilder.request("SELECT 1")
+                              .path("_plugins/_sql/_explain")
+                              .params(Map.of("analyze", "true"))
+                              .build();
+    SQLQueryRequest queryRequest =
+        SQLQueryRequestBuilder.request("SELECT 1")
+                              .params(Map.of("analyze", "true"))
+                              .build();
+
+    assertAll(
+        () -> assertTrue(explainAnalyzeRequest.isExplainAnalyzeRequest()),
+        () -> assertTrue(explainAnalyzeRequest.isSupported()),
+        () -> assertFalse(queryRequest.isExplainAnalyzeRequest())
+    );
+  }
+
   @Test
   public void should_support_cursor_request() {
     SQLQueryRequest fetchSizeRequest =
@@ -45,6 +45,9 @@ import org.opensearch.sql.ast.dsl.AstDSL;
 import org.opensearch.sql.ast.expression.DataType;
 import org.opensearch.sql.ast.expression.Literal;
 import org.opensearch.sql.ast.expression.RelevanceFieldList;
+import org.opensearch.sql.ast.expression.WindowFrameSpec;
+import org.opensearch.sql.ast.expression.WindowFrameSpec.FrameBound;
+import org.opensearch.sql.ast.expression.WindowFrameSpec.FrameUnit;
 import org.opensearch.sql.ast.tree.Sort.SortOption;
 import org.opensearch.sql.common.antlr.CaseInsensitiveCharStream;
 import org.opensearch.sql.common.antlr.SyntaxAnalysisErrorListener;
@@ -425,6 +428,51 @@ class AstExpressionBuilderTest {
         buildExprAst("AVG(age) OVER (PARTITION BY state ORDER BY age)"));
   }
 
+  @Test
+  public void canBuildAggregateWindowFunctionWithFrame() {
+    assertEquals(
+        window(
+            aggregate("AVG", qualifiedName("age")),
+            ImmutableList.of(),
+            ImmutableList.of(ImmutablePair.of(
+                new SortOption(null, null), qualifiedName("age"))),
+            new WindowFrameSpec(
+                FrameUnit.ROWS, FrameBound.preceding(2), FrameBound.following(1))),
+        buildExprAst("AVG(age) OVER (ORDER BY age ROWS BETWEEN 2 PRECEDING AND 1 FOLLOWING)"));
+
+    assertEquals(
+        window(
+            aggregate("SUM", qualifiedName("age")),
+            ImmutableList.of(),
+            ImmutableList.of(ImmutablePair.of(
+                new SortOption(null, null), qualifiedName("age"))),
+            new WindowFrameSpec(
+                FrameUnit.RANGE, FrameBound.UNBOUNDED_PRECEDING, FrameBound.UNBOUNDED_FOLLOWING)),
+        buildExprAst("SUM(age) OVER (ORDER BY age "
+            + "RANGE BETWEEN UNBOUNDED PRECEDING AND UNBOUNDED FOLLOWING)"));
+  }
+
+  @Test
+  public void canBuildWindowFrameWithStartOnly() {
+    assertEquals(
+        window(
+            aggregate("COUNT", qualifiedName("age")),
+            ImmutableList.of(qualifiedName("state")),
+            ImmutableList.of(),
+            new WindowFrameSpec(
+                FrameUnit.ROWS, FrameBound.preceding(10), FrameBound.CURRENT_ROW)),
+        buildExprAst("COUNT(age) OVER (PARTITION BY state ROWS 10 PRECEDING)"));
+
+    assertEquals(
+        window(
+            aggregate("COUNT", qualifiedName("age")),
+            ImmutableList.of(),
+            ImmutableList.of(),
+            new WindowFrameSpec(
+                FrameUnit.RANGE, FrameBound.CURRENT_ROW, FrameBound.CURRENT_ROW)),
+        buildExprAst("COUNT(age) OVER (RANGE CURRENT ROW)"));
+  }
+
   @Test
   public void canBuildCaseConditionStatement() {
     assertEquals(